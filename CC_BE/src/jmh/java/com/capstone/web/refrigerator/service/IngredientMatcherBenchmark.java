@@ -0,0 +1,101 @@
+package com.capstone.web.refrigerator.service;
+
+import com.capstone.web.ingredient.service.IngredientKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재료 매칭: 이중 루프 vs {@link IngredientMatcher}(대표 재료 id 해시 + Aho-Corasick 포함 검사)
+ * <p>
+ * 냉장고 식재료 50 / 500 / 5,000개에 대해 같은 수의 레시피 재료를 짝짓는다.
+ * 두 구현은 같은 규칙(대표 재료 id → 이름 일치 → 포함 관계)으로 같은 결과를 내며, 차이는 탐색 방식뿐이다.
+ * 대표 재료 id는 저장 시점에 해석되어 있으므로(canonical_ingredient_id) 키 생성은 측정에서 제외한다.
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IngredientMatcherBenchmark {
+
+    private static final String[] BASES = {"대파", "양파", "마늘", "감자", "당근", "두부", "김치", "계란", "돼지고기", "소고기",
+            "간장", "고추장", "된장", "버섯", "애호박", "양배추", "Tomato", "Cheese", "Butter", "Milk"};
+    private static final String[] PREFIXES = {"", "국산 ", "유기농 ", "다진", "냉동 ", "Fresh "};
+
+    @Param({"50", "500", "5000"})
+    public int items;
+
+    private List<IngredientKey> fridgeKeys;
+    private List<IngredientKey> recipeKeys;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        fridgeKeys = keys(random, items);
+        recipeKeys = keys(random, items);
+    }
+
+    private static List<IngredientKey> keys(Random random, int count) {
+        List<IngredientKey> keys = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int base = random.nextInt(BASES.length);
+            // 접미사가 붙으면 사전에 없는 재료 (이름 일치는 드물고, 사전 재료명을 포함하면 포함 관계로 일치한다)
+            boolean known = random.nextInt(4) == 0;
+            String name = PREFIXES[random.nextInt(PREFIXES.length)] + BASES[base] + (known ? "" : String.valueOf(i));
+            keys.add(IngredientKey.of(known ? base + 1 : null, name));
+        }
+        return keys;
+    }
+
+    @Benchmark
+    public List<IngredientKey> nestedLoops() {
+        List<IngredientKey> result = new ArrayList<>(recipeKeys.size());
+        for (IngredientKey key : recipeKeys) {
+            result.add(nestedLoopMatch(key));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<IngredientKey> compiledMatcher() {
+        return IngredientMatcher.compile(fridgeKeys, key -> key).matchAll(recipeKeys);
+    }
+
+    // IngredientMatcher 와 같은 규칙: 대표 재료 id → 이름 일치 → 포함 관계 (이름 비교는 한쪽이라도 사전에 없을 때만)
+    private IngredientKey nestedLoopMatch(IngredientKey key) {
+        if (key.resolved()) {
+            for (IngredientKey item : fridgeKeys) {
+                if (key.canonicalId().equals(item.canonicalId())) return item;
+            }
+        }
+        for (IngredientKey item : fridgeKeys) {
+            if (comparableByName(key, item) && item.name().equals(key.name())) return item;
+        }
+        for (IngredientKey item : fridgeKeys) {
+            if (comparableByName(key, item) && (item.name().contains(key.name()) || key.name().contains(item.name()))) {
+                return item;
+            }
+        }
+        return null;
+    }
+
+    private static boolean comparableByName(IngredientKey key, IngredientKey item) {
+        return !key.resolved() || !item.resolved();
+    }
+}
@@ -0,0 +1,119 @@
+package com.capstone.web.refrigerator.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 품목명 수량/단위 추정: 기존 정규식 방식(매 호출 Pattern.compile + contains 사전 순회) vs {@link ReceiptLineNormalizer}
+ * <p>
+ * 영수증 한 장 분량(품목명 20줄)을 처리하는 시간을 잰다.
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReceiptLineNormalizerBenchmark {
+
+    private static final String[] LINES = {
+            "서울우유 1L", "CJ 햇반 210g x3", "풀무원 두부 300g", "국산 양파 1.5kg", "제주 감귤 2kg 1박스",
+            "신라면 5개입", "코카콜라 제로 355ml 6캔", "삼다수 2L x6", "CU 1+1 바나나우유 240ml", "비비고 왕교자 1.05kg",
+            "농심 새우깡 90g 2봉", "무항생제 계란 30구", "대파 1단", "깐마늘 200g", "스타벅스 캔커피 275ml 3개",
+            "햇사과 4입 1봉", "매일 바이오 요거트 플레인 4입", "상하목장 유기농우유 125ml x24", "토마토 1,500g", "양반 참치 100g 3+1"};
+
+    private final ReceiptLineNormalizer normalizer = new ReceiptLineNormalizer();
+
+    @Benchmark
+    public void regex(Blackhole blackhole) {
+        for (String line : LINES) {
+            blackhole.consume(LegacyRegex.inferQuantity(line, 1));
+            blackhole.consume(LegacyRegex.inferUnit(line));
+        }
+    }
+
+    @Benchmark
+    public void compiled(Blackhole blackhole) {
+        for (String line : LINES) {
+            blackhole.consume(normalizer.analyze(line));
+        }
+    }
+
+    /**
+     * 기존 GeminiService의 추정 로직 (비교용 사본)
+     */
+    private static final class LegacyRegex {
+
+        static String inferUnit(String name) {
+            String lower = name.toLowerCase();
+            Matcher m = Pattern.compile("(\\d+(?:[.,]\\d+)?)\\s*(kg|g|ml|l|ℓ|그램|킬로그램|리터|밀리리터)", Pattern.CASE_INSENSITIVE)
+                    .matcher(lower);
+            if (m.find()) {
+                switch (m.group(2).toLowerCase()) {
+                    case "kg", "킬로그램" -> {
+                        return "kg";
+                    }
+                    case "g", "그램" -> {
+                        return "g";
+                    }
+                    case "ml", "밀리리터" -> {
+                        return "ml";
+                    }
+                    case "l", "ℓ", "리터" -> {
+                        return "L";
+                    }
+                    default -> {
+                    }
+                }
+            }
+            String n = name.toLowerCase().replaceAll("\\s+", "");
+            if (n.contains("캔")) return "캔";
+            if (n.contains("병")) return "병";
+            if (n.contains("팩")) return "팩";
+            if (n.contains("봉")) return "봉";
+            if (n.contains("박스")) return "박스";
+            if (n.contains("컵")) return "컵";
+            if (n.contains("포") || n.contains("파우치")) return "포";
+            if (n.contains("묶음") || n.contains("단")) return "묶음";
+            String[] pieceFoods = {"사과", "배", "바나나", "오이", "호박", "양파", "파", "쪽파", "마늘", "감자", "고구마", "당근", "파프리카",
+                    "토마토", "두부", "달걀", "계란", "빵", "라면", "김밥", "참치", "참외", "수박", "귤", "오렌지", "딸기", "포도"};
+            for (String k : pieceFoods) if (n.contains(k)) return "개";
+            String[] beverages = {"물", "생수", "음료", "주스", "콜라", "사이다", "탄산수", "차", "커피", "우유", "요구르트"};
+            for (String b : beverages) if (n.contains(b)) return "병";
+            return "개";
+        }
+
+        static int inferQuantity(String name, int fallback) {
+            String n = name.toLowerCase();
+            Matcher mx = Pattern.compile("x(\\d+)").matcher(n);
+            if (mx.find()) return parsePositive(mx.group(1), fallback);
+            Matcher mUnits = Pattern.compile("(\\d+)\\s*(입|개입|개|팩|봉|병|박스|캔|묶음)").matcher(n);
+            if (mUnits.find()) return parsePositive(mUnits.group(1), fallback);
+            Matcher plusPattern = Pattern.compile("(\\d+)[+](\\d+)").matcher(n);
+            if (plusPattern.find()) return parsePositive(plusPattern.group(1), fallback);
+            return fallback;
+        }
+
+        private static int parsePositive(String s, int fallback) {
+            try {
+                int v = Integer.parseInt(s);
+                return v > 0 ? v : fallback;
+            } catch (NumberFormatException e) {
+                return fallback;
+            }
+        }
+    }
+}
@@ -2,9 +2,14 @@ package com.capstone.web.boards.controller;
 
 import com.capstone.web.boards.dto.BoardSummaryResponse;
 import com.capstone.web.boards.service.BoardsService;
+import com.capstone.web.common.util.ETagUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -18,8 +23,14 @@ public class BoardsController {
     private final BoardsService boardsService;
 
     @GetMapping
-    public ResponseEntity<List<BoardSummaryResponse>> getBoards() {
-        return ResponseEntity.ok(boardsService.getAllBoards());
+    public ResponseEntity<List<BoardSummaryResponse>> getBoards(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        String etag = boardsService.getBoardsETag();
+        if (ETagUtils.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CacheControl.noCache()).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(boardsService.getAllBoards());
     }
 }
 
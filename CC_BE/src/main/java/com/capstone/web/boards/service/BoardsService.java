@@ -3,8 +3,10 @@ package com.capstone.web.boards.service;
 import com.capstone.web.boards.dto.BoardSummaryResponse;
 import com.capstone.web.category.domain.Category;
 import com.capstone.web.category.repository.CategoryRepository;
+import com.capstone.web.common.util.ETagUtils;
 import com.capstone.web.posts.domain.Posts;
 import com.capstone.web.posts.repository.PostsRepository;
+import com.capstone.web.posts.service.PostCountCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,6 +24,21 @@ public class BoardsService {
 
     private final CategoryRepository categoryRepository;
     private final PostsRepository postsRepository;
+    private final PostCountCache postCountCache;
+
+    /**
+     * 조건부 GET용 게시판 목록 ETag
+     * <p>
+     * 게시판(id/이름), 게시글 수 캐시 지문과 변경 버전(게시글 생성/수정/삭제 이벤트), 날짜(오늘 글 수 기준)로 구성.
+     * posts 테이블은 조회하지 않으므로 게시판마다 COUNT/최신 글 조회를 하는 본문 생성보다 훨씬 가볍다.
+     */
+    public String getBoardsETag() {
+        List<String> boards = categoryRepository.findIdAndNames().stream()
+                .map(row -> row[0] + ":" + row[1])
+                .collect(Collectors.toList());
+        return ETagUtils.strong("boards", boards, postCountCache.fingerprint(), postCountCache.changeVersion(),
+                LocalDate.now());
+    }
 
     public List<BoardSummaryResponse> getAllBoards() {
         LocalDate today = LocalDate.now();
@@ -34,7 +51,7 @@ public class BoardsService {
     }
 
     private BoardSummaryResponse buildSummary(Category category, LocalDateTime startOfDay, LocalDateTime endOfDay) {
-        long totalPosts = postsRepository.countByCategory_Id(category.getId());
+        long totalPosts = postCountCache.boardTotal(category.getId()); // 게시글 변경 시 무효화되는 캐시 (게시판마다 COUNT 생략)
         long todayPosts = postsRepository.countByCategory_IdAndCreatedAtBetween(category.getId(), startOfDay, endOfDay);
         Posts latest = postsRepository.findTop1ByCategory_IdOrderByCreatedAtDesc(category.getId());
 
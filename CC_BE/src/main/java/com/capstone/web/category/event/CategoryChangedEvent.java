@@ -0,0 +1,10 @@
+package com.capstone.web.category.event;
+
+/**
+ * 카테고리 변경 이벤트
+ * <p>
+ * 카테고리 이름이 게시글 응답에 포함되므로, 카테고리가 바뀌면 커밋 이후 게시글 상세 캐시 스냅샷을 무효화하는 데 사용된다.
+ * 현재는 이름 변경 API가 없어 삭제 시에만 발행된다.
+ */
+public record CategoryChangedEvent(Long categoryId) {
+}
@@ -2,9 +2,16 @@ package com.capstone.web.category.repository;
 
 import com.capstone.web.category.domain.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
+
+    // 게시판 목록 ETag 계산용 (id, 이름만)
+    @Query("SELECT c.id, c.name FROM Category c ORDER BY c.id")
+    List<Object[]> findIdAndNames();
 }
 
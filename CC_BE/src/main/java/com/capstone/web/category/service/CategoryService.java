@@ -3,9 +3,11 @@ package com.capstone.web.category.service;
 import com.capstone.web.category.domain.Category;
 import com.capstone.web.category.dto.CategoryRequest;
 import com.capstone.web.category.dto.CategoryResponse;
+import com.capstone.web.category.event.CategoryChangedEvent;
 import com.capstone.web.category.exception.CategoryNotFoundException;
 import com.capstone.web.category.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +20,7 @@ import java.util.stream.Collectors;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Long createCategory(CategoryRequest request) {
@@ -49,5 +52,6 @@ public class CategoryService {
             throw new CategoryNotFoundException("삭제할 카테고리를 찾을 수 없습니다. ID: " + id);
         }
         categoryRepository.deleteById(id);
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
     }
 }
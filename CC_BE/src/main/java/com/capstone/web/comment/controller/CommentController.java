@@ -4,8 +4,12 @@ import com.capstone.web.auth.jwt.JwtAuthenticationFilter.MemberPrincipal;
 import com.capstone.web.comment.dto.CommentDto;
 import com.capstone.web.comment.dto.CommentQueryDto; // DTO 임포트 추가
 import com.capstone.web.comment.service.CommentService;
+import com.capstone.web.common.util.ETagUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -33,9 +37,17 @@ public class CommentController {
     }
 
     @GetMapping("/api/v1/posts/{postId}/comments")
-    public ResponseEntity<List<CommentDto.Response>> getCommentsByPost(@PathVariable Long postId) {
+    public ResponseEntity<List<CommentDto.Response>> getCommentsByPost(
+            @PathVariable Long postId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        // 변경이 없으면 댓글 트리를 만들지 않고 304
+        String etag = commentService.getCommentsETag(postId);
+        if (ETagUtils.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CacheControl.noCache()).build();
+        }
         List<CommentDto.Response> comments = commentService.getCommentsByPost(postId);
-        return ResponseEntity.ok(comments);
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(comments);
     }
 
     @PutMapping("/api/v1/posts/{postId}/comments/{commentId}")
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -24,4 +25,18 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             "WHERE c.author.id = :authorId " +
             "ORDER BY c.createdAt DESC")
     List<Comment> findAllByAuthorId(@Param("authorId") Long authorId);
+
+    // 조건부 GET(ETag)용: 게시글 댓글 목록의 버전
+    // (작성/삭제 → 개수, 수정/소프트 삭제 → 최종 수정 시각, 작성자 닉네임 변경 → 작성자 최종 수정 시각)
+    @Query("SELECT COUNT(c) AS commentCount, MAX(c.updatedAt) AS lastUpdatedAt, MAX(a.updatedAt) AS lastAuthorUpdatedAt "
+            + "FROM Comment c LEFT JOIN c.author a WHERE c.post.id = :postId")
+    CommentsVersion findVersionByPostId(@Param("postId") Long postId);
+
+    interface CommentsVersion {
+        long getCommentCount();
+
+        LocalDateTime getLastUpdatedAt();
+
+        LocalDateTime getLastAuthorUpdatedAt();
+    }
 }
\ No newline at end of file
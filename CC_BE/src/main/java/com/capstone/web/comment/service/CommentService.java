@@ -6,13 +6,16 @@ import com.capstone.web.comment.dto.CommentQueryDto;
 import com.capstone.web.comment.exception.CommentNotFoundException;
 import com.capstone.web.comment.exception.CommentPermissionException;
 import com.capstone.web.comment.repository.CommentRepository;
+import com.capstone.web.common.util.ETagUtils;
 import com.capstone.web.member.domain.Member;
 import com.capstone.web.member.exception.UserNotFoundException;
 import com.capstone.web.member.repository.MemberRepository;
 import com.capstone.web.posts.domain.Posts;
+import com.capstone.web.posts.event.PostEngagementEvent;
 import com.capstone.web.posts.exception.PostNotFoundException;
 import com.capstone.web.posts.repository.PostsRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,6 +33,7 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final MemberRepository memberRepository;
     private final PostsRepository postsRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Long createComment(Long postId, Long memberId, CommentDto.CreateRequest request) {
@@ -54,7 +58,16 @@ public class CommentService {
                 .depth(depth)
                 .build();
 
-        return commentRepository.save(comment).getId();
+        Long commentId = commentRepository.save(comment).getId();
+        eventPublisher.publishEvent(PostEngagementEvent.commented(postId, post.getCategory().getId()));
+        return commentId;
+    }
+
+    // 조건부 GET용 댓글 목록 ETag (개수/최종 수정 시각/작성자 최종 수정 시각 집계 1회, 댓글 트리 로딩 없음)
+    public String getCommentsETag(Long postId) {
+        CommentRepository.CommentsVersion version = commentRepository.findVersionByPostId(postId);
+        return ETagUtils.strong("comments", postId, version.getCommentCount(), version.getLastUpdatedAt(),
+                version.getLastAuthorUpdatedAt());
     }
 
     public List<CommentDto.Response> getCommentsByPost(Long postId) {
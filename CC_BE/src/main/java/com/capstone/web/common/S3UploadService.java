@@ -6,6 +6,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 @Service
@@ -32,4 +35,11 @@ public class S3UploadService {
         // 3. 업로드된 URL 반환
         return s3Template.download(bucket, key).getURL().toString();
     }
+
+    // 업로드 URL로 객체 삭제 (키 = URL 마지막 경로 세그먼트)
+    public void deleteFile(String fileUrl) {
+        String path = URI.create(fileUrl).getPath();
+        String key = URLDecoder.decode(path.substring(path.lastIndexOf('/') + 1), StandardCharsets.UTF_8);
+        s3Template.deleteObject(bucket, key);
+    }
 }
\ No newline at end of file
@@ -29,15 +29,22 @@ import com.capstone.web.member.exception.MemberWithdrawErrorCode;
 import com.capstone.web.refrigerator.exception.DuplicateItemException;
 import com.capstone.web.refrigerator.exception.ItemNotFoundException;
 import com.capstone.web.refrigerator.exception.RefrigeratorErrorCode;
+import com.capstone.web.refrigerator.exception.ScanBatchTooLargeException;
+import com.capstone.web.refrigerator.exception.ScanJobNotFoundException;
+import com.capstone.web.refrigerator.exception.ScanRejectedException;
 import com.capstone.web.refrigerator.exception.UnauthorizedItemAccessException;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
+import com.capstone.web.posts.exception.InvalidCursorException;
+import com.capstone.web.posts.exception.InvalidImportFormatException;
 import com.capstone.web.posts.exception.PostNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -55,6 +62,18 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursor(InvalidCursorException ex) {
+        ErrorResponse response = ErrorResponse.of(HttpStatus.BAD_REQUEST, "INVALID_CURSOR", ex.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidImportFormatException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidImportFormat(InvalidImportFormatException ex) {
+        ErrorResponse response = ErrorResponse.of(HttpStatus.BAD_REQUEST, "INVALID_IMPORT_FORMAT", ex.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler({InvalidOldPasswordException.class, SameAsOldPasswordException.class, RecentPasswordReuseException.class})
     public ResponseEntity<ErrorResponse> handlePasswordChange(RuntimeException ex) {
         log.info("비밀번호 예외 핸들러 진입: {}", ex.getClass().getSimpleName());
@@ -210,19 +229,48 @@ public class GlobalExceptionHandler {
         return buildRefrigeratorErrorResponse(RefrigeratorErrorCode.UNAUTHORIZED_ITEM_ACCESS);
     }
 
+    // 식재료 동시 수정/차감 충돌 (RefrigeratorItem @Version)
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLock(ObjectOptimisticLockingFailureException ex) {
+        log.info("낙관적 잠금 충돌: {}", ex.getPersistentClassName());
+        return buildRefrigeratorErrorResponse(RefrigeratorErrorCode.CONCURRENT_MODIFICATION);
+    }
+
+    // 영수증 스캔 작업 큐 포화/회원별 한도 초과 (429 + Retry-After)
+    @ExceptionHandler(ScanRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleScanRejected(ScanRejectedException ex) {
+        ResponseEntity<ErrorResponse> response = buildRefrigeratorErrorResponse(ex.getErrorCode());
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response.getBody());
+    }
+
+    @ExceptionHandler(ScanJobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleScanJobNotFound(ScanJobNotFoundException ex) {
+        return buildRefrigeratorErrorResponse(RefrigeratorErrorCode.SCAN_JOB_NOT_FOUND);
+    }
+
+    @ExceptionHandler(ScanBatchTooLargeException.class)
+    public ResponseEntity<ErrorResponse> handleScanBatchTooLarge(ScanBatchTooLargeException ex) {
+        return buildRefrigeratorErrorResponse(RefrigeratorErrorCode.SCAN_BATCH_TOO_LARGE);
+    }
+
     /**
      * 냉장고 관련 도메인 오류 상태 매핑
-     * - ITEM_NOT_FOUND: 404 Not Found
+     * - ITEM_NOT_FOUND, SCAN_JOB_NOT_FOUND: 404 Not Found
      * - DUPLICATE_ITEM: 409 Conflict (리소스 상태 충돌)
+     * - CONCURRENT_MODIFICATION: 409 Conflict (동시 변경)
      * - UNAUTHORIZED_ITEM_ACCESS: 403 Forbidden (권한 없음)
-     * - 기타: 400 Bad Request
+     * - SCAN_QUEUE_FULL, SCAN_MEMBER_LIMIT: 429 Too Many Requests (스캔 작업 역압)
+     * - 기타(SCAN_BATCH_TOO_LARGE 등): 400 Bad Request
      */
     private ResponseEntity<ErrorResponse> buildRefrigeratorErrorResponse(RefrigeratorErrorCode errorCode) {
         HttpStatus status;
         switch (errorCode) {
-            case ITEM_NOT_FOUND -> status = HttpStatus.NOT_FOUND;
-            case DUPLICATE_ITEM -> status = HttpStatus.CONFLICT;
+            case ITEM_NOT_FOUND, SCAN_JOB_NOT_FOUND -> status = HttpStatus.NOT_FOUND;
+            case DUPLICATE_ITEM, CONCURRENT_MODIFICATION -> status = HttpStatus.CONFLICT;
             case UNAUTHORIZED_ITEM_ACCESS -> status = HttpStatus.FORBIDDEN;
+            case SCAN_QUEUE_FULL, SCAN_MEMBER_LIMIT -> status = HttpStatus.TOO_MANY_REQUESTS;
             default -> status = HttpStatus.BAD_REQUEST;
         }
         ErrorResponse.FieldError fieldError = new ErrorResponse.FieldError("refrigeratorItem", errorCode.getCode());
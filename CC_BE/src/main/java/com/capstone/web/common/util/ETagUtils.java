@@ -0,0 +1,51 @@
+package com.capstone.web.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * HTTP 조건부 GET(ETag / If-None-Match) 공통 유틸리티
+ */
+public class ETagUtils {
+
+    private ETagUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * 버전 구성 요소들로 강한 ETag 생성
+     *
+     * @param parts 표현(본문)이 바뀌면 함께 바뀌는 값들 (id, updatedAt, 카운터 등)
+     * @return 따옴표로 감싼 ETag (예: "3f2a...")
+     */
+    public static String strong(Object... parts) {
+        String raw = Arrays.stream(parts).map(Objects::toString).collect(Collectors.joining("|"));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(raw.getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * If-None-Match 헤더가 현재 ETag와 일치하는지 (약한 비교, 목록 및 * 허용)
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank() || etag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) return true;
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals(etag)) return true;
+        }
+        return false;
+    }
+}
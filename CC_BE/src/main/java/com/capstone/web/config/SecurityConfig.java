@@ -3,6 +3,7 @@ package com.capstone.web.config;
 import com.capstone.web.auth.jwt.JwtProperties;
 import com.capstone.web.auth.jwt.JwtAuthenticationFilter;
 import com.capstone.web.auth.logout.JwtBlacklistFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -26,6 +27,8 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorize -> authorize
+                        // SSE 등 비동기 응답 완료 디스패치 (최초 요청에서 이미 인가됨, 무상태라 인증 정보가 다시 실리지 않음)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/v1/auth/login", "/api/v1/auth/logout", "/api/v1/auth/password-reset", "/api/v1/auth/password-reset/confirm", "/v3/api-docs/**", "/swagger-ui/**").permitAll()
                         .requestMatchers("/static/**").permitAll()
                         // Shopping API (공개 조회)
@@ -33,6 +36,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/v1/posts/**", "/api/boards/**").permitAll()
                         // 추천 토글/작성/수정/삭제는 인증 필요
                         .requestMatchers(HttpMethod.POST, "/api/v1/posts/*/like").authenticated()
+                        .requestMatchers(HttpMethod.POST, "/api/v1/posts/compare-refrigerator").authenticated()
                         .requestMatchers(HttpMethod.POST, "/api/v1/posts").authenticated()
                         .requestMatchers(HttpMethod.PUT, "/api/v1/posts/*").authenticated()
                         .requestMatchers(HttpMethod.DELETE, "/api/v1/posts/*").authenticated()
@@ -42,6 +46,11 @@ public class SecurityConfig {
                         .requestMatchers("/api/v1/members/blocks/**").authenticated()
                         // 냉장고 관련 보호 API
                         .requestMatchers("/api/v1/refrigerator/**").authenticated()
+                        // 관리자 API
+                        .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
+                        // 운영 지표 (health 외 actuator는 관리자만)
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .anyRequest().permitAll()
                 )
                 .addFilterBefore(authenticationFilter, org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter.class)
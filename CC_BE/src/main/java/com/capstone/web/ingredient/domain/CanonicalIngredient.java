@@ -0,0 +1,33 @@
+package com.capstone.web.ingredient.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대표 재료 (재료 사전)
+ * 레시피 재료와 냉장고 식재료는 이 id(canonical_ingredient_id)로 매칭한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "canonical_ingredients",
+        uniqueConstraints = @UniqueConstraint(name = "uk_canonical_ingredients_name", columnNames = "name")
+)
+public class CanonicalIngredient {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false, length = 50)
+    private String name;
+}
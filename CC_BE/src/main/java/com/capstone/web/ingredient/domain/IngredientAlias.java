@@ -0,0 +1,31 @@
+package com.capstone.web.ingredient.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재료 별칭 (계란/달걀, 대파/파 ...)
+ * alias는 사전 키 형태(소문자, 공백 제거)로 저장하며, 대표 재료명 자신도 별칭으로 등록한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "ingredient_aliases",
+        indexes = @Index(name = "idx_ingredient_aliases_canonical", columnList = "canonical_ingredient_id")
+)
+public class IngredientAlias {
+
+    @Id
+    @Column(length = 50)
+    private String alias;
+
+    @Column(name = "canonical_ingredient_id", nullable = false)
+    private Integer canonicalIngredientId;
+}
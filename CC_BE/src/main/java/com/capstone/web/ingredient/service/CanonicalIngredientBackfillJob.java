@@ -0,0 +1,131 @@
+package com.capstone.web.ingredient.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대표 재료 id 백필
+ * <p>
+ * 사전 도입 이전(또는 사전에 없던) 레시피 재료/냉장고 식재료 중 canonical_ingredient_id IS NULL인 행을
+ * id 순 청크로 읽어 사전으로 해석하고, 해석된 행만 UPDATE 배치로 채운다. 청크마다 짧은 트랜잭션으로 커밋한다.
+ * 해석되지 않은 행은 NULL로 남아 다음 실행(사전 보강 후)에서 다시 시도된다.
+ */
+@Slf4j
+@Component
+public class CanonicalIngredientBackfillJob {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IngredientDictionary dictionary;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final boolean runOnStartup;
+
+    public CanonicalIngredientBackfillJob(JdbcTemplate jdbcTemplate,
+                                          IngredientDictionary dictionary,
+                                          PlatformTransactionManager transactionManager,
+                                          @Value("${ingredient.dictionary.backfill-chunk-size:1000}") int chunkSize,
+                                          @Value("${ingredient.dictionary.backfill-on-startup:true}") boolean runOnStartup) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dictionary = dictionary;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.runOnStartup = runOnStartup;
+    }
+
+    /**
+     * 백필 대상 테이블 (post_ingredient는 PostIngredient 엔티티의 물리 테이블명)
+     */
+    enum Target {
+        POST_INGREDIENT("post_ingredient"),
+        REFRIGERATOR_ITEM("refrigerator_items");
+
+        private final String selectSql;
+        private final String updateSql;
+
+        Target(String table) {
+            this.selectSql = "SELECT id, name FROM " + table
+                    + " WHERE canonical_ingredient_id IS NULL AND id > ? ORDER BY id LIMIT ?";
+            // 식재료 이름은 바뀌지 않으므로 버전/동기화 버전은 올리지 않는다 (클라이언트에 보이는 값이 아님)
+            this.updateSql = "UPDATE " + table
+                    + " SET canonical_ingredient_id = ? WHERE id = ? AND canonical_ingredient_id IS NULL";
+        }
+    }
+
+    public record Result(int scanned, int resolved) {
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!runOnStartup) return;
+        try {
+            backfill();
+        } catch (RuntimeException e) {
+            // 백필 실패는 매칭 시 이름으로 다시 해석되므로 기동을 막지 않음
+            log.warn("[IngredientDictionary] 대표 재료 id 백필 실패: cause={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 레시피 재료 + 냉장고 식재료 백필
+     *
+     * @return 해석되어 채워진 행 수
+     */
+    public synchronized int backfill() {
+        int resolved = 0;
+        for (Target target : Target.values()) {
+            Result result = backfill(target);
+            if (result.scanned() > 0) {
+                log.info("[IngredientDictionary] 대표 재료 id 백필: target={}, scanned={}, resolved={}",
+                        target, result.scanned(), result.resolved());
+            }
+            resolved += result.resolved();
+        }
+        return resolved;
+    }
+
+    Result backfill(Target target) {
+        long lastId = 0L;
+        int scanned = 0;
+        int resolved = 0;
+        while (true) {
+            final long cursor = lastId;
+            Chunk chunk = transactionTemplate.execute(status -> processChunk(target, cursor));
+            if (chunk == null || chunk.size() == 0) break;
+            scanned += chunk.size();
+            resolved += chunk.resolved();
+            lastId = chunk.lastId();
+            if (chunk.size() < chunkSize) break;
+        }
+        return new Result(scanned, resolved);
+    }
+
+    private Chunk processChunk(Target target, long afterId) {
+        List<Object[]> updates = new ArrayList<>();
+        long[] lastId = {afterId};
+        int[] size = {0};
+        jdbcTemplate.query(target.selectSql, rs -> {
+            long id = rs.getLong("id");
+            Integer canonicalId = dictionary.resolve(rs.getString("name"));
+            if (canonicalId != null) updates.add(new Object[]{canonicalId, id});
+            lastId[0] = id;
+            size[0]++;
+        }, afterId, chunkSize);
+        if (!updates.isEmpty()) jdbcTemplate.batchUpdate(target.updateSql, updates);
+        return new Chunk(lastId[0], size[0], updates.size());
+    }
+
+    private record Chunk(long lastId, int size, int resolved) {
+    }
+}
@@ -0,0 +1,217 @@
+package com.capstone.web.ingredient.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 재료 사전 (대표 재료 + 별칭)
+ * <p>
+ * <ul>
+ *   <li>canonical_ingredients / ingredient_aliases를 한 번 읽어 불변 맵(별칭 키 → 대표 재료 id)으로 들고 있다</li>
+ *   <li>처음 읽을 때 기본 사전 파일(ingredient.dictionary.seed-location)에서 없는 항목만 추가한다</li>
+ *   <li>재료명 해석: 괄호 내용 제거 → 소문자/공백 제거 → 별칭 완전 일치 → 가장 긴 접미 별칭(2자 이상)
+ *       ("다진 대파" → 대파, "국산 삼겹살" → 돼지고기). 어느 것도 없으면 null (이름 일치/포함 관계로 매칭)</li>
+ * </ul>
+ * 레시피 재료/냉장고 식재료는 저장 시점에 해석한 id(canonical_ingredient_id)를 함께 저장하고,
+ * 그 이전 데이터는 {@link CanonicalIngredientBackfillJob}이 채운다.
+ */
+@Slf4j
+@Component
+public class IngredientDictionary {
+
+    private static final String UPSERT_CANONICAL_SQL =
+            "INSERT INTO canonical_ingredients (name) VALUES (?) ON DUPLICATE KEY UPDATE name = VALUES(name)";
+    private static final String INSERT_ALIAS_SQL =
+            "INSERT INTO ingredient_aliases (alias, canonical_ingredient_id) VALUES (?, ?) "
+                    + "ON DUPLICATE KEY UPDATE alias = VALUES(alias)";
+    private static final String SELECT_CANONICAL_SQL = "SELECT id, name FROM canonical_ingredients";
+    private static final String SELECT_ALIASES_SQL = "SELECT alias, canonical_ingredient_id FROM ingredient_aliases";
+
+    private static final Pattern PARENTHESES = Pattern.compile("\\([^)]*\\)|\\[[^]]*]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MIN_SUFFIX_LENGTH = 2;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ResourceLoader resourceLoader;
+    private final String seedLocation;
+
+    private volatile Snapshot snapshot;
+    private boolean seeded;
+
+    public IngredientDictionary(JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                ResourceLoader resourceLoader,
+                                @Value("${ingredient.dictionary.seed-location:classpath:ingredient/canonical-ingredients.txt}") String seedLocation) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 호출한 쪽 트랜잭션과 무관하게 사전 시드를 커밋
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.resourceLoader = resourceLoader;
+        this.seedLocation = seedLocation;
+    }
+
+    private record Snapshot(Map<String, Integer> idByAlias, Map<Integer, String> nameById) {
+    }
+
+    // 백필/추천 색인보다 먼저 사전을 올려 둔다
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        snapshot();
+    }
+
+    /**
+     * 재료명 → 대표 재료 id (사전에 없으면 null)
+     */
+    public Integer resolve(String name) {
+        if (name == null) return null;
+        String key = aliasKey(PARENTHESES.matcher(name).replaceAll(""));
+        if (key.isEmpty()) return null;
+        Map<String, Integer> idByAlias = snapshot().idByAlias();
+        Integer id = idByAlias.get(key);
+        if (id != null) return id;
+        // 앞쪽 수식어를 하나씩 떼며 가장 긴 접미 별칭을 찾는다 (한 글자 별칭은 제외)
+        for (int start = 1; key.length() - start >= MIN_SUFFIX_LENGTH; start++) {
+            id = idByAlias.get(key.substring(start));
+            if (id != null) return id;
+        }
+        return null;
+    }
+
+    /**
+     * 매칭 키: 저장된 id가 있으면 그대로, 없으면(백필 전 데이터) 지금 해석
+     */
+    public IngredientKey keyOf(Integer storedId, String name) {
+        return IngredientKey.of(storedId != null ? storedId : resolve(name), name);
+    }
+
+    /**
+     * 대표 재료명 (없으면 null)
+     */
+    public String canonicalName(Integer id) {
+        return id != null ? snapshot().nameById().get(id) : null;
+    }
+
+    public int size() {
+        return snapshot().nameById().size();
+    }
+
+    /**
+     * DB에서 사전을 다시 읽는다 (처음 한 번은 기본 사전 파일을 먼저 반영)
+     *
+     * @return 대표 재료 수
+     */
+    public synchronized int reload() {
+        if (!seeded) {
+            seed();
+            seeded = true;
+        }
+        Map<Integer, String> nameById = new HashMap<>();
+        jdbcTemplate.query(SELECT_CANONICAL_SQL, rs -> {
+            nameById.put(rs.getInt("id"), rs.getString("name"));
+        });
+        Map<String, Integer> idByAlias = new HashMap<>();
+        nameById.forEach((id, name) -> idByAlias.put(aliasKey(name), id));
+        jdbcTemplate.query(SELECT_ALIASES_SQL, rs -> {
+            idByAlias.putIfAbsent(aliasKey(rs.getString("alias")), rs.getInt("canonical_ingredient_id"));
+        });
+        snapshot = new Snapshot(Map.copyOf(idByAlias), Map.copyOf(nameById));
+        log.info("[IngredientDictionary] 재료 사전 로딩: canonical={}, aliases={}", nameById.size(), idByAlias.size());
+        return nameById.size();
+    }
+
+    /**
+     * 사전 비교용 키 (소문자, 공백 제거)
+     */
+    static String aliasKey(String name) {
+        return WHITESPACE.matcher(IngredientKey.normalize(name)).replaceAll("");
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) reload();
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private void seed() {
+        if (seedLocation == null || seedLocation.isBlank()) return;
+        Resource resource = resourceLoader.getResource(seedLocation);
+        if (!resource.exists()) {
+            log.warn("[IngredientDictionary] 기본 재료 사전 파일 없음: {}", seedLocation);
+            return;
+        }
+        Map<String, Set<String>> entries = parse(resource);
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Object[]> canonicalArgs = new ArrayList<>(entries.size());
+            for (String name : entries.keySet()) canonicalArgs.add(new Object[]{name});
+            jdbcTemplate.batchUpdate(UPSERT_CANONICAL_SQL, canonicalArgs);
+
+            Map<String, Integer> idByName = new HashMap<>();
+            jdbcTemplate.query(SELECT_CANONICAL_SQL, rs -> {
+                idByName.put(rs.getString("name"), rs.getInt("id"));
+            });
+            List<Object[]> aliasArgs = new ArrayList<>();
+            entries.forEach((name, aliases) -> {
+                Integer id = idByName.get(name);
+                for (String alias : aliases) aliasArgs.add(new Object[]{alias, id});
+            });
+            jdbcTemplate.batchUpdate(INSERT_ALIAS_SQL, aliasArgs);
+        });
+    }
+
+    // "대표 재료명: 별칭, 별칭" 줄 목록 (# 주석, 빈 줄 무시)
+    private static Map<String, Set<String>> parse(Resource resource) {
+        Map<String, Set<String>> entries = new LinkedHashMap<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                int colon = line.indexOf(':');
+                String name = (colon >= 0 ? line.substring(0, colon) : line).trim();
+                Set<String> aliases = entries.computeIfAbsent(name, k -> new LinkedHashSet<>());
+                aliases.add(aliasKey(name));
+                if (colon < 0) continue;
+                for (String alias : line.substring(colon + 1).split(",")) {
+                    String key = aliasKey(alias);
+                    if (!key.isEmpty()) aliases.add(key);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("재료 사전 파일을 읽을 수 없습니다: " + resource, e);
+        }
+        return entries;
+    }
+}
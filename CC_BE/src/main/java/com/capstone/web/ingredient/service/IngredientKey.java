@@ -0,0 +1,25 @@
+package com.capstone.web.ingredient.service;
+
+import java.util.Locale;
+
+/**
+ * 재료 매칭 키
+ * 둘 다 사전에 있으면 대표 재료 id로, 한쪽이라도 사전에 없으면 정규화된 이름(소문자, trim)의 일치/포함 관계로 비교한다.
+ */
+public record IngredientKey(Integer canonicalId, String name) {
+
+    public static IngredientKey of(Integer canonicalId, String name) {
+        return new IngredientKey(canonicalId, normalize(name));
+    }
+
+    /**
+     * 재료명 정규화 (소문자, 앞뒤 공백 제거)
+     */
+    public static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT).trim();
+    }
+
+    public boolean resolved() {
+        return canonicalId != null;
+    }
+}
@@ -0,0 +1,10 @@
+package com.capstone.web.member.event;
+
+/**
+ * 회원 닉네임 변경 이벤트
+ * <p>
+ * MemberUpdateService에서 닉네임이 실제로 바뀐 경우 발행되며,
+ * 커밋 이후 작성자 닉네임을 담고 있는 게시글 상세 캐시 스냅샷을 무효화하는 데 사용된다.
+ */
+public record MemberNicknameChangedEvent(Long memberId) {
+}
@@ -2,12 +2,14 @@ package com.capstone.web.member.service;
 
 import com.capstone.web.member.domain.Member;
 import com.capstone.web.member.dto.MemberProfileResponse;
+import com.capstone.web.member.event.MemberNicknameChangedEvent;
 import com.capstone.web.member.exception.*;
 import com.capstone.web.member.repository.MemberRepository;
 import java.io.IOException;
 import java.util.Set;
 import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -24,12 +26,14 @@ public class MemberUpdateService {
 
     private final MemberRepository memberRepository;
     private final ProfileImageStorage imageStorage;
+    private final ApplicationEventPublisher eventPublisher;
 
     public MemberProfileResponse update(Member member, String nickname, MultipartFile profileImage) {
         // 닉네임 처리
         if (StringUtils.hasText(nickname) && !nickname.equals(member.getNickname())) {
             validateNickname(nickname, member.getId());
             memberChangeNickname(member, nickname);
+            eventPublisher.publishEvent(new MemberNicknameChangedEvent(member.getId()));
         }
 
         // 이미지 처리
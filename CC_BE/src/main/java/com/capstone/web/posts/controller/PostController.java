@@ -1,13 +1,19 @@
 package com.capstone.web.posts.controller;
 
 import com.capstone.web.auth.jwt.JwtAuthenticationFilter.MemberPrincipal;
+import com.capstone.web.common.util.ETagUtils;
+import com.capstone.web.posts.domain.Posts;
 import com.capstone.web.posts.dto.PostDto;
 import com.capstone.web.posts.dto.PostListRequest;
 import com.capstone.web.posts.dto.PostComparisonDto;
 import com.capstone.web.posts.service.PostService;
+import com.capstone.web.posts.service.PostTrendingService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -16,6 +22,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/v1/posts")
@@ -23,6 +30,7 @@ import java.util.List;
 public class PostController {
 
     private final PostService postService;
+    private final PostTrendingService postTrendingService;
 
     // ==========================================
     //  1. 게시글 생성 (Create)
@@ -59,22 +67,34 @@ public class PostController {
     @GetMapping("/{id}")
     public ResponseEntity<PostDto.Response> getPost(
             @PathVariable Long id,
-            @AuthenticationPrincipal MemberPrincipal userPrincipal
+            @AuthenticationPrincipal MemberPrincipal userPrincipal,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         Long viewer = userPrincipal != null ? userPrincipal.id() : null;
+        // 변경이 없으면 상세 DTO를 만들지 않고 304 (버전 컬럼만 조회)
+        Optional<String> current = postService.findPostETag(id, viewer);
+        if (current.isPresent() && ETagUtils.matches(ifNoneMatch, current.get())) {
+            postService.recordView(id);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(current.get()).cacheControl(CacheControl.noCache().cachePrivate()).build();
+        }
         PostDto.Response post = postService.getPostById(id, viewer);
-        return ResponseEntity.ok(post);
+        return ResponseEntity.ok()
+                .eTag(postService.etagOf(post, viewer))
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(post);
     }
 
     @GetMapping
-    public ResponseEntity<Page<PostDto.Response>> list(
+    public ResponseEntity<Page<PostDto.ListItem>> list(
             @RequestParam(required = false) Long boardId,
             @RequestParam(required = false) Long authorId,
             @RequestParam(required = false, defaultValue = "1") Integer page,
             @RequestParam(required = false, defaultValue = "20") Integer size,
             @RequestParam(required = false) String searchType,
             @RequestParam(required = false) String keyword,
-            @RequestParam(required = false, defaultValue = "createdAt") String sortBy
+            @RequestParam(required = false, defaultValue = "createdAt") String sortBy,
+            @RequestParam(required = false) Boolean isRecipe,
+            @RequestParam(required = false) Posts.DietType dietType
     ) {
         PostListRequest req = new PostListRequest();
         req.setBoardId(boardId);
@@ -84,9 +104,45 @@ public class PostController {
         req.setSearchType(searchType);
         req.setKeyword(keyword);
         req.setSortBy(sortBy);
+        req.setIsRecipe(isRecipe);
+        req.setDietType(dietType);
         return ResponseEntity.ok(postService.list(req));
     }
 
+    // 커서 기반 목록 (무한 스크롤용, COUNT/OFFSET 없음). 첫 요청은 cursor 없이, 이후 nextCursor 전달
+    @GetMapping("/cursor")
+    public ResponseEntity<PostDto.CursorResponse> scroll(
+            @RequestParam(required = false) Long boardId,
+            @RequestParam(required = false) Long authorId,
+            @RequestParam(required = false, defaultValue = "20") Integer size,
+            @RequestParam(required = false) String searchType,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false, defaultValue = "createdAt") String sortBy,
+            @RequestParam(required = false) Boolean isRecipe,
+            @RequestParam(required = false) Posts.DietType dietType,
+            @RequestParam(required = false) String cursor
+    ) {
+        PostListRequest req = new PostListRequest();
+        req.setBoardId(boardId);
+        req.setAuthorId(authorId);
+        req.setSize(Math.min(Math.max(size, 1), 100));
+        req.setSearchType(searchType);
+        req.setKeyword(keyword);
+        req.setSortBy(sortBy);
+        req.setIsRecipe(isRecipe);
+        req.setDietType(dietType);
+        return ResponseEntity.ok(postService.scroll(req, cursor));
+    }
+
+    // 인기 게시글: 시간 감쇠 점수 기준 (boardId 없으면 전체), 메모리 순위에서 바로 응답
+    @GetMapping("/trending")
+    public ResponseEntity<List<PostDto.ListItem>> trending(
+            @RequestParam(required = false) Long boardId,
+            @RequestParam(required = false, defaultValue = "20") Integer size
+    ) {
+        return ResponseEntity.ok(postTrendingService.getTrending(boardId, size));
+    }
+
     // ==========================================
     //  3. 게시글 수정 (Update)
     // ==========================================
@@ -145,4 +201,13 @@ public class PostController {
         PostComparisonDto.Response response = postService.compareWithRefrigerator(postId, userPrincipal.id());
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    // 목록 카드 배지용 일괄 비교 (게시글 최대 50개, 개수만)
+    @PostMapping("/compare-refrigerator")
+    public ResponseEntity<PostComparisonDto.BatchResponse> compareWithRefrigeratorBatch(
+            @Valid @RequestBody PostComparisonDto.BatchRequest request,
+            @AuthenticationPrincipal MemberPrincipal userPrincipal
+    ) {
+        return ResponseEntity.ok(postService.compareWithRefrigerator(request.getPostIds(), userPrincipal.id()));
+    }
+}
@@ -0,0 +1,47 @@
+package com.capstone.web.posts.controller;
+
+import com.capstone.web.auth.jwt.JwtAuthenticationFilter.MemberPrincipal;
+import com.capstone.web.posts.dto.RecipeImportDto;
+import com.capstone.web.posts.service.RecipeImportReader;
+import com.capstone.web.posts.service.RecipeImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 관리자용 레시피 대량 가져오기 API (ROLE_ADMIN 전용, SecurityConfig 참고)
+ * <p>
+ * 요청 본문을 그대로 스트리밍하므로 multipart 크기 제한을 받지 않는다.
+ * <pre>
+ * curl -X POST -H "Content-Type: application/x-ndjson" --data-binary @recipes.ndjson .../api/v1/admin/posts/import
+ * curl -X POST -H "Content-Type: text/csv" --data-binary @recipes.csv .../api/v1/admin/posts/import
+ * </pre>
+ */
+@RestController
+@RequestMapping("/api/v1/admin/posts/import")
+@RequiredArgsConstructor
+public class PostImportAdminController {
+
+    private final RecipeImportService recipeImportService;
+
+    @PostMapping(consumes = {"application/x-ndjson", "application/jsonl", "text/csv"})
+    public ResponseEntity<RecipeImportDto.Result> importRecipes(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @AuthenticationPrincipal MemberPrincipal admin,
+            HttpServletRequest request
+    ) throws IOException {
+        RecipeImportReader.Format format = RecipeImportReader.Format.detect(contentType);
+        try (InputStream in = request.getInputStream()) {
+            return ResponseEntity.ok(recipeImportService.importRecipes(in, format, admin.id()));
+        }
+    }
+}
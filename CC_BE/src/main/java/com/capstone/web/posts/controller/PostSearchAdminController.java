@@ -0,0 +1,28 @@
+package com.capstone.web.posts.controller;
+
+import com.capstone.web.posts.service.PostSearchIndexer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 관리자용 게시글 검색 색인 관리 API (ROLE_ADMIN 전용, SecurityConfig 참고)
+ */
+@RestController
+@RequestMapping("/api/v1/admin/posts/search")
+@RequiredArgsConstructor
+public class PostSearchAdminController {
+
+    private final PostSearchIndexer postSearchIndexer;
+
+    @PostMapping("/reindex")
+    public ResponseEntity<ReindexResponse> reindex() {
+        long start = System.currentTimeMillis();
+        int indexed = postSearchIndexer.reindexAll();
+        return ResponseEntity.ok(new ReindexResponse(indexed, System.currentTimeMillis() - start));
+    }
+
+    public record ReindexResponse(int indexed, long tookMillis) {}
+}
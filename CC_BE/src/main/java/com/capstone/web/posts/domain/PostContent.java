@@ -0,0 +1,14 @@
+package com.capstone.web.posts.domain;
+
+/**
+ * 작성 시점에 한 번 계산되는 게시글 본문 파생 값
+ *
+ * @param html          정제된(sanitized) 본문 HTML
+ * @param plainText     정제된 본문의 전체 평문 (검색 색인용)
+ * @param excerpt       목록 카드용 평문 요약
+ * @param firstImageUrl 본문 첫 번째 이미지 주소 (없으면 null)
+ * @param wordCount     평문 기준 단어 수
+ * @param contentHash   정제된 HTML의 SHA-256 (hex)
+ */
+public record PostContent(String html, String plainText, String excerpt, String firstImageUrl, int wordCount, String contentHash) {
+}
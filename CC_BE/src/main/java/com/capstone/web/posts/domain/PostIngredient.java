@@ -37,13 +37,19 @@ public class PostIngredient { // (이름 변경)
     @Column(name = "memo")
     private String memo;
 
+    // 재료 사전의 대표 재료 id (저장 시 IngredientDictionary로 해석, 사전에 없으면 null)
+    @Column(name = "canonical_ingredient_id", updatable = false)
+    private Integer canonicalIngredientId;
+
     @Builder
-    public PostIngredient(Posts post, LocalDateTime expirationDate, String name, Long quantity, String unit, String memo) {
+    public PostIngredient(Posts post, LocalDateTime expirationDate, String name, Long quantity, String unit, String memo,
+                          Integer canonicalIngredientId) {
         this.post = post;
         this.expirationDate = expirationDate;
         this.name = name;
         this.quantity = quantity;
         this.unit = unit;
         this.memo = memo;
+        this.canonicalIngredientId = canonicalIngredientId;
     }
 }
\ No newline at end of file
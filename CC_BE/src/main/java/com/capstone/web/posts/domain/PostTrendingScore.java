@@ -0,0 +1,36 @@
+package com.capstone.web.posts.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 게시글 점수 스냅샷 (재기동 시 메모리 점수 복원용)
+ * <p>
+ * PostTrendingService가 주기적으로 JDBC 배치로 전체를 교체 저장하며, score는 snapshot_at 시점 기준 감쇠 점수다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "post_trending_scores")
+public class PostTrendingScore {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "board_id", nullable = false)
+    private Long boardId;
+
+    @Column(name = "score", nullable = false)
+    private double score;
+
+    @Column(name = "snapshot_at", nullable = false)
+    private LocalDateTime snapshotAt;
+}
@@ -24,10 +24,21 @@ import java.util.Optional; // (추가)
         @NamedAttributeNode("media")
 })
 @Entity
+// 커서 목록(키셋) 탐색용 복합 인덱스: (정렬 키, id) / (게시판, 정렬 키, id)
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_created_id", columnList = "created_at, id"),
+        @Index(name = "idx_posts_category_created_id", columnList = "category_id, created_at, id"),
+        @Index(name = "idx_posts_category_view_id", columnList = "category_id, view_count, id"),
+        @Index(name = "idx_posts_category_like_id", columnList = "category_id, like_count, id"),
+        @Index(name = "idx_posts_view_id", columnList = "view_count, id"),
+        @Index(name = "idx_posts_like_id", columnList = "like_count, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Posts {
 
+    public static final int EXCERPT_LENGTH = 150;
+
     @Column(name = "comment_count", nullable = false)
     @ColumnDefault("0")
     private final int commentCount = 0;
@@ -50,6 +61,19 @@ public class Posts {
     @Lob
     @Column(name = "content", nullable = false, columnDefinition = "LONGTEXT")
     private String content;
+    // --- 본문 파생 값 (작성/수정 시 PostContentProcessor로 1회 계산, 조회 시 HTML 재파싱 없음) ---
+    @Lob
+    @Column(name = "plain_text", columnDefinition = "LONGTEXT")
+    private String plainText; // 검색 색인용 전체 평문
+    @Column(name = "excerpt", length = EXCERPT_LENGTH)
+    private String excerpt;
+    @Column(name = "first_image_url", length = 1000)
+    private String firstImageUrl;
+    @Column(name = "word_count")
+    private Integer wordCount;
+    @Column(name = "content_hash", length = 64)
+    private String contentHash; // null이면 백필 대상 (plain_text 가 null 인 경우도 포함)
+    // ----------------------------
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
     @ColumnDefault("'DRAFT'")
@@ -113,6 +137,16 @@ public class Posts {
         }
     }
 
+    // 본문과 파생 값을 함께 반영 (수정일 갱신은 update()에서만)
+    public void applyContent(PostContent processed) {
+        this.content = processed.html();
+        this.plainText = processed.plainText();
+        this.excerpt = processed.excerpt();
+        this.firstImageUrl = processed.firstImageUrl();
+        this.wordCount = processed.wordCount();
+        this.contentHash = processed.contentHash();
+    }
+
     private void markUpdated() {
         this.updatedAt = LocalDateTime.now();
     }
@@ -146,10 +180,6 @@ public class Posts {
                 .findFirst();
     }
 
-    public void increaseViewCount() {
-        this.viewCount = this.viewCount + 1;
-    }
-
     public void increaseLikeCount() {
         this.likeCount = this.likeCount + 1;
     }
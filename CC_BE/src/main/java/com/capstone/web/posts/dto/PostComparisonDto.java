@@ -1,7 +1,11 @@
 package com.capstone.web.posts.dto;
 
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
@@ -26,6 +30,34 @@ public class PostComparisonDto {
         private ComparisonStatus status; // 상태 (OWNED, MISSING)
     }
 
+    /**
+     * 여러 게시글 일괄 비교 요청 (목록 카드의 "재료 7/9 보유" 배지)
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BatchRequest {
+        @NotEmpty(message = "게시글 ID 목록은 비어 있을 수 없습니다")
+        @Size(max = 50, message = "한 번에 최대 50개 게시글까지 비교할 수 있습니다")
+        private List<Long> postIds;
+    }
+
+    @Getter
+    @Builder
+    public static class BatchResponse {
+        private List<Summary> results; // 요청 순서 (중복 제외)
+    }
+
+    @Getter
+    @Builder
+    public static class Summary {
+        private Long postId;
+        private int totalNeeded;
+        private int ownedCount;
+        private int missingCount;
+    }
+
     public enum ComparisonStatus {
         OWNED,   // 보유 중
         MISSING  // 부족함
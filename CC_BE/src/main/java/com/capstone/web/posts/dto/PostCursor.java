@@ -0,0 +1,65 @@
+package com.capstone.web.posts.dto;
+
+import com.capstone.web.posts.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Set;
+
+/**
+ * 게시글 목록 키셋(커서) 페이지네이션 위치
+ * <p>
+ * (정렬 키 값, id) 쌍을 기억하여 다음 페이지를 {@code WHERE (key, id) < (value, lastId)} 방식으로 탐색한다.
+ * 클라이언트에는 Base64URL로 인코딩된 불투명 문자열로만 노출한다.
+ */
+public record PostCursor(String sortKey, String value, Long id) {
+
+    public static final Set<String> SORT_KEYS = Set.of("createdAt", "viewCount", "likeCount");
+    private static final String SEPARATOR = "|";
+
+    public static PostCursor of(String sortKey, PostDto.ListItem last) {
+        String value = switch (sortKey) {
+            case "viewCount" -> String.valueOf(last.getViewCount());
+            case "likeCount" -> String.valueOf(last.getLikeCount());
+            // DB 컬럼 정밀도(DATETIME(6))에 맞춰 비교 값이 저장 값과 어긋나지 않도록 절삭
+            default -> last.getCreatedAt().truncatedTo(ChronoUnit.MICROS).toString();
+        };
+        return new PostCursor(sortKey, value, last.getId());
+    }
+
+    public String encode() {
+        String raw = sortKey + SEPARATOR + value + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String encoded, String expectedSortKey) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3 || !SORT_KEYS.contains(parts[0])) {
+                throw new InvalidCursorException("잘못된 커서입니다.");
+            }
+            if (!parts[0].equals(expectedSortKey)) {
+                throw new InvalidCursorException("커서의 정렬 기준이 요청과 다릅니다.");
+            }
+            PostCursor cursor = new PostCursor(parts[0], parts[1], Long.valueOf(parts[2]));
+            cursor.typedValue(); // 값 형식 검증
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("잘못된 커서입니다.");
+        }
+    }
+
+    /**
+     * 정렬 키 타입에 맞게 변환된 값 (createdAt → LocalDateTime, 카운터 → Integer)
+     */
+    public Comparable<?> typedValue() {
+        return switch (sortKey) {
+            case "viewCount", "likeCount" -> Integer.valueOf(value);
+            default -> LocalDateTime.parse(value);
+        };
+    }
+}
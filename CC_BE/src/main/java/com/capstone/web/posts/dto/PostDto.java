@@ -2,6 +2,7 @@ package com.capstone.web.posts.dto;
 
 import com.capstone.web.media.domain.Media; // (추가)
 import com.capstone.web.posts.domain.Posts;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -14,7 +15,6 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 import java.util.Comparator; // (추가)
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class PostDto {
 
@@ -116,11 +116,16 @@ public class PostDto {
 
         private final List<PostIngredientDto.Response> ingredients;
 
+        // ETag 검증자용 작성자 버전 (응답 본문의 authorName 변경 감지, 응답에는 노출하지 않음)
+        @JsonIgnore
+        private final LocalDateTime authorUpdatedAt;
+
         // 생성자 1
         public Response(Posts post) {
             this.id = post.getId();
             this.authorId = post.getAuthorId().getId();
             this.authorName = post.getAuthorId().getNickname();
+            this.authorUpdatedAt = post.getAuthorId().getUpdatedAt();
             this.categoryId = post.getCategory().getId();
             this.categoryName = post.getCategory().getName();
             this.title = post.getTitle();
@@ -149,24 +154,30 @@ public class PostDto {
                     .filter(m -> m.getOwnerType() == Media.OwnerType.post && m.getOrderNum() > 0) // 0번(썸네일) 제외
                     .sorted(Comparator.comparingInt(Media::getOrderNum)) // 순서대로 정렬
                     .map(Media::getUrl)
-                    .collect(Collectors.toList());
+                    .toList();
 
             this.ingredients = post.getIngredients().stream()
                     .map(PostIngredientDto.Response::new)
-                    .collect(Collectors.toList());
+                    .toList();
         }
 
         // 생성자 2
         public Response(Posts post, Boolean likedByMe) {
+            this(post, likedByMe, post.getViewCount());
+        }
+
+        // 생성자 3 (조회수 보정: DB 미반영 증분 포함)
+        public Response(Posts post, Boolean likedByMe, int viewCount) {
             this.id = post.getId();
             this.authorId = post.getAuthorId().getId();
             this.authorName = post.getAuthorId().getNickname();
+            this.authorUpdatedAt = post.getAuthorId().getUpdatedAt();
             this.categoryId = post.getCategory().getId();
             this.categoryName = post.getCategory().getName();
             this.title = post.getTitle();
             this.content = post.getContent();
             this.status = post.getStatus();
-            this.viewCount = post.getViewCount();
+            this.viewCount = viewCount;
             this.likeCount = post.getLikeCount();
             this.commentCount = post.getCommentCount();
             this.createdAt = post.getCreatedAt();
@@ -189,14 +200,118 @@ public class PostDto {
                     .filter(m -> m.getOwnerType() == Media.OwnerType.post && m.getOrderNum() > 0)
                     .sorted(Comparator.comparingInt(Media::getOrderNum))
                     .map(Media::getUrl)
-                    .collect(Collectors.toList());
+                    .toList();
 
             this.ingredients = post.getIngredients().stream()
                     .map(PostIngredientDto.Response::new)
-                    .collect(Collectors.toList());
+                    .toList();
+        }
+
+        // 생성자 4 (캐시 스냅샷 복사: 조회자별 좋아요 여부/실시간 조회수만 교체, 목록은 불변이므로 공유)
+        private Response(Response snapshot, Boolean likedByMe, int viewCount) {
+            this.id = snapshot.id;
+            this.authorId = snapshot.authorId;
+            this.authorName = snapshot.authorName;
+            this.authorUpdatedAt = snapshot.authorUpdatedAt;
+            this.categoryId = snapshot.categoryId;
+            this.categoryName = snapshot.categoryName;
+            this.title = snapshot.title;
+            this.content = snapshot.content;
+            this.status = snapshot.status;
+            this.viewCount = viewCount;
+            this.likeCount = snapshot.likeCount;
+            this.commentCount = snapshot.commentCount;
+            this.createdAt = snapshot.createdAt;
+            this.updatedAt = snapshot.updatedAt;
+            this.selected = snapshot.selected;
+            this.file = snapshot.file;
+            this.isRecipe = snapshot.isRecipe;
+            this.likedByMe = likedByMe;
+            this.dietType = snapshot.dietType;
+            this.cookTimeInMinutes = snapshot.cookTimeInMinutes;
+            this.servings = snapshot.servings;
+            this.difficulty = snapshot.difficulty;
+            this.thumbnailUrl = snapshot.thumbnailUrl;
+            this.imageUrls = snapshot.imageUrls;
+            this.ingredients = snapshot.ingredients;
+        }
+
+        public Response withViewer(Boolean likedByMe, int viewCount) {
+            return new Response(this, likedByMe, viewCount);
+        }
+    }
+
+    /**
+     * 목록 카드 응답 (단일 프로젝션 쿼리로 조회)
+     * <p>
+     * 본문(content), 재료, 추가 이미지 목록은 상세 조회(Response)에서만 제공한다.
+     * 생성자 파라미터 순서는 PostsListQueryRepositoryImpl의 select 절과 일치해야 한다.
+     */
+    @Getter
+    public static class ListItem {
+        private final Long id;
+        private final Long authorId;
+        private final String authorName;
+        private final Long categoryId;
+        private final String categoryName;
+        private final String title;
+        private final String excerpt;
+        private final Posts.PostStatus status;
+        private final int viewCount;
+        private final int likeCount;
+        private final int commentCount;
+        private final LocalDateTime createdAt;
+        private final LocalDateTime updatedAt;
+        private final Posts.TruthValue selected;
+        private final Posts.TruthValue file;
+        private final Boolean isRecipe;
+        private final Posts.DietType dietType;
+        private final Integer cookTimeInMinutes;
+        private final Integer servings;
+        private final Posts.Difficulty difficulty;
+        private final String thumbnailUrl;
+
+        public ListItem(Long id, Long authorId, String authorName, Long categoryId, String categoryName,
+                        String title, String excerpt, Posts.PostStatus status,
+                        int viewCount, int likeCount, int commentCount,
+                        LocalDateTime createdAt, LocalDateTime updatedAt,
+                        Posts.TruthValue selected, Posts.TruthValue file, boolean isRecipe,
+                        Posts.DietType dietType, Integer cookTimeInMinutes, Integer servings, Posts.Difficulty difficulty,
+                        String thumbnailUrl) {
+            this.id = id;
+            this.authorId = authorId;
+            this.authorName = authorName;
+            this.categoryId = categoryId;
+            this.categoryName = categoryName;
+            this.title = title;
+            this.excerpt = excerpt;
+            this.status = status;
+            this.viewCount = viewCount;
+            this.likeCount = likeCount;
+            this.commentCount = commentCount;
+            this.createdAt = createdAt;
+            this.updatedAt = updatedAt;
+            this.selected = selected;
+            this.file = file;
+            this.isRecipe = isRecipe;
+            this.dietType = dietType;
+            this.cookTimeInMinutes = cookTimeInMinutes;
+            this.servings = servings;
+            this.difficulty = difficulty;
+            this.thumbnailUrl = thumbnailUrl;
         }
     }
 
+    // 커서 목록 응답 (COUNT 없음, totalCount는 게시판 단위 캐시 값이며 조건 검색 시 null)
+    @Getter
+    @AllArgsConstructor
+    public static class CursorResponse {
+        private final List<ListItem> content;
+        private final String nextCursor;
+        private final boolean hasNext;
+        private final Long totalCount;
+    }
+
     @Getter
     @AllArgsConstructor
     public static class IdResponse {
@@ -1,5 +1,6 @@
 package com.capstone.web.posts.dto;
 
+import com.capstone.web.posts.domain.Posts;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -16,6 +17,17 @@ public class PostListRequest {
     private String searchType; // TITLE, CONTENT, AUTHOR
     private String keyword;    // optional
     private String sortBy = "createdAt"; // default
+    private Boolean isRecipe;  // optional filter
+    private Posts.DietType dietType; // optional filter
+
+    public boolean hasKeyword() {
+        return searchType != null && keyword != null && !keyword.isBlank();
+    }
+
+    // 게시판 외 조건(작성자/검색/레시피/식단)이 있으면 캐시된 게시판 전체 건수를 쓸 수 없음
+    public boolean hasFiltersBeyondBoard() {
+        return authorId != null || hasKeyword() || isRecipe != null || dietType != null;
+    }
 
     public int pageIndex() {
         int p = page != null && page > 0 ? page : 1;
@@ -27,4 +39,9 @@ public class PostListRequest {
         // 최신순 우선: createdAt desc, 그 외는 내림차순 기본
         return Sort.by(Sort.Direction.DESC, by);
     }
+
+    // 커서 목록은 인덱스로 탐색 가능한 정렬 키만 허용 (그 외는 최신순)
+    public String cursorSortKey() {
+        return sortBy != null && PostCursor.SORT_KEYS.contains(sortBy) ? sortBy : "createdAt";
+    }
 }
@@ -0,0 +1,68 @@
+package com.capstone.web.posts.dto;
+
+import com.capstone.web.posts.domain.Posts;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 레시피 대량 가져오기(NDJSON/CSV) DTO
+ */
+public class RecipeImportDto {
+
+    /**
+     * 가져오기 1건 (NDJSON 한 줄 또는 CSV 한 행). 검증 규칙은 게시글 작성 요청과 동일.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Record {
+        @NotNull(message = "카테고리 ID는 필수입니다.")
+        private Long categoryId;
+        @NotBlank(message = "제목은 비워둘 수 없습니다.")
+        @Size(min = 5, max = 100, message = "제목은 5자 이상 100자 이하로 입력해주세요.")
+        private String title;
+        @NotBlank(message = "내용은 비워둘 수 없습니다.")
+        @Size(min = 10, max = 200000, message = "내용은 10자 이상 200000자 이하로 입력해주세요.")
+        private String content;
+        private Posts.PostStatus status;
+        private Boolean isRecipe;
+        private String thumbnailUrl;
+        private Posts.DietType dietType;
+        private Integer cookTimeInMinutes;
+        private Integer servings;
+        private Posts.Difficulty difficulty;
+        // 마이그레이션 시 원본 작성 시각 유지 (없으면 가져온 시각)
+        private LocalDateTime createdAt;
+
+        @Valid
+        private List<PostIngredientDto.Request> ingredients;
+    }
+
+    /**
+     * 실패한 레코드 (줄 번호는 1부터, CSV 헤더 포함)
+     */
+    public record RecordError(long line, String message) {
+    }
+
+    /**
+     * 가져오기 결과 (처리량 및 레코드별 오류)
+     *
+     * @param errors          보고 상한까지의 오류 목록
+     * @param errorsTruncated 보고 상한을 넘어 생략된 오류가 있는지
+     */
+    public record Result(long total, long imported, long failed, long tookMillis, double recordsPerSecond,
+                         List<RecordError> errors, boolean errorsTruncated) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.capstone.web.posts.event;
+
+/**
+ * 게시글 변경 이벤트
+ * <p>
+ * PostService에서 게시글 생성/수정/삭제/좋아요 변경 시 발행되며,
+ * 커밋 이후(@TransactionalEventListener AFTER_COMMIT) 검색 색인, 상세 캐시 등 파생 데이터 갱신에 사용된다.
+ *
+ * @param boardId         변경 후 게시판 ID (삭제는 삭제 전 게시판, 좋아요는 null)
+ * @param previousBoardId 수정 전 게시판 ID (수정 이벤트만, 게시판 이동 판단용)
+ */
+public record PostChangedEvent(Long postId, Type type, Long boardId, Long previousBoardId) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        LIKED
+    }
+
+    public static PostChangedEvent created(Long postId, Long boardId) {
+        return new PostChangedEvent(postId, Type.CREATED, boardId, null);
+    }
+
+    public static PostChangedEvent updated(Long postId, Long previousBoardId, Long boardId) {
+        return new PostChangedEvent(postId, Type.UPDATED, boardId, previousBoardId);
+    }
+
+    public static PostChangedEvent deleted(Long postId, Long boardId) {
+        return new PostChangedEvent(postId, Type.DELETED, boardId, null);
+    }
+
+    public static PostChangedEvent liked(Long postId) {
+        return new PostChangedEvent(postId, Type.LIKED, null, null);
+    }
+
+    // 게시판이 바뀐 수정인지
+    public boolean boardMoved() {
+        return type == Type.UPDATED && previousBoardId != null && boardId != null && !previousBoardId.equals(boardId);
+    }
+}
@@ -0,0 +1,33 @@
+package com.capstone.web.posts.event;
+
+/**
+ * 게시글 반응(조회/좋아요/댓글/스크랩) 이벤트
+ * <p>
+ * 인기 게시글 점수 집계(PostTrendingService)에 사용된다. 취소(좋아요 취소, 스크랩 해제)는 발행하지 않는다.
+ * boardId를 모르는 경우(조건부 GET 304 등) null로 발행하며, 수신 측에서 보완한다.
+ */
+public record PostEngagementEvent(Long postId, Long boardId, Type type) {
+
+    public enum Type {
+        VIEW,
+        LIKE,
+        COMMENT,
+        SCRAP
+    }
+
+    public static PostEngagementEvent viewed(Long postId, Long boardId) {
+        return new PostEngagementEvent(postId, boardId, Type.VIEW);
+    }
+
+    public static PostEngagementEvent liked(Long postId, Long boardId) {
+        return new PostEngagementEvent(postId, boardId, Type.LIKE);
+    }
+
+    public static PostEngagementEvent commented(Long postId, Long boardId) {
+        return new PostEngagementEvent(postId, boardId, Type.COMMENT);
+    }
+
+    public static PostEngagementEvent scrapped(Long postId, Long boardId) {
+        return new PostEngagementEvent(postId, boardId, Type.SCRAP);
+    }
+}
@@ -0,0 +1,7 @@
+package com.capstone.web.posts.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.capstone.web.posts.exception;
+
+public class InvalidImportFormatException extends RuntimeException {
+    public InvalidImportFormatException(String message) {
+        super(message);
+    }
+}
@@ -2,6 +2,28 @@ package com.capstone.web.posts.repository;
 
 import com.capstone.web.posts.domain.PostIngredient;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface PostIngredientRepository extends JpaRepository<PostIngredient, Long> {
-}
\ No newline at end of file
+
+    // 여러 게시글의 재료를 한 번의 쿼리로 조회 (재색인 등 청크 처리용)
+    @Query("SELECT i FROM PostIngredient i WHERE i.post.id IN :postIds")
+    List<PostIngredient> findAllByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    // 여러 게시글의 재료명/대표 재료 id만 조회 (냉장고 일치 배지 일괄 계산용, 엔티티 미생성)
+    @Query("SELECT i.post.id AS postId, i.name AS name, i.canonicalIngredientId AS canonicalIngredientId "
+            + "FROM PostIngredient i WHERE i.post.id IN :postIds ORDER BY i.id")
+    List<IngredientName> findNamesByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    interface IngredientName {
+        Long getPostId();
+
+        String getName();
+
+        Integer getCanonicalIngredientId();
+    }
+}
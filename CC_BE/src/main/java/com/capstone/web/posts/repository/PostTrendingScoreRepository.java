@@ -0,0 +1,7 @@
+package com.capstone.web.posts.repository;
+
+import com.capstone.web.posts.domain.PostTrendingScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PostTrendingScoreRepository extends JpaRepository<PostTrendingScore, Long> {
+}
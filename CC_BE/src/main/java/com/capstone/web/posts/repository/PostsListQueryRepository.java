@@ -0,0 +1,22 @@
+package com.capstone.web.posts.repository;
+
+import com.capstone.web.posts.domain.Posts;
+import com.capstone.web.posts.dto.PostDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * 게시글 목록 카드 조회 (작성자/카테고리/썸네일/카운터/요약을 한 번의 SELECT로 프로젝션)
+ */
+public interface PostsListQueryRepository {
+
+    // 오프셋 페이지: 본문 1회 + (필요 시) COUNT 1회
+    Page<PostDto.ListItem> findListItems(Specification<Posts> spec, Pageable pageable);
+
+    // 커서 목록: COUNT 없이 limit 건만 조회
+    List<PostDto.ListItem> findListItems(Specification<Posts> spec, Sort sort, int limit);
+}
@@ -0,0 +1,86 @@
+package com.capstone.web.posts.repository;
+
+import com.capstone.web.category.domain.Category;
+import com.capstone.web.media.domain.Media;
+import com.capstone.web.member.domain.Member;
+import com.capstone.web.posts.domain.Posts;
+import com.capstone.web.posts.dto.PostDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class PostsListQueryRepositoryImpl implements PostsListQueryRepository {
+
+    private final EntityManager em;
+
+    @Override
+    public Page<PostDto.ListItem> findListItems(Specification<Posts> spec, Pageable pageable) {
+        List<PostDto.ListItem> content = select(spec, pageable.getSort(), (int) pageable.getOffset(), pageable.getPageSize());
+        // 마지막 페이지가 확정되면(결과 < size) COUNT 생략
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<PostDto.ListItem> findListItems(Specification<Posts> spec, Sort sort, int limit) {
+        return select(spec, sort, 0, limit);
+    }
+
+    private List<PostDto.ListItem> select(Specification<Posts> spec, Sort sort, int offset, int limit) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<PostDto.ListItem> query = cb.createQuery(PostDto.ListItem.class);
+        Root<Posts> root = query.from(Posts.class);
+        Join<Posts, Member> author = root.join("authorId");
+        Join<Posts, Category> category = root.join("category");
+
+        // 썸네일(순서 0번 이미지) 스칼라 서브쿼리: media 컬렉션을 로딩하지 않음
+        Subquery<String> thumbnail = query.subquery(String.class);
+        Root<Media> media = thumbnail.from(Media.class);
+        thumbnail.select(cb.least(media.<String>get("url")))
+                .where(cb.equal(media.get("post"), root),
+                        cb.equal(media.get("ownerType"), Media.OwnerType.post),
+                        cb.equal(media.get("orderNum"), 0));
+
+        query.select(cb.construct(PostDto.ListItem.class,
+                root.get("id"), author.get("id"), author.get("nickname"), category.get("id"), category.get("name"),
+                root.get("title"), root.get("excerpt"), root.get("status"),
+                root.get("viewCount"), root.get("likeCount"), root.get("commentCount"),
+                root.get("createdAt"), root.get("updatedAt"),
+                root.get("selected"), root.get("file"), root.get("isRecipe"),
+                root.get("dietType"), root.get("cookTimeInMinutes"), root.get("servings"), root.get("difficulty"),
+                thumbnail));
+
+        Predicate where = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (where != null) query.where(where);
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return em.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private long count(Specification<Posts> spec) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Posts> root = query.from(Posts.class);
+        query.select(cb.count(root));
+
+        Predicate where = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (where != null) query.where(where);
+        return em.createQuery(query).getSingleResult();
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Repository;
 
@@ -16,7 +17,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PostsRepository extends JpaRepository<Posts, Long>, JpaSpecificationExecutor<Posts> {
+public interface PostsRepository extends JpaRepository<Posts, Long>, JpaSpecificationExecutor<Posts>, PostsListQueryRepository {
 
     // --- N+1 문제 해결용 findAll (list) ---
     @Override
@@ -34,11 +35,64 @@ public interface PostsRepository extends JpaRepository<Posts, Long>, JpaSpecific
 
     long countByCategory_Id(Long categoryId);
 
+    // --- 게시판별 게시글 수 캐시 갱신용 (단일 GROUP BY) ---
+    @Query("SELECT p.category.id, COUNT(p) FROM Posts p GROUP BY p.category.id")
+    List<Object[]> countGroupByCategory();
+
     long countByCategory_IdAndCreatedAtBetween(Long categoryId, LocalDateTime start, LocalDateTime end);
 
     Posts findTop1ByCategory_IdOrderByCreatedAtDesc(Long categoryId);
 
-    // --- (추가) 레시피 추천용: 모든 레시피 조회 ---
-    @EntityGraph(value = "Posts.withIngredients")
-    List<Posts> findAllByIsRecipeTrue();
+    // --- 검색 재색인용: id 오름차순 청크 조회 (작성자/카테고리 함께 로딩) ---
+    @EntityGraph(attributePaths = {"authorId", "category"})
+    @Query("SELECT p FROM Posts p WHERE p.id > :afterId ORDER BY p.id ASC")
+    List<Posts> findChunkAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 인기 게시글 집계: 게시판을 모르는 반응 이벤트 보완용
+    @Query("SELECT p.category.id FROM Posts p WHERE p.id = :id")
+    Optional<Long> findCategoryIdById(@Param("id") Long id);
+
+    // --- 본문 파생 값 백필용: content_hash/plain_text 미계산 게시글 id 오름차순 청크 ---
+    @Query("SELECT p FROM Posts p WHERE (p.contentHash IS NULL OR p.plainText IS NULL) AND p.id > :afterId ORDER BY p.id ASC")
+    List<Posts> findContentBackfillChunk(@Param("afterId") Long afterId, Pageable pageable);
+
+    // --- 조건부 GET(ETag)용 버전 조회: 본문/연관 로딩 없이 버전 컬럼만 (작성자/카테고리는 PK 조인) ---
+    @Query("SELECT p.updatedAt AS updatedAt, p.likeCount AS likeCount, a.updatedAt AS authorUpdatedAt, c.name AS categoryName "
+            + "FROM Posts p JOIN p.authorId a JOIN p.category c WHERE p.id = :id")
+    Optional<PostVersion> findVersionById(@Param("id") Long id);
+
+    interface PostVersion {
+        LocalDateTime getUpdatedAt();
+
+        int getLikeCount();
+
+        LocalDateTime getAuthorUpdatedAt();
+
+        String getCategoryName();
+    }
+
+    // --- 레시피 추천 색인용: 본문 없이 카드 필드만 (id 오름차순 청크 / 단건) ---
+    @Query("SELECT p.id AS id, p.title AS title, p.cookTimeInMinutes AS cookTimeInMinutes, p.servings AS servings, "
+            + "p.difficulty AS difficulty, p.firstImageUrl AS firstImageUrl "
+            + "FROM Posts p WHERE p.isRecipe = true AND p.id > :afterId ORDER BY p.id ASC")
+    List<RecipeSummary> findRecipeSummaryChunkAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT p.id AS id, p.title AS title, p.cookTimeInMinutes AS cookTimeInMinutes, p.servings AS servings, "
+            + "p.difficulty AS difficulty, p.firstImageUrl AS firstImageUrl "
+            + "FROM Posts p WHERE p.isRecipe = true AND p.id = :id")
+    Optional<RecipeSummary> findRecipeSummaryById(@Param("id") Long id);
+
+    interface RecipeSummary {
+        Long getId();
+
+        String getTitle();
+
+        Integer getCookTimeInMinutes();
+
+        Integer getServings();
+
+        Posts.Difficulty getDifficulty();
+
+        String getFirstImageUrl();
+    }
 }
\ No newline at end of file
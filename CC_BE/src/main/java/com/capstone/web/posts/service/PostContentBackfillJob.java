@@ -0,0 +1,81 @@
+package com.capstone.web.posts.service;
+
+import com.capstone.web.posts.domain.Posts;
+import com.capstone.web.posts.repository.PostsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 본문 파생 값 백필
+ * <p>
+ * 파이프라인 도입 이전 게시글(content_hash 또는 plain_text IS NULL)을 id 순 청크로 읽어
+ * PostContentProcessor 결과를 저장한다. 청크마다 짧은 트랜잭션으로 커밋한다.
+ */
+@Slf4j
+@Component
+public class PostContentBackfillJob {
+
+    private final PostsRepository postsRepository;
+    private final PostContentProcessor contentProcessor;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final boolean runOnStartup;
+
+    public PostContentBackfillJob(PostsRepository postsRepository,
+                                  PostContentProcessor contentProcessor,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${posts.content.backfill-chunk-size:200}") int chunkSize,
+                                  @Value("${posts.content.backfill-on-startup:true}") boolean runOnStartup) {
+        this.postsRepository = postsRepository;
+        this.contentProcessor = contentProcessor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.runOnStartup = runOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!runOnStartup) return;
+        int processed = backfill();
+        if (processed > 0) {
+            log.info("[PostContent] 본문 파생 값 백필 완료: posts={}", processed);
+        }
+    }
+
+    /**
+     * @return 처리된 게시글 수
+     */
+    public synchronized int backfill() {
+        long lastId = 0L;
+        int total = 0;
+        while (true) {
+            final long cursor = lastId;
+            Chunk chunk = transactionTemplate.execute(status -> processChunk(cursor));
+            if (chunk == null || chunk.size() == 0) break;
+            total += chunk.size();
+            lastId = chunk.lastId();
+            if (chunk.size() < chunkSize) break;
+        }
+        return total;
+    }
+
+    private Chunk processChunk(long afterId) {
+        List<Posts> posts = postsRepository.findContentBackfillChunk(afterId, PageRequest.of(0, chunkSize));
+        if (posts.isEmpty()) return new Chunk(afterId, 0);
+        for (Posts post : posts) {
+            post.applyContent(contentProcessor.process(post.getContent()));
+        }
+        return new Chunk(posts.get(posts.size() - 1).getId(), posts.size());
+    }
+
+    private record Chunk(long lastId, int size) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.capstone.web.posts.service;
+
+import com.capstone.web.posts.domain.PostContent;
+import com.capstone.web.posts.domain.Posts;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.safety.Cleaner;
+import org.jsoup.safety.Safelist;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 게시글 본문 처리 파이프라인 (작성/수정 시 1회 실행)
+ * <p>
+ * 본문을 한 번만 파싱하여 정제 HTML, 평문, 요약, 첫 이미지, 단어 수, 해시를 함께 계산한다.
+ * 결과는 Posts 컬럼으로 저장되므로 조회 경로에서는 HTML을 다시 파싱하지 않는다.
+ */
+@Component
+public class PostContentProcessor {
+
+    // 공유 Safelist/Cleaner: 생성 후 변경하지 않으므로 스레드 간 공유 가능
+    private static final Safelist SAFELIST = Safelist.relaxed()
+            .addTags("img")
+            .addAttributes("img", "src", "alt", "title")
+            .addAttributes("a", "href", "title", "target")
+            .addProtocols("a", "href", "http", "https")
+            .preserveRelativeLinks(true);
+    private static final Cleaner CLEANER = new Cleaner(SAFELIST);
+
+    public PostContent process(String rawHtml) {
+        Document dirty = Jsoup.parseBodyFragment(rawHtml == null ? "" : rawHtml, "");
+        Document clean = CLEANER.clean(dirty);
+
+        String html = clean.body().html();
+        String text = clean.body().text().trim();
+
+        return new PostContent(html, text, excerptOf(text), firstImageUrl(clean), wordCount(text), sha256(html));
+    }
+
+    private String excerptOf(String text) {
+        if (text.isEmpty()) return null;
+        if (text.length() <= Posts.EXCERPT_LENGTH) return text;
+        int end = Posts.EXCERPT_LENGTH;
+        // 서로게이트 쌍(이모지 등) 중간에서 자르지 않도록 보정
+        if (Character.isHighSurrogate(text.charAt(end - 1))) end--;
+        return text.substring(0, end);
+    }
+
+    private String firstImageUrl(Document doc) {
+        Element img = doc.selectFirst("img");
+        if (img == null) return null;
+        String src = img.attr("src");
+        return src.isBlank() ? null : src;
+    }
+
+    private int wordCount(String text) {
+        return text.isEmpty() ? 0 : text.split("\\s+").length;
+    }
+
+    private String sha256(String html) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(html.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
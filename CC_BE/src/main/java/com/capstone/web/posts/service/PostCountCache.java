@@ -0,0 +1,137 @@
+package com.capstone.web.posts.service;
+
+import com.capstone.web.posts.event.PostChangedEvent;
+import com.capstone.web.posts.repository.PostsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시판(카테고리)별 전체 게시글 수 캐시
+ * <p>
+ * 커서 목록은 COUNT 쿼리를 실행하지 않으므로, 전체 건수가 필요한 화면(게시판 요약 등)은 이 캐시 값을 사용한다.
+ * 게시글 생성/삭제/게시판 이동이 커밋되면 이벤트의 게시판 ID로 해당 게시판 수를 +1/-1 하므로 요청 경로에서 집계하지 않는다.
+ * 주기 갱신(GROUP BY 1회)은 이벤트 밖의 변경(일괄 가져오기, 직접 SQL 등)이나 갱신과 겹친 이벤트로 생긴 오차를 보정한다.
+ * <p>
+ * 게시판 요약(게시글 수/오늘 글 수/최신 글 제목)에 영향을 주는 변경마다 증가하는 변경 버전도 함께 관리한다 (게시판 목록 ETag 구성 요소).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCountCache {
+
+    private final PostsRepository postsRepository;
+
+    // 인스턴스마다 다른 접두어: 여러 인스턴스의 버전 번호가 우연히 같아도 ETag 가 겹치지 않도록
+    private final String instanceId = UUID.randomUUID().toString();
+    private final AtomicLong changeVersion = new AtomicLong();
+    private volatile Counts counts;
+
+    public long boardTotal(Long boardId) {
+        AtomicLong count = current().byBoard().get(boardId);
+        return count != null ? Math.max(0L, count.get()) : 0L;
+    }
+
+    public long total() {
+        return Math.max(0L, current().total().get());
+    }
+
+    // 캐시 값이 바뀌면 함께 바뀌는 지문 (게시판 목록 ETag 구성 요소), 게시판 순서와 무관하게 계산
+    public int fingerprint() {
+        Counts c = current();
+        int hash = Long.hashCode(c.total().get());
+        for (Map.Entry<Long, AtomicLong> entry : c.byBoard().entrySet()) {
+            hash += 31 * entry.getKey().hashCode() ^ Long.hashCode(entry.getValue().get());
+        }
+        return hash;
+    }
+
+    /**
+     * 게시글 생성/수정/삭제 커밋 또는 보정으로 게시글 수가 바뀔 때마다 바뀌는 값 (좋아요는 제외)
+     */
+    public String changeVersion() {
+        return instanceId + ":" + changeVersion.get();
+    }
+
+    @Scheduled(fixedDelayString = "${posts.count-cache.refresh-interval-ms:60000}")
+    public void refresh() {
+        List<Object[]> rows = postsRepository.countGroupByCategory();
+        Map<Long, AtomicLong> byBoard = new ConcurrentHashMap<>();
+        long total = 0L;
+        for (Object[] row : rows) {
+            long count = ((Number) row[1]).longValue();
+            byBoard.put((Long) row[0], new AtomicLong(count));
+            total += count;
+        }
+        Counts previous = counts;
+        counts = new Counts(byBoard, new AtomicLong(total));
+        // 보정으로 값이 달라졌으면 이벤트 밖의 변경(일괄 가져오기 등)이 있었던 것이므로 버전 증가
+        if (previous != null && !snapshotOf(previous).equals(snapshotOf(counts))) {
+            changeVersion.incrementAndGet();
+        }
+        log.debug("[PostCount] 게시판별 게시글 수 갱신: boards={}, total={}", byBoard.size(), total);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() != PostChangedEvent.Type.LIKED) {
+            changeVersion.incrementAndGet();
+        }
+        switch (event.type()) {
+            case CREATED -> add(event.boardId(), 1L);
+            case DELETED -> add(event.boardId(), -1L);
+            case UPDATED -> {
+                if (event.boardMoved()) {
+                    add(event.previousBoardId(), -1L);
+                    add(event.boardId(), 1L);
+                }
+            }
+            default -> {
+                // 좋아요는 게시글 수와 무관
+            }
+        }
+    }
+
+    private void add(Long boardId, long delta) {
+        Counts c = counts;
+        // 아직 집계 전이면 첫 조회에서 변경이 반영된 값으로 집계된다
+        if (c == null || boardId == null) return;
+        c.byBoard().computeIfAbsent(boardId, id -> new AtomicLong()).addAndGet(delta);
+        c.total().addAndGet(delta);
+    }
+
+    private Counts current() {
+        Counts c = counts;
+        if (c == null) {
+            synchronized (this) {
+                if (counts == null) {
+                    refresh();
+                }
+                c = counts;
+            }
+        }
+        return c;
+    }
+
+    private static Map<Long, Long> snapshotOf(Counts c) {
+        Map<Long, Long> values = new HashMap<>();
+        c.byBoard().forEach((boardId, count) -> {
+            if (count.get() != 0L) {
+                values.put(boardId, count.get());
+            }
+        });
+        return values;
+    }
+
+    private record Counts(Map<Long, AtomicLong> byBoard, AtomicLong total) {
+    }
+}
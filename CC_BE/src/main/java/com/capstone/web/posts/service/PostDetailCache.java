@@ -0,0 +1,81 @@
+package com.capstone.web.posts.service;
+
+import com.capstone.web.category.event.CategoryChangedEvent;
+import com.capstone.web.member.event.MemberNicknameChangedEvent;
+import com.capstone.web.posts.dto.PostDto;
+import com.capstone.web.posts.event.PostChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 게시글 상세 스냅샷 캐시 (read-through)
+ * <p>
+ * <ul>
+ *   <li>키: 게시글 ID, 값: 불변 {@link PostDto.Response} (likedByMe 없음, 조회수는 로딩 시점 DB 값)와
+ *       로딩 시점에 조회수 버퍼가 반영해 둔 누적 조회수 (응답 조회수 = DB 값 + 이후 기록된 조회수)</li>
+ *   <li>크기/TTL 제한 (posts.detail-cache.*), 같은 키의 동시 미스는 로더 1회만 실행 (single-flight)</li>
+ *   <li>수정/삭제/좋아요 커밋 후 해당 키 무효화 (조회수 flush 는 무효화하지 않음)</li>
+ *   <li>작성자 닉네임/카테고리 변경 커밋 후 해당 작성자/카테고리의 스냅샷 무효화 (드문 변경이므로 캐시 전체를 훑음)</li>
+ *   <li>hit/miss/eviction 지표: actuator /actuator/metrics/cache.gets?tag=cache:posts.detail</li>
+ * </ul>
+ */
+@Component
+public class PostDetailCache {
+
+    public static final String CACHE_NAME = "posts.detail";
+
+    private final Cache<Long, Snapshot> cache;
+
+    public PostDetailCache(MeterRegistry meterRegistry,
+                           @Value("${posts.detail-cache.max-size:2000}") long maxSize,
+                           @Value("${posts.detail-cache.ttl-ms:600000}") long ttlMillis) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 1회 로딩 (loader 예외는 캐시되지 않고 그대로 전파)
+     */
+    public Snapshot get(Long postId, Function<Long, Snapshot> loader) {
+        return cache.get(postId, loader);
+    }
+
+    public void invalidate(Long postId) {
+        cache.invalidate(postId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() != PostChangedEvent.Type.CREATED) {
+            invalidate(event.postId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberNicknameChanged(MemberNicknameChangedEvent event) {
+        cache.asMap().values().removeIf(snapshot -> event.memberId().equals(snapshot.post().getAuthorId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        cache.asMap().values().removeIf(snapshot -> event.categoryId().equals(snapshot.post().getCategoryId()));
+    }
+
+    /**
+     * @param flushedViews 로딩 시점에 {@link PostViewCountBuffer}가 DB에 반영해 둔 누적 조회수 (post.viewCount 에 포함된 부분)
+     */
+    public record Snapshot(PostDto.Response post, long flushedViews) {
+    }
+}
@@ -0,0 +1,139 @@
+package com.capstone.web.posts.service;
+
+import com.capstone.web.common.S3UploadService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게시글 이미지 병렬 업로드 (트랜잭션 시작 전 단계)
+ * <p>
+ * 썸네일과 추가 이미지를 제한된 스레드 풀에서 동시에 업로드하여, 요청 소요 시간이
+ * 업로드 합계가 아닌 가장 느린 단일 업로드에 가깝도록 한다.
+ * 일부 업로드가 실패하면 이미 올라간 객체를 삭제(보상)한 뒤 예외를 던진다.
+ */
+@Slf4j
+@Component
+public class PostMediaUploader {
+
+    private final Optional<S3UploadService> s3UploadService;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    public PostMediaUploader(Optional<S3UploadService> s3UploadService,
+                             @Value("${posts.media.upload-concurrency:4}") int concurrency,
+                             @Value("${posts.media.upload-timeout-ms:30000}") long timeoutMillis) {
+        this.s3UploadService = s3UploadService;
+        this.timeoutMillis = timeoutMillis;
+        AtomicInteger seq = new AtomicInteger();
+        // 큐가 가득 차면 요청 스레드에서 직접 업로드 (업로드 수 폭증 시 자연스러운 역압)
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(concurrency * 16),
+                r -> {
+                    Thread t = new Thread(r, "post-media-upload-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 썸네일/추가 이미지 업로드 (파일 순서 유지, 빈 파일 제외)
+     */
+    public UploadedMedia upload(MultipartFile thumbnailFile, List<MultipartFile> files) {
+        boolean hasThumbnail = thumbnailFile != null && !thumbnailFile.isEmpty();
+        List<MultipartFile> images = files == null ? List.of()
+                : files.stream().filter(f -> f != null && !f.isEmpty()).toList();
+        if (!hasThumbnail && images.isEmpty()) {
+            return UploadedMedia.EMPTY;
+        }
+        S3UploadService s3 = s3UploadService.orElseThrow(() -> new RuntimeException("S3 서비스가 설정되지 않았습니다."));
+
+        CompletableFuture<String> thumbnailFuture = hasThumbnail ? submit(s3, thumbnailFile) : null;
+        List<CompletableFuture<String>> imageFutures = images.stream().map(f -> submit(s3, f)).toList();
+
+        List<CompletableFuture<String>> all = new ArrayList<>(imageFutures);
+        if (thumbnailFuture != null) all.add(thumbnailFuture);
+
+        try {
+            CompletableFuture.allOf(all.toArray(CompletableFuture[]::new)).get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            compensate(all);
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            throw new RuntimeException(thumbnailFuture != null && thumbnailFuture.isCompletedExceptionally()
+                    ? "썸네일 업로드 실패" : "추가 이미지 업로드 실패", cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            compensate(all);
+            throw new RuntimeException("이미지 업로드가 중단되었습니다.", e);
+        }
+
+        return new UploadedMedia(
+                thumbnailFuture != null ? thumbnailFuture.join() : null,
+                imageFutures.stream().map(CompletableFuture::join).toList());
+    }
+
+    /**
+     * 업로드된 객체 삭제 (DB 커밋 실패 시 보상). 실패해도 예외를 던지지 않고 로그만 남김
+     */
+    public void deleteQuietly(Collection<String> urls) {
+        if (urls.isEmpty() || s3UploadService.isEmpty()) return;
+        for (String url : urls) {
+            try {
+                s3UploadService.get().deleteFile(url);
+            } catch (RuntimeException e) {
+                log.warn("[PostMedia] 업로드 객체 보상 삭제 실패 (수동 정리 필요): url={}, cause={}", url, e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private CompletableFuture<String> submit(S3UploadService s3, MultipartFile file) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return s3.uploadFile(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, executor);
+    }
+
+    // 성공한 업로드는 삭제, 아직 진행 중인 업로드는 완료되는 즉시 삭제
+    private void compensate(List<CompletableFuture<String>> futures) {
+        for (CompletableFuture<String> future : futures) {
+            future.thenAccept(url -> deleteQuietly(List.of(url)));
+        }
+    }
+
+    public record UploadedMedia(String thumbnailUrl, List<String> imageUrls) {
+
+        static final UploadedMedia EMPTY = new UploadedMedia(null, List.of());
+
+        public List<String> urls() {
+            List<String> urls = new ArrayList<>(imageUrls);
+            if (thumbnailUrl != null) urls.add(thumbnailUrl);
+            return urls;
+        }
+    }
+}
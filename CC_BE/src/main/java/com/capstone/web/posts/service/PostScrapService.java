@@ -6,10 +6,12 @@ import com.capstone.web.member.repository.MemberRepository;
 import com.capstone.web.posts.domain.PostScrap;
 import com.capstone.web.posts.domain.Posts;
 import com.capstone.web.posts.dto.PostScrapDto;
+import com.capstone.web.posts.event.PostEngagementEvent;
 import com.capstone.web.posts.exception.PostNotFoundException;
 import com.capstone.web.posts.repository.PostScrapRepository;
 import com.capstone.web.posts.repository.PostsRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -29,6 +31,7 @@ public class PostScrapService {
     private final PostScrapRepository postScrapRepository;
     private final PostsRepository postsRepository;
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // REC-08: 내 스크랩 목록 조회
     public Page<PostScrapDto.Response> getMyScraps(Long memberId, int page, int size, String sortBy, String keyword) {
@@ -74,6 +77,7 @@ public class PostScrapService {
         } else {
             PostScrap newScrap = PostScrap.builder().member(member).post(post).build();
             postScrapRepository.save(newScrap);
+            eventPublisher.publishEvent(PostEngagementEvent.scrapped(postId, post.getCategory().getId()));
             return true; // 저장됨
         }
     }
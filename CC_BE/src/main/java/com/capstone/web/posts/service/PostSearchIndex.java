@@ -0,0 +1,345 @@
+package com.capstone.web.posts.service;
+
+import com.capstone.web.posts.domain.Posts;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 전문 검색 색인 (임베디드 Lucene, Nori 한국어 분석기)
+ * <p>
+ * 로컬 디스크의 MMapDirectory에 제목/본문(텍스트)/작성자 닉네임/카테고리명/레시피 재료를 색인한다.
+ * 변경 사항은 IndexWriter에 즉시 반영되고, SearcherManager를 주기적으로 갱신해 near-real-time으로 검색된다.
+ * 색인이 열리지 않은 경우 {@link #isAvailable()}이 false이며, 호출 측은 DB LIKE 검색으로 대체한다.
+ */
+@Slf4j
+@Component
+public class PostSearchIndex {
+
+    static final String F_ID = "id";
+    static final String F_TITLE = "title";
+    static final String F_CONTENT = "content";
+    static final String F_AUTHOR = "author";
+    static final String F_CATEGORY = "category";
+    static final String F_INGREDIENTS = "ingredients";
+    static final String F_BOARD_ID = "boardId";
+    static final String F_IS_RECIPE = "isRecipe";
+    static final String F_DIET_TYPE = "dietType";
+    static final String F_CREATED_AT = "createdAt";
+    static final String F_GENERATION = "gen";
+
+    // 통합 검색 시 필드별 가중치
+    private static final Map<String, Float> ALL_FIELD_BOOSTS = Map.of(
+            F_TITLE, 3.0f,
+            F_INGREDIENTS, 2.0f,
+            F_CATEGORY, 1.5f,
+            F_AUTHOR, 1.0f,
+            F_CONTENT, 1.0f
+    );
+
+    private static final Sort RELEVANCE_SORT = new Sort(
+            SortField.FIELD_SCORE,
+            new SortField(F_CREATED_AT, SortField.Type.LONG, true)
+    );
+
+    private final Path indexPath;
+
+    private Analyzer analyzer;
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    // 전체 재색인 시 이전 세대 문서를 일괄 삭제하기 위한 세대 번호
+    private volatile String generation = "0";
+
+    public PostSearchIndex(@Value("${posts.search.index-dir:data/post-index}") String indexDir) {
+        this.indexPath = Paths.get(indexDir);
+    }
+
+    @PostConstruct
+    public void open() {
+        try {
+            Files.createDirectories(indexPath);
+            analyzer = new KoreanAnalyzer();
+            directory = new MMapDirectory(indexPath);
+            IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+            writer = new IndexWriter(directory, config);
+            searcherManager = new SearcherManager(writer, null);
+            log.info("[PostSearch] 색인 열기 완료: path={}, docs={}", indexPath.toAbsolutePath(), writer.getDocStats().numDocs);
+        } catch (IOException | RuntimeException e) {
+            // 색인을 열 수 없어도 애플리케이션은 기동 (LIKE 검색으로 대체)
+            log.error("[PostSearch] 색인을 열 수 없어 검색 색인을 비활성화합니다: path={}", indexPath.toAbsolutePath(), e);
+            closeQuietly();
+        }
+    }
+
+    public boolean isAvailable() {
+        return writer != null && writer.isOpen();
+    }
+
+    public int numDocs() {
+        return isAvailable() ? writer.getDocStats().numDocs : 0;
+    }
+
+    /**
+     * 게시글 색인 추가/갱신 (id 기준 upsert)
+     */
+    public void upsert(IndexedPost post) {
+        if (!isAvailable()) return;
+        try {
+            writer.updateDocument(new Term(F_ID, String.valueOf(post.id())), toDocument(post));
+        } catch (IOException e) {
+            throw new UncheckedIOException("게시글 색인 실패: " + post.id(), e);
+        }
+    }
+
+    public void delete(Long postId) {
+        if (!isAvailable()) return;
+        try {
+            writer.deleteDocuments(new Term(F_ID, String.valueOf(postId)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("게시글 색인 삭제 실패: " + postId, e);
+        }
+    }
+
+    /**
+     * 전체 재색인 시작: 새 세대 번호를 발급한다. 이후 upsert되는 문서는 새 세대로 기록된다.
+     */
+    public synchronized void beginRebuild() {
+        generation = String.valueOf(System.currentTimeMillis());
+    }
+
+    /**
+     * 전체 재색인 종료: 이번 세대에 기록되지 않은 문서(삭제된 게시글)를 제거하고 커밋한다.
+     */
+    public synchronized void finishRebuild() {
+        if (!isAvailable()) return;
+        try {
+            Query stale = new BooleanQuery.Builder()
+                    .add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST)
+                    .add(new TermQuery(new Term(F_GENERATION, generation)), BooleanClause.Occur.MUST_NOT)
+                    .build();
+            writer.deleteDocuments(stale);
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException("게시글 재색인 마무리 실패", e);
+        }
+    }
+
+    /**
+     * 관련도 순 검색 (동점은 최신순)
+     */
+    public SearchResult search(SearchQuery query) {
+        if (!isAvailable()) {
+            return new SearchResult(Collections.emptyList(), 0);
+        }
+        Query luceneQuery = buildQuery(query);
+        if (luceneQuery == null) {
+            return new SearchResult(Collections.emptyList(), 0);
+        }
+
+        int from = query.page() * query.size();
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            int total = searcher.count(luceneQuery);
+            if (from >= total) {
+                return new SearchResult(Collections.emptyList(), total);
+            }
+            TopDocs topDocs = searcher.search(luceneQuery, from + query.size(), RELEVANCE_SORT);
+            StoredFields storedFields = searcher.storedFields();
+            List<Long> ids = new ArrayList<>(query.size());
+            ScoreDoc[] hits = topDocs.scoreDocs;
+            for (int i = from; i < hits.length; i++) {
+                ids.add(Long.valueOf(storedFields.document(hits[i].doc).get(F_ID)));
+            }
+            return new SearchResult(ids, total);
+        } catch (IOException e) {
+            throw new UncheckedIOException("게시글 검색 실패", e);
+        } finally {
+            if (searcher != null) {
+                try {
+                    searcherManager.release(searcher);
+                } catch (IOException e) {
+                    log.warn("[PostSearch] searcher 반환 실패", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 검색 결과 갱신 (near-real-time)
+     */
+    @Scheduled(fixedDelayString = "${posts.search.refresh-interval-ms:1000}")
+    public void refresh() {
+        if (!isAvailable()) return;
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.warn("[PostSearch] searcher 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 디스크 영속화 (비정상 종료 시 마지막 커밋 이후 변경분은 재색인으로 복구)
+     */
+    @Scheduled(fixedDelayString = "${posts.search.commit-interval-ms:30000}")
+    public void commit() {
+        if (!isAvailable() || !writer.hasUncommittedChanges()) return;
+        try {
+            writer.commit();
+        } catch (IOException e) {
+            log.warn("[PostSearch] 색인 커밋 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (isAvailable()) {
+            try {
+                writer.commit();
+            } catch (IOException e) {
+                log.warn("[PostSearch] 종료 전 색인 커밋 실패: {}", e.getMessage());
+            }
+        }
+        closeQuietly();
+    }
+
+    private void closeQuietly() {
+        for (AutoCloseable closeable : new AutoCloseable[]{searcherManager, writer, directory, analyzer}) {
+            if (closeable == null) continue;
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.debug("[PostSearch] 리소스 정리 실패: {}", e.getMessage());
+            }
+        }
+        searcherManager = null;
+        writer = null;
+        directory = null;
+    }
+
+    private Document toDocument(IndexedPost post) {
+        Document doc = new Document();
+        doc.add(new StringField(F_ID, String.valueOf(post.id()), Field.Store.YES));
+        doc.add(new StringField(F_GENERATION, generation, Field.Store.NO));
+        doc.add(new TextField(F_TITLE, nullToEmpty(post.title()), Field.Store.NO));
+        doc.add(new TextField(F_CONTENT, nullToEmpty(post.plainContent()), Field.Store.NO));
+        doc.add(new TextField(F_AUTHOR, nullToEmpty(post.authorNickname()), Field.Store.NO));
+        doc.add(new TextField(F_CATEGORY, nullToEmpty(post.categoryName()), Field.Store.NO));
+        doc.add(new TextField(F_INGREDIENTS, String.join(" ", post.ingredientNames()), Field.Store.NO));
+        if (post.boardId() != null) {
+            doc.add(new StringField(F_BOARD_ID, String.valueOf(post.boardId()), Field.Store.NO));
+        }
+        doc.add(new StringField(F_IS_RECIPE, String.valueOf(post.recipe()), Field.Store.NO));
+        if (post.dietType() != null) {
+            doc.add(new StringField(F_DIET_TYPE, post.dietType().name(), Field.Store.NO));
+        }
+        doc.add(new NumericDocValuesField(F_CREATED_AT, post.createdAtEpochMillis()));
+        return doc;
+    }
+
+    private Query buildQuery(SearchQuery query) {
+        QueryBuilder builder = new QueryBuilder(analyzer);
+        String keyword = query.keyword().trim();
+        String type = query.searchType() != null ? query.searchType().toUpperCase() : "ALL";
+
+        Query textQuery;
+        switch (type) {
+            case "TITLE" -> textQuery = builder.createBooleanQuery(F_TITLE, keyword);
+            case "CONTENT" -> textQuery = builder.createBooleanQuery(F_CONTENT, keyword);
+            case "AUTHOR" -> textQuery = builder.createBooleanQuery(F_AUTHOR, keyword);
+            case "INGREDIENT" -> textQuery = builder.createBooleanQuery(F_INGREDIENTS, keyword);
+            default -> {
+                BooleanQuery.Builder any = new BooleanQuery.Builder();
+                boolean hasClause = false;
+                for (Map.Entry<String, Float> e : ALL_FIELD_BOOSTS.entrySet()) {
+                    Query q = builder.createBooleanQuery(e.getKey(), keyword);
+                    if (q == null) continue;
+                    any.add(new BoostQuery(q, e.getValue()), BooleanClause.Occur.SHOULD);
+                    hasClause = true;
+                }
+                textQuery = hasClause ? any.build() : null;
+            }
+        }
+        if (textQuery == null) {
+            // 분석 결과 토큰이 없는 키워드 (불용어만 입력 등)
+            return null;
+        }
+
+        BooleanQuery.Builder root = new BooleanQuery.Builder().add(textQuery, BooleanClause.Occur.MUST);
+        if (query.boardId() != null) {
+            root.add(new TermQuery(new Term(F_BOARD_ID, String.valueOf(query.boardId()))), BooleanClause.Occur.FILTER);
+        }
+        if (query.isRecipe() != null) {
+            root.add(new TermQuery(new Term(F_IS_RECIPE, String.valueOf(query.isRecipe()))), BooleanClause.Occur.FILTER);
+        }
+        if (query.dietType() != null) {
+            root.add(new TermQuery(new Term(F_DIET_TYPE, query.dietType().name())), BooleanClause.Occur.FILTER);
+        }
+        return root.build();
+    }
+
+    private static String nullToEmpty(String s) {
+        return s == null ? "" : s;
+    }
+
+    /**
+     * 색인 대상 게시글 스냅샷 (엔티티와 분리하여 트랜잭션 밖에서도 색인 가능)
+     */
+    public record IndexedPost(Long id, String title, String plainContent, String authorNickname,
+                              Long boardId, String categoryName, boolean recipe, Posts.DietType dietType,
+                              List<String> ingredientNames, long createdAtEpochMillis) {
+    }
+
+    /**
+     * @param searchType TITLE, CONTENT, AUTHOR, INGREDIENT 또는 null(통합)
+     * @param page       0부터 시작
+     */
+    public record SearchQuery(String keyword, String searchType, Long boardId, Boolean isRecipe,
+                              Posts.DietType dietType, int page, int size) {
+    }
+
+    public record SearchResult(List<Long> ids, long totalHits) {
+    }
+}
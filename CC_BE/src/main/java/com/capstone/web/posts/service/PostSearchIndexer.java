@@ -0,0 +1,146 @@
+package com.capstone.web.posts.service;
+
+import com.capstone.web.posts.domain.PostIngredient;
+import com.capstone.web.posts.domain.Posts;
+import com.capstone.web.posts.event.PostChangedEvent;
+import com.capstone.web.posts.repository.PostIngredientRepository;
+import com.capstone.web.posts.repository.PostsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 검색 색인 동기화
+ * <p>
+ * - 게시글 생성/수정/삭제 커밋 후 해당 문서만 색인 갱신 (near-real-time)
+ * - 관리자 전체 재색인: PostsRepository에서 id 순으로 청크 단위 스트리밍
+ * - 기동 시 색인이 비어 있고 게시글이 존재하면 자동 재색인
+ */
+@Slf4j
+@Component
+public class PostSearchIndexer {
+
+    private final PostSearchIndex searchIndex;
+    private final PostsRepository postsRepository;
+    private final PostIngredientRepository ingredientRepository;
+    private final TransactionTemplate readOnlyTx;
+    private final int chunkSize;
+
+    public PostSearchIndexer(PostSearchIndex searchIndex,
+                             PostsRepository postsRepository,
+                             PostIngredientRepository ingredientRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${posts.search.reindex-chunk-size:500}") int chunkSize) {
+        this.searchIndex = searchIndex;
+        this.postsRepository = postsRepository;
+        this.ingredientRepository = ingredientRepository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.chunkSize = chunkSize;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onPostChanged(PostChangedEvent event) {
+        // 좋아요 수는 색인 대상이 아님
+        if (!searchIndex.isAvailable() || event.type() == PostChangedEvent.Type.LIKED) return;
+        try {
+            if (event.type() == PostChangedEvent.Type.DELETED) {
+                searchIndex.delete(event.postId());
+                return;
+            }
+            postsRepository.findById(event.postId()).ifPresentOrElse(
+                    post -> searchIndex.upsert(toIndexedPost(post, post.getIngredients())),
+                    () -> searchIndex.delete(event.postId()));
+        } catch (RuntimeException e) {
+            // 색인 실패가 게시글 작성 응답을 깨뜨리지 않도록 로그만 남김 (재색인으로 복구 가능)
+            log.warn("[PostSearch] 게시글 색인 갱신 실패: postId={}, type={}", event.postId(), event.type(), e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIfEmpty() {
+        if (!searchIndex.isAvailable() || searchIndex.numDocs() > 0) return;
+        if (postsRepository.count() == 0) return;
+        log.info("[PostSearch] 색인이 비어 있어 전체 재색인을 시작합니다.");
+        reindexAll();
+    }
+
+    /**
+     * 전체 재색인 (id 오름차순 청크 스트리밍, 청크마다 짧은 읽기 전용 트랜잭션)
+     *
+     * @return 색인된 게시글 수
+     */
+    public synchronized int reindexAll() {
+        if (!searchIndex.isAvailable()) {
+            throw new IllegalStateException("검색 색인을 사용할 수 없습니다.");
+        }
+        long start = System.currentTimeMillis();
+        searchIndex.beginRebuild();
+
+        long lastId = 0L;
+        int total = 0;
+        while (true) {
+            final long cursor = lastId;
+            List<PostSearchIndex.IndexedPost> chunk = readOnlyTx.execute(status -> loadChunk(cursor));
+            if (chunk == null || chunk.isEmpty()) break;
+            chunk.forEach(searchIndex::upsert);
+            total += chunk.size();
+            lastId = chunk.get(chunk.size() - 1).id();
+            if (chunk.size() < chunkSize) break;
+        }
+
+        searchIndex.finishRebuild();
+        log.info("[PostSearch] 전체 재색인 완료: docs={}, took={}ms", total, System.currentTimeMillis() - start);
+        return total;
+    }
+
+    private List<PostSearchIndex.IndexedPost> loadChunk(long afterId) {
+        List<Posts> posts = postsRepository.findChunkAfterId(afterId, PageRequest.of(0, chunkSize));
+        if (posts.isEmpty()) return Collections.emptyList();
+
+        List<Long> ids = posts.stream().map(Posts::getId).collect(Collectors.toList());
+        Map<Long, List<PostIngredient>> ingredientsByPost = ingredientRepository.findAllByPostIdIn(ids).stream()
+                .collect(Collectors.groupingBy(i -> i.getPost().getId()));
+
+        return posts.stream()
+                .map(p -> toIndexedPost(p, ingredientsByPost.getOrDefault(p.getId(), Collections.emptyList())))
+                .collect(Collectors.toList());
+    }
+
+    private PostSearchIndex.IndexedPost toIndexedPost(Posts post, List<PostIngredient> ingredients) {
+        // 작성 시 계산해 둔 평문 사용, 백필 전 게시글만 HTML 을 파싱
+        String plainContent = post.getPlainText() != null ? post.getPlainText()
+                : post.getContent() != null ? Jsoup.parse(post.getContent()).text() : "";
+        long createdAt = post.getCreatedAt() != null
+                ? post.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : 0L;
+        return new PostSearchIndex.IndexedPost(
+                post.getId(),
+                post.getTitle(),
+                plainContent,
+                post.getAuthorId().getNickname(),
+                post.getCategory().getId(),
+                post.getCategory().getName(),
+                post.isRecipe(),
+                post.getDietType(),
+                ingredients.stream().map(PostIngredient::getName).collect(Collectors.toList()),
+                createdAt
+        );
+    }
+}
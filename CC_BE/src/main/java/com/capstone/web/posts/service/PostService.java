@@ -3,20 +3,24 @@ package com.capstone.web.posts.service;
 import com.capstone.web.category.domain.Category;
 import com.capstone.web.category.exception.CategoryNotFoundException;
 import com.capstone.web.category.repository.CategoryRepository;
-import com.capstone.web.common.S3UploadService;
+import com.capstone.web.common.util.ETagUtils;
+import com.capstone.web.ingredient.service.IngredientDictionary;
+import com.capstone.web.ingredient.service.IngredientKey;
 import com.capstone.web.media.domain.Media;
-import java.util.Optional;
 import com.capstone.web.media.repository.MediaRepository;
-import com.capstone.web.member.domain.Member;
 import com.capstone.web.member.exception.UserNotFoundException;
 import com.capstone.web.member.repository.MemberRepository;
+import com.capstone.web.posts.domain.PostContent;
 import com.capstone.web.posts.domain.PostLike;
 import com.capstone.web.posts.domain.Posts;
 import com.capstone.web.posts.domain.PostIngredient;
 import com.capstone.web.posts.dto.PostDto;
+import com.capstone.web.posts.dto.PostCursor;
 import com.capstone.web.posts.dto.PostListRequest;
 import com.capstone.web.posts.dto.PostIngredientDto;
 import com.capstone.web.posts.dto.PostComparisonDto;
+import com.capstone.web.posts.event.PostChangedEvent;
+import com.capstone.web.posts.event.PostEngagementEvent;
 import com.capstone.web.posts.exception.PostNotFoundException;
 import com.capstone.web.posts.exception.PostPermissionException;
 import com.capstone.web.posts.repository.PostLikeRepository;
@@ -24,23 +28,30 @@ import com.capstone.web.posts.repository.PostsRepository;
 import com.capstone.web.posts.repository.PostIngredientRepository;
 import com.capstone.web.refrigerator.domain.RefrigeratorItem;
 import com.capstone.web.refrigerator.repository.RefrigeratorItemRepository;
+import com.capstone.web.refrigerator.service.IngredientMatcher;
 import lombok.RequiredArgsConstructor;
-import org.jsoup.Jsoup;
-import org.jsoup.safety.Safelist;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -54,33 +65,49 @@ public class PostService {
     private final PostLikeRepository postLikeRepository;
     private final PostIngredientRepository ingredientRepository;
     private final RefrigeratorItemRepository refrigeratorItemRepository;
-    private final Optional<S3UploadService> s3UploadService;
     private final MediaRepository mediaRepository;
-
-    private String sanitizeHtml(String html) {
-        Safelist safelist = Safelist.relaxed()
-                .addTags("img")
-                .addAttributes("img", "src", "alt", "title")
-                .addAttributes("a", "href", "title", "target")
-                .addProtocols("a", "href", "http", "https")
-                .preserveRelativeLinks(true);
-        return Jsoup.clean(html == null ? "" : html, safelist);
-    }
-
-    // (수정) MultipartFile 리스트 추가
-    @Transactional
+    private final PostViewCountBuffer viewCountBuffer;
+    private final PostSearchIndex postSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PostCountCache postCountCache;
+    private final PostContentProcessor contentProcessor;
+    private final PostMediaUploader mediaUploader;
+    private final TransactionTemplate transactionTemplate;
+    private final PostDetailCache detailCache;
+    private final IngredientDictionary ingredientDictionary;
+
+    /**
+     * 게시글 생성
+     * <p>
+     * 이미지 업로드(네트워크)는 트랜잭션 밖에서 병렬로 먼저 수행하고, 게시글/Media 저장만 짧은 트랜잭션으로 커밋한다.
+     * 커밋이 실패하면 업로드된 객체를 보상 삭제한다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Long createPost(Long memberId, PostDto.CreateRequest request, MultipartFile thumbnailFile, List<MultipartFile> files) {
-        Member author = memberRepository.findById(memberId)
-                .orElseThrow(() -> new UserNotFoundException("작성자를 찾을 수 없습니다. ID: " + memberId));
-
-        Category category = categoryRepository.findById(request.getCategoryId())
-                .orElseThrow(() -> new CategoryNotFoundException("카테고리를 찾을 수 없습니다. ID: " + request.getCategoryId()));
+        if (!memberRepository.existsById(memberId)) {
+            throw new UserNotFoundException("작성자를 찾을 수 없습니다. ID: " + memberId);
+        }
+        if (!categoryRepository.existsById(request.getCategoryId())) {
+            throw new CategoryNotFoundException("카테고리를 찾을 수 없습니다. ID: " + request.getCategoryId());
+        }
+        PostContent processed = contentProcessor.process(request.getContent());
+
+        PostMediaUploader.UploadedMedia uploaded = mediaUploader.upload(thumbnailFile, files);
+        try {
+            return transactionTemplate.execute(status -> insertPost(memberId, request, processed, uploaded));
+        } catch (RuntimeException e) {
+            mediaUploader.deleteQuietly(uploaded.urls());
+            throw e;
+        }
+    }
 
+    private Long insertPost(Long memberId, PostDto.CreateRequest request, PostContent processed,
+                            PostMediaUploader.UploadedMedia uploaded) {
         Posts post = Posts.builder()
-                .authorId(author)
-                .category(category)
+                .authorId(memberRepository.getReferenceById(memberId))
+                .category(categoryRepository.getReferenceById(request.getCategoryId()))
                 .title(request.getTitle().trim())
-                .content(sanitizeHtml(request.getContent()))
+                .content(processed.html())
                 .status(request.getStatus())
                 .isRecipe(request.getIsRecipe())
                 .dietType(request.getDietType())
@@ -88,47 +115,18 @@ public class PostService {
                 .servings(request.getServings())
                 .difficulty(request.getDifficulty())
                 .build();
+        post.applyContent(processed);
 
-        // [수정] 1. 썸네일 처리 (파일 업로드 우선, 없으면 URL 사용)
-        if (thumbnailFile != null && !thumbnailFile.isEmpty()) {
-            if (s3UploadService.isPresent()) {
-                try {
-                    String thumbnailUrl = s3UploadService.get().uploadFile(thumbnailFile);
-                    addThumbnailMedia(post, thumbnailUrl);
-                } catch (IOException e) {
-                    throw new RuntimeException("썸네일 업로드 실패", e);
-                }
-            } else {
-                throw new RuntimeException("S3 서비스가 설정되지 않았습니다.");
-            }
+        // 1. 썸네일 처리 (업로드 파일 우선, 없으면 URL 사용)
+        if (uploaded.thumbnailUrl() != null) {
+            addThumbnailMedia(post, uploaded.thumbnailUrl());
         } else if (request.getThumbnailUrl() != null && !request.getThumbnailUrl().isBlank()) {
             // [추가] 프론트엔드에서 보낸 URL로 썸네일 설정
             addThumbnailMedia(post, request.getThumbnailUrl());
         }
 
-        // 2. 추가 이미지 업로드 (OrderNum = 1 부터 시작)
-        if (files != null && !files.isEmpty()) {
-            if (s3UploadService.isPresent()) {
-                int orderNum = 1;
-                for (MultipartFile file : files) {
-                    if (file.isEmpty()) continue;
-                    try {
-                        String fileUrl = s3UploadService.get().uploadFile(file);
-                        Media media = Media.builder()
-                                .ownerType(Media.OwnerType.post)
-                                .mediaType(Media.MediaType.image)
-                                .url(fileUrl)
-                                .orderNum(orderNum++)
-                                .build();
-                        post.addMedia(media);
-                    } catch (IOException e) {
-                        throw new RuntimeException("추가 이미지 업로드 실패", e);
-                    }
-                }
-            } else {
-                throw new RuntimeException("S3 서비스가 설정되지 않았습니다.");
-            }
-        }
+        // 2. 추가 이미지 (OrderNum = 1 부터 시작)
+        addImageMedia(post, uploaded.imageUrls(), 1);
 
         Posts savedPost = postsRepository.save(post);
 
@@ -138,6 +136,7 @@ public class PostService {
                     .map(dto -> PostIngredient.builder()
                             .post(savedPost)
                             .name(dto.getName())
+                            .canonicalIngredientId(ingredientDictionary.resolve(dto.getName()))
                             .quantity(dto.getQuantity())
                             .unit(dto.getUnit())
                             .memo(dto.getMemo())
@@ -148,6 +147,7 @@ public class PostService {
             ingredientRepository.saveAll(ingredients);
         }
 
+        eventPublisher.publishEvent(PostChangedEvent.created(savedPost.getId(), savedPost.getCategory().getId()));
         return savedPost.getId();
     }
 
@@ -162,22 +162,60 @@ public class PostService {
         post.addMedia(thumbnailMedia);
     }
 
-    @Transactional
+    private void addImageMedia(Posts post, List<String> urls, int startOrder) {
+        int orderNum = startOrder;
+        for (String url : urls) {
+            post.addMedia(Media.builder()
+                    .ownerType(Media.OwnerType.post)
+                    .mediaType(Media.MediaType.image)
+                    .url(url)
+                    .orderNum(orderNum++)
+                    .build());
+        }
+    }
+
     public PostDto.Response getPostById(Long id) {
-        Posts post = postsNextPage(id);
-        post.increaseViewCount();
-        return new PostDto.Response(post);
+        return getPostById(id, null);
     }
 
-    @Transactional
+    // 상세 스냅샷은 PostDetailCache에서 조회(미스 시 1회 로딩)하고, 조회자별 좋아요 여부와 실시간 조회수만 덧씌움
+    // 조회수는 PostViewCountBuffer에 누적 후 주기적으로 배치 반영 (상세 조회는 읽기 전용 트랜잭션)
+    // 응답 조회수 = 스냅샷의 DB 값 + 스냅샷 로딩 이후 이 인스턴스가 기록한 조회수
     public PostDto.Response getPostById(Long id, Long viewerIdOrNull) {
-        Posts post = postsNextPage(id);
-        post.increaseViewCount();
+        PostDetailCache.Snapshot snapshot = detailCache.get(id, postId -> viewCountBuffer.readConsistently(
+                () -> new PostDetailCache.Snapshot(new PostDto.Response(postsNextPage(postId)), viewCountBuffer.flushedViews(postId))));
+        long recordedViews = viewCountBuffer.increment(id);
+        PostDto.Response post = snapshot.post();
+        eventPublisher.publishEvent(PostEngagementEvent.viewed(id, post.getCategoryId()));
         Boolean liked = null;
         if (viewerIdOrNull != null) {
             liked = postLikeRepository.findByPostIdAndMemberId(id, viewerIdOrNull).isPresent();
         }
-        return new PostDto.Response(post, liked);
+        return post.withViewer(liked, post.getViewCount() + (int) (recordedViews - snapshot.flushedViews()));
+    }
+
+    /**
+     * 조건부 GET용 현재 ETag (버전 컬럼만 조회, 본문/연관 엔티티 로딩 없음)
+     * <p>
+     * 조회수는 조회마다 바뀌는 실시간 값이므로 검증자에서 제외하고, 조회자별 likedByMe 때문에 조회자 ID를 포함한다.
+     * 본문의 작성자 닉네임/카테고리 이름 변경을 반영하도록 작성자 수정 시각과 카테고리 버전(이름, 별도 버전 컬럼 없음)을 포함한다.
+     */
+    public Optional<String> findPostETag(Long id, Long viewerIdOrNull) {
+        return postsRepository.findVersionById(id)
+                .map(v -> ETagUtils.strong("post", id, v.getUpdatedAt(), v.getLikeCount(),
+                        v.getAuthorUpdatedAt(), v.getCategoryName(), viewerIdOrNull));
+    }
+
+    // 응답 본문(스냅샷) 기준 ETag: 캐시 스냅샷이 DB보다 늦더라도 보낸 본문과 일치하는 값을 태깅
+    public String etagOf(PostDto.Response post, Long viewerIdOrNull) {
+        return ETagUtils.strong("post", post.getId(), post.getUpdatedAt(), post.getLikeCount(),
+                post.getAuthorUpdatedAt(), post.getCategoryName(), viewerIdOrNull);
+    }
+
+    // 304 응답 시에도 조회로 집계
+    public void recordView(Long id) {
+        viewCountBuffer.increment(id);
+        eventPublisher.publishEvent(PostEngagementEvent.viewed(id, null));
     }
 
     private Posts postsNextPage(Long id) {
@@ -185,32 +223,38 @@ public class PostService {
                 .orElseThrow(() -> new PostNotFoundException("게시글을 찾을 수 없습니다. ID: " + id));
     }
 
-    // (수정) MultipartFile 리스트 추가
-    @Transactional
+    // 생성과 동일하게 업로드는 트랜잭션 밖에서 병렬 수행 후 짧은 트랜잭션으로 반영 (실패 시 보상 삭제)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void updatePost(Long id, Long memberId, PostDto.UpdateRequest request, MultipartFile thumbnailFile, List<MultipartFile> files) {
-        Posts post = postsNextPage(id);
-
-        if (!post.getAuthorId().getId().equals(memberId)) {
+        Posts current = postsNextPage(id);
+        if (!current.getAuthorId().getId().equals(memberId)) {
             throw new PostPermissionException("게시글을 수정할 권한이 없습니다.");
         }
+        if (!categoryRepository.existsById(request.getCategoryId())) {
+            throw new CategoryNotFoundException("카테고리를 찾을 수 없습니다. ID: " + request.getCategoryId());
+        }
+        PostContent processed = contentProcessor.process(request.getContent());
+
+        PostMediaUploader.UploadedMedia uploaded = mediaUploader.upload(thumbnailFile, files);
+        try {
+            transactionTemplate.executeWithoutResult(status -> applyUpdate(id, request, processed, uploaded));
+        } catch (RuntimeException e) {
+            mediaUploader.deleteQuietly(uploaded.urls());
+            throw e;
+        }
+    }
 
-        Category category = categoryRepository.findById(request.getCategoryId())
-                .orElseThrow(() -> new CategoryNotFoundException("카테고리를 찾을 수 없습니다. ID: " + request.getCategoryId()));
+    private void applyUpdate(Long id, PostDto.UpdateRequest request, PostContent processed,
+                             PostMediaUploader.UploadedMedia uploaded) {
+        Posts post = postsNextPage(id);
+        Long previousCategoryId = post.getCategory().getId();
+        Category category = categoryRepository.getReferenceById(request.getCategoryId());
 
         // [수정] 1. 썸네일 업데이트
-        if (thumbnailFile != null && !thumbnailFile.isEmpty()) {
-            // 새 파일이 있으면 기존 썸네일 제거 후 새 파일 업로드
-            if (s3UploadService.isPresent()) {
-                post.getMedia().removeIf(m -> m.getOwnerType() == Media.OwnerType.post && m.getOrderNum() == 0);
-                try {
-                    String newThumbnailUrl = s3UploadService.get().uploadFile(thumbnailFile);
-                    addThumbnailMedia(post, newThumbnailUrl);
-                } catch (IOException e) {
-                    throw new RuntimeException("썸네일 업로드 실패", e);
-                }
-            } else {
-                throw new RuntimeException("S3 서비스가 설정되지 않았습니다.");
-            }
+        if (uploaded.thumbnailUrl() != null) {
+            // 새 파일이 업로드되었으면 기존 썸네일 교체
+            post.getMedia().removeIf(m -> m.getOwnerType() == Media.OwnerType.post && m.getOrderNum() == 0);
+            addThumbnailMedia(post, uploaded.thumbnailUrl());
         } else if (request.getThumbnailUrl() != null) {
             // [추가] URL이 전달된 경우 (빈 문자열이면 삭제, 값이 있으면 업데이트)
             // 기존 썸네일 제거
@@ -221,37 +265,13 @@ public class PostService {
             }
         }
 
-        // 2. 추가 이미지 업로드 (기존 이미지 유지 후 Append)
-        if (files != null && !files.isEmpty()) {
-            if (s3UploadService.isPresent()) {
-                // 현재 가장 큰 orderNum 찾기
-                int maxOrderNum = post.getMedia().stream()
-                        .filter(m -> m.getOwnerType() == Media.OwnerType.post)
-                        .mapToInt(Media::getOrderNum)
-                        .max()
-                        .orElse(0); // 없으면 0 (썸네일만 있거나 아무것도 없을 때)
-
-                int startOrder = maxOrderNum + 1;
-
-                for (MultipartFile file : files) {
-                    if (file.isEmpty()) continue;
-                    try {
-                        String fileUrl = s3UploadService.get().uploadFile(file);
-                        Media media = Media.builder()
-                                .ownerType(Media.OwnerType.post)
-                                .mediaType(Media.MediaType.image)
-                                .url(fileUrl)
-                                .orderNum(startOrder++)
-                                .build();
-                        post.addMedia(media);
-                    } catch (IOException e) {
-                        throw new RuntimeException("추가 이미지 업로드 실패", e);
-                    }
-                }
-            } else {
-                throw new RuntimeException("S3 서비스가 설정되지 않았습니다.");
-            }
-        }
+        // 2. 추가 이미지 (기존 이미지 유지 후 Append, 현재 가장 큰 orderNum 다음부터)
+        int maxOrderNum = post.getMedia().stream()
+                .filter(m -> m.getOwnerType() == Media.OwnerType.post)
+                .mapToInt(Media::getOrderNum)
+                .max()
+                .orElse(0); // 없으면 0 (썸네일만 있거나 아무것도 없을 때)
+        addImageMedia(post, uploaded.imageUrls(), maxOrderNum + 1);
 
         // 3. 재료 업데이트
         post.getIngredients().clear();
@@ -261,6 +281,7 @@ public class PostService {
                     .map(dto -> PostIngredient.builder()
                             .post(post)
                             .name(dto.getName())
+                            .canonicalIngredientId(ingredientDictionary.resolve(dto.getName()))
                             .quantity(dto.getQuantity())
                             .unit(dto.getUnit())
                             .memo(dto.getMemo())
@@ -274,7 +295,7 @@ public class PostService {
         // 4. Post 정보 업데이트
         post.update(
                 request.getTitle().trim(),
-                sanitizeHtml(request.getContent()),
+                processed.html(),
                 request.getStatus(),
                 category,
                 request.getIsRecipe(),
@@ -283,8 +304,10 @@ public class PostService {
                 request.getServings(),
                 request.getDifficulty()
         );
+        post.applyContent(processed);
 
         post.getIngredients().addAll(newIngredients);
+        eventPublisher.publishEvent(PostChangedEvent.updated(post.getId(), previousCategoryId, category.getId()));
     }
 
     @Transactional
@@ -293,16 +316,60 @@ public class PostService {
         if (!post.getAuthorId().getId().equals(memberId)) {
             throw new PostPermissionException("게시글을 삭제할 권한이 없습니다.");
         }
+        Long categoryId = post.getCategory().getId();
         postsRepository.delete(post);
+        eventPublisher.publishEvent(PostChangedEvent.deleted(id, categoryId));
     }
 
-    public Page<PostDto.Response> list(PostListRequest req) {
+    public Page<PostDto.ListItem> list(PostListRequest req) {
+        // 키워드 검색은 전문 검색 색인으로 처리 (관련도 순). 색인 사용 불가 또는 작성자 필터 시 LIKE 검색으로 대체
+        if (req.hasKeyword() && req.getAuthorId() == null && postSearchIndex.isAvailable()) {
+            return searchList(req);
+        }
+
         Pageable pageable = PageRequest.of(req.pageIndex(), req.getSize(), req.sort());
+        return postsRepository.findListItems(buildSpec(req), pageable);
+    }
+
+    /**
+     * 키셋(커서) 기반 목록 조회
+     * <p>
+     * OFFSET 스캔과 COUNT 쿼리 없이 (정렬 키, id) 기준으로 다음 위치를 탐색한다.
+     * size + 1건을 조회해 다음 페이지 존재 여부를 판단하며, 전체 건수는 게시판 필터만 있을 때
+     * {@link PostCountCache}의 캐시 값으로 제공한다.
+     */
+    public PostDto.CursorResponse scroll(PostListRequest req, String cursor) {
+        String sortKey = req.cursorSortKey();
+        int size = req.getSize() != null && req.getSize() > 0 ? req.getSize() : 20;
+
+        Specification<Posts> spec = buildSpec(req);
+        if (cursor != null && !cursor.isBlank()) {
+            PostCursor after = PostCursor.decode(cursor, sortKey);
+            spec = spec.and(seekAfter(sortKey, after));
+        }
+
+        Sort sort = Sort.by(Sort.Direction.DESC, sortKey).and(Sort.by(Sort.Direction.DESC, "id"));
+        List<PostDto.ListItem> rows = postsRepository.findListItems(spec, sort, size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<PostDto.ListItem> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? PostCursor.of(sortKey, content.get(content.size() - 1)).encode() : null;
+
+        Long totalCount = null;
+        if (!req.hasFiltersBeyondBoard()) {
+            totalCount = req.getBoardId() != null ? postCountCache.boardTotal(req.getBoardId()) : postCountCache.total();
+        }
+        return new PostDto.CursorResponse(content, nextCursor, hasNext, totalCount);
+    }
+
+    private Specification<Posts> buildSpec(PostListRequest req) {
         Specification<Posts> spec = Specification.anyOf();
 
         if (req.getBoardId() != null) spec = spec.and((root, q, cb) -> cb.equal(root.get("category").get("id"), req.getBoardId()));
         if (req.getAuthorId() != null) spec = spec.and((root, q, cb) -> cb.equal(root.get("authorId").get("id"), req.getAuthorId()));
-        if (req.getSearchType() != null && req.getKeyword() != null && !req.getKeyword().isBlank()) {
+        if (req.getIsRecipe() != null) spec = spec.and((root, q, cb) -> cb.equal(root.get("isRecipe"), req.getIsRecipe()));
+        if (req.getDietType() != null) spec = spec.and((root, q, cb) -> cb.equal(root.get("dietType"), req.getDietType()));
+        if (req.hasKeyword()) {
             String kw = "%" + req.getKeyword().trim() + "%";
             switch (req.getSearchType().toUpperCase()) {
                 case "TITLE": spec = spec.and((root, q, cb) -> cb.like(root.get("title"), kw)); break;
@@ -310,10 +377,41 @@ public class PostService {
                 case "AUTHOR": spec = spec.and((root, q, cb) -> cb.like(root.get("authorId").get("nickname"), kw)); break;
             }
         }
+        return spec;
+    }
+
+    // (key < value) OR (key = value AND id < lastId)
+    private Specification<Posts> seekAfter(String sortKey, PostCursor after) {
+        if ("createdAt".equals(sortKey)) {
+            LocalDateTime value = (LocalDateTime) after.typedValue();
+            return (root, q, cb) -> cb.or(
+                    cb.lessThan(root.<LocalDateTime>get(sortKey), value),
+                    cb.and(cb.equal(root.get(sortKey), value), cb.lessThan(root.<Long>get("id"), after.id())));
+        }
+        Integer value = (Integer) after.typedValue();
+        return (root, q, cb) -> cb.or(
+                cb.lessThan(root.<Integer>get(sortKey), value),
+                cb.and(cb.equal(root.get(sortKey), value), cb.lessThan(root.<Long>get("id"), after.id())));
+    }
+
+    private Page<PostDto.ListItem> searchList(PostListRequest req) {
+        Pageable pageable = PageRequest.of(req.pageIndex(), req.getSize());
+        PostSearchIndex.SearchResult result = postSearchIndex.search(new PostSearchIndex.SearchQuery(
+                req.getKeyword(), req.getSearchType(), req.getBoardId(), req.getIsRecipe(), req.getDietType(),
+                req.pageIndex(), req.getSize()));
+        if (result.ids().isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, result.totalHits());
+        }
 
-        Page<Posts> page = postsRepository.findAll(spec, pageable);
-        List<PostDto.Response> content = page.getContent().stream().map(PostDto.Response::new).collect(Collectors.toList());
-        return new PageImpl<>(content, pageable, page.getTotalElements());
+        // 색인 순위(관련도)를 유지하며 매핑. 색인 반영 전 삭제된 게시글은 건너뜀
+        Specification<Posts> byIds = (root, q, cb) -> root.get("id").in(result.ids());
+        Map<Long, PostDto.ListItem> itemsById = postsRepository.findListItems(byIds, Sort.unsorted(), result.ids().size()).stream()
+                .collect(Collectors.toMap(PostDto.ListItem::getId, Function.identity()));
+        List<PostDto.ListItem> content = result.ids().stream()
+                .map(itemsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, result.totalHits());
     }
 
     @Transactional
@@ -331,7 +429,9 @@ public class PostService {
             postLikeRepository.save(new PostLike(post, member));
             post.increaseLikeCount();
             liked = true;
+            eventPublisher.publishEvent(PostEngagementEvent.liked(postId, post.getCategory().getId()));
         }
+        eventPublisher.publishEvent(PostChangedEvent.liked(postId));
         return new ToggleLikeResult(liked, post.getLikeCount());
     }
 
@@ -341,14 +441,18 @@ public class PostService {
         Posts post = postsNextPage(postId);
         List<PostIngredient> requiredIngredients = post.getIngredients();
         List<RefrigeratorItem> myItems = refrigeratorItemRepository.findByMemberId(memberId);
-        List<String> myItemNames = myItems.stream().map(item -> item.getName().toLowerCase().trim()).collect(Collectors.toList());
+        // 보유 재료를 한 번 컴파일해 레시피 재료를 대표 재료 id로 한꺼번에 판정
+        boolean[] owned = IngredientMatcher.compile(myItems, this::ingredientKey)
+                .containsAll(requiredIngredients.stream()
+                        .map(i -> ingredientDictionary.keyOf(i.getCanonicalIngredientId(), i.getName()))
+                        .toList());
 
         int ownedCount = 0;
         List<PostComparisonDto.ComparedIngredient> comparedList = new ArrayList<>();
 
-        for (PostIngredient required : requiredIngredients) {
-            String requiredName = required.getName().toLowerCase().trim();
-            boolean isOwned = myItemNames.stream().anyMatch(ownedName -> ownedName.contains(requiredName) || requiredName.contains(ownedName));
+        for (int i = 0; i < requiredIngredients.size(); i++) {
+            PostIngredient required = requiredIngredients.get(i);
+            boolean isOwned = owned[i];
             String amount = (required.getUnit() != null && !required.getUnit().isBlank()) ? required.getQuantity() + required.getUnit() : String.valueOf(required.getQuantity());
 
             if (isOwned) {
@@ -368,4 +472,45 @@ public class PostService {
                 .missingCount(requiredIngredients.size() - ownedCount)
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 여러 게시글 냉장고 재료 일괄 비교 (목록 배지용: 개수만)
+     * 냉장고 1회 + 재료명 1회 조회 후, 보유 재료를 한 번 컴파일해 전체 재료를 대표 재료 id로 한꺼번에 판정
+     * (존재하지 않거나 재료가 없는 게시글은 0/0)
+     */
+    public PostComparisonDto.BatchResponse compareWithRefrigerator(List<Long> postIds, Long memberId) {
+        List<Long> ids = postIds.stream().filter(Objects::nonNull).distinct().toList();
+        Map<Long, List<IngredientKey>> keysByPost = ingredientRepository.findNamesByPostIdIn(ids).stream()
+                .collect(Collectors.groupingBy(PostIngredientRepository.IngredientName::getPostId,
+                        Collectors.mapping(i -> ingredientDictionary.keyOf(i.getCanonicalIngredientId(), i.getName()),
+                                Collectors.toList())));
+
+        List<IngredientKey> allKeys = new ArrayList<>();
+        for (Long id : ids) allKeys.addAll(keysByPost.getOrDefault(id, List.of()));
+        boolean[] owned = allKeys.isEmpty() ? new boolean[0]
+                : IngredientMatcher.compile(refrigeratorItemRepository.findByMemberId(memberId), this::ingredientKey)
+                .containsAll(allKeys);
+
+        List<PostComparisonDto.Summary> results = new ArrayList<>(ids.size());
+        int offset = 0;
+        for (Long id : ids) {
+            int total = keysByPost.getOrDefault(id, List.of()).size();
+            int ownedCount = 0;
+            for (int i = offset; i < offset + total; i++) {
+                if (owned[i]) ownedCount++;
+            }
+            offset += total;
+            results.add(PostComparisonDto.Summary.builder()
+                    .postId(id)
+                    .totalNeeded(total)
+                    .ownedCount(ownedCount)
+                    .missingCount(total - ownedCount)
+                    .build());
+        }
+        return PostComparisonDto.BatchResponse.builder().results(results).build();
+    }
+
+    private IngredientKey ingredientKey(RefrigeratorItem item) {
+        return ingredientDictionary.keyOf(item.getCanonicalIngredientId(), item.getName());
+    }
+}
@@ -0,0 +1,259 @@
+package com.capstone.web.posts.service;
+
+import com.capstone.web.posts.domain.PostTrendingScore;
+import com.capstone.web.posts.domain.Posts;
+import com.capstone.web.posts.dto.PostDto;
+import com.capstone.web.posts.event.PostChangedEvent;
+import com.capstone.web.posts.event.PostEngagementEvent;
+import com.capstone.web.posts.repository.PostTrendingScoreRepository;
+import com.capstone.web.posts.repository.PostsRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 인기(트렌딩) 게시글
+ * <p>
+ * <ul>
+ *   <li>조회/좋아요/댓글/스크랩 이벤트를 가중치로 환산해 {@link TrendingScoreBoard}에 시간 감쇠 점수로 누적</li>
+ *   <li>전체/게시판별 상위 K를 메모리에 유지하고, 카드 정보는 별도 캐시에서 제공 (정상 상태에서 DB 조회 없음)</li>
+ *   <li>카드는 시간으로 만료시키지 않고, 변경/참여 이벤트가 있었던 순위 내 카드와 새로 순위에 든 카드만
+ *       주기적으로 한 번의 쿼리로 다시 적재 (요청 경로의 카드 미스는 다음 갱신 전에 새로 순위에 든 게시글뿐)</li>
+ *   <li>주기적으로 점수를 post_trending_scores에 스냅샷하고, 기동 시 경과 시간만큼 감쇠해 복원 (warm restart)</li>
+ * </ul>
+ * 비정상 종료 시 유실 범위는 최대 스냅샷 주기 1회분 (posts.trending.snapshot-interval-ms)
+ */
+@Slf4j
+@Component
+public class PostTrendingService {
+
+    public static final String CARD_CACHE_NAME = "posts.trending.cards";
+
+    private static final String DELETE_SNAPSHOT_SQL = "DELETE FROM post_trending_scores";
+    private static final String INSERT_SNAPSHOT_SQL =
+            "INSERT INTO post_trending_scores (post_id, board_id, score, snapshot_at) VALUES (?, ?, ?, ?)";
+
+    private final TrendingScoreBoard scoreBoard;
+    private final PostsRepository postsRepository;
+    private final PostTrendingScoreRepository trendingScoreRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<Long, PostDto.ListItem> cardCache;
+    // 마지막 카드 적재 이후 조회수/좋아요 수/본문이 바뀐 게시글
+    private final Set<Long> dirtyCards = ConcurrentHashMap.newKeySet();
+    private final Map<PostEngagementEvent.Type, Double> weights = new EnumMap<>(PostEngagementEvent.Type.class);
+    private final double halfLifeMillis;
+    private final double minScore;
+    private final int topK;
+
+    public PostTrendingService(PostsRepository postsRepository,
+                               PostTrendingScoreRepository trendingScoreRepository,
+                               JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${posts.trending.half-life-ms:21600000}") long halfLifeMillis,
+                               @Value("${posts.trending.bucket-ms:60000}") long bucketMillis,
+                               @Value("${posts.trending.top-k:100}") int topK,
+                               @Value("${posts.trending.min-score:0.1}") double minScore,
+                               @Value("${posts.trending.card-idle-ms:600000}") long cardIdleMillis,
+                               @Value("${posts.trending.weight.view:1}") double viewWeight,
+                               @Value("${posts.trending.weight.like:3}") double likeWeight,
+                               @Value("${posts.trending.weight.comment:4}") double commentWeight,
+                               @Value("${posts.trending.weight.scrap:5}") double scrapWeight) {
+        this.postsRepository = postsRepository;
+        this.trendingScoreRepository = trendingScoreRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.halfLifeMillis = halfLifeMillis;
+        this.minScore = minScore;
+        this.topK = topK;
+        this.scoreBoard = new TrendingScoreBoard(halfLifeMillis, bucketMillis, topK, System::currentTimeMillis);
+        this.weights.put(PostEngagementEvent.Type.VIEW, viewWeight);
+        this.weights.put(PostEngagementEvent.Type.LIKE, likeWeight);
+        this.weights.put(PostEngagementEvent.Type.COMMENT, commentWeight);
+        this.weights.put(PostEngagementEvent.Type.SCRAP, scrapWeight);
+
+        // 카드(목록 항목)는 이벤트 기반 주기 갱신(refreshCards)으로 최신화, 순위에서 빠져 조회되지 않는 카드만 만료
+        this.cardCache = Caffeine.newBuilder()
+                .maximumSize(topK * 50L)
+                .expireAfterAccess(Duration.ofMillis(cardIdleMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cardCache, CARD_CACHE_NAME);
+        Gauge.builder("posts.trending.tracked", scoreBoard, TrendingScoreBoard::size)
+                .description("인기 점수를 추적 중인 게시글 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 인기 게시글 (boardId가 null이면 전체)
+     *
+     * @param size 최대 top-k
+     */
+    public List<PostDto.ListItem> getTrending(Long boardId, int size) {
+        List<TrendingScoreBoard.Ranked> ranked = scoreBoard.top(boardId, Math.max(1, Math.min(size, topK)));
+        if (ranked.isEmpty()) return List.of();
+
+        List<Long> ids = ranked.stream().map(TrendingScoreBoard.Ranked::postId).toList();
+        // 캐시에 없는 카드(다음 갱신 전에 새로 순위에 든 게시글)만 한 번의 프로젝션 쿼리로 로딩 (삭제된 게시글은 결과에서 제외)
+        Map<Long, PostDto.ListItem> cards = cardCache.getAll(ids, this::loadCards);
+        return ids.stream().map(cards::get).filter(Objects::nonNull).toList();
+    }
+
+    private Map<Long, PostDto.ListItem> loadCards(Set<? extends Long> ids) {
+        Specification<Posts> byIds = (root, q, cb) -> root.get("id").in(ids);
+        return postsRepository.findListItems(byIds, Sort.unsorted(), ids.size()).stream()
+                .collect(Collectors.toMap(PostDto.ListItem::getId, Function.identity()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEngagement(PostEngagementEvent event) {
+        Double weight = weights.get(event.type());
+        if (weight == null || weight <= 0) return;
+        Long boardId = event.boardId() != null ? event.boardId() : scoreBoard.boardOf(event.postId());
+        if (boardId == null) {
+            boardId = postsRepository.findCategoryIdById(event.postId()).orElse(null);
+            if (boardId == null) return; // 이미 삭제된 게시글
+        }
+        scoreBoard.add(event.postId(), boardId, weight);
+        dirtyCards.add(event.postId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        switch (event.type()) {
+            case DELETED -> {
+                scoreBoard.remove(event.postId());
+                dirtyCards.remove(event.postId());
+                cardCache.invalidate(event.postId());
+            }
+            case UPDATED -> {
+                dirtyCards.add(event.postId());
+                // 게시판이 바뀐 경우 게시판별 순위 이동
+                if (scoreBoard.contains(event.postId())) {
+                    postsRepository.findCategoryIdById(event.postId())
+                            .ifPresent(boardId -> scoreBoard.moveBoard(event.postId(), boardId));
+                }
+            }
+            case LIKED -> dirtyCards.add(event.postId());
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 순위 내 카드 중 이벤트가 있었던 카드와 아직 적재되지 않은 카드를 한 번의 쿼리로 다시 적재
+     *
+     * @return 적재 대상 게시글 수
+     */
+    @Scheduled(fixedDelayString = "${posts.trending.card-refresh-interval-ms:10000}")
+    public int refreshCards() {
+        Set<Long> ranked = scoreBoard.rankedPostIds();
+        // 순위 밖 게시글은 다시 적재하지 않고 카드만 버림 (다시 순위에 들면 최신 값으로 적재)
+        dirtyCards.removeIf(postId -> {
+            if (ranked.contains(postId)) return false;
+            cardCache.invalidate(postId);
+            return true;
+        });
+        Set<Long> targets = new HashSet<>();
+        for (Long postId : ranked) {
+            // 적재 전에 표시를 지우므로 적재 중 들어온 이벤트는 다음 주기에 반영된다
+            if (dirtyCards.remove(postId) || cardCache.getIfPresent(postId) == null) {
+                targets.add(postId);
+            }
+        }
+        if (targets.isEmpty()) return 0;
+
+        Map<Long, PostDto.ListItem> cards = loadCards(targets);
+        cardCache.putAll(cards);
+        targets.stream().filter(postId -> !cards.containsKey(postId)).forEach(cardCache::invalidate);
+        log.debug("[PostTrending] 인기 게시글 카드 갱신: posts={}", targets.size());
+        return targets.size();
+    }
+
+    /**
+     * 기동 시 마지막 스냅샷을 경과 시간만큼 감쇠하여 복원
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        long now = System.currentTimeMillis();
+        int restored = 0;
+        for (PostTrendingScore saved : trendingScoreRepository.findAll()) {
+            long savedAt = saved.getSnapshotAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            double decayed = saved.getScore() * Math.pow(2, -Math.max(0L, now - savedAt) / halfLifeMillis);
+            if (decayed < minScore) continue;
+            scoreBoard.add(saved.getPostId(), saved.getBoardId(), decayed);
+            restored++;
+        }
+        if (restored > 0) {
+            log.info("[PostTrending] 인기 점수 복원: posts={}", restored);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${posts.trending.snapshot-interval-ms:300000}",
+            initialDelayString = "${posts.trending.snapshot-interval-ms:300000}")
+    public void scheduledSnapshot() {
+        snapshot();
+    }
+
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        snapshot();
+    }
+
+    /**
+     * 현재 점수를 스냅샷 테이블에 전체 교체 저장 (한 트랜잭션, JDBC 배치)
+     *
+     * @return 저장된 게시글 수
+     */
+    public synchronized int snapshot() {
+        List<TrendingScoreBoard.Ranked> scores = scoreBoard.snapshot(minScore);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(scores.size());
+        for (TrendingScoreBoard.Ranked r : scores) {
+            batchArgs.add(new Object[]{r.postId(), r.boardId(), r.score(), now});
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(DELETE_SNAPSHOT_SQL);
+                if (!batchArgs.isEmpty()) jdbcTemplate.batchUpdate(INSERT_SNAPSHOT_SQL, batchArgs);
+            });
+        } catch (RuntimeException e) {
+            // 메모리 점수는 유지되므로 다음 주기에 다시 저장
+            log.warn("[PostTrending] 인기 점수 스냅샷 저장 실패: posts={}, cause={}", batchArgs.size(), e.getMessage());
+            return 0;
+        }
+        log.debug("[PostTrending] 인기 점수 스냅샷 저장: posts={}", batchArgs.size());
+        return batchArgs.size();
+    }
+}
@@ -0,0 +1,175 @@
+package com.capstone.web.posts.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 조회수 write-behind 버퍼
+ * <p>
+ * 상세 조회마다 posts 행을 UPDATE 하지 않고, 게시글 ID별 LongAdder(스트라이프 카운터)에 누적한 뒤
+ * 주기적으로 {@code UPDATE posts SET view_count = view_count + ?} 배치로 반영한다.
+ * <ul>
+ *   <li>비정상 종료 시 유실 범위: 최대 flush 주기 1회분 (posts.view-count.flush-interval-ms)</li>
+ *   <li>정상 종료 시 {@link PreDestroy}에서 남은 증분을 모두 반영</li>
+ *   <li>flush 실패 시 증분을 버퍼에 되돌려 다음 주기에 재시도</li>
+ *   <li>카운터는 리셋하지 않는 누적값(recorded)과 DB에 반영한 누적값(flushed)으로 관리하고, 증분 = recorded - flushed
+ *       (flush 와 겹친 증가는 다음 주기의 증분에 포함되므로 유실되지 않음)</li>
+ *   <li>상세 캐시 스냅샷은 로딩 시점의 flushed 를 함께 보관하고, 응답 조회수는 DB 값 + (recorded - 스냅샷의 flushed) 로 계산한다
+ *       (flush 때 스냅샷을 무효화하지 않아도 조회수가 중복/누락되지 않음)</li>
+ *   <li>카운터는 한 번 조회된 게시글마다 기동 중 유지된다 (게시글 수에 비례)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class PostViewCountBuffer {
+
+    private static final String FLUSH_SQL = "UPDATE posts SET view_count = view_count + ? WHERE id = ?";
+
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+    // flush 커밋과 (DB 조회수, flushed) 읽기를 서로 배제 (조회수 증가 경로는 락을 잡지 않음)
+    private final ReadWriteLock flushLock = new ReentrantReadWriteLock();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer flushTimer;
+
+    public PostViewCountBuffer(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.flushTimer = Timer.builder("posts.view_count.flush")
+                .description("조회수 증분 배치 반영 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("posts.view_count.pending", this, PostViewCountBuffer::pendingTotal)
+                .description("DB에 아직 반영되지 않은 조회수 증분 합계")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회수 1 증가 (DB 반영은 flush 시점)
+     *
+     * @return 기동 후 이 버퍼가 기록한 해당 게시글의 누적 조회수 (응답의 조회수 보정용)
+     */
+    public long increment(Long postId) {
+        Counter counter = counters.computeIfAbsent(postId, k -> new Counter());
+        counter.recorded.increment();
+        return counter.recorded.sum();
+    }
+
+    /**
+     * 기동 후 이 버퍼가 DB에 반영한 해당 게시글의 누적 조회수
+     */
+    public long flushedViews(Long postId) {
+        Counter counter = counters.get(postId);
+        return counter != null ? counter.flushed : 0L;
+    }
+
+    /**
+     * flush 커밋과 겹치지 않게 읽는다 (DB 조회수와 {@link #flushedViews}를 같은 시점 값으로 맞출 때 사용)
+     */
+    public <T> T readConsistently(Supplier<T> reader) {
+        flushLock.readLock().lock();
+        try {
+            return reader.get();
+        } finally {
+            flushLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 해당 게시글의 아직 반영되지 않은 조회수 증분
+     */
+    public long pending(Long postId) {
+        Counter counter = counters.get(postId);
+        return counter != null ? counter.pending() : 0L;
+    }
+
+    public long pendingTotal() {
+        long total = 0L;
+        for (Counter counter : counters.values()) {
+            total += counter.pending();
+        }
+        return total;
+    }
+
+    @Scheduled(fixedDelayString = "${posts.view-count.flush-interval-ms:5000}",
+            initialDelayString = "${posts.view-count.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flush();
+        log.info("[PostViewCount] 종료 전 조회수 반영 완료: posts={}", flushed);
+    }
+
+    /**
+     * 누적된 증분을 한 번의 배치 UPDATE로 반영한다.
+     *
+     * @return 반영 대상 게시글 수
+     */
+    public synchronized int flush() {
+        // 수거 이후 들어온 증가는 recorded 에만 남아 다음 주기의 증분이 된다
+        List<Object[]> batchArgs = new ArrayList<>();
+        List<Counter> batchCounters = new ArrayList<>();
+        List<Long> batchRecorded = new ArrayList<>();
+        for (Map.Entry<Long, Counter> entry : counters.entrySet()) {
+            Counter counter = entry.getValue();
+            long recorded = counter.recorded.sum();
+            long delta = recorded - counter.flushed;
+            if (delta > 0) {
+                batchArgs.add(new Object[]{delta, entry.getKey()});
+                batchCounters.add(counter);
+                batchRecorded.add(recorded);
+            }
+        }
+        if (batchArgs.isEmpty()) {
+            return 0;
+        }
+
+        flushLock.writeLock().lock();
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(
+                    status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs)));
+            // 커밋된 증분만 flushed 로 옮긴다 (실패 시 그대로 두어 다음 주기에 재시도)
+            for (int i = 0; i < batchCounters.size(); i++) {
+                batchCounters.get(i).flushed = batchRecorded.get(i);
+            }
+            log.debug("[PostViewCount] 조회수 반영: posts={}", batchArgs.size());
+        } catch (RuntimeException e) {
+            log.warn("[PostViewCount] 조회수 반영 실패, 다음 주기에 재시도: posts={}, cause={}", batchArgs.size(), e.getMessage());
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+        return batchArgs.size();
+    }
+
+    private static final class Counter {
+        // 기동 후 기록한 누적 조회수 (리셋하지 않음)
+        private final LongAdder recorded = new LongAdder();
+        // 그중 DB에 반영된 누적 조회수 (flush 에서만 변경)
+        private volatile long flushed;
+
+        private long pending() {
+            return recorded.sum() - flushed;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.capstone.web.posts.service;
+
+import com.capstone.web.posts.domain.Posts;
+import com.capstone.web.posts.dto.PostIngredientDto;
+import com.capstone.web.posts.dto.RecipeImportDto;
+import com.capstone.web.posts.exception.InvalidImportFormatException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 레시피 가져오기 파일 스트리밍 파서 (NDJSON / CSV)
+ * <p>
+ * 파일 전체를 메모리에 올리지 않고 한 레코드씩 읽는다. 형식 오류는 예외 대신
+ * 해당 줄 번호와 메시지를 담은 {@link Entry}로 반환하여 나머지 레코드는 계속 처리한다.
+ * <p>
+ * CSV는 첫 행을 헤더로 사용하며(RFC 4180 따옴표/줄바꿈 허용), 재료는
+ * {@code 이름:수량:단위;이름:수량:단위} 형태의 ingredients 열로 표현한다.
+ */
+public class RecipeImportReader implements Closeable {
+
+    public enum Format {
+        NDJSON, CSV;
+
+        /**
+         * Content-Type 또는 파일명(확장자)으로 형식 판별
+         */
+        public static Format detect(String contentTypeOrFileName) {
+            String value = contentTypeOrFileName == null ? "" : contentTypeOrFileName.toLowerCase(Locale.ROOT);
+            if (value.contains("ndjson") || value.contains("jsonl") || value.endsWith(".json")) return NDJSON;
+            if (value.contains("csv")) return CSV;
+            throw new InvalidImportFormatException("지원하지 않는 가져오기 형식입니다. (NDJSON 또는 CSV): " + contentTypeOrFileName);
+        }
+    }
+
+    /**
+     * 읽은 레코드 1건. 파싱 실패 시 record는 null이고 error에 사유가 담긴다.
+     */
+    public record Entry(long line, RecipeImportDto.Record record, String error) {
+    }
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final ObjectReader jsonReader;
+    private Map<String, Integer> csvColumns;
+    private long line = 0;
+
+    public RecipeImportReader(InputStream in, Format format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        this.format = format;
+        this.jsonReader = objectMapper.readerFor(RecipeImportDto.Record.class);
+    }
+
+    /**
+     * @return 다음 레코드, 입력 끝이면 null
+     */
+    public Entry next() throws IOException {
+        return format == Format.NDJSON ? nextJson() : nextCsv();
+    }
+
+    private Entry nextJson() throws IOException {
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (line == 1) text = stripBom(text);
+            if (text.isBlank()) continue;
+            try {
+                return new Entry(line, jsonReader.readValue(text), null);
+            } catch (JsonProcessingException e) {
+                return new Entry(line, null, "JSON 파싱 실패: " + e.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+
+    private Entry nextCsv() throws IOException {
+        if (csvColumns == null) {
+            List<String> header = readCsvRow();
+            if (header == null) return null;
+            csvColumns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                String name = i == 0 ? stripBom(header.get(i)) : header.get(i);
+                csvColumns.put(name.trim().toLowerCase(Locale.ROOT), i);
+            }
+            if (!csvColumns.containsKey("title") || !csvColumns.containsKey("content")) {
+                throw new InvalidImportFormatException("CSV 헤더에 title, content 열이 필요합니다.");
+            }
+        }
+
+        List<String> row;
+        long startLine;
+        do {
+            startLine = line + 1;
+            row = readCsvRow();
+            if (row == null) return null;
+        } while (row.size() == 1 && row.get(0).isBlank());
+
+        try {
+            return new Entry(startLine, toRecord(row), null);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return new Entry(startLine, null, e.getMessage());
+        }
+    }
+
+    private RecipeImportDto.Record toRecord(List<String> row) {
+        RecipeImportDto.Record record = new RecipeImportDto.Record();
+        record.setCategoryId(parse(row, "categoryid", Long::valueOf));
+        record.setTitle(cell(row, "title"));
+        record.setContent(cell(row, "content"));
+        record.setStatus(parse(row, "status", Posts.PostStatus::valueOf));
+        record.setIsRecipe(parse(row, "isrecipe", Boolean::valueOf));
+        record.setThumbnailUrl(cell(row, "thumbnailurl"));
+        record.setDietType(parse(row, "diettype", Posts.DietType::valueOf));
+        record.setCookTimeInMinutes(parse(row, "cooktimeinminutes", Integer::valueOf));
+        record.setServings(parse(row, "servings", Integer::valueOf));
+        record.setDifficulty(parse(row, "difficulty", Posts.Difficulty::valueOf));
+        record.setCreatedAt(parse(row, "createdat", LocalDateTime::parse));
+        record.setIngredients(parse(row, "ingredients", RecipeImportReader::parseIngredients));
+        return record;
+    }
+
+    // "두부:1:모;간장:2:큰술" -> 재료 목록
+    private static List<PostIngredientDto.Request> parseIngredients(String value) {
+        List<PostIngredientDto.Request> ingredients = new ArrayList<>();
+        for (String item : value.split(";")) {
+            if (item.isBlank()) continue;
+            String[] parts = item.split(":", 3);
+            String name = parts[0].trim();
+            Long quantity = parts.length > 1 && !parts[1].isBlank() ? Long.valueOf(parts[1].trim()) : null;
+            String unit = parts.length > 2 && !parts[2].isBlank() ? parts[2].trim() : null;
+            ingredients.add(new PostIngredientDto.Request(null, name, quantity, unit, null));
+        }
+        return ingredients;
+    }
+
+    private String cell(List<String> row, String column) {
+        Integer index = csvColumns.get(column);
+        if (index == null || index >= row.size()) return null;
+        String value = row.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    private <T> T parse(List<String> row, String column, Function<String, T> parser) {
+        String value = cell(row, column);
+        if (value == null || value.isBlank()) return null;
+        try {
+            return parser.apply(value.trim());
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("'" + column + "' 값이 올바르지 않습니다: " + value);
+        }
+    }
+
+    /**
+     * CSV 한 행 읽기 (따옴표 안의 쉼표/줄바꿈/"" 이스케이프 허용)
+     *
+     * @return 열 목록, 입력 끝이면 null
+     */
+    private List<String> readCsvRow() throws IOException {
+        int c = reader.read();
+        if (c == -1) return null;
+
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        while (c != -1) {
+            char ch = (char) c;
+            if (quoted) {
+                if (ch == '"') {
+                    reader.mark(1);
+                    int peek = reader.read();
+                    if (peek == '"') {
+                        cell.append('"');
+                    } else {
+                        quoted = false;
+                        if (peek != -1) reader.reset();
+                    }
+                } else {
+                    if (ch == '\n') line++;
+                    cell.append(ch);
+                }
+            } else if (ch == '"') {
+                quoted = true;
+            } else if (ch == ',') {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else if (ch == '\n') {
+                line++;
+                break;
+            } else if (ch != '\r') {
+                cell.append(ch);
+            }
+            c = reader.read();
+        }
+        if (c == -1) line++;
+        cells.add(cell.toString());
+        return cells;
+    }
+
+    private static String stripBom(String text) {
+        return !text.isEmpty() && text.charAt(0) == '\uFEFF' ? text.substring(1) : text;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,68 @@
+package com.capstone.web.posts.service;
+
+import com.capstone.web.posts.dto.RecipeImportDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 레시피 대량 가져오기 CLI 실행기
+ * <p>
+ * posts.import.file 이 지정된 경우에만 등록되며, 가져오기 후 결과 코드로 종료한다.
+ * (실패 레코드가 있으면 1, exit-after-import=false면 서버를 계속 실행)
+ * <pre>
+ * java -jar cc-be.jar --posts.import.file=recipes.ndjson --posts.import.author-id=1
+ * </pre>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "posts.import.file")
+@RequiredArgsConstructor
+public class RecipeImportRunner implements ApplicationRunner {
+
+    private final RecipeImportService recipeImportService;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${posts.import.file}")
+    private String file;
+    @Value("${posts.import.author-id:}")
+    private Long authorId;
+    @Value("${posts.import.format:}")
+    private String format;
+    @Value("${posts.import.exit-after-import:true}")
+    private boolean exitAfterImport;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Path path = Path.of(file);
+        RecipeImportReader.Format detected = RecipeImportReader.Format.detect(
+                format == null || format.isBlank() ? path.getFileName().toString() : format);
+        log.info("[RecipeImport] 파일 가져오기 시작: file={}, format={}, authorId={}", path, detected, authorId);
+
+        RecipeImportDto.Result result;
+        try (InputStream in = Files.newInputStream(path)) {
+            result = recipeImportService.importRecipes(in, detected, authorId);
+        }
+        for (RecipeImportDto.RecordError error : result.errors()) {
+            log.warn("[RecipeImport] line {}: {}", error.line(), error.message());
+        }
+        if (result.errorsTruncated()) {
+            log.warn("[RecipeImport] 오류 {}건 중 {}건만 출력했습니다.", result.failed(), result.errors().size());
+        }
+
+        if (exitAfterImport) {
+            int code = result.failed() > 0 ? 1 : 0;
+            System.exit(SpringApplication.exit(context, () -> code));
+        }
+    }
+}
@@ -0,0 +1,362 @@
+package com.capstone.web.posts.service;
+
+import com.capstone.web.category.repository.CategoryRepository;
+import com.capstone.web.ingredient.service.IngredientDictionary;
+import com.capstone.web.member.exception.UserNotFoundException;
+import com.capstone.web.member.repository.MemberRepository;
+import com.capstone.web.posts.domain.PostContent;
+import com.capstone.web.posts.domain.Posts;
+import com.capstone.web.posts.dto.PostIngredientDto;
+import com.capstone.web.posts.dto.RecipeImportDto;
+import com.capstone.web.refrigerator.service.RecipeIngredientIndexer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 레시피 대량 가져오기 파이프라인
+ * <p>
+ * <ol>
+ *   <li>{@link RecipeImportReader}로 파일을 한 레코드씩 스트리밍 파싱</li>
+ *   <li>청크 단위로 검증/본문 정제({@link PostContentProcessor})를 전용 스레드 풀에서 병렬 수행
+ *       - 다음 청크 정제와 이전 청크 저장이 겹쳐 진행된다</li>
+ *   <li>청크마다 짧은 트랜잭션에서 posts / PostIngredient / Media를 JDBC 배치 INSERT
+ *       (IDENTITY 키라 Hibernate가 배치하지 못하는 단건 INSERT를 우회)</li>
+ *   <li>배치가 실패하면 해당 청크만 레코드 단위로 다시 저장하여 문제 레코드를 특정</li>
+ * </ol>
+ * 가져온 게시글은 완료 후 게시글 수 캐시 갱신, 추천 재료 색인 재구축, 검색 전체 재색인으로 반영한다.
+ */
+@Slf4j
+@Service
+public class RecipeImportService {
+
+    private static final String INSERT_POST_SQL = "INSERT INTO posts (author_id, category_id, title, content, plain_text, excerpt, "
+            + "first_image_url, word_count, content_hash, status, view_count, like_count, comment_count, created_at, "
+            + "updated_at, selected, file, is_recipe, diet_type, cook_time_in_minutes, servings, difficulty) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0, 0, ?, ?, 'FALSE', 'FALSE', ?, ?, ?, ?, ?)";
+    private static final String INSERT_INGREDIENT_SQL = "INSERT INTO post_ingredient "
+            + "(recipe_id, expiration_date, name, quantity, unit, memo, canonical_ingredient_id) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    // 썸네일은 게시글 작성과 동일하게 순서 0번 이미지
+    private static final String INSERT_THUMBNAIL_SQL = "INSERT INTO media (owner_type, post_id, media_type, url, order_num) "
+            + "VALUES ('post', ?, 'image', ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final PostContentProcessor contentProcessor;
+    private final MemberRepository memberRepository;
+    private final CategoryRepository categoryRepository;
+    private final PostCountCache postCountCache;
+    private final PostSearchIndexer postSearchIndexer;
+    private final RecipeIngredientIndexer recipeIngredientIndexer;
+    private final IngredientDictionary ingredientDictionary;
+    private final ExecutorService executor;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+    private final boolean reindexAfterImport;
+
+    public RecipeImportService(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               ObjectMapper objectMapper,
+                               Validator validator,
+                               PostContentProcessor contentProcessor,
+                               MemberRepository memberRepository,
+                               CategoryRepository categoryRepository,
+                               PostCountCache postCountCache,
+                               PostSearchIndexer postSearchIndexer,
+                               RecipeIngredientIndexer recipeIngredientIndexer,
+                               IngredientDictionary ingredientDictionary,
+                               @Value("${posts.import.chunk-size:1000}") int chunkSize,
+                               @Value("${posts.import.parallelism:0}") int parallelism,
+                               @Value("${posts.import.max-reported-errors:100}") int maxReportedErrors,
+                               @Value("${posts.import.reindex-after-import:true}") boolean reindexAfterImport) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.contentProcessor = contentProcessor;
+        this.memberRepository = memberRepository;
+        this.categoryRepository = categoryRepository;
+        this.postCountCache = postCountCache;
+        this.postSearchIndexer = postSearchIndexer;
+        this.recipeIngredientIndexer = recipeIngredientIndexer;
+        this.ingredientDictionary = ingredientDictionary;
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+        this.reindexAfterImport = reindexAfterImport;
+
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "recipe-import-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 레시피 파일 가져오기 (동시에 하나만 실행)
+     *
+     * @param in       NDJSON 또는 CSV 입력 (읽기를 마치면 닫힘)
+     * @param authorId 가져온 게시글의 작성자
+     */
+    public synchronized RecipeImportDto.Result importRecipes(InputStream in, RecipeImportReader.Format format, Long authorId) {
+        if (authorId == null || !memberRepository.existsById(authorId)) {
+            throw new UserNotFoundException("가져오기 작성자를 찾을 수 없습니다. ID: " + authorId);
+        }
+        Set<Long> categoryIds = categoryRepository.findIdAndNames().stream()
+                .map(row -> ((Number) row[0]).longValue())
+                .collect(Collectors.toSet());
+
+        long start = System.currentTimeMillis();
+        Progress progress = new Progress(maxReportedErrors);
+        List<CompletableFuture<Prepared>> inFlight = List.of();
+        try (RecipeImportReader reader = new RecipeImportReader(in, format, objectMapper)) {
+            boolean eof = false;
+            while (!eof) {
+                List<RecipeImportReader.Entry> entries = new ArrayList<>(chunkSize);
+                RecipeImportReader.Entry entry;
+                while (entries.size() < chunkSize && (entry = reader.next()) != null) {
+                    progress.total++;
+                    if (entry.error() != null) {
+                        progress.fail(entry.line(), entry.error());
+                    } else {
+                        entries.add(entry);
+                    }
+                }
+                eof = entries.size() < chunkSize;
+
+                // 다음 청크 정제를 먼저 시작한 뒤 이전 청크를 저장 (정제와 DB 쓰기 중첩)
+                List<CompletableFuture<Prepared>> next = entries.stream()
+                        .map(e -> CompletableFuture.supplyAsync(() -> prepare(e, categoryIds), executor))
+                        .toList();
+                persist(inFlight, authorId, progress);
+                inFlight = next;
+            }
+            persist(inFlight, authorId, progress);
+        } catch (IOException e) {
+            throw new UncheckedIOException("가져오기 파일을 읽을 수 없습니다.", e);
+        }
+
+        long took = System.currentTimeMillis() - start;
+        if (progress.imported > 0) {
+            afterImport();
+        }
+        double perSecond = took > 0 ? progress.imported * 1000.0 / took : progress.imported;
+        log.info("[RecipeImport] 가져오기 완료: total={}, imported={}, failed={}, took={}ms, {}/s",
+                progress.total, progress.imported, progress.failed, took, String.format("%.1f", perSecond));
+        return new RecipeImportDto.Result(progress.total, progress.imported, progress.failed, took, perSecond,
+                progress.sortedErrors(), progress.failed > progress.errors.size());
+    }
+
+    // 검증 + 본문 정제 (스레드 풀에서 실행, 상태 없음)
+    private Prepared prepare(RecipeImportReader.Entry entry, Set<Long> categoryIds) {
+        RecipeImportDto.Record record = entry.record();
+        Set<ConstraintViolation<RecipeImportDto.Record>> violations = validator.validate(record);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            return Prepared.failed(entry.line(), message);
+        }
+        if (!categoryIds.contains(record.getCategoryId())) {
+            return Prepared.failed(entry.line(), "존재하지 않는 카테고리입니다. ID: " + record.getCategoryId());
+        }
+        try {
+            return new Prepared(entry.line(), record, contentProcessor.process(record.getContent()), null);
+        } catch (RuntimeException e) {
+            return Prepared.failed(entry.line(), "본문 처리 실패: " + e.getMessage());
+        }
+    }
+
+    private void persist(List<CompletableFuture<Prepared>> futures, Long authorId, Progress progress) {
+        if (futures.isEmpty()) return;
+        List<Prepared> rows = new ArrayList<>(futures.size());
+        for (CompletableFuture<Prepared> future : futures) {
+            Prepared prepared = future.join();
+            if (prepared.error() != null) {
+                progress.fail(prepared.line(), prepared.error());
+            } else {
+                rows.add(prepared);
+            }
+        }
+        if (rows.isEmpty()) return;
+
+        try {
+            insertChunk(rows, authorId);
+            progress.imported += rows.size();
+        } catch (DataAccessException e) {
+            // 청크 전체가 롤백되었으므로 레코드 단위로 다시 저장하여 실패 레코드만 골라낸다
+            log.warn("[RecipeImport] 배치 저장 실패, 레코드 단위로 재시도: rows={}, cause={}", rows.size(), e.getMessage());
+            for (Prepared row : rows) {
+                try {
+                    insertChunk(List.of(row), authorId);
+                    progress.imported++;
+                } catch (DataAccessException rowError) {
+                    progress.fail(row.line(), "저장 실패: " + rowError.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    private void insertChunk(List<Prepared> rows, Long authorId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> postIds = insertPosts(rows, authorId);
+
+            List<Object[]> ingredientArgs = new ArrayList<>();
+            List<Object[]> thumbnailArgs = new ArrayList<>();
+            for (int i = 0; i < rows.size(); i++) {
+                RecipeImportDto.Record record = rows.get(i).record();
+                Long postId = postIds.get(i);
+                if (record.getIngredients() != null) {
+                    for (PostIngredientDto.Request ing : record.getIngredients()) {
+                        ingredientArgs.add(new Object[]{postId, ing.getExpirationDate(), ing.getName().trim(),
+                                ing.getQuantity(), ing.getUnit(), ing.getMemo(), ingredientDictionary.resolve(ing.getName())});
+                    }
+                }
+                if (record.getThumbnailUrl() != null && !record.getThumbnailUrl().isBlank()) {
+                    thumbnailArgs.add(new Object[]{postId, record.getThumbnailUrl().trim()});
+                }
+            }
+            if (!ingredientArgs.isEmpty()) jdbcTemplate.batchUpdate(INSERT_INGREDIENT_SQL, ingredientArgs);
+            if (!thumbnailArgs.isEmpty()) jdbcTemplate.batchUpdate(INSERT_THUMBNAIL_SQL, thumbnailArgs);
+        });
+    }
+
+    // 게시글 배치 INSERT 후 생성 키를 입력 순서대로 반환
+    private List<Long> insertPosts(List<Prepared> rows, Long authorId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> ids = jdbcTemplate.execute((ConnectionCallback<List<Long>>) con -> {
+            try (PreparedStatement ps = con.prepareStatement(INSERT_POST_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (Prepared row : rows) {
+                    RecipeImportDto.Record r = row.record();
+                    PostContent content = row.content();
+                    Timestamp createdAt = r.getCreatedAt() != null ? Timestamp.valueOf(r.getCreatedAt()) : now;
+                    int i = 1;
+                    ps.setLong(i++, authorId);
+                    ps.setLong(i++, r.getCategoryId());
+                    ps.setString(i++, r.getTitle().trim());
+                    ps.setString(i++, content.html());
+                    ps.setString(i++, content.plainText());
+                    ps.setString(i++, content.excerpt());
+                    ps.setString(i++, content.firstImageUrl());
+                    ps.setInt(i++, content.wordCount());
+                    ps.setString(i++, content.contentHash());
+                    ps.setString(i++, (r.getStatus() != null ? r.getStatus() : Posts.PostStatus.DRAFT).name());
+                    ps.setTimestamp(i++, createdAt);
+                    ps.setTimestamp(i++, createdAt);
+                    ps.setBoolean(i++, r.getIsRecipe() == null || r.getIsRecipe());
+                    setEnum(ps, i++, r.getDietType());
+                    setInteger(ps, i++, r.getCookTimeInMinutes());
+                    setInteger(ps, i++, r.getServings());
+                    setEnum(ps, i, r.getDifficulty());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                List<Long> keys = new ArrayList<>(rows.size());
+                try (ResultSet rs = ps.getGeneratedKeys()) {
+                    while (rs.next()) keys.add(rs.getLong(1));
+                }
+                return keys;
+            }
+        });
+        if (ids == null || ids.size() != rows.size()) {
+            throw new IllegalStateException("생성된 게시글 키 수가 일치하지 않습니다: expected=" + rows.size()
+                    + ", actual=" + (ids == null ? 0 : ids.size()));
+        }
+        return ids;
+    }
+
+    private static void setEnum(PreparedStatement ps, int index, Enum<?> value) throws SQLException {
+        if (value != null) ps.setString(index, value.name());
+        else ps.setNull(index, Types.VARCHAR);
+    }
+
+    private static void setInteger(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value != null) ps.setInt(index, value);
+        else ps.setNull(index, Types.INTEGER);
+    }
+
+    private void afterImport() {
+        postCountCache.refresh();
+        try {
+            recipeIngredientIndexer.rebuild();
+        } catch (RuntimeException e) {
+            log.warn("[RecipeImport] 가져오기 후 추천 재료 색인 재구축 실패: {}", e.getMessage());
+        }
+        if (!reindexAfterImport) return;
+        try {
+            postSearchIndexer.reindexAll();
+        } catch (RuntimeException e) {
+            // 검색 색인은 관리자 재색인 API로 복구 가능
+            log.warn("[RecipeImport] 가져오기 후 검색 재색인 실패: {}", e.getMessage());
+        }
+    }
+
+    private record Prepared(long line, RecipeImportDto.Record record, PostContent content, String error) {
+        static Prepared failed(long line, String error) {
+            return new Prepared(line, null, null, error);
+        }
+    }
+
+    // 단일 스레드(가져오기 호출 스레드)에서만 갱신
+    private static final class Progress {
+        private final int maxReportedErrors;
+        private final List<RecipeImportDto.RecordError> errors = new ArrayList<>();
+        private long total;
+        private long imported;
+        private long failed;
+
+        private Progress(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        private void fail(long line, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new RecipeImportDto.RecordError(line, message));
+            }
+        }
+
+        // 파싱 오류는 읽는 즉시, 검증/저장 오류는 청크 저장 시 기록되므로 줄 번호 순으로 정렬
+        private List<RecipeImportDto.RecordError> sortedErrors() {
+            return errors.stream().sorted(Comparator.comparingLong(RecipeImportDto.RecordError::line)).toList();
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.capstone.web.posts.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 감쇠 인기 점수와 범위(전체/게시판)별 상위 K 목록 (메모리)
+ * <p>
+ * 점수는 반감기(half-life) 지수 감쇠를 따른다. 모든 점수를 매번 감쇠시키는 대신, 기준 시각 이후
+ * 경과한 고정 버킷 수만큼 커지는 가중치(2^(경과/반감기))를 이벤트에 곱해 더한다.
+ * 모든 게시글이 같은 배율을 공유하므로 상대 순위는 그대로이고, 실제 점수는 조회 시 한 번만 환산한다.
+ * 배율이 커지지 않도록 스냅샷 시점마다 기준 시각을 현재로 옮긴다(rebase).
+ * <p>
+ * 점수는 증가만 하므로(취소 이벤트는 반영하지 않음) 상위 K는 증가한 게시글만 비교하면 정확히 유지된다.
+ * 조회는 변경 시 재구성한 불변 뷰를 읽으므로 잠금 없이 수행된다.
+ */
+public class TrendingScoreBoard {
+
+    private static final Comparator<Entry> RANKING = Comparator.comparingDouble((Entry e) -> e.score).reversed()
+            .thenComparing(Comparator.comparingLong((Entry e) -> e.postId).reversed());
+
+    private final double halfLifeMillis;
+    private final long bucketMillis;
+    private final int topK;
+    private final LongSupplier clock;
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final TopK global;
+    private final Map<Long, TopK> byBoard = new HashMap<>();
+
+    private long baseMillis;
+    private long factorBucket = Long.MIN_VALUE;
+    private double factor = 1.0;
+
+    private volatile View view = View.EMPTY;
+    private volatile boolean dirty = false;
+
+    public TrendingScoreBoard(long halfLifeMillis, long bucketMillis, int topK, LongSupplier clock) {
+        this.halfLifeMillis = halfLifeMillis;
+        this.bucketMillis = Math.max(1L, bucketMillis);
+        this.topK = topK;
+        this.clock = clock;
+        this.global = new TopK(topK);
+        this.baseMillis = clock.getAsLong();
+    }
+
+    /**
+     * 현재 시각 기준 점수 weight 만큼 가산
+     */
+    public synchronized void add(Long postId, Long boardId, double weight) {
+        if (weight <= 0) return;
+        Entry entry = entries.computeIfAbsent(postId, id -> new Entry(id, boardId));
+        entry.score += weight * growth();
+        global.offer(entry);
+        byBoard.computeIfAbsent(entry.boardId, id -> new TopK(topK)).offer(entry);
+        dirty = true;
+    }
+
+    public synchronized boolean contains(Long postId) {
+        return entries.containsKey(postId);
+    }
+
+    public synchronized Long boardOf(Long postId) {
+        Entry entry = entries.get(postId);
+        return entry != null ? entry.boardId : null;
+    }
+
+    public synchronized void remove(Long postId) {
+        Entry entry = entries.remove(postId);
+        if (entry == null) return;
+        if (global.members.contains(postId)) rebuild(global, null);
+        TopK board = byBoard.get(entry.boardId);
+        if (board != null && board.members.contains(postId)) rebuild(board, entry.boardId);
+        dirty = true;
+    }
+
+    // 게시판 이동 시 이전 게시판 목록에서 빼고 새 게시판 목록에 반영
+    public synchronized void moveBoard(Long postId, Long boardId) {
+        Entry entry = entries.get(postId);
+        if (entry == null || entry.boardId.equals(boardId)) return;
+        Long previous = entry.boardId;
+        entry.boardId = boardId;
+        TopK old = byBoard.get(previous);
+        if (old != null && old.members.contains(postId)) rebuild(old, previous);
+        byBoard.computeIfAbsent(boardId, id -> new TopK(topK)).offer(entry);
+        dirty = true;
+    }
+
+    /**
+     * 현재 시각 기준 상위 목록 (boardId가 null이면 전체)
+     */
+    public List<Ranked> top(Long boardId, int limit) {
+        View v = dirty ? publish() : view;
+        List<Ranked> ranked = boardId == null ? v.global() : v.byBoard().getOrDefault(boardId, List.of());
+        return ranked.size() <= limit ? ranked : ranked.subList(0, limit);
+    }
+
+    /**
+     * 현재 상위 목록(전체 + 게시판별)에 든 게시글 ID
+     */
+    public Set<Long> rankedPostIds() {
+        View v = dirty ? publish() : view;
+        Set<Long> ids = new HashSet<>();
+        v.global().forEach(r -> ids.add(r.postId()));
+        v.byBoard().values().forEach(ranked -> ranked.forEach(r -> ids.add(r.postId())));
+        return ids;
+    }
+
+    /**
+     * 스냅샷: 현재 시각 기준 점수 목록을 반환하고, 기준 시각을 옮기며 minScore 미만 게시글은 정리한다.
+     * (상위 K에 포함된 게시글은 유지)
+     */
+    public synchronized List<Ranked> snapshot(double minScore) {
+        long now = clock.getAsLong();
+        double decay = Math.pow(2, -(now - baseMillis) / halfLifeMillis);
+        baseMillis = now;
+        factorBucket = Long.MIN_VALUE;
+
+        List<Ranked> result = new ArrayList<>(entries.size());
+        var it = entries.values().iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            entry.score *= decay;
+            if (entry.score < minScore && !global.members.contains(entry.postId)
+                    && !byBoard.get(entry.boardId).members.contains(entry.postId)) {
+                it.remove();
+                continue;
+            }
+            result.add(new Ranked(entry.postId, entry.boardId, entry.score));
+        }
+        dirty = true;
+        return result;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    // 기준 시각 이후 경과 버킷에 대한 가중 배율 (버킷이 바뀔 때만 재계산)
+    private double growth() {
+        long bucket = (clock.getAsLong() - baseMillis) / bucketMillis;
+        if (bucket != factorBucket) {
+            factorBucket = bucket;
+            factor = Math.pow(2, bucket * bucketMillis / halfLifeMillis);
+        }
+        return factor;
+    }
+
+    private synchronized View publish() {
+        if (!dirty) return view;
+        double decay = Math.pow(2, -(clock.getAsLong() - baseMillis) / halfLifeMillis);
+        Map<Long, List<Ranked>> boards = new HashMap<>();
+        byBoard.forEach((boardId, top) -> {
+            if (!top.items.isEmpty()) boards.put(boardId, top.ranked(decay));
+        });
+        View published = new View(global.ranked(decay), Map.copyOf(boards));
+        view = published;
+        dirty = false;
+        return published;
+    }
+
+    // 상위 K 구성원이 빠진 경우에만 해당 범위 전체에서 다시 선정 (삭제/게시판 이동 시)
+    private void rebuild(TopK top, Long boardId) {
+        top.items.clear();
+        top.members.clear();
+        entries.values().stream()
+                .filter(e -> boardId == null || e.boardId.equals(boardId))
+                .sorted(RANKING)
+                .limit(topK)
+                .forEach(e -> {
+                    top.items.add(e);
+                    top.members.add(e.postId);
+                });
+    }
+
+    public record Ranked(Long postId, Long boardId, double score) {
+    }
+
+    private record View(List<Ranked> global, Map<Long, List<Ranked>> byBoard) {
+        static final View EMPTY = new View(List.of(), Map.of());
+    }
+
+    private static final class Entry {
+        private final Long postId;
+        private Long boardId;
+        private double score;
+
+        private Entry(Long postId, Long boardId) {
+            this.postId = postId;
+            this.boardId = boardId;
+        }
+    }
+
+    // 점수 내림차순 정렬 리스트 (K는 작으므로 삽입/재배치는 선형)
+    private static final class TopK {
+        private final int capacity;
+        private final List<Entry> items = new ArrayList<>();
+        private final Set<Long> members = new HashSet<>();
+
+        private TopK(int capacity) {
+            this.capacity = capacity;
+        }
+
+        private void offer(Entry entry) {
+            if (members.contains(entry.postId)) {
+                items.remove(entry);
+            } else if (items.size() >= capacity) {
+                Entry last = items.get(items.size() - 1);
+                if (RANKING.compare(entry, last) >= 0) return;
+                items.remove(items.size() - 1);
+                members.remove(last.postId);
+            }
+            int index = Collections.binarySearch(items, entry, RANKING);
+            items.add(index < 0 ? -index - 1 : index, entry);
+            members.add(entry.postId);
+        }
+
+        private List<Ranked> ranked(double decay) {
+            return items.stream().map(e -> new Ranked(e.postId, e.boardId, e.score * decay)).toList();
+        }
+    }
+}
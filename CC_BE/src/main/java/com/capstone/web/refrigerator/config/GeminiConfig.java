@@ -14,5 +14,6 @@ public class GeminiConfig {
     private String apiKey; // API key
     private String model;  // model name e.g. gemini-1.5-flash
     private Integer maxTokens; // optional max output tokens
+    private boolean stream = true; // 비동기 스캔 작업에서 streamGenerateContent로 품목을 받는 대로 전달
 }
 
@@ -11,18 +11,22 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.net.URI;
+import java.util.List;
 
 /**
  * 냉장고 식재료 컨트롤러
  * REF-01: 내 냉장고 식재료 목록 조회
  * REF-02: 수동으로 식재료 추가
+ * REF-04: 영수증 스캔 (동기 / 비동기 작업)
  * REF-05: 식재료 정보 수정
  * REF-06: 식재료 삭제
  */
@@ -195,6 +199,101 @@ public class RefrigeratorController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "REF-04: 구매 이력 스캔 (여러 장)",
+            description = """
+                    긴 영수증이나 여러 페이지 주문 내역 캡처를 한 번에 올려 스캔합니다.
+                    장마다 Gemini 호출을 동시에 실행하고, 모든 장의 품목을 하나로 합쳐 반환합니다.
+                    이름(공백/대소문자 무시)과 단위가 같은 품목은 수량을 더합니다.
+                    
+                    - 최대 장 수 초과: 400 `SCAN_BATCH_TOO_LARGE`
+                    - 한 장이라도 실패하면 전체 실패 (이미 파싱된 장은 캐시되어 재시도가 빠름)
+                    - **429 Too Many Requests**: `SCAN_QUEUE_FULL`, `SCAN_MEMBER_LIMIT` (묶음 전체가 진행 중 작업 1건)
+                    """,
+            security = @SecurityRequirement(name = "JWT")
+    )
+    @PostMapping(value = "/scan/purchase-history/batch", consumes = "multipart/form-data")
+    public ResponseEntity<RefrigeratorDto.ScanPurchaseHistoryResponse> scanPurchaseHistoryBatch(
+            @Parameter(description = "영수증 이미지 파일들 (페이지 순서대로)", required = true)
+            @RequestParam("images") List<MultipartFile> images,
+            Authentication authentication
+    ) {
+        Long memberId = AuthenticationUtils.extractMemberId(authentication);
+        return ResponseEntity.ok(refrigeratorService.scanPurchaseHistoryBatch(memberId, images));
+    }
+
+    @Operation(
+            summary = "REF-04: 구매 이력 스캔 작업 접수 (비동기)",
+            description = """
+                    영수증 이미지를 스캔 작업으로 접수하고 작업 id를 바로 반환합니다 (202 Accepted).
+                    결과는 `GET /scan/purchase-history/jobs/{jobId}` 폴링 또는
+                    `GET /scan/purchase-history/jobs/{jobId}/events` SSE로 받습니다.
+                    
+                    상태: QUEUED → RUNNING → SUCCEEDED(items) | FAILED(error)
+                    
+                    **429 Too Many Requests** (Retry-After 헤더 포함):
+                    - `SCAN_QUEUE_FULL`: 스캔 작업 큐가 가득 참
+                    - `SCAN_MEMBER_LIMIT`: 회원별 진행 중 작업 수 초과
+                    """,
+            security = @SecurityRequirement(name = "JWT")
+    )
+    @PostMapping(value = "/scan/purchase-history/jobs", consumes = "multipart/form-data")
+    public ResponseEntity<RefrigeratorDto.ScanJobResponse> submitScanJob(
+            @Parameter(description = "영수증 이미지 파일", required = true)
+            @RequestParam("image") MultipartFile image,
+            Authentication authentication
+    ) {
+        Long memberId = AuthenticationUtils.extractMemberId(authentication);
+        RefrigeratorDto.ScanJobResponse response = refrigeratorService.submitScanJob(memberId, image);
+
+        URI location = ServletUriComponentsBuilder
+                .fromCurrentRequest()
+                .path("/{jobId}")
+                .buildAndExpand(response.getJobId())
+                .toUri();
+
+        return ResponseEntity.accepted().location(location).body(response);
+    }
+
+    @Operation(
+            summary = "REF-04: 구매 이력 스캔 작업 조회",
+            description = """
+                    스캔 작업 상태와 결과를 조회합니다. 완료된 작업은 일정 시간 보관 후 삭제됩니다.
+                    본인이 접수한 작업만 조회할 수 있습니다 (그 외 404).
+                    """,
+            security = @SecurityRequirement(name = "JWT")
+    )
+    @GetMapping("/scan/purchase-history/jobs/{jobId}")
+    public ResponseEntity<RefrigeratorDto.ScanJobResponse> getScanJob(
+            @PathVariable String jobId,
+            Authentication authentication
+    ) {
+        Long memberId = AuthenticationUtils.extractMemberId(authentication);
+        return ResponseEntity.ok(refrigeratorService.getScanJob(memberId, jobId));
+    }
+
+    @Operation(
+            summary = "REF-04: 구매 이력 스캔 작업 구독 (SSE)",
+            description = """
+                    스캔 작업 상태를 Server-Sent Events로 받습니다.
+                    구독 즉시 현재 상태, 이후 상태가 바뀔 때마다 `status` 이벤트(작업 조회와 같은 본문)를 보내고
+                    SUCCEEDED/FAILED가 되면 스트림을 닫습니다.
+                    
+                    모델 응답을 스트리밍으로 받는 동안에는 품목이 인식되는 대로 `item` 이벤트({ name, quantity, unit })를 보냅니다.
+                    RUNNING 상태의 `status`/작업 조회에는 지금까지 받은 품목이 items로 들어 있고,
+                    최종 결과(SUCCEEDED의 items)는 `item` 이벤트로 보낸 품목과 같은 순서입니다.
+                    """,
+            security = @SecurityRequirement(name = "JWT")
+    )
+    @GetMapping(value = "/scan/purchase-history/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeScanJob(
+            @PathVariable String jobId,
+            Authentication authentication
+    ) {
+        Long memberId = AuthenticationUtils.extractMemberId(authentication);
+        return refrigeratorService.subscribeScanJob(memberId, jobId);
+    }
+
     @Operation(
             summary = "REF-07: 보유 재료 기반 레시피 추천",
             description = """
@@ -207,8 +306,8 @@ public class RefrigeratorController {
                     4. 매칭률 높은 순으로 정렬하여 반환
                     
                     매칭 방식:
-                    - 완전 일치 또는 부분 일치 (예: "양파" ↔ "양파즙")
-                    - 대소문자 무시
+                    - 재료 사전의 대표 재료 기준 (예: "계란" ↔ "달걀", "대파" ↔ "다진 대파")
+                    - 한쪽이라도 사전에 없는 재료는 이름 일치 또는 포함 관계 (대소문자 무시, 예: "참치캔" ↔ "참치")
                     
                     응답 정보:
                     - 레시피 기본 정보 (이름, 조리시간, 난이도 등)
@@ -238,6 +337,42 @@ public class RefrigeratorController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "식재료 변경분 조회 (델타 동기화)",
+            description = """
+                    since 버전 이후 추가/수정된 식재료와 삭제된 식재료 id만 조회합니다.
+                    
+                    - 응답의 version을 다음 요청의 since로 사용합니다.
+                    - since를 생략했거나 너무 오래된 경우(삭제 기록 보관 기간 경과) fullResync=true와 함께 전체 목록을 반환합니다.
+                      이때 클라이언트는 로컬 목록을 items로 교체합니다.
+                    """,
+            security = @SecurityRequirement(name = "JWT")
+    )
+    @GetMapping("/items/changes")
+    public ResponseEntity<RefrigeratorDto.ChangesResponse> getItemChanges(
+            @Parameter(description = "마지막으로 받은 동기화 버전") @RequestParam(required = false) Long since,
+            Authentication authentication
+    ) {
+        Long memberId = AuthenticationUtils.extractMemberId(authentication);
+        return ResponseEntity.ok(refrigeratorService.getItemChanges(memberId, since));
+    }
+
+    @Operation(
+            summary = "소비기한 임박/경과 요약",
+            description = """
+                    내 냉장고의 소비기한 경과 개수, 임박(기본 3일 이내) 개수, 가장 이른 소비기한을 조회합니다.
+                    
+                    주기적인 전체 스캔으로 미리 계산된 값이며, asOf(기준일) 이후의 변경은 다음 스캔에 반영됩니다.
+                    임박/경과 식재료가 없으면 개수 0, asOf는 null입니다.
+                    """,
+            security = @SecurityRequirement(name = "JWT")
+    )
+    @GetMapping("/expiration-summary")
+    public ResponseEntity<RefrigeratorDto.ExpirationSummaryResponse> getExpirationSummary(Authentication authentication) {
+        Long memberId = AuthenticationUtils.extractMemberId(authentication);
+        return ResponseEntity.ok(refrigeratorService.getExpirationSummary(memberId));
+    }
+
     @Operation(
             summary = "REF-08: 레시피 재료 차감 미리보기",
             description = """
@@ -0,0 +1,42 @@
+package com.capstone.web.refrigerator.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 영수증 이미지 파싱 결과 캐시 (재기동 후에도 유지되는 영속 계층)
+ * <p>
+ * 키는 이미지 바이트 + 모델명 + 프롬프트의 SHA-256이므로 모델/프롬프트가 바뀌면 자연히 다른 키가 된다.
+ * 읽기/쓰기는 ReceiptParseCache가 JDBC로 직접 한다 (스키마 정의용 엔티티).
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "receipt_parse_cache", indexes = {
+        @Index(name = "idx_receipt_parse_cache_created_at", columnList = "created_at")
+})
+public class ReceiptParseCacheEntry {
+
+    // SHA-256 hex
+    @Id
+    @Column(name = "cache_key", length = 64)
+    private String cacheKey;
+
+    @Column(name = "model", nullable = false, length = 100)
+    private String model;
+
+    // ScanPurchaseHistoryResponse JSON
+    @Column(name = "result_json", nullable = false, columnDefinition = "TEXT")
+    private String resultJson;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,53 @@
+package com.capstone.web.refrigerator.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 회원별 소비기한 임박/경과 요약 (미리 계산된 상태)
+ * <p>
+ * RefrigeratorExpirationScanner가 주기적으로 JDBC 배치로 갱신하며, 임박/경과 식재료가 없는 회원은 행이 없다.
+ * 값은 as_of 날짜 기준이고, 다음 스캔 전까지의 식재료 변경은 반영되지 않는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "refrigerator_expiration_summaries",
+        indexes = @Index(name = "idx_refrigerator_expiration_summaries_next", columnList = "next_expiration_date")
+)
+public class RefrigeratorExpirationSummary {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    // 이 행을 마지막으로 갱신한 스캔 (스캔 도중 누적 여부 판단용)
+    @Column(name = "scan_run_id", nullable = false)
+    private long scanRunId;
+
+    @Column(name = "as_of", nullable = false)
+    private LocalDate asOf;
+
+    @Column(name = "expired_count", nullable = false)
+    private int expiredCount;
+
+    @Column(name = "expiring_soon_count", nullable = false)
+    private int expiringSoonCount;
+
+    // 아직 지나지 않은 가장 이른 소비기한 (임박 항목이 없으면 null)
+    @Column(name = "next_expiration_date")
+    private LocalDate nextExpirationDate;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
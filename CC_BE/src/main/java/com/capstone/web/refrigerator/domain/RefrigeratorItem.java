@@ -27,7 +27,13 @@ import java.time.LocalDateTime;
 @Table(
         name = "refrigerator_items",
         // 변경: 동일 회원 + 동일 이름 + 동일 소비기한만 유니크. 소비기한이 다르면 별도 항목 허용.
-        uniqueConstraints = @UniqueConstraint(columnNames = {"member_id", "name", "expiration_date"})
+        uniqueConstraints = @UniqueConstraint(columnNames = {"member_id", "name", "expiration_date"}),
+        // 전체 회원 대상 소비기한 스캔 (RefrigeratorExpirationScanner)
+        indexes = {
+                @Index(name = "idx_refrigerator_items_expiration_member", columnList = "expiration_date, member_id"),
+                // 델타 동기화 (RefrigeratorChangeLog)
+                @Index(name = "idx_refrigerator_items_member_sync_version", columnList = "member_id, sync_version")
+        }
 )
 public class RefrigeratorItem {
 
@@ -54,6 +60,19 @@ public class RefrigeratorItem {
     @Column(length = 200)
     private String memo;
 
+    // 재료 사전의 대표 재료 id (이름은 수정 불가이므로 생성 시에만 기록, 백필은 JDBC로 채움)
+    @Column(name = "canonical_ingredient_id", updatable = false)
+    private Integer canonicalIngredientId;
+
+    // 낙관적 잠금: 차감(조건부 UPDATE)과 수정이 동시에 일어나면 늦은 쪽이 덮어쓰지 않고 실패
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    // 마지막으로 바뀐 회원 동기화 버전 (RefrigeratorChangeLog가 JDBC로 기록, 엔티티 변경으로는 덮어쓰지 않음)
+    @Column(name = "sync_version", insertable = false, updatable = false)
+    private Long syncVersion;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -64,13 +83,14 @@ public class RefrigeratorItem {
 
     @Builder
     public RefrigeratorItem(Member member, String name, Integer quantity, String unit,
-                            LocalDate expirationDate, String memo) {
+                            LocalDate expirationDate, String memo, Integer canonicalIngredientId) {
         this.member = member;
         this.name = name;
         this.quantity = quantity != null ? quantity : 1;
         this.unit = unit;
         this.expirationDate = expirationDate;
         this.memo = memo;
+        this.canonicalIngredientId = canonicalIngredientId;
     }
 
     /**
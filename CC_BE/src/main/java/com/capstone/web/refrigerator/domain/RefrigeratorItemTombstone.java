@@ -0,0 +1,41 @@
+package com.capstone.web.refrigerator.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 식재료 기록 (델타 동기화용, 보관 기간이 지나면 정리)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "refrigerator_item_tombstones",
+        indexes = {
+                @Index(name = "idx_refrigerator_item_tombstones_member_version", columnList = "member_id, sync_version"),
+                @Index(name = "idx_refrigerator_item_tombstones_deleted_at", columnList = "deleted_at")
+        }
+)
+public class RefrigeratorItemTombstone {
+
+    @Id
+    @Column(name = "item_id")
+    private Long itemId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "sync_version", nullable = false)
+    private long syncVersion;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,57 @@
+package com.capstone.web.refrigerator.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 냉장고 배치 스캔 진행 상태 (재기동 시 이어서 스캔)
+ * <p>
+ * 청크 결과와 같은 트랜잭션에서 커서를 저장하므로, 중단된 스캔은 마지막으로 커밋된 청크 다음부터 재개된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "refrigerator_scan_checkpoints")
+public class RefrigeratorScanCheckpoint {
+
+    @Id
+    @Column(name = "name", length = 50)
+    private String name;
+
+    @Column(name = "run_id", nullable = false)
+    private long runId;
+
+    @Column(name = "as_of", nullable = false)
+    private LocalDate asOf;
+
+    // 마지막으로 처리한 (expiration_date, member_id, id)
+    @Column(name = "last_expiration_date")
+    private LocalDate lastExpirationDate;
+
+    @Column(name = "last_member_id")
+    private Long lastMemberId;
+
+    @Column(name = "last_item_id")
+    private Long lastItemId;
+
+    @Column(name = "scanned_items", nullable = false)
+    private long scannedItems;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // null이면 진행 중(또는 중단됨)
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,32 @@
+package com.capstone.web.refrigerator.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원별 냉장고 동기화 버전 (델타 동기화 커서)
+ * <p>
+ * 식재료가 바뀌는 트랜잭션마다 RefrigeratorChangeLog가 version을 1 올린다 (행 잠금으로 회원 내 순서 보장).
+ * compacted_through 이하 버전의 삭제 기록(tombstone)은 정리되었을 수 있으므로, 그보다 오래된 커서는 전체 재동기화 대상이다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "refrigerator_sync_versions")
+public class RefrigeratorSyncVersion {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "compacted_through", nullable = false)
+    private long compactedThrough;
+}
@@ -125,6 +125,28 @@ public class RefrigeratorDto {
         }
     }
 
+    /**
+     * 델타 동기화 응답 DTO
+     * fullResync면 items가 전체 목록(클라이언트는 교체), 아니면 변경분만(클라이언트는 id 기준 반영 후 deletedItemIds 제거)
+     */
+    @Getter
+    public static class ChangesResponse {
+        private final long version; // 다음 요청의 since
+        private final boolean fullResync;
+        private final List<Response> items;
+        private final List<Long> deletedItemIds;
+
+        @Builder
+        public ChangesResponse(long version, boolean fullResync, List<RefrigeratorItem> items, List<Long> deletedItemIds) {
+            this.version = version;
+            this.fullResync = fullResync;
+            this.items = items.stream()
+                    .map(Response::new)
+                    .collect(Collectors.toList());
+            this.deletedItemIds = deletedItemIds;
+        }
+    }
+
     /**
      * 일괄 추가 요청 DTO (REF-03, 04: OCR 결과 일괄 등록)
      */
@@ -182,4 +204,37 @@ public class RefrigeratorDto {
             private Double weight;
         }
     }
+
+    /**
+     * 영수증 스캔 작업 상태 DTO (REF-04 비동기)
+     * status: QUEUED → RUNNING → SUCCEEDED | FAILED, 성공 시 items, 실패 시 error
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ScanJobResponse {
+        private String jobId;
+        private String status;
+        private LocalDateTime submittedAt;
+        private LocalDateTime startedAt;
+        private LocalDateTime completedAt;
+        private List<ScanPurchaseHistoryResponse.PurchasedItem> items;
+        private String error;
+    }
+
+    /**
+     * 소비기한 임박/경과 요약 응답 DTO (주기 스캔으로 미리 계산된 값)
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ExpirationSummaryResponse {
+        // 요약 기준일 (임박/경과 항목이 없으면 null)
+        private LocalDate asOf;
+        private int expiredCount;
+        private int expiringSoonCount;
+        private LocalDate nextExpirationDate;
+    }
 }
@@ -0,0 +1,24 @@
+package com.capstone.web.refrigerator.event;
+
+/**
+ * 추천 재료 색인(레시피 목록) 변경 이벤트
+ * <p>
+ * RecipeIngredientIndexer가 색인을 실제로 바꾼 직후 발행한다 (레시피가 아닌 게시글 변경은 발행하지 않음).
+ *
+ * @param recipeId 변경된 레시피 ID (전체 재구축이면 null)
+ * @param removed  색인에서 제거되었는지 여부
+ */
+public record RecipeCatalogChangedEvent(Long recipeId, boolean removed) {
+
+    public static RecipeCatalogChangedEvent rebuilt() {
+        return new RecipeCatalogChangedEvent(null, false);
+    }
+
+    public static RecipeCatalogChangedEvent upserted(Long recipeId) {
+        return new RecipeCatalogChangedEvent(recipeId, false);
+    }
+
+    public static RecipeCatalogChangedEvent removed(Long recipeId) {
+        return new RecipeCatalogChangedEvent(recipeId, true);
+    }
+}
@@ -0,0 +1,10 @@
+package com.capstone.web.refrigerator.event;
+
+/**
+ * 냉장고 식재료 변경 이벤트
+ * <p>
+ * RefrigeratorService에서 회원의 식재료가 추가/병합/수정/삭제/차감될 때 발행되며,
+ * 커밋 이후 추천 결과 캐시 등 회원별 파생 데이터 무효화에 사용된다.
+ */
+public record RefrigeratorChangedEvent(Long memberId) {
+}
@@ -8,7 +8,12 @@ import lombok.RequiredArgsConstructor;
 public enum RefrigeratorErrorCode {
     ITEM_NOT_FOUND("ITEM_NOT_FOUND", "식재료를 찾을 수 없습니다"),
     DUPLICATE_ITEM("DUPLICATE_ITEM", "이미 등록된 식재료입니다"),
-    UNAUTHORIZED_ITEM_ACCESS("UNAUTHORIZED_ITEM_ACCESS", "식재료 접근 권한이 없습니다");
+    UNAUTHORIZED_ITEM_ACCESS("UNAUTHORIZED_ITEM_ACCESS", "식재료 접근 권한이 없습니다"),
+    CONCURRENT_MODIFICATION("CONCURRENT_MODIFICATION", "다른 곳에서 식재료가 변경되었습니다. 새로고침 후 다시 시도해주세요"),
+    SCAN_QUEUE_FULL("SCAN_QUEUE_FULL", "영수증 스캔 요청이 많습니다. 잠시 후 다시 시도해주세요"),
+    SCAN_MEMBER_LIMIT("SCAN_MEMBER_LIMIT", "진행 중인 영수증 스캔이 너무 많습니다. 완료 후 다시 시도해주세요"),
+    SCAN_JOB_NOT_FOUND("SCAN_JOB_NOT_FOUND", "영수증 스캔 작업을 찾을 수 없습니다"),
+    SCAN_BATCH_TOO_LARGE("SCAN_BATCH_TOO_LARGE", "한 번에 스캔할 수 있는 이미지 수를 초과했습니다");
 
     private final String code;
     private final String message;
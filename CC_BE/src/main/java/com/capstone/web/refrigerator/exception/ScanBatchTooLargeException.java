@@ -0,0 +1,10 @@
+package com.capstone.web.refrigerator.exception;
+
+/**
+ * 여러 장 스캔 요청의 이미지 수가 한도(refrigerator.receipt-scan.batch-max-images)를 넘음
+ */
+public class ScanBatchTooLargeException extends RuntimeException {
+    public ScanBatchTooLargeException(int maxImages) {
+        super(RefrigeratorErrorCode.SCAN_BATCH_TOO_LARGE.getMessage() + " (최대 " + maxImages + "장)");
+    }
+}
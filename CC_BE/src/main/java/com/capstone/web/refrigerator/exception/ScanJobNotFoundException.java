@@ -0,0 +1,7 @@
+package com.capstone.web.refrigerator.exception;
+
+public class ScanJobNotFoundException extends RuntimeException {
+    public ScanJobNotFoundException() {
+        super(RefrigeratorErrorCode.SCAN_JOB_NOT_FOUND.getMessage());
+    }
+}
@@ -0,0 +1,19 @@
+package com.capstone.web.refrigerator.exception;
+
+import lombok.Getter;
+
+/**
+ * 영수증 스캔 작업 접수 거절 (작업 큐 포화 또는 회원별 동시 작업 한도 초과)
+ */
+@Getter
+public class ScanRejectedException extends RuntimeException {
+
+    private final RefrigeratorErrorCode errorCode;
+    private final long retryAfterSeconds;
+
+    public ScanRejectedException(RefrigeratorErrorCode errorCode, long retryAfterSeconds) {
+        super(errorCode.getMessage());
+        this.errorCode = errorCode;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,7 @@
+package com.capstone.web.refrigerator.repository;
+
+import com.capstone.web.refrigerator.domain.RefrigeratorExpirationSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RefrigeratorExpirationSummaryRepository extends JpaRepository<RefrigeratorExpirationSummary, Long> {
+}
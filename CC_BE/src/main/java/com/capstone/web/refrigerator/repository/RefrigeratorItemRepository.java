@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.time.LocalDate;
@@ -61,4 +62,14 @@ public interface RefrigeratorItemRepository extends JpaRepository<RefrigeratorIt
      * 소비기한이 NULL인 특정 회원의 특정 이름 식재료 조회
      */
     Optional<RefrigeratorItem> findByMemberAndNameAndExpirationDateIsNull(Member member, String name);
+
+    /**
+     * REF-02, 03: 병합 결과 조회 (이름 목록 일괄)
+     */
+    List<RefrigeratorItem> findByMemberIdAndNameIn(Long memberId, Collection<String> names);
+
+    /**
+     * 델타 동기화: 특정 버전 이후 추가/수정된 식재료
+     */
+    List<RefrigeratorItem> findByMemberIdAndSyncVersionGreaterThan(Long memberId, Long syncVersion);
 }
@@ -3,28 +3,37 @@ package com.capstone.web.refrigerator.service;
 import com.capstone.web.refrigerator.config.GeminiConfig;
 import com.capstone.web.refrigerator.dto.RefrigeratorDto.ScanPurchaseHistoryResponse;
 import com.capstone.web.refrigerator.dto.RefrigeratorDto.ScanPurchaseHistoryResponse.PurchasedItem;
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.awt.*;
-import java.awt.image.BufferedImage;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import javax.imageio.ImageIO;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /**
  * Google Gemini API를 사용한 영수증/상품 스크린샷 파싱 서비스
- * (Vision generateContent 엔드포인트 v1beta 사용)
+ * (Vision generateContent 엔드포인트 v1beta 사용, 스트리밍은 streamGenerateContent SSE)
  */
 @Slf4j
 @Service
@@ -49,55 +58,220 @@ public class GeminiService {
     private final GeminiConfig config;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final ReceiptParseCache receiptParseCache;
+    private final ReceiptImagePreprocessor receiptImagePreprocessor;
+    private final ReceiptLineNormalizer receiptLineNormalizer;
 
     /**
      * 이미지(영수증/상품 스크린샷)를 Gemini Vision 모델로 파싱하여 구조화된 구매 이력 반환
      */
     public ScanPurchaseHistoryResponse parseReceiptImage(MultipartFile image) {
+        try {
+            return parseReceiptImage(image.getBytes(), image.getContentType());
+        } catch (IOException e) {
+            log.error("Gemini 이미지 파싱 실패: {}", e.getMessage(), e);
+            throw new RuntimeException("Gemini 이미지 파싱 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 이미지 바이트 파싱 (요청이 끝난 뒤 작업 스레드에서 호출할 수 있도록 업로드 파일 대신 바이트를 받음)
+     * 같은 이미지(+모델/프롬프트)는 파싱 결과 캐시에서 바로 반환한다.
+     */
+    public ScanPurchaseHistoryResponse parseReceiptImage(byte[] originalBytes, String contentType) {
+        resolveApiKeyFromEnv();
+        validateConfig();
+        String mimeType = contentType != null ? contentType : "image/jpeg";
+        // 전처리는 설정이 같으면 결정적이므로 원본 바이트 + 전처리 설정으로 키를 만들어 적중 시 전처리도 생략
+        String key = receiptParseKey(mimeType, originalBytes);
+        return receiptParseCache.get(key, config.getModel(), () -> requestModel(originalBytes, mimeType));
+    }
+
+    /**
+     * 스트리밍 파싱: streamGenerateContent 응답을 받는 대로 items 원소가 닫힐 때마다 onItem으로 넘긴다
+     * <ul>
+     *   <li>캐시 적중이거나 같은 이미지를 처리 중인 다른 요청의 결과를 받은 경우 품목을 한꺼번에 넘긴다</li>
+     *   <li>스트리밍을 쓸 수 없는 경우(streamGenerateContent 404/405, 스트림 입출력 오류)에만, 품목을 하나도 넘기기 전이면
+     *       기존 generateContent 호출로 대신한다. 인증/할당량/서버 오류나 API error 청크는 그대로 실패시킨다</li>
+     *   <li>gemini.stream=false면 처음부터 기존 호출을 쓴다</li>
+     * </ul>
+     * 반환값은 전체 결과이고, onItem으로 넘긴 품목은 그 items와 같은 순서/내용이다.
+     */
+    public ScanPurchaseHistoryResponse parseReceiptImageStreaming(byte[] originalBytes, String contentType,
+                                                                  Consumer<PurchasedItem> onItem) {
         resolveApiKeyFromEnv();
         validateConfig();
+        String mimeType = contentType != null ? contentType : "image/jpeg";
+        String key = receiptParseKey(mimeType, originalBytes);
+        // 적재는 호출 스레드에서 실행되므로 단순 카운터로 충분
+        AtomicInteger emitted = new AtomicInteger();
+        ScanPurchaseHistoryResponse result = receiptParseCache.get(key, config.getModel(), () -> config.isStream()
+                ? requestModelStreaming(originalBytes, mimeType, item -> {
+                    emitted.incrementAndGet();
+                    onItem.accept(item);
+                })
+                : requestModel(originalBytes, mimeType));
+        List<PurchasedItem> items = result.getItems() != null ? result.getItems() : Collections.emptyList();
+        for (int i = emitted.get(); i < items.size(); i++) {
+            onItem.accept(items.get(i));
+        }
+        return result;
+    }
+
+    private String receiptParseKey(String mimeType, byte[] originalBytes) {
+        return ReceiptParseCache.key(config.getModel(), SYSTEM_INSTRUCTION, receiptImagePreprocessor.settingsKey(),
+                mimeType, originalBytes);
+    }
+
+    private ReceiptParseCache.Loaded requestModel(byte[] originalBytes, String mimeType) {
         try {
-            String url = buildEndpointUrl();
+            String url = buildEndpointUrl("generateContent");
 
-            String mimeType = image.getContentType() != null ? image.getContentType() : "image/jpeg";
-            byte[] originalBytes = image.getBytes();
-            byte[] bytesForModel = maybeUpscaleSmallImage(originalBytes, mimeType);
-            String base64 = Base64.getEncoder().encodeToString(bytesForModel);
+            ReceiptImagePreprocessor.Prepared image = receiptImagePreprocessor.prepare(originalBytes, mimeType);
+            log.info("Gemini Vision API 호출 시작 (image) model={}, url={}, size={} bytes (원본 {} bytes)",
+                    config.getModel(), url, image.bytes().length, originalBytes.length);
+            String response = restTemplate.execute(url, HttpMethod.POST, requestCallback(image),
+                    res -> StreamUtils.copyToString(res.getBody(), StandardCharsets.UTF_8));
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("x-goog-api-key", config.getApiKey());
+            return parseGeminiResponse(response);
+        } catch (Exception e) {
+            log.error("Gemini 이미지 파싱 실패: {}", e.getMessage(), e);
+            throw new RuntimeException("Gemini 이미지 파싱 실패: " + e.getMessage());
+        }
+    }
 
-            Map<String, Object> generationConfig = new HashMap<>();
-            if (config.getMaxTokens() != null) {
-                generationConfig.put("max_output_tokens", config.getMaxTokens());
+    private ReceiptParseCache.Loaded requestModelStreaming(byte[] originalBytes, String mimeType,
+                                                           Consumer<PurchasedItem> onItem) {
+        AtomicInteger emitted = new AtomicInteger();
+        try {
+            String url = buildEndpointUrl("streamGenerateContent") + "?alt=sse";
+
+            ReceiptImagePreprocessor.Prepared image = receiptImagePreprocessor.prepare(originalBytes, mimeType);
+            log.info("Gemini Vision API 스트리밍 호출 시작 (image) model={}, url={}, size={} bytes (원본 {} bytes)",
+                    config.getModel(), url, image.bytes().length, originalBytes.length);
+            long start = System.nanoTime();
+            return restTemplate.execute(url, HttpMethod.POST, requestCallback(image),
+                    res -> readStream(res.getBody(), item -> {
+                        if (emitted.incrementAndGet() == 1) {
+                            log.info("Gemini 스트리밍 첫 품목 수신: {}ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                        }
+                        onItem.accept(item);
+                    }));
+        } catch (HttpClientErrorException e) {
+            // 스트리밍 미지원 모델/프록시: 엔드포인트 자체가 없거나 메서드를 받지 않음
+            int status = e.getStatusCode().value();
+            if (emitted.get() == 0 && (status == 404 || status == 405)) {
+                log.warn("Gemini 스트리밍 미지원 (HTTP {}), generateContent로 재시도", status);
+                return requestModel(originalBytes, mimeType);
+            }
+            throw streamingFailure(emitted.get(), e);
+        } catch (ResourceAccessException e) {
+            // 연결/스트림 입출력 오류: 아직 아무것도 보내지 않았으면 기존 호출로 대신
+            if (emitted.get() == 0) {
+                log.warn("Gemini 스트리밍 입출력 오류, generateContent로 재시도: {}", e.getMessage());
+                return requestModel(originalBytes, mimeType);
             }
-            generationConfig.put("response_mime_type", "application/json");
+            throw streamingFailure(emitted.get(), e);
+        } catch (Exception e) {
+            throw streamingFailure(emitted.get(), e);
+        }
+    }
 
-            List<Map<String, Object>> contents = new ArrayList<>();
-            Map<String, Object> content = new HashMap<>();
-            content.put("role", "user");
-            List<Map<String, Object>> parts = new ArrayList<>();
-            parts.add(Map.of("text", SYSTEM_INSTRUCTION));
-            Map<String, Object> inlineData = new HashMap<>();
-            inlineData.put("mime_type", mimeType);
-            inlineData.put("data", base64);
-            parts.add(Map.of("inline_data", inlineData));
-            content.put("parts", parts);
-            contents.add(content);
+    private RuntimeException streamingFailure(int emitted, Exception e) {
+        log.error("Gemini 스트리밍 파싱 실패 (품목 {}개 전달 후): {}", emitted, e.getMessage(), e);
+        return new RuntimeException("Gemini 이미지 파싱 실패: " + e.getMessage());
+    }
 
-            Map<String, Object> body = new HashMap<>();
-            body.put("contents", contents);
-            body.put("generationConfig", generationConfig);
+    // 요청 본문은 출력 스트림에 바로 쓰고 base64도 쓰는 중에 인코딩 (본문/base64 문자열을 힙에 만들지 않음)
+    private RequestCallback requestCallback(ReceiptImagePreprocessor.Prepared image) {
+        return request -> {
+            request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            request.getHeaders().set("x-goog-api-key", config.getApiKey());
+            if (request instanceof StreamingHttpOutputMessage streaming) {
+                streaming.setBody(out -> writeRequestBody(out, image));
+            } else {
+                writeRequestBody(request.getBody(), image);
+            }
+        };
+    }
 
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
-            log.info("Gemini Vision API 호출 시작 (image) model={}, url={}, size={} bytes", config.getModel(), url, bytesForModel.length);
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.POST, entity, String.class);
+    /**
+     * streamGenerateContent(alt=sse) 응답: "data: {...}" 줄마다 candidates[0].content.parts[].text 조각이 온다
+     * 조각을 이어 붙이며 items 원소가 닫힐 때마다 품목으로 넘기고, 끝나면 전체 텍스트로 결과를 만든다.
+     */
+    private ReceiptParseCache.Loaded readStream(InputStream body, Consumer<PurchasedItem> onItem) throws IOException {
+        List<PurchasedItem> streamed = new ArrayList<>();
+        ReceiptItemStreamParser parser = new ReceiptItemStreamParser(element -> {
+            try {
+                PurchasedItem item = toItem(objectMapper.readTree(element));
+                if (item == null) return;
+                streamed.add(item);
+                onItem.accept(item);
+            } catch (JsonProcessingException e) {
+                log.debug("Gemini 스트리밍 품목 해석 실패 (건너뜀): {}", abbreviate(element, 200));
+            }
+        });
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        boolean blocked = false;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.startsWith("data:")) continue;
+            JsonNode chunk = objectMapper.readTree(line.substring("data:".length()));
+            if (chunk.has("error")) {
+                String message = chunk.path("error").path("message").asText("");
+                log.error("Gemini API error (stream): code={}, message={}", chunk.path("error").path("code").asText(""), message);
+                throw new RuntimeException("Gemini API 오류: " + message);
+            }
+            JsonNode candidate = chunk.path("candidates").path(0);
+            if ("SAFETY".equalsIgnoreCase(candidate.path("finishReason").asText(""))) {
+                log.warn("Gemini 스트리밍 응답이 SAFETY로 차단됨. raw={}", abbreviate(line, 500));
+                blocked = true;
+            }
+            for (JsonNode part : candidate.path("content").path("parts")) {
+                parser.accept(part.path("text").asText(""));
+            }
+        }
+        String text = parser.text();
+        if (isBlank(text)) {
+            log.warn("Gemini 스트리밍 텍스트 응답 비어있음");
+            return ReceiptParseCache.Loaded.incomplete(emptyResponse());
+        }
+        ReceiptParseCache.Loaded parsed = parseModelText(text, streamed);
+        return blocked ? ReceiptParseCache.Loaded.incomplete(parsed.result()) : parsed;
+    }
 
-            return parseGeminiResponse(response.getBody());
-        } catch (Exception e) {
-            log.error("Gemini 이미지 파싱 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("Gemini 이미지 파싱 실패: " + e.getMessage());
+    /**
+     * generateContent 요청 본문
+     * {"contents":[{"role":"user","parts":[{"text":...},{"inline_data":{"mime_type":...,"data":base64}}]}],
+     *  "generationConfig":{"max_output_tokens":...,"response_mime_type":"application/json"}}
+     */
+    private void writeRequestBody(OutputStream out, ReceiptImagePreprocessor.Prepared image) throws IOException {
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(StreamUtils.nonClosing(out))) {
+            json.writeStartObject();
+            json.writeArrayFieldStart("contents");
+            json.writeStartObject();
+            json.writeStringField("role", "user");
+            json.writeArrayFieldStart("parts");
+            json.writeStartObject();
+            json.writeStringField("text", SYSTEM_INSTRUCTION);
+            json.writeEndObject();
+            json.writeStartObject();
+            json.writeObjectFieldStart("inline_data");
+            json.writeStringField("mime_type", image.mimeType());
+            json.writeFieldName("data");
+            json.writeBinary(Base64Variants.MIME_NO_LINEFEEDS, image.bytes(), 0, image.bytes().length);
+            json.writeEndObject();
+            json.writeEndObject();
+            json.writeEndArray();
+            json.writeEndObject();
+            json.writeEndArray();
+            json.writeObjectFieldStart("generationConfig");
+            if (config.getMaxTokens() != null) {
+                json.writeNumberField("max_output_tokens", config.getMaxTokens());
+            }
+            json.writeStringField("response_mime_type", "application/json");
+            json.writeEndObject();
+            json.writeEndObject();
         }
     }
 
@@ -127,16 +301,16 @@ public class GeminiService {
         return s == null || s.isBlank();
     }
 
-    private String buildEndpointUrl() {
+    private String buildEndpointUrl(String method) {
         String base = config.getApiUrl();
         if (base.endsWith("/")) base = base.substring(0, base.length() - 1);
-        return base + "/" + config.getModel() + ":generateContent";
+        return base + "/" + config.getModel() + ":" + method;
     }
 
-    private ScanPurchaseHistoryResponse parseGeminiResponse(String body) throws Exception {
+    private ReceiptParseCache.Loaded parseGeminiResponse(String body) throws Exception {
         if (isBlank(body)) {
             log.warn("Gemini 응답 본문이 비어있어 빈 항목 반환");
-            return emptyResponse();
+            return ReceiptParseCache.Loaded.incomplete(emptyResponse());
         }
         JsonNode root = objectMapper.readTree(body);
 
@@ -151,26 +325,38 @@ public class GeminiService {
         JsonNode candidates = root.path("candidates");
         if (candidates.isMissingNode() || !candidates.isArray() || candidates.isEmpty()) {
             log.warn("Gemini 응답에 candidates 없음. raw={}", abbreviate(body, 500));
-            return emptyResponse();
+            return ReceiptParseCache.Loaded.incomplete(emptyResponse());
         }
         JsonNode first = candidates.get(0);
+        boolean blocked = false;
         if (first.has("finishReason")) {
             String reason = first.path("finishReason").asText("");
             if ("SAFETY".equalsIgnoreCase(reason)) {
                 log.warn("Gemini 응답이 SAFETY로 차단됨. raw={}", abbreviate(body, 500));
+                blocked = true;
             }
         }
         JsonNode firstContent = first.path("content").path("parts");
         if (!firstContent.isArray() || firstContent.isEmpty()) {
             log.warn("Gemini 응답 parts 비어있음. raw={}", abbreviate(body, 500));
-            return emptyResponse();
+            return ReceiptParseCache.Loaded.incomplete(emptyResponse());
         }
         String text = firstContent.get(0).path("text").asText();
         if (isBlank(text)) {
             log.warn("Gemini 텍스트 응답 비어있음. raw={}", abbreviate(body, 500));
-            return emptyResponse();
+            return ReceiptParseCache.Loaded.incomplete(emptyResponse());
         }
 
+        ReceiptParseCache.Loaded parsed = parseModelText(text, Collections.emptyList());
+        return blocked ? ReceiptParseCache.Loaded.incomplete(parsed.result()) : parsed;
+    }
+
+    /**
+     * 모델 텍스트 → 품목
+     * 1차 JSON(items 배열), 실패 시 스트리밍으로 이미 받은 품목(출력 토큰 한도 등으로 JSON이 중간에 끊긴 경우),
+     * 그것도 없으면 자유 텍스트 fallback. 품목이 있는 완결된 JSON만 캐시 대상이다.
+     */
+    private ReceiptParseCache.Loaded parseModelText(String text, List<PurchasedItem> streamed) {
         // 1차: JSON 직접 파싱
         try {
             JsonNode data = objectMapper.readTree(text);
@@ -178,31 +364,33 @@ public class GeminiService {
             JsonNode itemsNode = data.path("items");
             if (itemsNode.isArray()) {
                 for (JsonNode itemNode : itemsNode) {
-                    String name = itemNode.path("name").asText(null);
-                    if (name == null || name.isBlank()) continue;
-                    int quantity = itemNode.path("quantity").asInt(1);
-                    quantity = inferQuantityFromName(name, quantity);
-                    String unit = itemNode.path("unit").asText(null);
-                    if (unit == null || unit.isBlank()) unit = inferUnitFromName(name);
-                    items.add(PurchasedItem.builder()
-                            // 더 이상 cleanName으로 축약하지 않고 전체 이름 그대로 사용
-                            .name(name.trim())
-                            .quantity(Math.max(1, quantity))
-                            .unit(unit)
-                            // weight intentionally ignored in DTO for compatibility
-                            .build());
+                    PurchasedItem item = toItem(itemNode);
+                    if (item != null) items.add(item);
                 }
             }
             log.info("Gemini 파싱 완료(JSON): items={}", items.size());
-            return ScanPurchaseHistoryResponse.builder().items(items).build();
+            ScanPurchaseHistoryResponse result = ScanPurchaseHistoryResponse.builder().items(items).build();
+            return items.isEmpty() ? ReceiptParseCache.Loaded.incomplete(result) : ReceiptParseCache.Loaded.complete(result);
         } catch (Exception jsonFail) {
+            if (!streamed.isEmpty()) {
+                log.warn("Gemini 응답 JSON이 완결되지 않아 닫힌 품목까지만 사용: items={}", streamed.size());
+                return ReceiptParseCache.Loaded.incomplete(
+                        ScanPurchaseHistoryResponse.builder().items(new ArrayList<>(streamed)).build());
+            }
             // 2차: fallback – 자유 텍스트에서 식재료 힌트를 추출
-            List<PurchasedItem> items = fallbackFromText(text);
+            List<PurchasedItem> items = receiptLineNormalizer.fallbackFromText(text);
             log.info("Gemini 파싱 완료(fallback): items={}", items.size());
-            return ScanPurchaseHistoryResponse.builder().items(items).build();
+            return ReceiptParseCache.Loaded.incomplete(ScanPurchaseHistoryResponse.builder().items(items).build());
         }
     }
 
+    // 이름에 적힌 수량(x2, 3개입 등)을 우선하고, 단위가 없으면 이름으로 추정 (이름은 축약하지 않음)
+    private PurchasedItem toItem(JsonNode itemNode) {
+        String name = itemNode.path("name").asText(null);
+        if (name == null || name.isBlank()) return null;
+        return receiptLineNormalizer.toItem(name, itemNode.path("quantity").asInt(1), itemNode.path("unit").asText(null));
+    }
+
     private ScanPurchaseHistoryResponse emptyResponse() {
         return ScanPurchaseHistoryResponse.builder().items(Collections.emptyList()).build();
     }
@@ -211,189 +399,4 @@ public class GeminiService {
         if (s == null) return "";
         return s.length() <= max ? s : s.substring(0, max) + "...";
     }
-
-    // --- 이미지 업스케일 (작은 스크린샷 보정) ---
-    private byte[] maybeUpscaleSmallImage(byte[] bytes, String mimeType) {
-        try {
-            BufferedImage src = ImageIO.read(new ByteArrayInputStream(bytes));
-            if (src == null) return bytes;
-            int w = src.getWidth();
-            int h = src.getHeight();
-            int min = Math.min(w, h);
-            if (min >= 400) return bytes; // 충분히 큼
-            double scale = 400.0 / min; // 최소 변 400으로 스케일업
-            int nw = (int) Math.round(w * scale);
-            int nh = (int) Math.round(h * scale);
-            BufferedImage dst = new BufferedImage(nw, nh, BufferedImage.TYPE_INT_RGB);
-            Graphics2D g = dst.createGraphics();
-            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
-            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
-            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-            g.drawImage(src, 0, 0, nw, nh, null);
-            g.dispose();
-            String format = mimeType != null && mimeType.toLowerCase().contains("png") ? "png" : "jpg";
-            ByteArrayOutputStream bos = new ByteArrayOutputStream();
-            ImageIO.write(dst, format, bos);
-            return bos.toByteArray();
-        } catch (Exception e) {
-            return bytes; // 실패 시 원본 유지
-        }
-    }
-
-    // --- 이름 정리: 마케팅 수식어 제거 ---
-    private String cleanName(String name) {
-        if (name == null) return null;
-        return name.trim();
-    }
-
-    private String inferUnitFromName(String name) {
-        if (name == null) return null;
-        String lower = name.toLowerCase();
-        Pattern numUnit = Pattern.compile("(\\d+(?:[.,]\\d+)?)\\s*(kg|g|ml|l|ℓ|그램|킬로그램|리터|밀리리터)", Pattern.CASE_INSENSITIVE);
-        Matcher m = numUnit.matcher(lower);
-        if (m.find()) {
-            String u = m.group(2).toLowerCase();
-            switch (u) {
-                case "kg":
-                case "킬로그램":
-                    return "kg";
-                case "g":
-                case "그램":
-                    return "g";
-                case "ml":
-                case "㎖":
-                case "밀리리터":
-                    return "ml";
-                case "l":
-                case "ℓ":
-                case "리터":
-                    return "L";
-                default:
-                    break;
-            }
-        }
-        String n = name.toLowerCase().replaceAll("\\s+", "");
-        if (n.contains("캔")) return "캔";
-        if (n.contains("병")) return "병";
-        if (n.contains("팩")) return "팩";
-        if (n.contains("봉")) return "봉";
-        if (n.contains("박스")) return "박스";
-        if (n.contains("컵")) return "컵";
-        if (n.contains("포") || n.contains("파우치")) return "포";
-        if (n.contains("묶음") || n.contains("단")) return "묶음";
-        String[] pieceFoods = {"사과", "배", "바나나", "오이", "호박", "양파", "파", "쪽파", "마늘", "감자", "고구마", "당근", "파프리카", "토마토", "두부", "달걀", "계란", "빵", "라면", "김밥", "참치", "참외", "수박", "귤", "오렌지", "딸기", "포도"};
-        for (String k : pieceFoods) if (n.contains(k)) return "개";
-        String[] beverages = {"물", "생수", "음료", "주스", "콜라", "사이다", "탄산수", "차", "커피", "우유", "요구르트"};
-        for (String b : beverages) if (n.contains(b)) return "병";
-        return "개";
-    }
-
-    private int inferQuantityFromName(String name, int fallback) {
-        if (name == null) return fallback;
-        String n = name.toLowerCase();
-        Matcher mx = Pattern.compile("x(\\d+)").matcher(n);
-        if (mx.find()) return parsePositive(mx.group(1), fallback);
-        Matcher mUnits = Pattern.compile("(\\d+)\\s*(입|개입|개|팩|봉|병|박스|캔|묶음)").matcher(n);
-        if (mUnits.find()) return parsePositive(mUnits.group(1), fallback);
-        Matcher plusPattern = Pattern.compile("(\\d+)[+](\\d+)").matcher(n);
-        if (plusPattern.find()) return parsePositive(plusPattern.group(1), fallback);
-        // 소수 무게가 포함된 경우는 quantity=1 유지 (무게는 별도 weight에서 처리)
-        return fallback;
-    }
-
-    private int parsePositive(String s, int fallback) {
-        try {
-            int v = Integer.parseInt(s);
-            return v > 0 ? v : fallback;
-        } catch (NumberFormatException e) {
-            return fallback;
-        }
-    }
-
-    // --- 텍스트 기반 Fallback 파싱 ---
-    private List<PurchasedItem> fallbackFromText(String text) {
-        if (isBlank(text)) return Collections.emptyList();
-        String raw = text.replace('\r', '\n');
-        String cleaned = raw
-                .replaceAll("https?://\\S+", " ")
-                .replaceAll("[|▶▷•·●■◆◇☆★]+", " ")
-                .replace("\\u00a0", " ")
-                .trim();
-
-        // 수량: N 패턴 우선 추출
-        Integer qty = null;
-        Matcher qMatcher = Pattern.compile("수량\\s*[:=]\\s*(\\d+)").matcher(cleaned);
-        if (qMatcher.find()) {
-            qty = parsePositive(qMatcher.group(1), 1);
-        }
-
-        // 무게/용량 추출 (예: 4.5kg, 500g, 1L, 250ml)
-        Double weight = null;
-        String unit = null;
-        Matcher wMatcher = Pattern.compile("(\\d+(?:[.,]\\d+)?)\\s*(kg|g|ml|l|ℓ)", Pattern.CASE_INSENSITIVE).matcher(cleaned);
-        if (wMatcher.find()) {
-            try {
-                weight = Double.parseDouble(wMatcher.group(1).replace(',', '.'));
-            } catch (Exception ignore) {
-            }
-            String u = wMatcher.group(2).toLowerCase();
-            unit = ("kg".equals(u) || "킬로그램".equals(u)) ? "kg" :
-                    ("g".equals(u) || "그램".equals(u)) ? "g" :
-                            ("ml".equals(u) || "㎖".equals(u) || "밀리리터".equals(u)) ? "ml" :
-                                    ("l".equals(u) || "ℓ".equals(u) || "리터".equals(u)) ? "L" : null;
-        }
-
-        // 식재료 후보 추출: 사전 + 한글 명사성 토큰 중 흔한 식재료 키워드
-        String[] candidates = cleaned.split("[\n,/]|\\s{2,}");
-        Set<String> foods = new LinkedHashSet<>(Arrays.asList(
-                "사과", "배", "바나나", "오렌지", "귤", "포도", "딸기", "블루베리", "참외", "수박", "키위", "레몬", "라임",
-                "양파", "파", "쪽파", "마늘", "감자", "고구마", "당근", "호박", "오이", "토마토", "파프리카", "브로콜리", "시금치",
-                "우유", "요거트", "요구르트", "치즈", "두부", "계란", "달걀", "빵", "햄", "소세지", "베이컨", "라면", "김밥", "참치"
-        ));
-        String[] ban = {"배송", "도착", "예정", "준비", "주문", "결제", "옵션", "색상", "사이즈", "가격", "할인", "쿠폰", "포인트", "적립", "링크", "리뷰", "평점", "문의", "상품", "구매", "장바구니"};
-
-        String name = null;
-        outer:
-        for (String token : candidates) {
-            String t = token.trim();
-            if (t.isEmpty()) continue;
-            boolean banned = false;
-            for (String b : ban) {
-                if (t.contains(b)) {
-                    banned = true;
-                    break;
-                }
-            }
-            if (banned) continue;
-            for (String f : foods) {
-                if (t.contains(f)) {
-                    name = f;
-                    break outer;
-                }
-            }
-        }
-
-        if (name == null) {
-            // 가벼운 휴리스틱: 한글 2~6자 단어들 중 마지막 유용 토큰 시도
-            Matcher mKo = Pattern.compile("[가-힣]{2,6}").matcher(cleaned.replaceAll("\\s+", ""));
-            String last = null;
-            while (mKo.find()) last = mKo.group();
-            if (last != null) name = last;
-        }
-
-        if (name == null) return Collections.emptyList();
-
-        // fallback에서도 이제는 cleanName으로 축약하지 않고, 추출된 이름 전체를 사용
-        String finalName = name.trim();
-        int quantity = qty != null ? Math.max(1, qty) : 1;
-        String finalUnit = unit != null ? unit : inferUnitFromName(finalName);
-
-        PurchasedItem item = PurchasedItem.builder()
-                .name(finalName)
-                .quantity(quantity)
-                .unit(finalUnit)
-                // .weight(weight) // optional: not used to keep builder compatibility
-                .build();
-        return Collections.singletonList(item);
-    }
 }
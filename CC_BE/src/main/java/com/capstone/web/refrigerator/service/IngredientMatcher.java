@@ -0,0 +1,332 @@
+package com.capstone.web.refrigerator.service;
+
+import com.capstone.web.ingredient.service.IngredientKey;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+/**
+ * 재료 매처 (대표 재료 id 우선, 사전에 없는 재료는 Aho-Corasick 포함 관계)
+ * <p>
+ * 레시피 재료와 냉장고 식재료를 다음 순서로 짝짓는다.
+ * <ol>
+ *   <li>둘 다 사전에 있으면 대표 재료 id가 같을 때만 일치 (계란/달걀, 다진 대파/대파는 같은 재료, 대파/파는 다른 재료)</li>
+ *   <li>한쪽이라도 사전에 없으면 정규화된 이름(소문자, trim)의 완전 일치, 없으면 포함 관계(양방향)
+ *       ("우유 1L"/우유, 참치캔/참치)</li>
+ * </ol>
+ * <ul>
+ *   <li>식재료 목록을 한 번 id → 위치 해시와 이름 오토마톤으로 컴파일해 두고, 재료명을 한 번 훑어 그 안에 포함된 식재료를 찾는다</li>
+ *   <li>반대 방향(식재료명이 재료명을 포함)은 조회할 재료명 목록을 따로 컴파일해 식재료명을 한 번씩 훑는다</li>
+ * </ul>
+ * 같은 조건의 후보가 여럿이면 목록에서 먼저 나온 식재료를 고른다 (순차 탐색과 동일).
+ * 컴파일된 매처는 불변이므로 여러 스레드에서 공유해도 된다.
+ *
+ * @param <T> 식재료 타입
+ */
+public final class IngredientMatcher<T> {
+
+    private final List<T> items;
+    private final IngredientKey[] itemKeys;
+    private final Map<Integer, Integer> byCanonicalId = new HashMap<>();
+    private final Map<String, Integer> byName = new HashMap<>();
+    private final Map<String, Integer> byUnresolvedName = new HashMap<>();
+    private final Automaton nameAutomaton;
+    private final Automaton unresolvedAutomaton;
+    private final int[] unresolvedItems; // unresolvedAutomaton 패턴 번호 → 식재료 위치 (오름차순)
+
+    private IngredientMatcher(List<T> items, Function<? super T, IngredientKey> keyOf) {
+        this.items = items;
+        this.itemKeys = new IngredientKey[items.size()];
+        String[] names = new String[items.size()];
+        List<String> unresolvedNames = new ArrayList<>();
+        List<Integer> unresolvedIndexes = new ArrayList<>();
+        for (int i = 0; i < itemKeys.length; i++) {
+            IngredientKey key = keyOf.apply(items.get(i));
+            itemKeys[i] = key;
+            names[i] = key.name();
+            byName.putIfAbsent(key.name(), i);
+            if (key.resolved()) {
+                byCanonicalId.putIfAbsent(key.canonicalId(), i);
+            } else {
+                byUnresolvedName.putIfAbsent(key.name(), i);
+                unresolvedNames.add(key.name());
+                unresolvedIndexes.add(i);
+            }
+        }
+        this.nameAutomaton = new Automaton(names);
+        this.unresolvedAutomaton = new Automaton(unresolvedNames.toArray(String[]::new));
+        this.unresolvedItems = unresolvedIndexes.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * 식재료 목록 컴파일
+     *
+     * @param keyOf 식재료 매칭 키 추출 함수 (보통 IngredientDictionary::keyOf)
+     */
+    public static <T> IngredientMatcher<T> compile(List<T> items, Function<? super T, IngredientKey> keyOf) {
+        return new IngredientMatcher<>(List.copyOf(items), keyOf);
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * 재료 하나에 짝이 되는 식재료 (없으면 null)
+     */
+    public T match(IngredientKey key) {
+        return matchAll(List.of(key)).get(0);
+    }
+
+    /**
+     * 재료별로 짝이 되는 식재료
+     *
+     * @return keys와 같은 순서의 목록 (짝이 없으면 null 원소)
+     */
+    public List<T> matchAll(List<IngredientKey> keys) {
+        if (keys.isEmpty()) return List.of();
+        int[] best = bestIndexes(keys);
+        List<T> result = new ArrayList<>(best.length);
+        for (int index : best) {
+            result.add(index >= 0 ? items.get(index) : null);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * 재료별 보유 여부
+     */
+    public boolean[] containsAll(List<IngredientKey> keys) {
+        int[] best = bestIndexes(keys);
+        boolean[] owned = new boolean[best.length];
+        for (int i = 0; i < best.length; i++) {
+            owned[i] = best[i] >= 0;
+        }
+        return owned;
+    }
+
+    private int[] bestIndexes(List<IngredientKey> keys) {
+        int[] best = new int[keys.size()];
+        if (items.isEmpty()) {
+            Arrays.fill(best, -1);
+            return best;
+        }
+
+        String[] queries = new String[keys.size()];
+        boolean[] settled = new boolean[keys.size()];
+        boolean pending = false;
+        for (int q = 0; q < queries.length; q++) {
+            IngredientKey key = keys.get(q);
+            queries[q] = key.name();
+            // 1) 대표 재료 id 일치
+            Integer index = key.resolved() ? byCanonicalId.get(key.canonicalId()) : null;
+            // 2) 이름 완전 일치 (사전에 있는 재료는 사전에 없는 식재료와만 비교)
+            if (index == null) index = (key.resolved() ? byUnresolvedName : byName).get(key.name());
+            if (index != null) {
+                best[q] = index;
+                settled[q] = true;
+            } else {
+                // 3) 식재료명이 재료명에 포함
+                best[q] = key.resolved() ? unresolvedItem(unresolvedAutomaton.minMatch(queries[q]))
+                        : nameAutomaton.minMatch(queries[q]);
+                pending = true;
+            }
+        }
+        if (!pending) return best;
+
+        // 4) 재료명이 식재료명에 포함: 식재료를 순서대로 훑으므로 처음 기록된 값이 가장 앞선 식재료
+        Automaton queryAutomaton = new Automaton(queries);
+        for (int i = 0; i < itemKeys.length; i++) {
+            final int item = i;
+            final boolean itemResolved = itemKeys[i].resolved();
+            queryAutomaton.scan(itemKeys[i].name(), q -> {
+                if (settled[q] || (itemResolved && keys.get(q).resolved())) return;
+                if (best[q] < 0 || item < best[q]) best[q] = item;
+            });
+        }
+        return best;
+    }
+
+    private int unresolvedItem(int pattern) {
+        return pattern >= 0 ? unresolvedItems[pattern] : -1;
+    }
+
+    /**
+     * 패턴 목록으로 만든 Aho-Corasick 오토마톤.
+     * 전이는 (노드, 문자) → 노드 개방 주소 해시 하나에 모아 한글처럼 알파벳이 큰 경우에도 노드당 배열을 두지 않는다.
+     */
+    static final class Automaton {
+
+        private static final int[] NO_OUTPUT = new int[0];
+
+        private long[] edgeKeys;
+        private int[] edgeTargets;
+        private int edgeCount;
+
+        private int[] fail;
+        private int[] dictLink; // 출력이 있는 가장 가까운 실패 경로 노드 (없으면 0)
+        private int[][] outputs; // 이 노드에서 끝나는 패턴 번호 (오름차순)
+        private int[] minOutput; // 이 노드 + 실패 경로 전체의 최소 패턴 번호 (없으면 -1)
+        private int nodeCount;
+
+        private final int[] emptyPatterns; // 빈 문자열 패턴: 모든 텍스트에 포함
+
+        Automaton(String[] patterns) {
+            int capacity = 1;
+            for (String pattern : patterns) capacity += pattern.length();
+            int[] parent = new int[capacity];
+            char[] label = new char[capacity];
+            int[] depth = new int[capacity];
+            List<List<Integer>> ends = new ArrayList<>();
+            fail = new int[capacity];
+            dictLink = new int[capacity];
+            outputs = new int[capacity][];
+            minOutput = new int[capacity];
+            edgeKeys = new long[Integer.highestOneBit(Math.max(4, capacity * 2)) * 2];
+            edgeTargets = new int[edgeKeys.length];
+            nodeCount = 1;
+            ends.add(null);
+
+            List<Integer> empty = new ArrayList<>();
+            for (int p = 0; p < patterns.length; p++) {
+                String pattern = patterns[p];
+                if (pattern.isEmpty()) {
+                    empty.add(p);
+                    continue;
+                }
+                int node = 0;
+                for (int k = 0; k < pattern.length(); k++) {
+                    char c = pattern.charAt(k);
+                    int next = next(node, c);
+                    if (next < 0) {
+                        next = nodeCount++;
+                        ends.add(null);
+                        parent[next] = node;
+                        label[next] = c;
+                        depth[next] = depth[node] + 1;
+                        putEdge(node, c, next);
+                    }
+                    node = next;
+                }
+                if (ends.get(node) == null) ends.set(node, new ArrayList<>());
+                ends.get(node).add(p);
+            }
+            emptyPatterns = empty.stream().mapToInt(Integer::intValue).toArray();
+
+            // 깊이 순서(BFS)로 실패 링크 계산
+            Integer[] order = new Integer[nodeCount];
+            for (int v = 0; v < nodeCount; v++) order[v] = v;
+            Arrays.sort(order, (a, b) -> Integer.compare(depth[a], depth[b]));
+            for (int v : order) {
+                List<Integer> own = ends.get(v);
+                outputs[v] = own == null ? NO_OUTPUT : own.stream().mapToInt(Integer::intValue).toArray();
+                if (v == 0) {
+                    minOutput[v] = -1;
+                    continue;
+                }
+                int p = parent[v];
+                int f = 0;
+                if (p != 0) {
+                    f = fail[p];
+                    while (f != 0 && next(f, label[v]) < 0) f = fail[f];
+                    int t = next(f, label[v]);
+                    f = t >= 0 ? t : 0;
+                }
+                fail[v] = f;
+                dictLink[v] = outputs[f].length > 0 ? f : dictLink[f];
+                int inherited = minOutput[f];
+                int ownMin = outputs[v].length > 0 ? outputs[v][0] : -1;
+                minOutput[v] = ownMin < 0 ? inherited : inherited < 0 ? ownMin : Math.min(ownMin, inherited);
+            }
+        }
+
+        /**
+         * 텍스트에 포함된 패턴 중 최소 번호 (없으면 -1)
+         */
+        int minMatch(String text) {
+            int min = emptyPatterns.length > 0 ? emptyPatterns[0] : -1;
+            int state = 0;
+            for (int k = 0; k < text.length(); k++) {
+                state = step(state, text.charAt(k));
+                int m = minOutput[state];
+                if (m >= 0 && (min < 0 || m < min)) min = m;
+            }
+            return min;
+        }
+
+        /**
+         * 텍스트에 포함된 패턴 번호를 모두 전달 (같은 패턴이 여러 번 나오면 중복 전달)
+         */
+        void scan(String text, IntConsumer consumer) {
+            for (int p : emptyPatterns) consumer.accept(p);
+            int state = 0;
+            for (int k = 0; k < text.length(); k++) {
+                state = step(state, text.charAt(k));
+                for (int u = outputs[state].length > 0 ? state : dictLink[state]; u != 0; u = dictLink[u]) {
+                    for (int p : outputs[u]) consumer.accept(p);
+                }
+            }
+        }
+
+        private int step(int state, char c) {
+            while (true) {
+                int t = next(state, c);
+                if (t >= 0) return t;
+                if (state == 0) return 0;
+                state = fail[state];
+            }
+        }
+
+        private int next(int node, char c) {
+            long key = edgeKey(node, c);
+            int mask = edgeKeys.length - 1;
+            for (int slot = mix(key) & mask; ; slot = (slot + 1) & mask) {
+                long k = edgeKeys[slot];
+                if (k == 0) return -1;
+                if (k == key) return edgeTargets[slot];
+            }
+        }
+
+        private void putEdge(int node, char c, int target) {
+            if ((edgeCount + 1) * 2 > edgeKeys.length) resize();
+            long key = edgeKey(node, c);
+            int mask = edgeKeys.length - 1;
+            int slot = mix(key) & mask;
+            while (edgeKeys[slot] != 0) slot = (slot + 1) & mask;
+            edgeKeys[slot] = key;
+            edgeTargets[slot] = target;
+            edgeCount++;
+        }
+
+        private void resize() {
+            long[] oldKeys = edgeKeys;
+            int[] oldTargets = edgeTargets;
+            edgeKeys = new long[oldKeys.length * 2];
+            edgeTargets = new int[edgeKeys.length];
+            int mask = edgeKeys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] == 0) continue;
+                int slot = mix(oldKeys[i]) & mask;
+                while (edgeKeys[slot] != 0) slot = (slot + 1) & mask;
+                edgeKeys[slot] = oldKeys[i];
+                edgeTargets[slot] = oldTargets[i];
+            }
+        }
+
+        // 0은 빈 슬롯 표시용이므로 문자에 1을 더해 키가 0이 되지 않게 한다
+        private static long edgeKey(int node, char c) {
+            return ((long) node << 17) | (c + 1L);
+        }
+
+        private static int mix(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
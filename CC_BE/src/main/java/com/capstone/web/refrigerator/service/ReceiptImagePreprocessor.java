@@ -0,0 +1,250 @@
+package com.capstone.web.refrigerator.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * 영수증 이미지 전처리 (Gemini 전송 전)
+ * <p>
+ * <ul>
+ *   <li>짧은 변이 min-side보다 작으면 확대(글자 인식), 긴 변이 max-side보다 크면 축소(휴대폰 원본 사진)</li>
+ *   <li>큰 이미지는 디코딩 단계에서 서브샘플링하여 원본 해상도 전체를 메모리에 펼치지 않는다</li>
+ *   <li>크기를 바꿨거나 target-bytes를 넘으면 JPEG(jpeg-quality)로 다시 인코딩하고,
+ *       그래도 크면 품질을 min-jpeg-quality까지 낮춘다</li>
+ *   <li>재인코딩하면 EXIF가 빠지므로 JPEG의 EXIF Orientation(휴대폰 세로 사진 등)을 픽셀에 먼저 적용한다</li>
+ *   <li>범위 안의 작은 이미지나 읽을 수 없는 이미지는 원본 그대로 보낸다 (EXIF 유지)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ReceiptImagePreprocessor {
+
+    private static final String JPEG = "image/jpeg";
+    private static final float QUALITY_STEP = 0.1f;
+    private static final int EXIF_ORIENTATION_TAG = 0x0112;
+    // 전처리 알고리즘(보간, 회전 처리, 품질 단계 등)을 바꾸면 올려서 이전 파싱 결과 캐시를 비껴가게 한다
+    private static final int VERSION = 1;
+
+    private final int minSide;
+    private final int maxSide;
+    private final float jpegQuality;
+    private final float minJpegQuality;
+    private final int targetBytes;
+
+    public ReceiptImagePreprocessor(@Value("${refrigerator.receipt-scan.image.min-side:400}") int minSide,
+                                    @Value("${refrigerator.receipt-scan.image.max-side:2048}") int maxSide,
+                                    @Value("${refrigerator.receipt-scan.image.jpeg-quality:0.85}") float jpegQuality,
+                                    @Value("${refrigerator.receipt-scan.image.min-jpeg-quality:0.55}") float minJpegQuality,
+                                    @Value("${refrigerator.receipt-scan.image.target-bytes:1048576}") int targetBytes) {
+        this.minSide = minSide;
+        this.maxSide = maxSide;
+        this.jpegQuality = jpegQuality;
+        this.minJpegQuality = minJpegQuality;
+        this.targetBytes = targetBytes;
+    }
+
+    /**
+     * 파싱 결과 캐시 키에 넣을 전처리 설정 (설정이나 알고리즘 버전이 바뀌면 모델에 가는 이미지도 달라진다)
+     */
+    public String settingsKey() {
+        return "v" + VERSION + ";min-side=" + minSide + ";max-side=" + maxSide + ";jpeg-quality=" + jpegQuality
+                + ";min-jpeg-quality=" + minJpegQuality + ";target-bytes=" + targetBytes;
+    }
+
+    /**
+     * 모델에 보낼 이미지
+     */
+    public record Prepared(byte[] bytes, String mimeType) {
+    }
+
+    public Prepared prepare(byte[] original, String mimeType) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(original))) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) return new Prepared(original, mimeType);
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                double scale = scale(width, height);
+                if (scale == 1.0 && original.length <= targetBytes) {
+                    return new Prepared(original, mimeType);
+                }
+
+                // 목표 크기의 2배 이상이면 디코딩하면서 정수 배로 솎아 낸다 (나머지는 보간 축소)
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = scale < 1.0 ? Math.max(1, (int) Math.floor(1.0 / (scale * 2))) : 1;
+                if (subsampling > 1) param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage decoded = reader.read(0, param);
+
+                int targetWidth = Math.max(1, (int) Math.round(width * scale));
+                int targetHeight = Math.max(1, (int) Math.round(height * scale));
+                int orientation = exifOrientation(original); // JPEG이 아니면 1
+                BufferedImage rgb = resize(decoded, targetWidth, targetHeight, orientation);
+                decoded.flush();
+
+                byte[] encoded = encodeJpeg(rgb);
+                if (encoded == null || (scale == 1.0 && encoded.length >= original.length)) {
+                    return new Prepared(original, mimeType);
+                }
+                log.debug("[REF-04] 영수증 이미지 전처리: {}x{} {} bytes → {}x{} {} bytes (orientation={})",
+                        width, height, original.length, rgb.getWidth(), rgb.getHeight(), encoded.length, orientation);
+                return new Prepared(encoded, JPEG);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("[REF-04] 영수증 이미지 전처리 생략 (원본 전송): {}", e.getMessage());
+            return new Prepared(original, mimeType); // 실패 시 원본 유지
+        }
+    }
+
+    /**
+     * 짧은 변 최소/긴 변 최대를 맞추는 배율 (범위 안이면 1)
+     */
+    double scale(int width, int height) {
+        int shortSide = Math.min(width, height);
+        int longSide = Math.max(width, height);
+        if (longSide > maxSide) return (double) maxSide / longSide;
+        if (shortSide < minSide) return Math.min((double) minSide / shortSide, (double) maxSide / longSide);
+        return 1.0;
+    }
+
+    // JPEG은 알파가 없으므로 흰 배경 RGB로 그린다. 5~8(90도 회전 계열)은 가로/세로가 바뀐다
+    private static BufferedImage resize(BufferedImage src, int width, int height, int orientation) {
+        boolean swap = orientation >= 5 && orientation <= 8;
+        int dstWidth = swap ? height : width;
+        int dstHeight = swap ? width : height;
+        BufferedImage dst = new BufferedImage(dstWidth, dstHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = dst.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, dstWidth, dstHeight);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.transform(orientationTransform(orientation, width, height));
+            g.drawImage(src, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return dst;
+    }
+
+    /**
+     * 저장된(회전 전) width x height 이미지를 EXIF Orientation에 맞게 바로 세우는 변환
+     */
+    static AffineTransform orientationTransform(int orientation, int width, int height) {
+        return switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);       // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height); // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);      // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);            // 전치
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);      // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width); // 반대 대각선 전치
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, width);       // 반시계 방향 90도
+            default -> new AffineTransform();
+        };
+    }
+
+    /**
+     * JPEG APP1(Exif) IFD0의 Orientation 값 (없거나 읽을 수 없으면 1)
+     * 스캔 데이터(SOS) 전까지의 세그먼트 헤더만 훑으므로 이미지 크기와 무관하게 가볍다.
+     */
+    static int exifOrientation(byte[] jpeg) {
+        if (jpeg.length < 4 || (jpeg[0] & 0xFF) != 0xFF || (jpeg[1] & 0xFF) != 0xD8) return 1;
+        int pos = 2;
+        while (pos + 4 <= jpeg.length) {
+            if ((jpeg[pos] & 0xFF) != 0xFF) return 1;
+            int marker = jpeg[pos + 1] & 0xFF;
+            if (marker == 0xFF) {
+                pos++; // 채움 바이트
+                continue;
+            }
+            if (marker == 0xDA || marker == 0xD9) return 1;
+            int length = readUnsigned(jpeg, pos + 2, 2, false);
+            int segment = pos + 4;
+            if (length < 2 || pos + 2 + length > jpeg.length) return 1;
+            if (marker == 0xE1 && length >= 8 && jpeg[segment] == 'E' && jpeg[segment + 1] == 'x'
+                    && jpeg[segment + 2] == 'i' && jpeg[segment + 3] == 'f') {
+                return tiffOrientation(jpeg, segment + 6, pos + 2 + length);
+            }
+            pos += 2 + length;
+        }
+        return 1;
+    }
+
+    private static int tiffOrientation(byte[] b, int tiff, int end) {
+        if (tiff + 8 > end) return 1;
+        boolean little;
+        if (b[tiff] == 'I' && b[tiff + 1] == 'I') little = true;
+        else if (b[tiff] == 'M' && b[tiff + 1] == 'M') little = false;
+        else return 1;
+        long ifd = tiff + (readUnsigned(b, tiff + 4, 4, little) & 0xFFFFFFFFL);
+        if (ifd + 2 > end) return 1;
+        int entries = readUnsigned(b, (int) ifd, 2, little);
+        for (int i = 0; i < entries; i++) {
+            int entry = (int) ifd + 2 + i * 12;
+            if (entry + 12 > end) return 1;
+            if (readUnsigned(b, entry, 2, little) == EXIF_ORIENTATION_TAG) {
+                int value = readUnsigned(b, entry + 8, 2, little);
+                return value >= 1 && value <= 8 ? value : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static int readUnsigned(byte[] b, int offset, int size, boolean little) {
+        int value = 0;
+        for (int i = 0; i < size; i++) {
+            int shift = little ? i * 8 : (size - 1 - i) * 8;
+            value |= (b[offset + i] & 0xFF) << shift;
+        }
+        return value;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext()) return null;
+        ImageWriter writer = writers.next();
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.min(targetBytes, 1 << 20));
+            float quality = jpegQuality;
+            while (true) {
+                out.reset();
+                try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+                    writer.setOutput(output);
+                    ImageWriteParam param = writer.getDefaultWriteParam();
+                    param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                    param.setCompressionQuality(quality);
+                    writer.write(null, new IIOImage(image, null, null), param);
+                }
+                if (out.size() <= targetBytes || quality - QUALITY_STEP < minJpegQuality) {
+                    return out.toByteArray();
+                }
+                quality -= QUALITY_STEP;
+            }
+        } finally {
+            writer.dispose();
+        }
+    }
+}
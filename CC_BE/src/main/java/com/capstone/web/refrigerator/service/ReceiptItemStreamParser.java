@@ -0,0 +1,103 @@
+package com.capstone.web.refrigerator.service;
+
+import java.util.function.Consumer;
+
+/**
+ * 조각으로 도착하는 모델 응답 JSON에서 items 배열 원소를 닫히는 즉시 꺼내는 증분 파서
+ * <p>
+ * {"items":[{...},{...}]} 형태를 가정하고, 최상위 객체의 "items" 키 배열 안에서 원소 객체가 닫힐 때마다
+ * 그 원소의 JSON 텍스트를 콜백으로 넘긴다. 문자열 안의 괄호/따옴표(이스케이프 포함)는 구조로 보지 않는다.
+ * 받은 텍스트는 모두 누적하므로 끝난 뒤 {@link #text()}로 전체 응답을 다시 해석할 수 있다 (형식이 다른 응답 대비).
+ * 한 스트림 전용이며 스레드 안전하지 않다.
+ */
+final class ReceiptItemStreamParser {
+
+    private static final String ITEMS_KEY = "items";
+
+    private final Consumer<String> onElement;
+    private final StringBuilder text = new StringBuilder();
+
+    private int position;
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+    private int stringStart = -1;
+    private boolean itemsKey;
+    private int itemsDepth = -1;
+    private int elementStart = -1;
+    private int elements;
+
+    ReceiptItemStreamParser(Consumer<String> onElement) {
+        this.onElement = onElement;
+    }
+
+    void accept(CharSequence fragment) {
+        text.append(fragment);
+        for (int end = text.length(); position < end; position++) {
+            char c = text.charAt(position);
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                    // 최상위 객체의 키만 본다 (값 문자열 "items"는 뒤따르는 ','에서 해제됨)
+                    if (depth == 1) itemsKey = isItemsKey(stringStart + 1, position);
+                }
+                continue;
+            }
+            switch (c) {
+                case '"' -> {
+                    inString = true;
+                    stringStart = position;
+                }
+                case '{', '[' -> {
+                    depth++;
+                    if (c == '[' && depth == 2 && itemsKey && itemsDepth < 0) {
+                        itemsDepth = depth;
+                    } else if (c == '{' && itemsDepth > 0 && depth == itemsDepth + 1) {
+                        elementStart = position;
+                    }
+                    itemsKey = false;
+                }
+                case '}', ']' -> {
+                    if (c == '}' && elementStart >= 0 && depth == itemsDepth + 1) {
+                        elements++;
+                        onElement.accept(text.substring(elementStart, position + 1));
+                        elementStart = -1;
+                    } else if (c == ']' && depth == itemsDepth) {
+                        itemsDepth = 0; // items 배열 끝 (다시 찾지 않음)
+                    }
+                    depth--;
+                }
+                case ':', ' ', '\t', '\n', '\r' -> {
+                    // 키 뒤 구분자/공백은 키 상태를 유지
+                }
+                default -> itemsKey = false;
+            }
+        }
+    }
+
+    /**
+     * 지금까지 받은 전체 텍스트
+     */
+    String text() {
+        return text.toString();
+    }
+
+    /**
+     * 지금까지 넘긴 원소 수
+     */
+    int elements() {
+        return elements;
+    }
+
+    private boolean isItemsKey(int from, int to) {
+        if (to - from != ITEMS_KEY.length()) return false;
+        for (int i = 0; i < ITEMS_KEY.length(); i++) {
+            if (text.charAt(from + i) != ITEMS_KEY.charAt(i)) return false;
+        }
+        return true;
+    }
+}
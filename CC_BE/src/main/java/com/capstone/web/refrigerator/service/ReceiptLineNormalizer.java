@@ -0,0 +1,514 @@
+package com.capstone.web.refrigerator.service;
+
+import com.capstone.web.refrigerator.dto.RefrigeratorDto.ScanPurchaseHistoryResponse.PurchasedItem;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 영수증 품목명 정규화 (수량/단위/용량·무게/식재료 후보 추출)
+ * <p>
+ * 단위·포장·식재료·음료·주문 문구 사전을 하나의 트라이로 컴파일해 두고, 문자열을 한 번 훑으며
+ * 각 위치에서 가장 긴 사전 단어(겹치지 않게, 왼쪽부터)를 찾는다. 숫자를 만나면 바로 뒤 단어로 용량/개수를 함께 읽는다.
+ * 정규식/문자열 치환을 쓰지 않으므로 품목 하나당 할당은 결과 객체 정도다.
+ * <ul>
+ *   <li>수량: "x6" → 숫자+개수 단위("5개입", "3병") → "1+1" 순으로 처음 나온 것</li>
+ *   <li>단위: 용량/무게(kg, g, ml, L) → 포장(캔, 병, 팩, 봉, 박스, 컵, 포, 묶음) → 개 단위 식재료면 개 → 음료면 병 → 개</li>
+ *   <li>식재료 후보: 처음 나온 식재료 사전 단어</li>
+ * </ul>
+ * 긴 단어가 우선이므로 "포도"는 포(포장), "단호박"은 단(묶음)이 아니라 식재료, "배송"은 배(과일)가 아니라 주문 문구로 읽힌다.
+ * 사전은 불변이므로 여러 스레드에서 공유해도 된다.
+ */
+@Component
+public class ReceiptLineNormalizer {
+
+    // 사전 단어 종류 (한 단어가 여러 종류일 수 있음, 예: 병 = 개수 단위 + 포장)
+    private static final int VOLUME = 1;
+    private static final int COUNT = 1 << 1;
+    private static final int CONTAINER = 1 << 2;
+    private static final int PIECE = 1 << 3;
+    private static final int BEVERAGE = 1 << 4;
+    private static final int FOOD = 1 << 5;
+    private static final int BAN = 1 << 6;
+    private static final int QUANTITY_LABEL = 1 << 7;
+
+    private static final String DEFAULT_UNIT = "개";
+    private static final long[] POW10 = {1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L,
+            100_000_000L, 1_000_000_000L};
+
+    private static final Dictionary DICTIONARY = new Dictionary()
+            // 숫자 바로 뒤에서만 의미가 있는 단위
+            .volume("kg", "kg", "킬로그램")
+            .volume("g", "g", "그램")
+            .volume("ml", "ml", "㎖", "밀리리터")
+            .volume("L", "l", "ℓ", "리터")
+            .add(COUNT, "입", "개입", "개", "팩", "봉", "병", "박스", "캔", "묶음")
+            // 포장 단위 (앞선 것이 우선)
+            .container("캔", "캔")
+            .container("병", "병")
+            .container("팩", "팩")
+            .container("봉", "봉")
+            .container("박스", "박스")
+            .container("컵", "컵")
+            .container("포", "포", "파우치")
+            .container("묶음", "묶음", "단")
+            .add(PIECE, "사과", "배", "바나나", "오이", "호박", "양파", "파", "쪽파", "마늘", "감자", "고구마", "당근", "파프리카",
+                    "단호박", "토마토", "두부", "달걀", "계란", "빵", "라면", "김밥", "참치", "참외", "수박", "귤", "오렌지", "딸기", "포도")
+            .add(BEVERAGE, "물", "생수", "음료", "주스", "콜라", "사이다", "탄산수", "차", "커피", "우유", "요구르트")
+            .add(FOOD, "사과", "배", "바나나", "오렌지", "귤", "포도", "딸기", "블루베리", "참외", "수박", "키위", "레몬", "라임",
+                    "양파", "파", "쪽파", "마늘", "감자", "고구마", "당근", "호박", "단호박", "오이", "토마토", "파프리카", "브로콜리", "시금치",
+                    "우유", "요거트", "요구르트", "치즈", "두부", "계란", "달걀", "빵", "햄", "소세지", "베이컨", "라면", "김밥", "참치")
+            .add(BAN, "배송", "도착", "예정", "준비", "주문", "결제", "옵션", "색상", "사이즈", "가격", "할인", "쿠폰", "포인트",
+                    "적립", "링크", "리뷰", "평점", "문의", "상품", "구매", "장바구니")
+            .add(QUANTITY_LABEL, "수량")
+            .compile();
+
+    /**
+     * 품목명 분석 결과
+     *
+     * @param quantity   이름에서 읽은 수량 (없으면 null)
+     * @param unit       단위 (항상 값이 있음)
+     * @param amount     용량/무게 수치 (없으면 null, 단위는 unit)
+     * @param ingredient 식재료 후보 (없으면 null)
+     */
+    public record Line(Integer quantity, String unit, Double amount, String ingredient) {
+    }
+
+    public Line analyze(String name) {
+        Scan scan = new Scan();
+        if (name != null) {
+            int end = name.length();
+            for (int i = 0; i < end; ) i = step(name, i, end, scan);
+        }
+        return new Line(scan.quantity(), scan.unit(), scan.volumeFound ? scan.amount : null,
+                scan.food >= 0 ? DICTIONARY.text[scan.food] : null);
+    }
+
+    /**
+     * 이름으로 단위 추정 (이름이 없으면 null)
+     */
+    public String inferUnit(String name) {
+        return name != null ? analyze(name).unit() : null;
+    }
+
+    /**
+     * 모델이 돌려준 품목 보정: 이름에 수량이 있으면 그 값, 단위가 비어 있으면 이름으로 추정 (이름은 그대로 유지)
+     */
+    public PurchasedItem toItem(String name, int quantity, String unit) {
+        Line line = analyze(name);
+        return PurchasedItem.builder()
+                .name(name.trim())
+                .quantity(Math.max(1, line.quantity() != null ? line.quantity() : quantity))
+                .unit(unit == null || unit.isBlank() ? line.unit() : unit)
+                .build();
+    }
+
+    /**
+     * 자유 텍스트(모델이 JSON을 돌려주지 않은 경우)에서 품목 하나 추출
+     * <p>
+     * 줄/쉼표/슬래시/연속 공백으로 나눈 조각 중 주문 문구가 없는 첫 조각의 첫 식재료를 이름으로 쓰고,
+     * 없으면 공백을 무시한 한글 2~6자 묶음 중 마지막 것을 쓴다. 수량은 "수량: N", 단위는 처음 나온 용량/무게.
+     * URL과 글머리 기호(•, ▶ 등)는 공백으로 본다.
+     */
+    public List<PurchasedItem> fallbackFromText(String text) {
+        if (text == null || text.isBlank()) return Collections.emptyList();
+        Scan scan = new Scan();
+        HangulTail hangul = new HangulTail();
+        String name = null;
+        int end = text.length();
+        int matchedUntil = 0;
+        int spaceRun = 0;
+        int i = 0;
+        while (i < end) {
+            char c = text.charAt(i);
+            if (text.startsWith("http://", i) || text.startsWith("https://", i)) {
+                while (i < end && !isSpace(text.charAt(i))) i++;
+                spaceRun++;
+            } else if (isBullet(c)) {
+                while (i < end && isBullet(text.charAt(i))) i++;
+                spaceRun++;
+            } else if (c == '\n' || c == '\r' || c == ',' || c == '/') {
+                if (c == ',' || c == '/') hangul.endRun();
+                i++;
+                spaceRun = 2;
+            } else if (isSpace(c)) {
+                i++;
+                spaceRun++;
+            } else {
+                spaceRun = 0;
+                hangul.feed(c);
+                if (i >= matchedUntil) matchedUntil = step(text, i, end, scan);
+                i++;
+            }
+            if (spaceRun >= 2) {
+                // 조각 경계: 주문 문구 없는 조각의 식재료를 이름으로
+                if (name == null && !scan.banned && scan.food >= 0) name = DICTIONARY.text[scan.food];
+                scan.banned = false;
+                scan.food = -1;
+            }
+        }
+        if (name == null && !scan.banned && scan.food >= 0) name = DICTIONARY.text[scan.food];
+        if (name == null) name = hangul.last();
+        if (name == null) return Collections.emptyList();
+
+        PurchasedItem item = PurchasedItem.builder()
+                .name(name)
+                .quantity(scan.labelQuantity > 0 ? scan.labelQuantity : 1)
+                .unit(scan.volumeFound ? scan.volumeUnit : inferUnit(name))
+                .build();
+        return Collections.singletonList(item);
+    }
+
+    // --- 한 번 훑기 ---
+
+    /**
+     * i 위치의 숫자 또는 가장 긴 사전 단어를 읽어 scan에 반영하고 다음 위치를 반환
+     */
+    private static int step(String s, int i, int end, Scan scan) {
+        char c = s.charAt(i);
+        if (isDigit(c)) return number(s, i, end, scan);
+        if (isSpace(c)) return i + 1;
+        long match = DICTIONARY.longest(s, i, end);
+        if (match < 0) return i + 1;
+        int word = (int) (match >>> 32);
+        int next = (int) match;
+        scan.apply(word);
+        if ((DICTIONARY.kinds[word] & QUANTITY_LABEL) != 0) scan.labelQuantity(s, next, end);
+        return next;
+    }
+
+    /**
+     * 숫자(천 단위 쉼표, 소수 포함)와 바로 뒤(공백 허용) 단위를 읽는다
+     */
+    private static int number(String s, int i, int end, Scan scan) {
+        int j = i;
+        long value = 0;
+        while (j < end && isDigit(s.charAt(j))) value = accumulate(value, s.charAt(j++));
+        // 천 단위 구분 쉼표 (1,500g)
+        while (j + 3 < end && s.charAt(j) == ',' && isDigit(s.charAt(j + 1)) && isDigit(s.charAt(j + 2))
+                && isDigit(s.charAt(j + 3)) && (j + 4 == end || !isDigit(s.charAt(j + 4)))) {
+            for (int k = j + 1; k <= j + 3; k++) value = accumulate(value, s.charAt(k));
+            j += 4;
+        }
+        int integer = value <= Integer.MAX_VALUE ? (int) value : 0;
+        double amount = integer;
+        boolean decimal = false;
+        if (j + 1 < end && (s.charAt(j) == '.' || s.charAt(j) == ',') && isDigit(s.charAt(j + 1))) {
+            int k = j + 1;
+            long mantissa = integer;
+            int digits = 0;
+            while (k < end && isDigit(s.charAt(k))) {
+                if (digits < POW10.length - 1) {
+                    mantissa = mantissa * 10 + (s.charAt(k) - '0');
+                    digits++;
+                }
+                k++;
+            }
+            amount = (double) mantissa / POW10[digits];
+            decimal = true;
+            j = k;
+        }
+
+        if (!scan.xFound && i > 0 && Character.toLowerCase(s.charAt(i - 1)) == 'x') {
+            scan.xFound = true;
+            scan.x = integer;
+        }
+        if (!decimal && !scan.plusFound && j + 1 < end && s.charAt(j) == '+' && isDigit(s.charAt(j + 1))) {
+            scan.plusFound = true;
+            scan.plus = integer;
+        }
+
+        int p = j;
+        while (p < end && isSpace(s.charAt(p))) p++;
+        if (p == end) return j;
+        long match = DICTIONARY.longest(s, p, end);
+        if (match < 0) return j;
+        int word = (int) (match >>> 32);
+        int kinds = DICTIONARY.kinds[word];
+        if ((kinds & VOLUME) != 0 && !scan.volumeFound) {
+            scan.volumeFound = true;
+            scan.amount = amount;
+            scan.volumeUnit = DICTIONARY.volumeUnit[word];
+        }
+        if ((kinds & COUNT) != 0 && !decimal && !scan.countFound) {
+            scan.countFound = true;
+            scan.count = integer;
+        }
+        scan.apply(word);
+        return (int) match;
+    }
+
+    // 자릿수가 너무 많으면 int 범위를 넘긴 값으로 고정 (수량으로 쓰지 않음)
+    private static long accumulate(long value, char digit) {
+        return value > Integer.MAX_VALUE ? value : value * 10 + (digit - '0');
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f' || c == '\u000B' || c == '\u00a0';
+    }
+
+    // 단어 안에서 건너뛸 수 있는 공백 (줄바꿈은 제외)
+    private static boolean isInlineSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\u00a0';
+    }
+
+    private static boolean isBullet(char c) {
+        return switch (c) {
+            case '|', '▶', '▷', '•', '·', '●', '■', '◆', '◇', '☆', '★' -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * 훑는 동안 모은 값 (호출마다 하나)
+     */
+    private static final class Scan {
+        boolean xFound;
+        int x;
+        boolean countFound;
+        int count;
+        boolean plusFound;
+        int plus;
+        boolean volumeFound;
+        double amount;
+        String volumeUnit;
+        int containerRank = Integer.MAX_VALUE;
+        String container;
+        boolean piece;
+        boolean beverage;
+        int food = -1;
+        boolean banned;
+        int labelQuantity = -1;
+
+        void apply(int word) {
+            int kinds = DICTIONARY.kinds[word];
+            if ((kinds & CONTAINER) != 0 && DICTIONARY.containerRank[word] < containerRank) {
+                containerRank = DICTIONARY.containerRank[word];
+                container = DICTIONARY.containerUnit[word];
+            }
+            if ((kinds & PIECE) != 0) piece = true;
+            if ((kinds & BEVERAGE) != 0) beverage = true;
+            if ((kinds & FOOD) != 0 && food < 0) food = word;
+            if ((kinds & BAN) != 0) banned = true;
+        }
+
+        // "수량 : 2" (처음 한 번)
+        void labelQuantity(String s, int from, int end) {
+            if (labelQuantity >= 0) return;
+            int k = from;
+            while (k < end && isSpace(s.charAt(k))) k++;
+            if (k == end || (s.charAt(k) != ':' && s.charAt(k) != '=')) return;
+            k++;
+            while (k < end && isSpace(s.charAt(k))) k++;
+            long value = 0;
+            int start = k;
+            while (k < end && isDigit(s.charAt(k))) value = accumulate(value, s.charAt(k++));
+            if (k > start) labelQuantity = value <= Integer.MAX_VALUE ? (int) value : 0;
+        }
+
+        Integer quantity() {
+            int found = xFound ? x : countFound ? count : plusFound ? plus : -1;
+            return found > 0 ? found : null;
+        }
+
+        String unit() {
+            if (volumeFound) return volumeUnit;
+            if (container != null) return container;
+            if (piece) return DEFAULT_UNIT;
+            if (beverage) return "병";
+            return DEFAULT_UNIT;
+        }
+    }
+
+    /**
+     * 공백을 무시한 한글 연속 구간을 앞에서부터 6자씩 자른 묶음(2자 이상) 중 마지막 묶음
+     * 구간의 마지막 7자만 들고 있으면 된다.
+     */
+    private static final class HangulTail {
+        private static final int CHUNK = 6;
+        private final char[] tail = new char[CHUNK + 1];
+        private final char[] best = new char[CHUNK];
+        private int runLength;
+        private int bestLength;
+
+        void feed(char c) {
+            if (c < '가' || c > '힣') {
+                endRun();
+                return;
+            }
+            tail[runLength % tail.length] = c;
+            runLength++;
+        }
+
+        void endRun() {
+            if (runLength >= 2) {
+                int rest = runLength % CHUNK;
+                int length = rest == 1 ? CHUNK : rest == 0 ? CHUNK : rest;
+                int last = rest == 1 ? runLength - 1 : runLength; // 1자만 남으면 그 앞 묶음
+                for (int k = 0; k < length; k++) best[k] = tail[(last - length + k) % tail.length];
+                bestLength = length;
+            }
+            runLength = 0;
+        }
+
+        String last() {
+            endRun();
+            return bestLength > 0 ? new String(best, 0, bestLength) : null;
+        }
+    }
+
+    /**
+     * 사전 단어 목록 + 트라이
+     * 전이는 (노드, 문자) → 노드 개방 주소 해시 하나에 모아 한글처럼 알파벳이 큰 경우에도 노드당 배열을 두지 않는다.
+     */
+    private static final class Dictionary {
+
+        private final Map<String, Integer> index = new HashMap<>();
+        private final List<String> words = new ArrayList<>();
+        private final List<Integer> wordKinds = new ArrayList<>();
+        private final Map<Integer, String> volumeUnits = new HashMap<>();
+        private final Map<Integer, String> containerUnits = new HashMap<>();
+        private final Map<Integer, Integer> containerRanks = new HashMap<>();
+        private int nextRank;
+
+        String[] text;
+        int[] kinds;
+        String[] volumeUnit;
+        String[] containerUnit;
+        int[] containerRank;
+
+        private long[] edgeKeys;
+        private int[] edgeTargets;
+        private int[] wordAt;
+
+        Dictionary add(int kind, String... entries) {
+            for (String entry : entries) {
+                int word = index.computeIfAbsent(entry, e -> {
+                    words.add(e);
+                    wordKinds.add(0);
+                    return words.size() - 1;
+                });
+                wordKinds.set(word, wordKinds.get(word) | kind);
+            }
+            return this;
+        }
+
+        Dictionary volume(String unit, String... entries) {
+            add(VOLUME, entries);
+            for (String entry : entries) volumeUnits.put(index.get(entry), unit);
+            return this;
+        }
+
+        Dictionary container(String unit, String... entries) {
+            add(CONTAINER, entries);
+            int rank = nextRank++;
+            for (String entry : entries) {
+                containerUnits.put(index.get(entry), unit);
+                containerRanks.put(index.get(entry), rank);
+            }
+            return this;
+        }
+
+        Dictionary compile() {
+            int size = words.size();
+            text = words.toArray(String[]::new);
+            kinds = new int[size];
+            volumeUnit = new String[size];
+            containerUnit = new String[size];
+            containerRank = new int[size];
+            int capacity = 1;
+            for (int w = 0; w < size; w++) {
+                kinds[w] = wordKinds.get(w);
+                volumeUnit[w] = volumeUnits.get(w);
+                containerUnit[w] = containerUnits.get(w);
+                containerRank[w] = containerRanks.getOrDefault(w, Integer.MAX_VALUE);
+                capacity += text[w].length();
+            }
+            wordAt = new int[capacity];
+            Arrays.fill(wordAt, -1);
+            edgeKeys = new long[Integer.highestOneBit(Math.max(4, capacity * 2)) * 2];
+            edgeTargets = new int[edgeKeys.length];
+            int nodeCount = 1;
+            for (int w = 0; w < size; w++) {
+                int node = 0;
+                for (int k = 0; k < text[w].length(); k++) {
+                    char c = text[w].charAt(k);
+                    int next = next(node, c);
+                    if (next < 0) {
+                        next = nodeCount++;
+                        putEdge(node, c, next);
+                    }
+                    node = next;
+                }
+                wordAt[node] = w;
+            }
+            return this;
+        }
+
+        /**
+         * from에서 시작하는 가장 긴 사전 단어 (단어 사이 공백 한 칸은 건너뜀, 대소문자 무시)
+         *
+         * @return (단어 번호 << 32 | 끝 위치), 없으면 -1
+         */
+        long longest(String s, int from, int end) {
+            int node = 0;
+            int best = -1;
+            int bestEnd = -1;
+            boolean previousSpace = false;
+            for (int k = from; k < end; k++) {
+                char c = s.charAt(k);
+                if (isInlineSpace(c)) {
+                    if (k == from || previousSpace) break;
+                    previousSpace = true;
+                    continue;
+                }
+                previousSpace = false;
+                node = next(node, Character.toLowerCase(c));
+                if (node < 0) break;
+                if (wordAt[node] >= 0) {
+                    best = wordAt[node];
+                    bestEnd = k + 1;
+                }
+            }
+            return best < 0 ? -1 : ((long) best << 32) | bestEnd;
+        }
+
+        private int next(int node, char c) {
+            long key = edgeKey(node, c);
+            int mask = edgeKeys.length - 1;
+            for (int slot = mix(key) & mask; ; slot = (slot + 1) & mask) {
+                long k = edgeKeys[slot];
+                if (k == 0) return -1;
+                if (k == key) return edgeTargets[slot];
+            }
+        }
+
+        private void putEdge(int node, char c, int target) {
+            long key = edgeKey(node, c);
+            int mask = edgeKeys.length - 1;
+            int slot = mix(key) & mask;
+            while (edgeKeys[slot] != 0) slot = (slot + 1) & mask;
+            edgeKeys[slot] = key;
+            edgeTargets[slot] = target;
+        }
+
+        // 0은 빈 슬롯 표시용이므로 문자에 1을 더해 키가 0이 되지 않게 한다
+        private static long edgeKey(int node, char c) {
+            return ((long) node << 17) | (c + 1L);
+        }
+
+        private static int mix(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.capstone.web.refrigerator.service;
+
+import com.capstone.web.refrigerator.dto.RefrigeratorDto.ScanPurchaseHistoryResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * 영수증 이미지 파싱 결과 캐시 (이미지 내용 해시 기준)
+ * <p>
+ * 같은 영수증을 다시 올리면(실패/중단 후 재시도 등) Gemini를 다시 호출하지 않고 이전 결과를 돌려준다.
+ * <ul>
+ *   <li>키: SHA-256(모델명, 프롬프트, 전처리 설정, MIME 타입, 이미지 바이트) — 모델/프롬프트/전처리가 바뀌면 자연히 다른 키</li>
+ *   <li>메모리 계층: 크기/TTL 제한 Caffeine, 같은 키의 동시 요청은 모델 호출 1회를 공유 (single-flight)</li>
+ *   <li>영속 계층: receipt_parse_cache 테이블 (재기동/다른 인스턴스에서도 적중), store-ttl-days가 지나면 정리</li>
+ *   <li>실패 결과는 캐시하지 않으며, 영속 계층 오류는 캐시 미스로 보고 모델을 호출한다</li>
+ *   <li>빈 결과나 완결된 JSON이 아닌 결과(자유 텍스트 fallback, 끊긴 스트림)도 캐시하지 않는다 ({@link Loaded#cacheable()})</li>
+ * </ul>
+ * 메모리 적중률은 Caffeine 통계(refrigerator.receipt.parse.cache), 영속 계층 적중/미스는 .store 카운터로 노출한다.
+ */
+@Slf4j
+@Component
+public class ReceiptParseCache {
+
+    public static final String CACHE_NAME = "refrigerator.receipt.parse.cache";
+
+    private static final String SELECT_SQL =
+            "SELECT result_json FROM receipt_parse_cache WHERE cache_key = ? AND created_at >= ?";
+    private static final String UPSERT_SQL =
+            "INSERT INTO receipt_parse_cache (cache_key, model, result_json, created_at) VALUES (?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE result_json = VALUES(result_json), created_at = VALUES(created_at)";
+    private static final String DELETE_EXPIRED_SQL = "DELETE FROM receipt_parse_cache WHERE created_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final AsyncCache<String, ScanPurchaseHistoryResponse> cache;
+    private final Duration storeTtl;
+    private final Counter storeHitCounter;
+    private final Counter storeMissCounter;
+
+    public ReceiptParseCache(JdbcTemplate jdbcTemplate,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${refrigerator.receipt-scan.cache.max-size:1000}") long maxSize,
+                             @Value("${refrigerator.receipt-scan.cache.ttl-ms:3600000}") long ttlMillis,
+                             @Value("${refrigerator.receipt-scan.cache.store-ttl-days:30}") long storeTtlDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.storeTtl = Duration.ofDays(storeTtlDays);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+        this.storeHitCounter = Counter.builder(CACHE_NAME + ".store")
+                .tag("result", "hit")
+                .description("영속 계층에서 찾은 영수증 파싱 결과 수")
+                .register(meterRegistry);
+        this.storeMissCounter = Counter.builder(CACHE_NAME + ".store")
+                .tag("result", "miss")
+                .description("영속 계층에도 없어 모델을 호출한 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 키 (SHA-256 hex)
+     *
+     * @param preprocessing 원본 이미지에 적용할 전처리 설정 ({@link ReceiptImagePreprocessor#settingsKey()})
+     */
+    public static String key(String model, String prompt, String preprocessing, String mimeType, byte[] image) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : List.of(model, prompt, preprocessing, mimeType)) {
+                digest.update(part.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            digest.update(image);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 캐시된 파싱 결과, 없으면 영속 계층 → loader(모델 호출) 순으로 채운다
+     * 같은 키의 동시 요청은 먼저 온 요청의 결과를 기다린다. 캐시할 수 없는 결과는 그 요청들에만 돌려주고 버린다.
+     */
+    public ScanPurchaseHistoryResponse get(String key, String model, Supplier<Loaded> loader) {
+        CompletableFuture<ScanPurchaseHistoryResponse> mine = new CompletableFuture<>();
+        CompletableFuture<ScanPurchaseHistoryResponse> future = cache.get(key, (k, executor) -> mine);
+        if (future != mine) {
+            return join(future);
+        }
+        // 이 요청이 채우는 쪽: 호출 스레드(스캔 작업 스레드)에서 바로 적재
+        try {
+            ScanPurchaseHistoryResponse result = loadFromStore(key);
+            boolean cacheable = true;
+            if (result == null) {
+                Loaded loaded = loader.get();
+                result = loaded.result();
+                cacheable = loaded.cacheable();
+                if (cacheable) {
+                    saveToStore(key, model, result);
+                } else {
+                    log.info("[REF-04] 불완전한 영수증 파싱 결과는 캐시하지 않음: key={}", key);
+                }
+            }
+            mine.complete(result);
+            if (!cacheable) {
+                // 기다리던 요청에는 전달하고, 다음 요청은 모델을 다시 호출하도록 메모리 계층에서 제거
+                cache.asMap().remove(key, mine);
+            }
+            return result;
+        } catch (RuntimeException e) {
+            // 실패한 future는 Caffeine이 제거하므로 다음 요청은 다시 시도한다
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 영속 계층 항목 정리
+     */
+    @Scheduled(cron = "${refrigerator.receipt-scan.cache.cleanup-cron:0 40 4 * * *}")
+    public void evictExpired() {
+        int deleted = jdbcTemplate.update(DELETE_EXPIRED_SQL, Timestamp.valueOf(LocalDateTime.now().minus(storeTtl)));
+        if (deleted > 0) {
+            log.info("[REF-04] 영수증 파싱 캐시 정리: deleted={}", deleted);
+        }
+    }
+
+    // 메모리 계층만 비운다 (영속 계층 적중 확인용)
+    void invalidateMemory() {
+        cache.synchronous().invalidateAll();
+    }
+
+    private ScanPurchaseHistoryResponse loadFromStore(String key) {
+        try {
+            List<String> rows = jdbcTemplate.queryForList(SELECT_SQL, String.class,
+                    key, Timestamp.valueOf(LocalDateTime.now().minus(storeTtl)));
+            if (rows.isEmpty()) {
+                storeMissCounter.increment();
+                return null;
+            }
+            storeHitCounter.increment();
+            return objectMapper.readValue(rows.get(0), ScanPurchaseHistoryResponse.class);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("[REF-04] 영수증 파싱 캐시 조회 실패 (모델 호출로 대체): key={}, cause={}", key, e.getMessage());
+            storeMissCounter.increment();
+            return null;
+        }
+    }
+
+    private void saveToStore(String key, String model, ScanPurchaseHistoryResponse result) {
+        try {
+            jdbcTemplate.update(UPSERT_SQL, key, model, objectMapper.writeValueAsString(result),
+                    Timestamp.valueOf(LocalDateTime.now()));
+        } catch (DataAccessException | JsonProcessingException e) {
+            // 메모리 계층에는 남으므로 요청은 성공 처리
+            log.warn("[REF-04] 영수증 파싱 캐시 저장 실패: key={}, cause={}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * loader 결과와 캐시 가능 여부
+     * 다시 호출하면 나아질 수 있는 결과(빈 응답, SAFETY 차단, 자유 텍스트 fallback, 끊긴 스트림)는 cacheable=false
+     */
+    public record Loaded(ScanPurchaseHistoryResponse result, boolean cacheable) {
+
+        public static Loaded complete(ScanPurchaseHistoryResponse result) {
+            return new Loaded(result, true);
+        }
+
+        public static Loaded incomplete(ScanPurchaseHistoryResponse result) {
+            return new Loaded(result, false);
+        }
+    }
+
+    private static ScanPurchaseHistoryResponse join(CompletableFuture<ScanPurchaseHistoryResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+}
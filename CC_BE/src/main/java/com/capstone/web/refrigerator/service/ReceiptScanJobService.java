@@ -0,0 +1,486 @@
+package com.capstone.web.refrigerator.service;
+
+import com.capstone.web.refrigerator.dto.RefrigeratorDto;
+import com.capstone.web.refrigerator.exception.RefrigeratorErrorCode;
+import com.capstone.web.refrigerator.exception.ScanBatchTooLargeException;
+import com.capstone.web.refrigerator.exception.ScanJobNotFoundException;
+import com.capstone.web.refrigerator.exception.ScanRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 영수증 스캔 비동기 작업 (REF-04)
+ * <p>
+ * Gemini 호출은 수 초~수십 초 걸리므로 요청 스레드/DB 커넥션을 잡지 않도록 작업으로 접수하고 바로 작업 id를 돌려준다.
+ * <ul>
+ *   <li>전용 스레드 풀(refrigerator.receipt-scan.workers)과 길이 제한 큐에서 실행, 큐가 가득 차면 429로 거절</li>
+ *   <li>회원별 진행 중(대기+실행) 작업 수 제한 (max-per-member), 초과 시 429</li>
+ *   <li>결과는 폴링(get) 또는 SSE(subscribe)로 조회, 완료 후 result-ttl-ms 동안 보관</li>
+ *   <li>모델 응답을 스트리밍으로 받으며 품목이 닫히는 대로 "item" SSE 이벤트로 보내고, 실행 중 조회에도 지금까지의 품목을 담는다</li>
+ *   <li>여러 장 스캔(scanBatch)은 장마다 같은 풀에 동시에 넣으므로 풀 크기가 전체 모델 동시 호출 상한이다</li>
+ *   <li>지표: 큐 길이/실행 중 작업 수, 큐 대기 시간, 모델 호출 시간, 첫 품목까지 시간, 거절 수</li>
+ * </ul>
+ * 작업 상태는 인스턴스 메모리에만 있으므로 조회는 접수한 인스턴스로 와야 한다 (재기동 시 유실).
+ */
+@Slf4j
+@Component
+public class ReceiptScanJobService {
+
+    public enum Status {
+        QUEUED, RUNNING, SUCCEEDED, FAILED;
+
+        boolean terminal() {
+            return this == SUCCEEDED || this == FAILED;
+        }
+    }
+
+    private static final String STATUS_EVENT = "status";
+    private static final String ITEM_EVENT = "item";
+
+    private final GeminiService geminiService;
+    private final ThreadPoolExecutor executor;
+    private final int maxPerMember;
+    private final long resultTtlMillis;
+    private final long sseTimeoutMillis;
+    private final long syncTimeoutMillis;
+    private final int batchMaxImages;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> activeByMember = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+    private final Timer waitTimer;
+    private final Timer firstItemTimer;
+    private final Counter queueFullCounter;
+    private final Counter memberLimitCounter;
+
+    public ReceiptScanJobService(GeminiService geminiService,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${refrigerator.receipt-scan.workers:4}") int workers,
+                                 @Value("${refrigerator.receipt-scan.queue-capacity:32}") int queueCapacity,
+                                 @Value("${refrigerator.receipt-scan.max-per-member:2}") int maxPerMember,
+                                 @Value("${refrigerator.receipt-scan.result-ttl-ms:600000}") long resultTtlMillis,
+                                 @Value("${refrigerator.receipt-scan.sse-timeout-ms:120000}") long sseTimeoutMillis,
+                                 @Value("${refrigerator.receipt-scan.sync-timeout-ms:90000}") long syncTimeoutMillis,
+                                 @Value("${refrigerator.receipt-scan.batch-max-images:10}") int batchMaxImages) {
+        this.geminiService = geminiService;
+        this.maxPerMember = maxPerMember;
+        this.resultTtlMillis = resultTtlMillis;
+        this.sseTimeoutMillis = sseTimeoutMillis;
+        this.syncTimeoutMillis = syncTimeoutMillis;
+        this.batchMaxImages = batchMaxImages;
+        AtomicInteger seq = new AtomicInteger();
+        // 큐가 가득 차면 요청 스레드에서 실행하지 않고 거절 (429 역압)
+        this.executor = new ThreadPoolExecutor(workers, workers, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "receipt-scan-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("refrigerator.receipt.scan.queue", executor, e -> e.getQueue().size())
+                .description("대기 중인 영수증 스캔 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("refrigerator.receipt.scan.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 영수증 스캔 작업 수")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("refrigerator.receipt.scan.wait")
+                .description("영수증 스캔 작업 큐 대기 시간")
+                .register(meterRegistry);
+        this.firstItemTimer = Timer.builder("refrigerator.receipt.scan.first-item")
+                .description("모델 호출 시작부터 첫 품목을 받기까지 걸린 시간 (스트리밍)")
+                .register(meterRegistry);
+        this.queueFullCounter = Counter.builder("refrigerator.receipt.scan.rejected")
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        this.memberLimitCounter = Counter.builder("refrigerator.receipt.scan.rejected")
+                .tag("reason", "member_limit")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 스캔할 이미지 (요청 스레드에서 읽어 둔 바이트)
+     */
+    public record ScanImage(byte[] bytes, String contentType) {
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 스캔 작업 접수
+     *
+     * @param image 이미지 바이트 (업로드 임시 파일은 요청이 끝나면 지워지므로 요청 스레드에서 읽어 둔 값)
+     * @throws ScanRejectedException 회원별 한도 초과 또는 작업 큐 포화
+     */
+    public RefrigeratorDto.ScanJobResponse submit(Long memberId, byte[] image, String contentType) {
+        return enqueue(memberId, image, contentType).toResponse();
+    }
+
+    /**
+     * 작업 상태 조회 (다른 회원의 작업은 존재를 드러내지 않도록 없는 것으로 처리)
+     */
+    public RefrigeratorDto.ScanJobResponse get(Long memberId, String jobId) {
+        return find(memberId, jobId).toResponse();
+    }
+
+    /**
+     * 작업 상태 SSE 구독
+     * 구독 즉시 현재 상태를 보내고, 상태가 바뀔 때마다 "status" 이벤트를 보낸 뒤 완료되면 스트림을 닫는다.
+     */
+    public SseEmitter subscribe(Long memberId, String jobId) {
+        Job job = find(memberId, jobId);
+        SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+        synchronized (job) {
+            if (!send(emitter, STATUS_EVENT, job.toResponse())) return emitter;
+            if (job.status.terminal()) {
+                emitter.complete();
+                return emitter;
+            }
+            job.emitters.add(emitter);
+        }
+        Runnable remove = () -> job.emitters.remove(emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+        return emitter;
+    }
+
+    /**
+     * 동기 스캔 (기존 API 호환): 같은 스레드 풀/한도를 거쳐 실행하고 결과를 기다린다
+     */
+    public RefrigeratorDto.ScanPurchaseHistoryResponse scan(Long memberId, byte[] image, String contentType) {
+        Job job = enqueue(memberId, image, contentType);
+        try {
+            return job.done.get(syncTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : new RuntimeException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new RuntimeException("영수증 스캔 시간이 초과되었습니다. jobId=" + job.id);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("영수증 스캔이 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * 여러 장 동기 스캔 (긴 영수증, 여러 페이지 주문 내역 캡처)
+     * <p>
+     * 장마다 모델 호출을 작업 풀에 한꺼번에 넣어 동시에 실행하므로 전체 시간은 대략 가장 느린 한 장의 호출 시간이다.
+     * 묶음 전체가 회원 한도 1건이고, 큐에 다 들어가지 못하면 묶음 전체를 거절한다.
+     * 한 장이라도 실패하면 남은 장은 건너뛰고 실패로 끝낸다 (성공한 장은 파싱 캐시에 남으므로 재시도가 빠르다).
+     *
+     * @return 모든 장의 품목을 합친 결과 (이름/단위가 같은 품목은 수량 합산)
+     * @throws ScanBatchTooLargeException 이미지 수가 batch-max-images 초과
+     */
+    public RefrigeratorDto.ScanPurchaseHistoryResponse scanBatch(Long memberId, List<ScanImage> images) {
+        if (images.size() > batchMaxImages) {
+            throw new ScanBatchTooLargeException(batchMaxImages);
+        }
+        acquire(memberId);
+        long submittedNanos = System.nanoTime();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        List<CompletableFuture<RefrigeratorDto.ScanPurchaseHistoryResponse>> pages = new ArrayList<>(images.size());
+        try {
+            for (ScanImage image : images) {
+                CompletableFuture<RefrigeratorDto.ScanPurchaseHistoryResponse> page = new CompletableFuture<>();
+                executor.execute(() -> runPage(page, image, submittedNanos, cancelled));
+                pages.add(page);
+            }
+        } catch (RejectedExecutionException e) {
+            cancelled.set(true);
+            release(memberId);
+            queueFullCounter.increment();
+            log.warn("[REF-04] 영수증 스캔 큐 포화로 여러 장 스캔 거절 - memberId={}, images={}, queue={}",
+                    memberId, images.size(), executor.getQueue().size());
+            throw new ScanRejectedException(RefrigeratorErrorCode.SCAN_QUEUE_FULL, 5);
+        }
+        log.info("[REF-04] 영수증 여러 장 스캔 접수 - memberId={}, images={}", memberId, images.size());
+
+        // 한 장이라도 실패하면 나머지를 기다리지 않는다
+        CompletableFuture<Void> all = CompletableFuture.allOf(pages.toArray(CompletableFuture[]::new));
+        pages.forEach(page -> page.whenComplete((result, e) -> {
+            if (e != null) all.completeExceptionally(e);
+        }));
+        try {
+            all.get(syncTimeoutMillis, TimeUnit.MILLISECONDS);
+            List<RefrigeratorDto.ScanPurchaseHistoryResponse> results = new ArrayList<>(pages.size());
+            for (CompletableFuture<RefrigeratorDto.ScanPurchaseHistoryResponse> page : pages) results.add(page.join());
+            return merge(results);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException ce && ce.getCause() != null ? ce.getCause() : e.getCause();
+            throw cause instanceof RuntimeException re ? re : new RuntimeException(cause);
+        } catch (TimeoutException e) {
+            throw new RuntimeException("영수증 스캔 시간이 초과되었습니다. images=" + images.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("영수증 스캔이 중단되었습니다.", e);
+        } finally {
+            cancelled.set(true);
+            release(memberId);
+        }
+    }
+
+    /**
+     * 장별 품목 합치기: 이름(공백/대소문자 무시)과 단위가 같으면 수량을 더한다 (처음 나온 순서/표기 유지)
+     */
+    static RefrigeratorDto.ScanPurchaseHistoryResponse merge(List<RefrigeratorDto.ScanPurchaseHistoryResponse> pages) {
+        Map<String, RefrigeratorDto.ScanPurchaseHistoryResponse.PurchasedItem> merged = new LinkedHashMap<>();
+        for (RefrigeratorDto.ScanPurchaseHistoryResponse page : pages) {
+            if (page == null || page.getItems() == null) continue;
+            for (RefrigeratorDto.ScanPurchaseHistoryResponse.PurchasedItem item : page.getItems()) {
+                if (item.getName() == null || item.getName().isBlank()) continue;
+                String unit = item.getUnit() != null ? item.getUnit().trim().toLowerCase(Locale.ROOT) : "";
+                String key = item.getName().replaceAll("\\s+", "").toLowerCase(Locale.ROOT) + '\u0000' + unit;
+                merged.merge(key, item, (first, next) -> RefrigeratorDto.ScanPurchaseHistoryResponse.PurchasedItem.builder()
+                        .name(first.getName())
+                        .quantity(quantity(first) + quantity(next))
+                        .unit(first.getUnit())
+                        .weight(first.getWeight())
+                        .build());
+            }
+        }
+        return RefrigeratorDto.ScanPurchaseHistoryResponse.builder()
+                .items(new ArrayList<>(merged.values()))
+                .build();
+    }
+
+    private static int quantity(RefrigeratorDto.ScanPurchaseHistoryResponse.PurchasedItem item) {
+        return item.getQuantity() != null ? item.getQuantity() : 1;
+    }
+
+    /**
+     * 보관 기간이 지난 완료 작업 정리
+     */
+    @Scheduled(fixedDelayString = "${refrigerator.receipt-scan.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        long cutoff = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(resultTtlMillis);
+        jobs.values().removeIf(job -> job.status.terminal() && job.completedNanos - cutoff < 0);
+    }
+
+    private Job enqueue(Long memberId, byte[] image, String contentType) {
+        acquire(memberId);
+        Job job = new Job(UUID.randomUUID().toString(), memberId);
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job, image, contentType));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            release(memberId);
+            queueFullCounter.increment();
+            log.warn("[REF-04] 영수증 스캔 큐 포화로 거절 - memberId={}, queue={}", memberId, executor.getQueue().size());
+            throw new ScanRejectedException(RefrigeratorErrorCode.SCAN_QUEUE_FULL, 5);
+        }
+        log.info("[REF-04] 영수증 스캔 작업 접수 - memberId={}, jobId={}, size={} bytes", memberId, job.id, image.length);
+        return job;
+    }
+
+    private void run(Job job, byte[] image, String contentType) {
+        waitTimer.record(System.nanoTime() - job.submittedNanos, TimeUnit.NANOSECONDS);
+        job.update(Status.RUNNING, null, null);
+        publish(job);
+
+        RefrigeratorDto.ScanPurchaseHistoryResponse result = null;
+        RuntimeException failure = null;
+        try {
+            long start = System.nanoTime();
+            result = callModel(image, contentType, item -> publishItem(job, item, start));
+        } catch (RuntimeException e) {
+            failure = e;
+        } finally {
+            // 결과를 알리기 전에 한도를 반납 (완료 직후 다음 스캔을 요청해도 한도에 걸리지 않도록)
+            release(job.memberId);
+        }
+
+        if (failure == null) {
+            job.update(Status.SUCCEEDED, result, null);
+            publish(job);
+            job.done.complete(result);
+        } else {
+            log.warn("[REF-04] 영수증 스캔 실패 - memberId={}, jobId={}, cause={}", job.memberId, job.id, failure.getMessage());
+            job.update(Status.FAILED, null, failure.getMessage());
+            publish(job);
+            job.done.completeExceptionally(failure);
+        }
+    }
+
+    // 여러 장 스캔의 한 장 (다른 장이 실패했거나 호출자가 포기했으면 모델을 호출하지 않음)
+    private void runPage(CompletableFuture<RefrigeratorDto.ScanPurchaseHistoryResponse> page, ScanImage image,
+                         long submittedNanos, AtomicBoolean cancelled) {
+        waitTimer.record(System.nanoTime() - submittedNanos, TimeUnit.NANOSECONDS);
+        if (cancelled.get()) {
+            page.cancel(false);
+            return;
+        }
+        try {
+            page.complete(callModel(image.bytes(), image.contentType(), null));
+        } catch (RuntimeException e) {
+            // 실패를 먼저 알린 뒤 나머지 장을 취소 (취소가 실패 원인을 가리지 않도록)
+            page.completeExceptionally(e);
+            cancelled.set(true);
+        }
+    }
+
+    /**
+     * @param onItem 품목을 받는 대로 넘길 곳 (null이면 스트리밍 없이 한 번에)
+     */
+    private RefrigeratorDto.ScanPurchaseHistoryResponse callModel(
+            byte[] image, String contentType,
+            Consumer<RefrigeratorDto.ScanPurchaseHistoryResponse.PurchasedItem> onItem) {
+        long start = System.nanoTime();
+        String outcome = "failure";
+        try {
+            RefrigeratorDto.ScanPurchaseHistoryResponse result = onItem != null
+                    ? geminiService.parseReceiptImageStreaming(image, contentType, onItem)
+                    : geminiService.parseReceiptImage(image, contentType);
+            outcome = "success";
+            return result;
+        } finally {
+            Timer.builder("refrigerator.receipt.scan.model")
+                    .description("영수증 스캔 모델 호출 시간")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void acquire(Long memberId) {
+        activeByMember.compute(memberId, (id, active) -> {
+            int current = active != null ? active : 0;
+            if (current >= maxPerMember) {
+                memberLimitCounter.increment();
+                throw new ScanRejectedException(RefrigeratorErrorCode.SCAN_MEMBER_LIMIT, 10);
+            }
+            return current + 1;
+        });
+    }
+
+    private void release(Long memberId) {
+        activeByMember.computeIfPresent(memberId, (id, active) -> active > 1 ? active - 1 : null);
+    }
+
+    private Job find(Long memberId, String jobId) {
+        Job job = jobId != null ? jobs.get(jobId) : null;
+        if (job == null || !job.memberId.equals(memberId)) {
+            throw new ScanJobNotFoundException();
+        }
+        return job;
+    }
+
+    private void publish(Job job) {
+        synchronized (job) {
+            if (job.emitters.isEmpty()) return;
+            RefrigeratorDto.ScanJobResponse response = job.toResponse();
+            for (SseEmitter emitter : job.emitters) {
+                if (send(emitter, STATUS_EVENT, response) && job.status.terminal()) emitter.complete();
+            }
+            if (job.status.terminal()) job.emitters.clear();
+        }
+    }
+
+    // 스트리밍으로 받은 품목: 실행 중 조회 결과에 쌓고 구독자에게 바로 보낸다
+    private void publishItem(Job job, RefrigeratorDto.ScanPurchaseHistoryResponse.PurchasedItem item, long startNanos) {
+        synchronized (job) {
+            if (job.partial.isEmpty()) {
+                firstItemTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            }
+            job.partial.add(item);
+            for (SseEmitter emitter : job.emitters) {
+                send(emitter, ITEM_EVENT, item);
+            }
+        }
+    }
+
+    private static boolean send(SseEmitter emitter, String event, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(data));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료 (폴링으로 다시 조회 가능)
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private static final class Job {
+        final String id;
+        final Long memberId;
+        final long submittedNanos = System.nanoTime();
+        final LocalDateTime submittedAt = LocalDateTime.now();
+        final CompletableFuture<RefrigeratorDto.ScanPurchaseHistoryResponse> done = new CompletableFuture<>();
+        final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        final List<RefrigeratorDto.ScanPurchaseHistoryResponse.PurchasedItem> partial = new ArrayList<>();
+
+        volatile Status status = Status.QUEUED;
+        volatile LocalDateTime startedAt;
+        volatile LocalDateTime completedAt;
+        volatile long completedNanos;
+        volatile RefrigeratorDto.ScanPurchaseHistoryResponse result;
+        volatile String error;
+
+        Job(String id, Long memberId) {
+            this.id = id;
+            this.memberId = memberId;
+        }
+
+        synchronized void update(Status next, RefrigeratorDto.ScanPurchaseHistoryResponse result, String error) {
+            if (next == Status.RUNNING) {
+                startedAt = LocalDateTime.now();
+            } else {
+                completedAt = LocalDateTime.now();
+                completedNanos = System.nanoTime();
+                this.result = result;
+                this.error = error;
+            }
+            status = next;
+        }
+
+        synchronized RefrigeratorDto.ScanJobResponse toResponse() {
+            return RefrigeratorDto.ScanJobResponse.builder()
+                    .jobId(id)
+                    .status(status.name())
+                    .submittedAt(submittedAt)
+                    .startedAt(startedAt)
+                    .completedAt(completedAt)
+                    .items(result != null ? result.getItems() : partial.isEmpty() ? null : List.copyOf(partial))
+                    .error(error)
+                    .build();
+        }
+    }
+}
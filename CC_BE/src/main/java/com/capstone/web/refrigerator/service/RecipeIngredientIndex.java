@@ -0,0 +1,311 @@
+package com.capstone.web.refrigerator.service;
+
+import com.capstone.web.ingredient.service.IngredientKey;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 냉장고 기반 레시피 추천용 재료 역색인 (메모리)
+ * <p>
+ * <ul>
+ *   <li>매칭 키(대표 재료 id + 정규화된 이름) → 레시피 문서 번호 posting list (int 배열, 같은 재료가 여러 번이면 중복 기록)</li>
+ *   <li>추천 시 보유 재료와 id가 같거나 이름이 일치/포함 관계인 키만 찾아 해당 posting만 순회 (공통 재료가 있는 레시피만 점수 계산)</li>
+ *   <li>상위 N은 크기 N의 힙으로 선별</li>
+ * </ul>
+ * 매칭 규칙은 {@link IngredientMatcher}와 같다: 둘 다 사전에 있으면 대표 재료 id가 같을 때,
+ * 한쪽이라도 사전에 없으면 정규화된 이름이 같거나 한쪽이 다른 쪽을 포함할 때 일치.
+ * 매칭률 = 일치 재료 수 / 전체 재료 수 * 100, 0%는 제외, 매칭률 내림차순(동률은 레시피 ID 오름차순).
+ */
+@Component
+public class RecipeIngredientIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile State state = new State();
+    private volatile boolean built = false;
+
+    public record Ingredient(String name, IngredientKey key, Long quantity, String unit) {
+    }
+
+    public record IndexedRecipe(Long id, String title, Integer cookTimeInMinutes, Integer servings, String difficulty,
+                                String imageUrl, List<Ingredient> ingredients) {
+    }
+
+    /**
+     * 추천 결과 1건 (matchedNames: 레시피 재료 순서대로의 일치 재료 원본 이름)
+     */
+    public record Match(IndexedRecipe recipe, double matchRate, List<String> matchedNames) {
+    }
+
+    public boolean isBuilt() {
+        return built;
+    }
+
+    public int size() {
+        return state.docByPostId.size();
+    }
+
+    /**
+     * 레시피 추가 또는 교체
+     */
+    public void upsert(IndexedRecipe recipe) {
+        lock.writeLock().lock();
+        try {
+            state.remove(recipe.id());
+            state.add(recipe);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return 색인에 있던 레시피였는지 여부
+     */
+    public boolean remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            return state.remove(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 교체 (재구축 결과 반영)
+     */
+    public void replaceAll(Collection<IndexedRecipe> recipes) {
+        State fresh = new State();
+        recipes.forEach(fresh::add);
+        lock.writeLock().lock();
+        try {
+            state = fresh;
+            built = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 보유 재료 기반 상위 N 레시피
+     *
+     * @param fridgeKeys 보유 재료 매칭 키
+     */
+    public List<Match> recommend(Collection<IngredientKey> fridgeKeys, int limit) {
+        if (fridgeKeys.isEmpty() || limit <= 0) return List.of();
+        lock.readLock().lock();
+        try {
+            return state.recommend(fridgeKeys, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static final class State {
+        private final Map<IngredientKey, IntList> postings = new HashMap<>();
+        private final Map<Integer, Set<IngredientKey>> keysById = new HashMap<>();
+        private final Map<String, Set<IngredientKey>> keysByName = new HashMap<>();
+        // "재료명 ⊇ 보유 재료명" 후보 탐색용: 문자 → 해당 문자를 포함한 재료명
+        private final Map<Character, Set<String>> namesByChar = new HashMap<>();
+        private final Map<Long, Integer> docByPostId = new HashMap<>();
+        private final List<IndexedRecipe> docs = new ArrayList<>();
+        private final IntList freeDocs = new IntList();
+
+        private void add(IndexedRecipe recipe) {
+            int doc;
+            if (freeDocs.size() > 0) {
+                doc = freeDocs.removeLast();
+                docs.set(doc, recipe);
+            } else {
+                doc = docs.size();
+                docs.add(recipe);
+            }
+            docByPostId.put(recipe.id(), doc);
+            for (Ingredient ingredient : recipe.ingredients()) {
+                IngredientKey key = ingredient.key();
+                IntList posting = postings.get(key);
+                if (posting == null) {
+                    posting = new IntList();
+                    postings.put(key, posting);
+                    register(key);
+                }
+                posting.add(doc);
+            }
+        }
+
+        private boolean remove(Long postId) {
+            Integer doc = docByPostId.remove(postId);
+            if (doc == null) return false;
+            IndexedRecipe recipe = docs.get(doc);
+            for (IngredientKey key : new HashSet<>(recipe.ingredients().stream().map(Ingredient::key).toList())) {
+                IntList posting = postings.get(key);
+                if (posting == null) continue;
+                posting.removeAll(doc);
+                if (posting.size() == 0) {
+                    postings.remove(key);
+                    unregister(key);
+                }
+            }
+            docs.set(doc, null);
+            freeDocs.add(doc);
+            return true;
+        }
+
+        private void register(IngredientKey key) {
+            if (key.resolved()) keysById.computeIfAbsent(key.canonicalId(), k -> new HashSet<>()).add(key);
+            Set<IngredientKey> sameName = keysByName.get(key.name());
+            if (sameName == null) {
+                sameName = new HashSet<>();
+                keysByName.put(key.name(), sameName);
+                for (char c : key.name().toCharArray()) {
+                    namesByChar.computeIfAbsent(c, k -> new HashSet<>()).add(key.name());
+                }
+            }
+            sameName.add(key);
+        }
+
+        private void unregister(IngredientKey key) {
+            if (key.resolved()) removeFrom(keysById, key.canonicalId(), key);
+            Set<IngredientKey> sameName = keysByName.get(key.name());
+            if (sameName == null || !sameName.remove(key) || !sameName.isEmpty()) return;
+            keysByName.remove(key.name());
+            for (char c : key.name().toCharArray()) {
+                removeFrom(namesByChar, c, key.name());
+            }
+        }
+
+        private static <K, V> void removeFrom(Map<K, Set<V>> index, K key, V value) {
+            Set<V> values = index.get(key);
+            if (values != null && values.remove(value) && values.isEmpty()) index.remove(key);
+        }
+
+        private List<Match> recommend(Collection<IngredientKey> fridgeKeys, int limit) {
+            Set<IngredientKey> matchedKeys = matchingKeys(fridgeKeys);
+            if (matchedKeys.isEmpty()) return List.of();
+
+            // 공통 재료가 있는 레시피만 일치 재료 수 집계
+            int[] counts = new int[docs.size()];
+            IntList touched = new IntList();
+            for (IngredientKey key : matchedKeys) {
+                IntList posting = postings.get(key);
+                for (int i = 0; i < posting.size(); i++) {
+                    int doc = posting.get(i);
+                    if (counts[doc]++ == 0) touched.add(doc);
+                }
+            }
+
+            // 최솟값(가장 낮은 순위)을 꺼내는 크기 limit 힙
+            Comparator<Scored> ranking = Comparator.comparingDouble(Scored::rate)
+                    .thenComparing(Comparator.comparingLong((Scored s) -> s.recipe().id()).reversed());
+            PriorityQueue<Scored> heap = new PriorityQueue<>(limit + 1, ranking);
+            for (int i = 0; i < touched.size(); i++) {
+                int doc = touched.get(i);
+                IndexedRecipe recipe = docs.get(doc);
+                double rate = (double) counts[doc] / recipe.ingredients().size() * 100;
+                heap.offer(new Scored(recipe, rate));
+                if (heap.size() > limit) heap.poll();
+            }
+
+            List<Scored> top = new ArrayList<>(heap);
+            top.sort(ranking.reversed());
+            List<Match> matches = new ArrayList<>(top.size());
+            for (Scored scored : top) {
+                List<String> matchedNames = new ArrayList<>();
+                for (Ingredient ingredient : scored.recipe().ingredients()) {
+                    if (matchedKeys.contains(ingredient.key())) matchedNames.add(ingredient.name());
+                }
+                matches.add(new Match(scored.recipe(), scored.rate(), matchedNames));
+            }
+            return matches;
+        }
+
+        // 보유 재료와 대표 재료 id가 같은 키 + (한쪽이라도 사전에 없을 때) 이름이 일치/포함 관계인 키
+        private Set<IngredientKey> matchingKeys(Collection<IngredientKey> fridgeKeys) {
+            Set<IngredientKey> matched = new HashSet<>();
+            for (IngredientKey fridge : fridgeKeys) {
+                if (fridge.resolved()) {
+                    Set<IngredientKey> sameId = keysById.get(fridge.canonicalId());
+                    if (sameId != null) matched.addAll(sameId);
+                }
+                for (String name : relatedNames(fridge.name())) {
+                    for (IngredientKey key : keysByName.get(name)) {
+                        if (!fridge.resolved() || !key.resolved()) matched.add(key);
+                    }
+                }
+            }
+            return matched;
+        }
+
+        // 보유 재료명과 같거나, 그 일부이거나, 그것을 포함하는 색인 재료명
+        private Set<String> relatedNames(String name) {
+            if (name.isEmpty()) {
+                // 빈 문자열은 모든 재료명에 포함됨 (contains 비교와 동일)
+                return keysByName.keySet();
+            }
+            Set<String> related = new HashSet<>();
+            // 1) 보유 재료명의 부분 문자열(자기 자신, 빈 문자열 포함)인 재료명
+            if (keysByName.containsKey("")) related.add("");
+            for (int i = 0; i < name.length(); i++) {
+                for (int j = i + 1; j <= name.length(); j++) {
+                    String sub = name.substring(i, j);
+                    if (keysByName.containsKey(sub)) related.add(sub);
+                }
+            }
+            // 2) 보유 재료명을 포함하는 재료명: 가장 드문 문자의 후보만 검사
+            Set<String> candidates = null;
+            for (char c : name.toCharArray()) {
+                Set<String> names = namesByChar.get(c);
+                if (names == null) return related;
+                if (candidates == null || names.size() < candidates.size()) candidates = names;
+            }
+            for (String candidate : candidates) {
+                if (candidate.contains(name)) related.add(candidate);
+            }
+            return related;
+        }
+    }
+
+    private record Scored(IndexedRecipe recipe, double rate) {
+    }
+
+    // 박싱 없는 int 가변 배열 (posting list)
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+
+        private int get(int index) {
+            return values[index];
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private int removeLast() {
+            return values[--size];
+        }
+
+        private void removeAll(int value) {
+            int w = 0;
+            for (int r = 0; r < size; r++) {
+                if (values[r] != value) values[w++] = values[r];
+            }
+            size = w;
+        }
+    }
+}
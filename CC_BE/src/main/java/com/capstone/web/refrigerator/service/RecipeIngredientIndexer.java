@@ -0,0 +1,186 @@
+package com.capstone.web.refrigerator.service;
+
+import com.capstone.web.ingredient.service.IngredientDictionary;
+import com.capstone.web.posts.domain.PostIngredient;
+import com.capstone.web.posts.event.PostChangedEvent;
+import com.capstone.web.posts.repository.PostIngredientRepository;
+import com.capstone.web.posts.repository.PostsRepository;
+import com.capstone.web.refrigerator.event.RecipeCatalogChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 레시피 추천 재료 색인 동기화
+ * <p>
+ * - 기동 시 전체 구축 (레시피 카드 필드 + 재료만 id 순 청크 로딩, 본문 미로딩)
+ * - 게시글 생성/수정/삭제 커밋 후 해당 레시피만 갱신
+ * - 구축 중 변경된 레시피는 기록해 두었다가 새 색인 반영 직후 다시 적용
+ * - 색인이 실제로 바뀌면 {@link RecipeCatalogChangedEvent} 발행 (추천 결과 캐시 무효화)
+ */
+@Slf4j
+@Component
+public class RecipeIngredientIndexer {
+
+    private final RecipeIngredientIndex index;
+    private final PostsRepository postsRepository;
+    private final PostIngredientRepository ingredientRepository;
+    private final IngredientDictionary ingredientDictionary;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate readOnlyTx;
+    private final int chunkSize;
+
+    // 재구축 중 변경 이벤트가 들어온 게시글 (null이면 재구축 중 아님)
+    private volatile Set<Long> changedDuringRebuild;
+
+    public RecipeIngredientIndexer(RecipeIngredientIndex index,
+                                   PostsRepository postsRepository,
+                                   PostIngredientRepository ingredientRepository,
+                                   IngredientDictionary ingredientDictionary,
+                                   ApplicationEventPublisher eventPublisher,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${refrigerator.recommendation.index-chunk-size:1000}") int chunkSize) {
+        this.index = index;
+        this.postsRepository = postsRepository;
+        this.ingredientRepository = ingredientRepository;
+        this.ingredientDictionary = ingredientDictionary;
+        this.eventPublisher = eventPublisher;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.chunkSize = chunkSize;
+        Gauge.builder("refrigerator.recommendation.indexed", index, RecipeIngredientIndex::size)
+                .description("추천 재료 색인에 등록된 레시피 수")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onPostChanged(PostChangedEvent event) {
+        // 좋아요 수는 추천과 무관
+        if (event.type() == PostChangedEvent.Type.LIKED) return;
+        Set<Long> pending = changedDuringRebuild;
+        if (pending != null) pending.add(event.postId());
+        try {
+            refresh(event.postId());
+        } catch (RuntimeException e) {
+            // 색인 갱신 실패가 게시글 작성 응답을 깨뜨리지 않도록 로그만 남김 (재구축으로 복구 가능)
+            log.warn("[RecipeIndex] 추천 색인 갱신 실패: postId={}, type={}", event.postId(), event.type(), e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 색인이 아직 구축되지 않았다면 구축 (기동 직후 요청 대비)
+     */
+    public void ensureBuilt() {
+        if (!index.isBuilt()) rebuild();
+    }
+
+    /**
+     * 전체 재구축 (id 오름차순 청크, 청크마다 짧은 읽기 전용 트랜잭션)
+     *
+     * @return 색인된 레시피 수
+     */
+    public synchronized int rebuild() {
+        long start = System.currentTimeMillis();
+        Set<Long> pending = ConcurrentHashMap.newKeySet();
+        changedDuringRebuild = pending;
+        try {
+            List<RecipeIngredientIndex.IndexedRecipe> recipes = new ArrayList<>();
+            long lastId = 0L;
+            while (true) {
+                final long cursor = lastId;
+                List<RecipeIngredientIndex.IndexedRecipe> chunk = readOnlyTx.execute(status -> loadChunk(cursor));
+                if (chunk == null || chunk.isEmpty()) break;
+                recipes.addAll(chunk);
+                lastId = chunk.get(chunk.size() - 1).id();
+                if (chunk.size() < chunkSize) break;
+            }
+            index.replaceAll(recipes);
+            eventPublisher.publishEvent(RecipeCatalogChangedEvent.rebuilt());
+            log.info("[RecipeIndex] 추천 색인 구축 완료: recipes={}, took={}ms",
+                    recipes.size(), System.currentTimeMillis() - start);
+            return recipes.size();
+        } finally {
+            changedDuringRebuild = null;
+            // 구축 중 커밋된 변경은 스냅샷에 빠졌을 수 있으므로 다시 반영
+            for (Long postId : pending) {
+                readOnlyTx.executeWithoutResult(status -> refresh(postId));
+            }
+        }
+    }
+
+    private void refresh(Long postId) {
+        postsRepository.findRecipeSummaryById(postId).ifPresentOrElse(
+                summary -> {
+                    index.upsert(toIndexedRecipe(summary, loadIngredients(List.of(postId))
+                            .getOrDefault(postId, Collections.emptyList())));
+                    eventPublisher.publishEvent(RecipeCatalogChangedEvent.upserted(postId));
+                },
+                () -> {
+                    // 삭제되었거나 레시피가 아니게 된 게시글 (원래 레시피가 아니었다면 변경 없음)
+                    if (index.remove(postId)) eventPublisher.publishEvent(RecipeCatalogChangedEvent.removed(postId));
+                });
+    }
+
+    private List<RecipeIngredientIndex.IndexedRecipe> loadChunk(long afterId) {
+        List<PostsRepository.RecipeSummary> summaries =
+                postsRepository.findRecipeSummaryChunkAfterId(afterId, PageRequest.of(0, chunkSize));
+        if (summaries.isEmpty()) return Collections.emptyList();
+
+        List<Long> ids = summaries.stream().map(PostsRepository.RecipeSummary::getId).collect(Collectors.toList());
+        Map<Long, List<PostIngredient>> ingredientsByPost = loadIngredients(ids);
+        return summaries.stream()
+                .map(s -> toIndexedRecipe(s, ingredientsByPost.getOrDefault(s.getId(), Collections.emptyList())))
+                .collect(Collectors.toList());
+    }
+
+    // 레시피별 재료 (등록 순서 유지)
+    private Map<Long, List<PostIngredient>> loadIngredients(List<Long> postIds) {
+        return ingredientRepository.findAllByPostIdIn(postIds).stream()
+                .sorted(Comparator.comparing(PostIngredient::getId))
+                .collect(Collectors.groupingBy(i -> i.getPost().getId()));
+    }
+
+    private RecipeIngredientIndex.IndexedRecipe toIndexedRecipe(PostsRepository.RecipeSummary summary,
+                                                                List<PostIngredient> ingredients) {
+        return new RecipeIngredientIndex.IndexedRecipe(
+                summary.getId(),
+                summary.getTitle(),
+                summary.getCookTimeInMinutes(),
+                summary.getServings(),
+                summary.getDifficulty() != null ? summary.getDifficulty().name() : null,
+                summary.getFirstImageUrl(),
+                ingredients.stream()
+                        .map(i -> new RecipeIngredientIndex.Ingredient(
+                                i.getName(), ingredientDictionary.keyOf(i.getCanonicalIngredientId(), i.getName()),
+                                i.getQuantity(), i.getUnit()))
+                        .collect(Collectors.toList())
+        );
+    }
+}
@@ -0,0 +1,157 @@
+package com.capstone.web.refrigerator.service;
+
+import com.capstone.web.refrigerator.dto.RecommendationDto;
+import com.capstone.web.refrigerator.event.RecipeCatalogChangedEvent;
+import com.capstone.web.refrigerator.event.RefrigeratorChangedEvent;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 냉장고 기반 레시피 추천 결과 캐시 (회원 + 개수 단위)
+ * <p>
+ * <ul>
+ *   <li>같은 키의 동시 요청은 하나의 비동기 계산(전용 스레드 풀)을 공유한다 (single-flight)</li>
+ *   <li>회원 식재료가 바뀌면(커밋 후) 해당 회원 항목만, 레시피가 추가/수정되면 전체, 삭제되면 그 레시피가 포함된 항목만 무효화</li>
+ *   <li>무효화와 동시에 진행 중이던 계산이 옛 데이터를 저장하지 않도록 변경 시퀀스로 버전을 비교한다:
+ *       계산 시작 시퀀스가 마지막 변경 시퀀스보다 작으면 버리고 다시 계산</li>
+ * </ul>
+ * 적중률은 Caffeine 통계(refrigerator.recommendation.cache)로, 버전 불일치로 버린 횟수는 별도 카운터로 노출한다.
+ */
+@Slf4j
+@Component
+public class RecommendationCache {
+
+    public static final String CACHE_NAME = "refrigerator.recommendation.cache";
+
+    private final AsyncCache<Key, Entry> cache;
+    // 회원별 마지막 변경 시퀀스 (결과 TTL이 지나면 비교할 항목도 없으므로 같은 TTL로 정리)
+    private final Cache<Long, Long> memberChangedAt;
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile long catalogChangedAt = 0L;
+    private final ExecutorService executor;
+    private final Counter staleCounter;
+
+    public RecommendationCache(MeterRegistry meterRegistry,
+                               @Value("${refrigerator.recommendation.cache.max-size:10000}") long maxSize,
+                               @Value("${refrigerator.recommendation.cache.ttl-ms:600000}") long ttlMillis,
+                               @Value("${refrigerator.recommendation.cache.threads:2}") int threads) {
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, threads), r -> {
+            Thread t = new Thread(r, "recommendation-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .executor(executor)
+                .recordStats()
+                .buildAsync();
+        this.memberChangedAt = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+        this.staleCounter = Counter.builder(CACHE_NAME + ".stale")
+                .description("변경 이후 버전이라 버리고 다시 계산한 추천 결과 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 캐시된 추천 결과, 없거나 오래된 버전이면 loader로 계산 (같은 키의 동시 요청은 계산 1회 공유)
+     */
+    public RecommendationDto.RecommendationResponse get(Long memberId, int limit,
+                                                        Supplier<RecommendationDto.RecommendationResponse> loader) {
+        Key key = new Key(memberId, limit);
+        while (true) {
+            CompletableFuture<Entry> future = cache.get(key, (k, ex) -> CompletableFuture.supplyAsync(() -> compute(loader), ex));
+            Entry entry = join(future);
+            if (isCurrent(entry, memberId)) return entry.response();
+            // 계산 도중 변경이 있었던 결과: 버리고 변경 이후 시퀀스로 다시 계산
+            staleCounter.increment();
+            cache.asMap().remove(key, future);
+        }
+    }
+
+    /**
+     * 회원 식재료 변경 (커밋 후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRefrigeratorChanged(RefrigeratorChangedEvent event) {
+        memberChangedAt.put(event.memberId(), sequence.incrementAndGet());
+        cache.asMap().keySet().removeIf(key -> key.memberId().equals(event.memberId()));
+    }
+
+    /**
+     * 추천 재료 색인 변경 (색인 반영 직후 같은 스레드에서 호출)
+     */
+    @EventListener
+    public void onRecipeCatalogChanged(RecipeCatalogChangedEvent event) {
+        if (event.removed()) {
+            // 삭제는 그 레시피가 들어 있던 결과만 바뀐다 (진행 중인 계산은 포함 여부를 모르므로 함께 제거)
+            cache.asMap().entrySet().removeIf(e -> {
+                Entry entry = e.getValue().getNow(null);
+                return entry == null || entry.recipeIds().contains(event.recipeId());
+            });
+            return;
+        }
+        // 추가/수정/재구축은 어떤 회원의 상위 목록에도 들어갈 수 있으므로 전체 무효화
+        catalogChangedAt = sequence.incrementAndGet();
+        cache.synchronous().invalidateAll();
+    }
+
+    private Entry compute(Supplier<RecommendationDto.RecommendationResponse> loader) {
+        long startedAt = sequence.get();
+        RecommendationDto.RecommendationResponse response = loader.get();
+        Set<Long> recipeIds = response.getRecommendations().stream()
+                .map(RecommendationDto.RecommendedRecipe::getRecipeId)
+                .collect(Collectors.toUnmodifiableSet());
+        return new Entry(startedAt, response, recipeIds);
+    }
+
+    private boolean isCurrent(Entry entry, Long memberId) {
+        if (entry.computedAt() < catalogChangedAt) return false;
+        Long changedAt = memberChangedAt.getIfPresent(memberId);
+        return changedAt == null || entry.computedAt() >= changedAt;
+    }
+
+    private static Entry join(CompletableFuture<Entry> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private record Key(Long memberId, int limit) {
+    }
+
+    private record Entry(long computedAt, RecommendationDto.RecommendationResponse response, Set<Long> recipeIds) {
+    }
+}
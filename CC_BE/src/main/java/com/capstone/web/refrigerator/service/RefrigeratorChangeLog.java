@@ -0,0 +1,154 @@
+package com.capstone.web.refrigerator.service;
+
+import com.capstone.web.refrigerator.domain.RefrigeratorItem;
+import com.capstone.web.refrigerator.repository.RefrigeratorItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 냉장고 델타 동기화 변경 기록
+ * <p>
+ * <ul>
+ *   <li>식재료를 바꾸는 트랜잭션마다 회원 동기화 버전을 1 올리고(행 잠금 → 회원 내 커밋 순서 = 버전 순서),
+ *       추가/수정된 항목에는 그 버전을, 삭제된 항목은 tombstone으로 기록한다</li>
+ *   <li>클라이언트는 since 이후 버전의 항목과 삭제 id만 받는다</li>
+ *   <li>보관 기간이 지난 tombstone은 정리하고 compacted_through를 올린다.
+ *       그보다 오래된 커서(또는 알 수 없는 커서)는 전체 재동기화로 응답한다</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class RefrigeratorChangeLog {
+
+    private static final String BUMP_VERSION_SQL =
+            "INSERT INTO refrigerator_sync_versions (member_id, version, compacted_through) VALUES (?, 1, 0) "
+                    + "ON DUPLICATE KEY UPDATE version = version + 1";
+    private static final String SELECT_RECORDED_VERSION_SQL =
+            "SELECT version FROM refrigerator_sync_versions WHERE member_id = ?";
+    private static final String SELECT_VERSION_SQL =
+            "SELECT version, compacted_through FROM refrigerator_sync_versions WHERE member_id = ?";
+    private static final String INSERT_TOMBSTONE_SQL =
+            "INSERT INTO refrigerator_item_tombstones (item_id, member_id, sync_version, deleted_at) VALUES (?, ?, ?, ?)";
+    private static final String SELECT_TOMBSTONES_SQL =
+            "SELECT item_id FROM refrigerator_item_tombstones WHERE member_id = ? AND sync_version > ? ORDER BY sync_version";
+    private static final String ADVANCE_COMPACTED_SQL =
+            "UPDATE refrigerator_sync_versions s SET compacted_through = GREATEST(compacted_through, "
+                    + "(SELECT MAX(t.sync_version) FROM refrigerator_item_tombstones t "
+                    + "WHERE t.member_id = s.member_id AND t.deleted_at < ?)) "
+                    + "WHERE EXISTS (SELECT 1 FROM refrigerator_item_tombstones t "
+                    + "WHERE t.member_id = s.member_id AND t.deleted_at < ?)";
+    private static final String DELETE_TOMBSTONES_SQL =
+            "DELETE FROM refrigerator_item_tombstones WHERE deleted_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RefrigeratorItemRepository refrigeratorItemRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+
+    public RefrigeratorChangeLog(JdbcTemplate jdbcTemplate,
+                                 RefrigeratorItemRepository refrigeratorItemRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${refrigerator.sync.tombstone-retention-days:30}") int retentionDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.refrigeratorItemRepository = refrigeratorItemRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * 델타 조회 결과 (fullResync면 items가 회원의 전체 식재료이고 deletedItemIds는 비어 있음)
+     */
+    public record Delta(long version, boolean fullResync, List<RefrigeratorItem> items, List<Long> deletedItemIds) {
+    }
+
+    /**
+     * 변경 기록 (식재료를 바꾼 트랜잭션 안에서 호출)
+     *
+     * @return 이번 변경의 동기화 버전
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long record(Long memberId, Collection<Long> upsertedItemIds, Collection<Long> deletedItemIds) {
+        jdbcTemplate.update(BUMP_VERSION_SQL, memberId);
+        long version = jdbcTemplate.queryForObject(SELECT_RECORDED_VERSION_SQL, Long.class, memberId);
+
+        List<Long> upserted = upsertedItemIds.stream().distinct().toList();
+        if (!upserted.isEmpty()) {
+            String placeholders = String.join(", ", Collections.nCopies(upserted.size(), "?"));
+            List<Object> args = new ArrayList<>(upserted.size() + 2);
+            args.add(version);
+            args.add(memberId);
+            args.addAll(upserted);
+            jdbcTemplate.update("UPDATE refrigerator_items SET sync_version = ? WHERE member_id = ? AND id IN ("
+                    + placeholders + ")", args.toArray());
+        }
+        if (!deletedItemIds.isEmpty()) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> args = new ArrayList<>(deletedItemIds.size());
+            for (Long itemId : deletedItemIds) args.add(new Object[]{itemId, memberId, version, now});
+            jdbcTemplate.batchUpdate(INSERT_TOMBSTONE_SQL, args);
+        }
+        return version;
+    }
+
+    /**
+     * since 이후 변경 (since가 없거나, 정리된 tombstone보다 오래되었거나, 현재 버전보다 크면 전체 재동기화)
+     * <p>
+     * 버전을 먼저 읽으므로 그 뒤에 커밋된 변경이 함께 내려가더라도 다음 요청에서 다시 받을 뿐 누락되지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public Delta changesSince(Long memberId, Long since) {
+        long[] state = jdbcTemplate.query(SELECT_VERSION_SQL,
+                rs -> rs.next() ? new long[]{rs.getLong("version"), rs.getLong("compacted_through")} : new long[]{0L, 0L},
+                memberId);
+        long version = state[0];
+        long compactedThrough = state[1];
+
+        if (since == null || since < compactedThrough || since > version) {
+            return new Delta(version, true, refrigeratorItemRepository.findByMemberId(memberId), List.of());
+        }
+        if (since == version) {
+            return new Delta(version, false, List.of(), List.of());
+        }
+        List<RefrigeratorItem> items = refrigeratorItemRepository.findByMemberIdAndSyncVersionGreaterThan(memberId, since);
+        List<Long> deleted = jdbcTemplate.queryForList(SELECT_TOMBSTONES_SQL, Long.class, memberId, since);
+        return new Delta(version, false, items, deleted);
+    }
+
+    @Scheduled(cron = "${refrigerator.sync.compaction-cron:0 30 4 * * *}")
+    public void scheduledCompaction() {
+        try {
+            compact(LocalDateTime.now().minusDays(retentionDays));
+        } catch (RuntimeException e) {
+            log.warn("[RefrigeratorSync] tombstone 정리 실패: cause={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * cutoff 이전 tombstone 정리 (회원별 compacted_through 갱신과 같은 트랜잭션)
+     *
+     * @return 정리된 tombstone 수
+     */
+    public int compact(LocalDateTime cutoff) {
+        Timestamp before = Timestamp.valueOf(cutoff);
+        Integer deleted = transactionTemplate.execute(status -> {
+            jdbcTemplate.update(ADVANCE_COMPACTED_SQL, before, before);
+            return jdbcTemplate.update(DELETE_TOMBSTONES_SQL, before);
+        });
+        log.info("[RefrigeratorSync] tombstone 정리: cutoff={}, deleted={}", cutoff, deleted);
+        return deleted != null ? deleted : 0;
+    }
+}
@@ -0,0 +1,152 @@
+package com.capstone.web.refrigerator.service;
+
+import com.capstone.web.ingredient.service.IngredientDictionary;
+import com.capstone.web.posts.domain.PostIngredient;
+import com.capstone.web.posts.domain.Posts;
+import com.capstone.web.posts.repository.PostsRepository;
+import com.capstone.web.refrigerator.domain.RefrigeratorItem;
+import com.capstone.web.refrigerator.dto.DeductionDto;
+import com.capstone.web.refrigerator.repository.RefrigeratorItemRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 레시피 재료 차감 엔진 (REF-08)
+ * <p>
+ * 계획은 한 번만 세운다: 레시피+재료(엔티티 그래프 1회) → 회원 냉장고 재료(1회) → 재료별 매칭(대표 재료 id).
+ * 실행은 항목별 조건부 UPDATE 배치 한 번으로 반영한다.
+ * <pre>
+ * UPDATE refrigerator_items SET quantity = quantity - ?, version = version + 1, ...
+ *  WHERE id = ? AND member_id = ? AND quantity >= ?
+ * </pre>
+ * 상대 감소라 동시 차감이 서로의 결과를 덮어쓰지 않고, 조건을 만족하지 못한 항목(다른 기기에서 먼저 차감됨)은
+ * 영향 행 수 0으로 드러나 해당 재료를 실패로 보고한다.
+ * 버전도 함께 올리므로 차감 이전에 읽어 둔 엔티티로 수정하려던 요청은 낙관적 잠금 충돌로 실패한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefrigeratorDeductionEngine {
+
+    private static final String DEDUCT_SQL =
+            "UPDATE refrigerator_items SET quantity = quantity - ?, updated_at = ?, version = version + 1 "
+                    + "WHERE id = ? AND member_id = ? AND quantity >= ?";
+
+    private final PostsRepository postsRepository;
+    private final RefrigeratorItemRepository refrigeratorItemRepository;
+    private final IngredientDictionary ingredientDictionary;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    /**
+     * 차감 계획 (레시피 재료 순서대로 매칭된 냉장고 항목, 없으면 null 원소)
+     */
+    public record Plan(Long memberId, Posts recipe, List<PostIngredient> ingredients, List<RefrigeratorItem> matchedItems) {
+    }
+
+    /**
+     * 차감 결과 (재료 순서 유지, itemIds는 실제로 수량이 바뀐 냉장고 항목)
+     */
+    public record Outcome(List<DeductionDto.DeductedIngredient> deducted, List<String> failed, List<Long> itemIds) {
+    }
+
+    public Plan plan(Long memberId, Long recipeId) {
+        Posts recipe = postsRepository.findById(recipeId)
+                .orElseThrow(() -> new IllegalArgumentException("레시피를 찾을 수 없습니다: " + recipeId));
+        if (!recipe.isRecipe()) {
+            throw new IllegalArgumentException("해당 게시글은 레시피가 아닙니다: " + recipeId);
+        }
+
+        List<RefrigeratorItem> myItems = refrigeratorItemRepository.findByMemberId(memberId);
+        List<PostIngredient> ingredients = recipe.getIngredients();
+        // 보유 재료를 한 번 컴파일해 전체 재료를 대표 재료 id로 한꺼번에 매칭
+        List<RefrigeratorItem> matchedItems = IngredientMatcher
+                .compile(myItems, item -> ingredientDictionary.keyOf(item.getCanonicalIngredientId(), item.getName()))
+                .matchAll(ingredients.stream()
+                        .map(i -> ingredientDictionary.keyOf(i.getCanonicalIngredientId(), i.getName()))
+                        .toList());
+        return new Plan(memberId, recipe, ingredients, matchedItems);
+    }
+
+    /**
+     * 계획 실행: 재료마다 매칭된 항목 수량 1 감소 (0 미만 불가)
+     * 같은 항목에 여러 재료가 매칭되면 보유 수량까지만 차례로 차감하고, 항목당 UPDATE는 하나로 합친다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Outcome apply(Plan plan) {
+        // 1) 항목별 차감 대상 재료 (재료 순서 유지)
+        Map<Long, List<Integer>> ingredientIndexesByItem = new LinkedHashMap<>();
+        Map<Long, RefrigeratorItem> items = new LinkedHashMap<>();
+        for (int i = 0; i < plan.ingredients().size(); i++) {
+            RefrigeratorItem item = plan.matchedItems().get(i);
+            if (item == null || item.getQuantity() == null) continue;
+            List<Integer> indexes = ingredientIndexesByItem.computeIfAbsent(item.getId(), id -> new ArrayList<>());
+            if (indexes.size() < item.getQuantity()) {
+                indexes.add(i);
+                items.put(item.getId(), item);
+            }
+        }
+        ingredientIndexesByItem.values().removeIf(List::isEmpty);
+
+        // 2) 조건부 감소 배치 1회
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(items.size());
+        for (Map.Entry<Long, List<Integer>> entry : ingredientIndexesByItem.entrySet()) {
+            int amount = entry.getValue().size();
+            args.add(new Object[]{amount, now, entry.getKey(), plan.memberId(), amount});
+        }
+        int[] counts = args.isEmpty() ? new int[0] : jdbcTemplate.batchUpdate(DEDUCT_SQL, args);
+
+        // 3) 영향 행 수로 재료별 결과 판정
+        DeductionDto.DeductedIngredient[] deducted = new DeductionDto.DeductedIngredient[plan.ingredients().size()];
+        List<Long> changedItemIds = new ArrayList<>();
+        int row = 0;
+        for (Map.Entry<Long, List<Integer>> entry : ingredientIndexesByItem.entrySet()) {
+            RefrigeratorItem item = items.get(entry.getKey());
+            int count = counts[row++];
+            // 드라이버가 건별 결과를 주지 않는 경우(SUCCESS_NO_INFO)는 성공으로 간주
+            if (count == 0) {
+                log.warn("재료 차감 충돌(다른 요청이 먼저 차감): itemId={}, name={}", item.getId(), item.getName());
+                continue;
+            }
+            int quantity = item.getQuantity();
+            for (int index : entry.getValue()) {
+                deducted[index] = DeductionDto.DeductedIngredient.builder()
+                        .name(item.getName())
+                        .previousQuantity(quantity)
+                        .newQuantity(quantity - 1)
+                        .build();
+                quantity--;
+            }
+            changedItemIds.add(item.getId());
+            // JDBC로 바뀐 행이므로 영속성 컨텍스트의 옛 상태를 버림 (이후 조회는 DB에서 다시 읽음)
+            entityManager.detach(item);
+            log.info("재료 차감: {} ({} → {})", item.getName(), item.getQuantity(), quantity);
+        }
+
+        List<DeductionDto.DeductedIngredient> deductedList = new ArrayList<>();
+        List<String> failedList = new ArrayList<>();
+        for (int i = 0; i < plan.ingredients().size(); i++) {
+            if (deducted[i] != null) {
+                deductedList.add(deducted[i]);
+            } else {
+                failedList.add(plan.ingredients().get(i).getName());
+            }
+        }
+        log.debug("재료 차감 배치: memberId={}, statements={}, deducted={}, failed={}",
+                plan.memberId(), args.size(), deductedList.size(), failedList.size());
+        return new Outcome(deductedList, failedList, changedItemIds);
+    }
+}
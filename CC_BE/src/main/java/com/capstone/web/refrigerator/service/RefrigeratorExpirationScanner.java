@@ -0,0 +1,276 @@
+package com.capstone.web.refrigerator.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 회원 소비기한 스캐너 → 회원별 임박/경과 요약(refrigerator_expiration_summaries) 갱신
+ * <p>
+ * <ul>
+ *   <li>(expiration_date, member_id) 인덱스를 따라 [오늘-경과 보관일, 오늘+임박 기준일] 구간만 키셋 청크로 읽는다
+ *       (전체 테이블 스캔 없음, 오래전에 경과한 항목이 쌓여도 스캔 범위가 늘지 않음)</li>
+ *   <li>청크마다 회원별로 집계해 요약 테이블에 누적 upsert하고, 같은 트랜잭션에서 커서를 체크포인트에 저장한다</li>
+ *   <li>중단된 스캔은 같은 기준일이면 체크포인트 다음부터 재개, 날짜가 바뀌었으면 새로 시작한다</li>
+ *   <li>완료 시 이번 스캔에서 갱신되지 않은 요약(더 이상 임박 항목이 없는 회원)을 삭제한다</li>
+ * </ul>
+ * 스캔 도중에는 회원별 요약이 이전 스캔 값 또는 부분 누적 값일 수 있다.
+ * expired_count 는 경과 보관일(refrigerator.expiration.expired-lookback-days) 이내에 경과한 항목 수다.
+ */
+@Slf4j
+@Component
+public class RefrigeratorExpirationScanner {
+
+    static final String CHECKPOINT_NAME = "expiration";
+
+    private static final String FIRST_CHUNK_SQL =
+            "SELECT id, member_id, expiration_date FROM refrigerator_items "
+                    + "WHERE expiration_date >= ? AND expiration_date <= ? "
+                    + "ORDER BY expiration_date, member_id, id LIMIT ?";
+    private static final String NEXT_CHUNK_SQL =
+            "SELECT id, member_id, expiration_date FROM refrigerator_items "
+                    + "WHERE expiration_date <= ? AND (expiration_date > ? OR (expiration_date = ? "
+                    + "AND (member_id > ? OR (member_id = ? AND id > ?)))) "
+                    + "ORDER BY expiration_date, member_id, id LIMIT ?";
+    // 같은 스캔이면 누적, 이전 스캔 값이면 교체 (scan_run_id는 마지막에 갱신)
+    private static final String UPSERT_SUMMARY_SQL =
+            "INSERT INTO refrigerator_expiration_summaries "
+                    + "(member_id, scan_run_id, as_of, expired_count, expiring_soon_count, next_expiration_date, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE "
+                    + "expired_count = CASE WHEN scan_run_id = VALUES(scan_run_id) "
+                    + "THEN expired_count + VALUES(expired_count) ELSE VALUES(expired_count) END, "
+                    + "expiring_soon_count = CASE WHEN scan_run_id = VALUES(scan_run_id) "
+                    + "THEN expiring_soon_count + VALUES(expiring_soon_count) ELSE VALUES(expiring_soon_count) END, "
+                    + "next_expiration_date = CASE WHEN scan_run_id = VALUES(scan_run_id) "
+                    + "THEN COALESCE(next_expiration_date, VALUES(next_expiration_date)) ELSE VALUES(next_expiration_date) END, "
+                    + "as_of = VALUES(as_of), updated_at = VALUES(updated_at), scan_run_id = VALUES(scan_run_id)";
+    private static final int[] UPSERT_SUMMARY_TYPES = {Types.BIGINT, Types.BIGINT, Types.DATE, Types.INTEGER,
+            Types.INTEGER, Types.DATE, Types.TIMESTAMP};
+    private static final String DELETE_STALE_SUMMARIES_SQL =
+            "DELETE FROM refrigerator_expiration_summaries WHERE scan_run_id < ?";
+    private static final String SELECT_CHECKPOINT_SQL =
+            "SELECT run_id, as_of, last_expiration_date, last_member_id, last_item_id, scanned_items, completed_at "
+                    + "FROM refrigerator_scan_checkpoints WHERE name = ?";
+    private static final String START_CHECKPOINT_SQL =
+            "INSERT INTO refrigerator_scan_checkpoints (name, run_id, as_of, last_expiration_date, last_member_id, "
+                    + "last_item_id, scanned_items, started_at, updated_at, completed_at) "
+                    + "VALUES (?, ?, ?, NULL, NULL, NULL, 0, ?, ?, NULL) ON DUPLICATE KEY UPDATE "
+                    + "run_id = VALUES(run_id), as_of = VALUES(as_of), last_expiration_date = NULL, last_member_id = NULL, "
+                    + "last_item_id = NULL, scanned_items = 0, started_at = VALUES(started_at), "
+                    + "updated_at = VALUES(updated_at), completed_at = NULL";
+    private static final String ADVANCE_CHECKPOINT_SQL =
+            "UPDATE refrigerator_scan_checkpoints SET last_expiration_date = ?, last_member_id = ?, last_item_id = ?, "
+                    + "scanned_items = scanned_items + ?, updated_at = ? WHERE name = ? AND run_id = ?";
+    private static final String COMPLETE_CHECKPOINT_SQL =
+            "UPDATE refrigerator_scan_checkpoints SET completed_at = ?, updated_at = ? WHERE name = ? AND run_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int soonDays;
+    private final int expiredLookbackDays;
+    private final int chunkSize;
+    private final Counter scannedCounter;
+    private final Counter chunkCounter;
+    private final Timer scanTimer;
+    private volatile double lastThroughput;
+
+    public RefrigeratorExpirationScanner(JdbcTemplate jdbcTemplate,
+                                         PlatformTransactionManager transactionManager,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${refrigerator.expiration.soon-days:3}") int soonDays,
+                                         @Value("${refrigerator.expiration.expired-lookback-days:30}") int expiredLookbackDays,
+                                         @Value("${refrigerator.expiration.scan-chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.soonDays = soonDays;
+        this.expiredLookbackDays = expiredLookbackDays;
+        this.chunkSize = chunkSize;
+        this.scannedCounter = Counter.builder("refrigerator.expiration.scan.items")
+                .description("소비기한 스캔에서 읽은 식재료 수")
+                .register(meterRegistry);
+        this.chunkCounter = Counter.builder("refrigerator.expiration.scan.chunks")
+                .description("소비기한 스캔에서 커밋한 청크 수")
+                .register(meterRegistry);
+        this.scanTimer = Timer.builder("refrigerator.expiration.scan")
+                .description("소비기한 스캔 1회 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("refrigerator.expiration.scan.throughput", this, s -> s.lastThroughput)
+                .description("마지막 소비기한 스캔 처리량 (items/s)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 중단된 스캔이 있으면 기동 후 이어서 진행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        Checkpoint checkpoint = loadCheckpoint();
+        if (checkpoint != null && checkpoint.completedAt() == null) {
+            log.info("[ExpirationScan] 중단된 스캔 재개: runId={}, scanned={}", checkpoint.runId(), checkpoint.scannedItems());
+            scan();
+        }
+    }
+
+    @Scheduled(cron = "${refrigerator.expiration.scan-cron:0 5 * * * *}")
+    public void scheduledScan() {
+        try {
+            scan();
+        } catch (RuntimeException e) {
+            // 체크포인트까지는 반영되었으므로 다음 주기에 이어서 진행
+            log.warn("[ExpirationScan] 소비기한 스캔 실패: cause={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 스캔 1회 (중단된 같은 날짜 스캔이 있으면 재개)
+     */
+    public synchronized ScanResult scan() {
+        long start = System.nanoTime();
+        LocalDate today = LocalDate.now();
+        LocalDate floor = today.minusDays(expiredLookbackDays);
+        LocalDate horizon = today.plusDays(soonDays);
+
+        Checkpoint checkpoint = loadCheckpoint();
+        boolean resumed = checkpoint != null && checkpoint.completedAt() == null && checkpoint.asOf().equals(today);
+        long runId;
+        Cursor cursor;
+        if (resumed) {
+            runId = checkpoint.runId();
+            cursor = checkpoint.cursor();
+        } else {
+            runId = checkpoint != null ? checkpoint.runId() + 1 : 1L;
+            cursor = null;
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.update(START_CHECKPOINT_SQL, CHECKPOINT_NAME, runId, Date.valueOf(today), now, now);
+        }
+
+        long scanned = 0;
+        while (true) {
+            List<Row> rows = loadChunk(floor, horizon, cursor);
+            if (rows.isEmpty()) break;
+            cursor = applyChunk(runId, today, rows);
+            scanned += rows.size();
+            scannedCounter.increment(rows.size());
+            chunkCounter.increment();
+            if (rows.size() < chunkSize) break;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Integer removed = transactionTemplate.execute(status -> {
+            int deleted = jdbcTemplate.update(DELETE_STALE_SUMMARIES_SQL, runId);
+            jdbcTemplate.update(COMPLETE_CHECKPOINT_SQL, now, now, CHECKPOINT_NAME, runId);
+            return deleted;
+        });
+
+        long tookNanos = System.nanoTime() - start;
+        scanTimer.record(tookNanos, TimeUnit.NANOSECONDS);
+        lastThroughput = scanned / Math.max(tookNanos / 1_000_000_000.0, 0.001);
+        log.info("[ExpirationScan] 소비기한 스캔 완료: runId={}, resumed={}, items={}, removedSummaries={}, took={}ms, {} items/s",
+                runId, resumed, scanned, removed, TimeUnit.NANOSECONDS.toMillis(tookNanos), Math.round(lastThroughput));
+        return new ScanResult(runId, resumed, scanned, TimeUnit.NANOSECONDS.toMillis(tookNanos));
+    }
+
+    // 이후 청크는 커서(>= floor)보다 뒤만 읽으므로 하한 조건이 필요 없다
+    private List<Row> loadChunk(LocalDate floor, LocalDate horizon, Cursor cursor) {
+        if (cursor == null) {
+            return jdbcTemplate.query(FIRST_CHUNK_SQL, RefrigeratorExpirationScanner::mapRow,
+                    Date.valueOf(floor), Date.valueOf(horizon), chunkSize);
+        }
+        Date lastDate = Date.valueOf(cursor.expirationDate());
+        return jdbcTemplate.query(NEXT_CHUNK_SQL, RefrigeratorExpirationScanner::mapRow,
+                Date.valueOf(horizon), lastDate, lastDate, cursor.memberId(), cursor.memberId(), cursor.itemId(), chunkSize);
+    }
+
+    /**
+     * 청크를 회원별로 집계해 요약에 누적하고 커서를 저장 (한 트랜잭션)
+     */
+    private Cursor applyChunk(long runId, LocalDate today, List<Row> rows) {
+        Map<Long, Tally> tallies = new LinkedHashMap<>();
+        for (Row row : rows) {
+            tallies.computeIfAbsent(row.memberId(), id -> new Tally()).add(row.expirationDate(), today);
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Date asOf = Date.valueOf(today);
+        List<Object[]> args = new ArrayList<>(tallies.size());
+        for (Map.Entry<Long, Tally> entry : tallies.entrySet()) {
+            Tally tally = entry.getValue();
+            args.add(new Object[]{entry.getKey(), runId, asOf, tally.expired, tally.soon,
+                    tally.next != null ? Date.valueOf(tally.next) : null, now});
+        }
+
+        Row last = rows.get(rows.size() - 1);
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(UPSERT_SUMMARY_SQL, args, UPSERT_SUMMARY_TYPES);
+            jdbcTemplate.update(ADVANCE_CHECKPOINT_SQL, Date.valueOf(last.expirationDate()), last.memberId(), last.id(),
+                    rows.size(), now, CHECKPOINT_NAME, runId);
+        });
+        return new Cursor(last.expirationDate(), last.memberId(), last.id());
+    }
+
+    private Checkpoint loadCheckpoint() {
+        List<Checkpoint> checkpoints = jdbcTemplate.query(SELECT_CHECKPOINT_SQL, (rs, rowNum) -> {
+            Date lastDate = rs.getDate("last_expiration_date");
+            Cursor cursor = lastDate == null ? null
+                    : new Cursor(lastDate.toLocalDate(), rs.getLong("last_member_id"), rs.getLong("last_item_id"));
+            Timestamp completedAt = rs.getTimestamp("completed_at");
+            return new Checkpoint(rs.getLong("run_id"), rs.getDate("as_of").toLocalDate(), cursor,
+                    rs.getLong("scanned_items"), completedAt != null ? completedAt.toLocalDateTime() : null);
+        }, CHECKPOINT_NAME);
+        return checkpoints.isEmpty() ? null : checkpoints.get(0);
+    }
+
+    private static Row mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new Row(rs.getLong("id"), rs.getLong("member_id"), rs.getDate("expiration_date").toLocalDate());
+    }
+
+    public record ScanResult(long runId, boolean resumed, long scannedItems, long tookMillis) {
+    }
+
+    private record Row(long id, long memberId, LocalDate expirationDate) {
+    }
+
+    private record Cursor(LocalDate expirationDate, long memberId, long itemId) {
+    }
+
+    private record Checkpoint(long runId, LocalDate asOf, Cursor cursor, long scannedItems, LocalDateTime completedAt) {
+    }
+
+    // 청크 내 회원별 집계 (행은 소비기한 오름차순이므로 첫 미경과 날짜가 최솟값)
+    private static final class Tally {
+        private int expired;
+        private int soon;
+        private LocalDate next;
+
+        private void add(LocalDate expirationDate, LocalDate today) {
+            if (expirationDate.isBefore(today)) {
+                expired++;
+            } else {
+                soon++;
+                if (next == null) next = expirationDate;
+            }
+        }
+    }
+}
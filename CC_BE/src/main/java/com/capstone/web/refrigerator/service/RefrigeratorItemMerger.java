@@ -0,0 +1,207 @@
+package com.capstone.web.refrigerator.service;
+
+import com.capstone.web.ingredient.service.IngredientDictionary;
+import com.capstone.web.refrigerator.domain.RefrigeratorItem;
+import com.capstone.web.refrigerator.dto.RefrigeratorDto;
+import com.capstone.web.refrigerator.repository.RefrigeratorItemRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 냉장고 식재료 추가/병합 엔진 (REF-02, REF-03)
+ * <p>
+ * 병합 규칙: 동일 회원 + 동일 이름 + 동일 소비기한(null끼리 포함)이면 수량 합산, 아니면 새 항목.
+ * <ol>
+ *   <li>요청 목록을 (이름, 소비기한) 키로 메모리에서 먼저 합친다</li>
+ *   <li>해당 이름들의 기존 행을 한 번의 SELECT ... FOR UPDATE로 조회(잠금)한다</li>
+ *   <li>소비기한이 있는 키와 새 항목은 UNIQUE(member_id, name, expiration_date)에 대한
+ *       INSERT ... ON DUPLICATE KEY UPDATE 배치 한 번으로, 소비기한 null인 기존 항목은 UPDATE 배치 한 번으로 반영한다</li>
+ * </ol>
+ * 소비기한 null은 유니크 키에서 서로 다른 값으로 취급되어 ON DUPLICATE KEY가 동작하지 않으므로,
+ * 2단계의 잠금 조회 결과(이름 범위 잠금으로 동시 INSERT도 대기)로 병합 대상을 판정한다.
+ * 이름 비교는 DB 정렬 규칙(utf8mb4_unicode_ci, 대소문자 무시)에 맞춰 대소문자를 무시한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefrigeratorItemMerger {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO refrigerator_items (member_id, name, quantity, unit, expiration_date, memo, created_at, updated_at, "
+                    + "canonical_ingredient_id, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0) "
+                    + "ON DUPLICATE KEY UPDATE quantity = quantity + VALUES(quantity), updated_at = VALUES(updated_at), version = version + 1";
+    private static final int[] UPSERT_TYPES = {Types.BIGINT, Types.VARCHAR, Types.INTEGER, Types.VARCHAR,
+            Types.DATE, Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP, Types.INTEGER};
+    private static final String ADD_QUANTITY_SQL =
+            "UPDATE refrigerator_items SET quantity = quantity + ?, updated_at = ?, version = version + 1 WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final RefrigeratorItemRepository refrigeratorItemRepository;
+    private final IngredientDictionary ingredientDictionary;
+
+    /**
+     * 식재료 추가/병합
+     *
+     * @return 요청 순서대로의 결과 항목 (같은 키로 합쳐진 요청은 같은 항목)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<RefrigeratorItem> merge(Long memberId, List<RefrigeratorDto.CreateRequest> requests) {
+        if (requests.isEmpty()) return List.of();
+        // JDBC 쓰기 전에 영속성 컨텍스트의 변경을 반영
+        entityManager.flush();
+
+        // 1) 요청 내 중복 합치기 (요청 순서 유지)
+        Map<Key, Group> groups = new LinkedHashMap<>();
+        List<Key> keys = new ArrayList<>(requests.size());
+        for (RefrigeratorDto.CreateRequest request : requests) {
+            Key key = Key.of(request.getName().trim(), request.getExpirationDate());
+            groups.computeIfAbsent(key, k -> new Group(request)).add(request);
+            keys.add(key);
+        }
+
+        // 2) 기존 행 일괄 조회 + 잠금
+        List<String> names = groups.values().stream().map(g -> g.name).distinct().toList();
+        Map<Key, Existing> existing = lockExisting(memberId, names);
+
+        // 3) 배치 반영
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> upserts = new ArrayList<>();
+        List<Object[]> nullExpirationUpdates = new ArrayList<>();
+        Map<Key, Integer> expectedQuantity = new HashMap<>();
+        int merged = 0;
+        for (Map.Entry<Key, Group> entry : groups.entrySet()) {
+            Group group = entry.getValue();
+            Existing row = existing.get(entry.getKey());
+            if (row != null) {
+                merged++;
+                int delta = group.mergeQuantity(false);
+                expectedQuantity.put(entry.getKey(), row.quantity() + delta);
+                if (group.expirationDate == null) {
+                    nullExpirationUpdates.add(new Object[]{delta, now, row.id()});
+                } else {
+                    upserts.add(group.row(memberId, delta, now, ingredientDictionary.resolve(group.name)));
+                }
+            } else {
+                int quantity = group.mergeQuantity(true);
+                expectedQuantity.put(entry.getKey(), quantity);
+                upserts.add(group.row(memberId, quantity, now, ingredientDictionary.resolve(group.name)));
+            }
+        }
+        if (!upserts.isEmpty()) jdbcTemplate.batchUpdate(UPSERT_SQL, upserts, UPSERT_TYPES);
+        if (!nullExpirationUpdates.isEmpty()) jdbcTemplate.batchUpdate(ADD_QUANTITY_SQL, nullExpirationUpdates);
+
+        // 4) 결과 항목 조회 (한 번)
+        Map<Key, RefrigeratorItem> saved = new HashMap<>();
+        for (RefrigeratorItem item : refrigeratorItemRepository.findByMemberIdAndNameIn(memberId, names)) {
+            Key key = Key.of(item.getName(), item.getExpirationDate());
+            Integer expected = expectedQuantity.get(key);
+            if (expected == null) continue;
+            // 같은 트랜잭션에서 이미 로딩된 엔티티는 JDBC 변경이 반영되지 않았으므로 다시 읽음
+            if (!Objects.equals(item.getQuantity(), expected)) entityManager.refresh(item);
+            saved.putIfAbsent(key, item);
+        }
+
+        List<RefrigeratorItem> result = new ArrayList<>(keys.size());
+        for (Key key : keys) {
+            RefrigeratorItem item = saved.get(key);
+            if (item == null) {
+                throw new IllegalStateException("식재료 병합 결과를 찾을 수 없습니다: " + key.name());
+            }
+            result.add(item);
+        }
+        log.debug("식재료 병합: memberId={}, requests={}, inserted={}, merged={}",
+                memberId, requests.size(), groups.size() - merged, merged);
+        return Collections.unmodifiableList(result);
+    }
+
+    private Map<Key, Existing> lockExisting(Long memberId, List<String> names) {
+        String placeholders = String.join(", ", Collections.nCopies(names.size(), "?"));
+        Object[] args = new Object[names.size() + 1];
+        args[0] = memberId;
+        for (int i = 0; i < names.size(); i++) args[i + 1] = names.get(i);
+
+        Map<Key, Existing> existing = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT id, name, quantity, expiration_date FROM refrigerator_items "
+                        + "WHERE member_id = ? AND name IN (" + placeholders + ") FOR UPDATE",
+                rs -> {
+                    Date expiration = rs.getDate("expiration_date");
+                    Key key = Key.of(rs.getString("name"), expiration != null ? expiration.toLocalDate() : null);
+                    existing.putIfAbsent(key, new Existing(rs.getLong("id"), rs.getInt("quantity")));
+                },
+                args);
+        return existing;
+    }
+
+    private record Key(String name, LocalDate expirationDate) {
+        static Key of(String name, LocalDate expirationDate) {
+            return new Key(name.toLowerCase(Locale.ROOT), expirationDate);
+        }
+    }
+
+    private record Existing(long id, int quantity) {
+    }
+
+    // 같은 키로 합쳐진 요청들 (새 항목이면 첫 요청의 이름/단위/메모 사용)
+    private static final class Group {
+        private final String name;
+        private final String unit;
+        private final LocalDate expirationDate;
+        private final String memo;
+        private final List<Integer> quantities = new ArrayList<>();
+
+        private Group(RefrigeratorDto.CreateRequest first) {
+            this.name = first.getName().trim();
+            this.unit = first.getUnit();
+            this.expirationDate = first.getExpirationDate();
+            this.memo = first.getMemo();
+        }
+
+        private void add(RefrigeratorDto.CreateRequest request) {
+            quantities.add(request.getQuantity());
+        }
+
+        /**
+         * 순차 추가와 같은 결과 수량: 새 항목은 첫 요청 수량(null이면 1)으로 생성,
+         * 이후(또는 기존 항목에 대한) 병합은 요청 수량(0 이하/null이면 1)을 더한다.
+         */
+        private int mergeQuantity(boolean createsRow) {
+            int total = 0;
+            for (int i = 0; i < quantities.size(); i++) {
+                Integer quantity = quantities.get(i);
+                if (createsRow && i == 0) {
+                    total += quantity != null ? quantity : 1;
+                } else {
+                    total += quantity != null && quantity > 0 ? quantity : 1;
+                }
+            }
+            return total;
+        }
+
+        // 대표 재료 id는 새 행에만 쓰인다 (중복 키 갱신 시에는 기존 값 유지)
+        private Object[] row(Long memberId, int quantity, Timestamp now, Integer canonicalIngredientId) {
+            return new Object[]{memberId, name, quantity, unit,
+                    expirationDate != null ? Date.valueOf(expirationDate) : null, memo, now, now, canonicalIngredientId};
+        }
+    }
+}
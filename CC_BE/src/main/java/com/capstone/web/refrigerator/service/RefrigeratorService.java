@@ -1,10 +1,10 @@
 package com.capstone.web.refrigerator.service;
 
+import com.capstone.web.ingredient.service.IngredientDictionary;
+import com.capstone.web.ingredient.service.IngredientKey;
 import com.capstone.web.member.domain.Member;
 import com.capstone.web.member.repository.MemberRepository;
 import com.capstone.web.posts.domain.PostIngredient;
-import com.capstone.web.posts.domain.Posts;
-import com.capstone.web.posts.repository.PostsRepository;
 import com.capstone.web.recipe.domain.Recipe;
 import com.capstone.web.recipe.domain.RecipeIngredient;
 import com.capstone.web.recipe.repository.RecipeRepository;
@@ -12,21 +12,26 @@ import com.capstone.web.refrigerator.domain.RefrigeratorItem;
 import com.capstone.web.refrigerator.dto.DeductionDto;
 import com.capstone.web.refrigerator.dto.RecommendationDto;
 import com.capstone.web.refrigerator.dto.RefrigeratorDto;
+import com.capstone.web.refrigerator.event.RefrigeratorChangedEvent;
 import com.capstone.web.refrigerator.exception.ItemNotFoundException;
 import com.capstone.web.refrigerator.exception.UnauthorizedItemAccessException;
+import com.capstone.web.refrigerator.repository.RefrigeratorExpirationSummaryRepository;
 import com.capstone.web.refrigerator.repository.RefrigeratorItemRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -48,12 +53,28 @@ import java.util.stream.Collectors;
 public class RefrigeratorService {
 
     private final RefrigeratorItemRepository refrigeratorItemRepository;
+    private final RefrigeratorExpirationSummaryRepository expirationSummaryRepository;
     private final MemberRepository memberRepository;
     private final RecipeRepository recipeRepository;
-    private final PostsRepository postsRepository; // (추가)
 
-    // REF-04 의존성
-    private final GeminiService geminiService;
+    // REF-02, 03 추가/병합
+    private final RefrigeratorItemMerger refrigeratorItemMerger;
+
+    // REF-08 차감
+    private final RefrigeratorDeductionEngine refrigeratorDeductionEngine;
+
+    // 델타 동기화 변경 기록
+    private final RefrigeratorChangeLog refrigeratorChangeLog;
+
+    // REF-07 추천 재료 색인
+    private final RecipeIngredientIndex recipeIngredientIndex;
+    private final IngredientDictionary ingredientDictionary;
+    private final RecipeIngredientIndexer recipeIngredientIndexer;
+    private final RecommendationCache recommendationCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // REF-04 스캔 작업
+    private final ReceiptScanJobService receiptScanJobService;
 
     /**
      * REF-01: 내 냉장고 식재료 목록 조회
@@ -77,6 +98,34 @@ public class RefrigeratorService {
                 .build();
     }
 
+    /**
+     * 델타 동기화: since 버전 이후 추가/수정/삭제된 식재료
+     * since가 없거나 너무 오래되었으면(삭제 기록 정리됨) 전체 목록으로 응답 (fullResync)
+     */
+    public RefrigeratorDto.ChangesResponse getItemChanges(Long memberId, Long since) {
+        RefrigeratorChangeLog.Delta delta = refrigeratorChangeLog.changesSince(memberId, since);
+        return RefrigeratorDto.ChangesResponse.builder()
+                .version(delta.version())
+                .fullResync(delta.fullResync())
+                .items(delta.items())
+                .deletedItemIds(delta.deletedItemIds())
+                .build();
+    }
+
+    /**
+     * 소비기한 임박/경과 요약 (RefrigeratorExpirationScanner가 미리 계산한 값, 식재료 조회 없음)
+     */
+    public RefrigeratorDto.ExpirationSummaryResponse getExpirationSummary(Long memberId) {
+        return expirationSummaryRepository.findById(memberId)
+                .map(summary -> RefrigeratorDto.ExpirationSummaryResponse.builder()
+                        .asOf(summary.getAsOf())
+                        .expiredCount(summary.getExpiredCount())
+                        .expiringSoonCount(summary.getExpiringSoonCount())
+                        .nextExpirationDate(summary.getNextExpirationDate())
+                        .build())
+                .orElseGet(() -> RefrigeratorDto.ExpirationSummaryResponse.builder().build());
+    }
+
     /**
      * REF-02: 수동으로 식재료 추가
      * <p>
@@ -89,38 +138,10 @@ public class RefrigeratorService {
      */
     @Transactional
     public RefrigeratorDto.Response addItem(Long memberId, RefrigeratorDto.CreateRequest request) {
-        Member member = getMemberById(memberId);
-
-        RefrigeratorItem savedItem;
-        try {
-            if (request.getExpirationDate() == null) {
-                var existingOpt = refrigeratorItemRepository.findByMemberAndNameAndExpirationDateIsNull(member, request.getName());
-                if (existingOpt.isPresent()) {
-                    RefrigeratorItem existing = existingOpt.get();
-                    int prev = existing.getQuantity() != null ? existing.getQuantity() : 0;
-                    int add = request.getQuantity() != null && request.getQuantity() > 0 ? request.getQuantity() : 1;
-                    existing.updateQuantity(prev + add);
-                    savedItem = existing;
-                } else {
-                    savedItem = refrigeratorItemRepository.save(buildNewItem(member, request, null));
-                }
-            } else {
-                var existingOpt = refrigeratorItemRepository.findByMemberAndNameAndExpirationDate(member, request.getName(), request.getExpirationDate());
-                if (existingOpt.isPresent()) {
-                    RefrigeratorItem existing = existingOpt.get();
-                    int prev = existing.getQuantity() != null ? existing.getQuantity() : 0;
-                    int add = request.getQuantity() != null && request.getQuantity() > 0 ? request.getQuantity() : 1;
-                    existing.updateQuantity(prev + add);
-                    savedItem = existing;
-                } else {
-                    savedItem = refrigeratorItemRepository.save(buildNewItem(member, request, request.getExpirationDate()));
-                }
-            }
-        } catch (DataIntegrityViolationException dive) {
-            // Fallback: re-check if matching item now exists (race condition) and merge, otherwise rethrow
-            log.warn("[REF-02] DataIntegrityViolation on addItem → retry logic: memberId={}, name={}, expiration={}", memberId, request.getName(), request.getExpirationDate(), dive);
-            savedItem = retryAfterIntegrityViolation(member, request);
-        }
+        getMemberById(memberId);
+        RefrigeratorItem savedItem = refrigeratorItemMerger.merge(memberId, List.of(request)).get(0);
+        refrigeratorChangeLog.record(memberId, List.of(savedItem.getId()), List.of());
+        eventPublisher.publishEvent(new RefrigeratorChangedEvent(memberId));
         log.info("식재료 추가(병합 규칙 적용): memberId={}, itemName={}, expiration={}", memberId, request.getName(), request.getExpirationDate());
         return new RefrigeratorDto.Response(savedItem);
     }
@@ -131,53 +152,27 @@ public class RefrigeratorService {
      * REF-02와 동일한 병합 규칙 적용:
      * - 동일 이름 + 동일 소비기한 → 수량 병합
      * - 동일 이름 + 다른 소비기한 → 별도 항목 생성
+     * <p>
+     * 요청 내 중복을 먼저 합친 뒤 기존 항목 일괄 조회 1회 + 배치 upsert로 반영 (항목별 조회/저장 없음)
      */
     @Transactional
     public RefrigeratorDto.BulkCreateResponse addItemsBulk(Long memberId, RefrigeratorDto.BulkCreateRequest request) {
-        Member member = getMemberById(memberId);
-        List<RefrigeratorItem> addedItems = new ArrayList<>();
+        getMemberById(memberId);
+        List<RefrigeratorDto.CreateRequest> valid = new ArrayList<>();
         List<String> failedItems = new ArrayList<>();
         for (RefrigeratorDto.CreateRequest itemRequest : request.getItems()) {
-            try {
-                String name = itemRequest.getName();
-                Integer qty = itemRequest.getQuantity();
-                var expiration = itemRequest.getExpirationDate();
-                if (expiration == null) {
-                    refrigeratorItemRepository.findByMemberAndNameAndExpirationDateIsNull(member, name)
-                            .ifPresentOrElse(existing -> {
-                                mergeQuantity(existing, qty);
-                                addedItems.add(existing);
-                            }, () -> {
-                                try {
-                                    RefrigeratorItem item = buildNewItem(member, itemRequest, null);
-                                    addedItems.add(refrigeratorItemRepository.save(item));
-                                } catch (DataIntegrityViolationException dive) {
-                                    log.warn("[REF-03] Integrity violation (null expiration) bulk add, retry merge: name={}", name, dive);
-                                    RefrigeratorItem merged = retryAfterIntegrityViolation(member, itemRequest);
-                                    addedItems.add(merged);
-                                }
-                            });
-                } else {
-                    refrigeratorItemRepository.findByMemberAndNameAndExpirationDate(member, name, expiration)
-                            .ifPresentOrElse(existing -> {
-                                mergeQuantity(existing, qty);
-                                addedItems.add(existing);
-                            }, () -> {
-                                try {
-                                    RefrigeratorItem item = buildNewItem(member, itemRequest, expiration);
-                                    addedItems.add(refrigeratorItemRepository.save(item));
-                                } catch (DataIntegrityViolationException dive) {
-                                    log.warn("[REF-03] Integrity violation (dated) bulk add, retry merge: name={}, expiration={}", name, expiration, dive);
-                                    RefrigeratorItem merged = retryAfterIntegrityViolation(member, itemRequest);
-                                    addedItems.add(merged);
-                                }
-                            });
-                }
-            } catch (Exception e) {
-                log.warn("식재료 일괄 추가/병합 실패: {}", itemRequest.getName(), e);
+            if (itemRequest.getName() == null || itemRequest.getName().isBlank()) {
+                log.warn("식재료 일괄 추가/병합 실패: 이름 없음");
                 failedItems.add(itemRequest.getName() + " (오류)");
+            } else {
+                valid.add(itemRequest);
             }
         }
+        List<RefrigeratorItem> addedItems = refrigeratorItemMerger.merge(memberId, valid);
+        if (!addedItems.isEmpty()) {
+            refrigeratorChangeLog.record(memberId, addedItems.stream().map(RefrigeratorItem::getId).toList(), List.of());
+            eventPublisher.publishEvent(new RefrigeratorChangedEvent(memberId));
+        }
         log.info("식재료 일괄 추가 완료 (병합 로직 적용): memberId={}, success={}, fail={}", memberId, addedItems.size(), failedItems.size());
         return RefrigeratorDto.BulkCreateResponse.builder()
                 .addedItems(addedItems)
@@ -198,6 +193,8 @@ public class RefrigeratorService {
         }
 
         item.update(request.getQuantity(), request.getUnit(), request.getExpirationDate(), request.getMemo());
+        refrigeratorChangeLog.record(memberId, List.of(itemId), List.of());
+        eventPublisher.publishEvent(new RefrigeratorChangedEvent(memberId));
         log.info("식재료 수정: memberId={}, itemId={}", memberId, itemId);
 
         return new RefrigeratorDto.Response(item);
@@ -216,33 +213,39 @@ public class RefrigeratorService {
         }
 
         refrigeratorItemRepository.delete(item);
+        refrigeratorChangeLog.record(memberId, List.of(), List.of(itemId));
+        eventPublisher.publishEvent(new RefrigeratorChangedEvent(memberId));
         log.info("식재료 삭제: memberId={}, itemId={}", memberId, itemId);
     }
 
     /**
      * REF-07: 보유 재료 기반 레시피 추천
      * 냉장고에 있는 재료와 레시피(Posts) 재료를 매칭하여 추천
+     * (재료 역색인으로 공통 재료가 있는 레시피만 점수 계산, 상위 N만 선별)
+     * <p>
+     * 결과는 회원+개수 단위로 캐시되며, 계산은 캐시 전용 스레드에서 수행된다.
+     * 대기하는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행한다.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public RecommendationDto.RecommendationResponse getRecommendations(Long memberId, Integer limit) {
+        int size = limit != null && limit > 0 ? limit : 10; // 기본 10개
+        recipeIngredientIndexer.ensureBuilt();
+        return recommendationCache.get(memberId, size, () -> computeRecommendations(memberId, size));
+    }
+
+    private RecommendationDto.RecommendationResponse computeRecommendations(Long memberId, int limit) {
         // 1단계: 사용자의 냉장고 재료 조회
         List<RefrigeratorItem> myItems = refrigeratorItemRepository.findByMemberId(memberId);
-        List<String> myIngredientNames = myItems.stream()
-                .map(item -> item.getName().toLowerCase().trim())
-                .collect(Collectors.toList());
-
-        log.info("냉장고 재료 조회: memberId={}, 보유 재료 수={}", memberId, myIngredientNames.size());
+        Set<IngredientKey> myIngredientKeys = myItems.stream()
+                .map(item -> ingredientDictionary.keyOf(item.getCanonicalIngredientId(), item.getName()))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
 
-        // 2단계: 모든 레시피(Posts) 조회 (재료 포함)
-        // (수정) RecipeRepository -> PostsRepository (isRecipe=true)
-        List<Posts> allRecipes = postsRepository.findAllByIsRecipeTrue();
-        log.info("전체 레시피(Posts) 조회 완료: 레시피 수={}", allRecipes.size());
+        log.info("냉장고 재료 조회: memberId={}, 보유 재료 수={}", memberId, myIngredientKeys.size());
 
-        // 3단계: 각 레시피별 매칭률 계산
-        List<RecommendationDto.RecommendedRecipe> recommendations = allRecipes.stream()
-                .map(recipe -> calculateMatchRate(recipe, myIngredientNames))
-                .filter(rec -> rec.getMatchRate() > 0) // 매칭률 0% 제외
-                .sorted((r1, r2) -> Double.compare(r2.getMatchRate(), r1.getMatchRate())) // 매칭률 내림차순
-                .limit(limit != null && limit > 0 ? limit : 10) // 기본 10개
+        // 2단계: 재료 색인에서 매칭률 상위 레시피 조회 (매칭률 0% 제외, 매칭률 내림차순)
+        List<RecommendationDto.RecommendedRecipe> recommendations = recipeIngredientIndex
+                .recommend(myIngredientKeys, limit).stream()
+                .map(this::buildRecommendedRecipe)
                 .collect(Collectors.toList());
 
         log.info("레시피 추천 완료: memberId={}, 추천 개수={}", memberId, recommendations.size());
@@ -254,113 +257,95 @@ public class RefrigeratorService {
     }
 
     /**
-     * 레시피(Posts)와 보유 재료의 매칭률 계산
-     */
-    private RecommendationDto.RecommendedRecipe calculateMatchRate(Posts recipe, List<String> myIngredientNames) {
-        List<PostIngredient> recipeIngredients = recipe.getIngredients();
-
-        if (recipeIngredients.isEmpty()) {
-            // 재료가 없는 레시피는 매칭률 0
-            return buildRecommendedRecipe(recipe, 0.0, new ArrayList<>(), recipeIngredients);
-        }
-
-        // 매칭된 재료 찾기 (대소문자 무시, 부분 일치)
-        List<String> matchedIngredients = new ArrayList<>();
-        for (PostIngredient recipeIngredient : recipeIngredients) {
-            String recipeName = recipeIngredient.getName().toLowerCase().trim();
-
-            for (String myIngredient : myIngredientNames) {
-                // 완전 일치 또는 포함 관계
-                if (recipeName.equals(myIngredient) ||
-                        recipeName.contains(myIngredient) ||
-                        myIngredient.contains(recipeName)) {
-                    matchedIngredients.add(recipeIngredient.getName());
-                    break;
-                }
-            }
-        }
-
-        // 매칭률 계산: (매칭된 재료 수 / 전체 재료 수) * 100
-        double matchRate = (double) matchedIngredients.size() / recipeIngredients.size() * 100;
-
-        return buildRecommendedRecipe(recipe, matchRate, matchedIngredients, recipeIngredients);
-    }
-
-    /**
-     * RecommendedRecipe DTO 생성 (Posts 기반)
+     * RecommendedRecipe DTO 생성 (색인된 레시피 기반)
      */
-    private RecommendationDto.RecommendedRecipe buildRecommendedRecipe(
-            Posts recipe,
-            double matchRate,
-            List<String> matchedIngredients,
-            List<PostIngredient> recipeIngredients) {
+    private RecommendationDto.RecommendedRecipe buildRecommendedRecipe(RecipeIngredientIndex.Match match) {
+        RecipeIngredientIndex.IndexedRecipe recipe = match.recipe();
+        List<String> matchedIngredients = match.matchedNames();
 
         // 부족한 재료 찾기
-        List<RecommendationDto.MissingIngredient> missingIngredients = recipeIngredients.stream()
-                .filter(ri -> !matchedIngredients.contains(ri.getName()))
+        List<RecommendationDto.MissingIngredient> missingIngredients = recipe.ingredients().stream()
+                .filter(ri -> !matchedIngredients.contains(ri.name()))
                 .map(ri -> RecommendationDto.MissingIngredient.builder()
-                        .name(ri.getName())
-                        .amount(ri.getQuantity() != null ? ri.getQuantity() + (ri.getUnit() != null ? ri.getUnit() : "") : "")
+                        .name(ri.name())
+                        .amount(ri.quantity() != null ? ri.quantity() + (ri.unit() != null ? ri.unit() : "") : "")
                         .isRequired(true) // Posts에는 필수 여부 필드가 없으므로 기본 true 처리 (또는 로직 개선 필요)
                         .build())
                 .collect(Collectors.toList());
 
-        // HTML 본문에서 첫 번째 이미지 추출
-        String imageUrl = extractFirstImage(recipe.getContent());
-
         return RecommendationDto.RecommendedRecipe.builder()
-                .recipeId(recipe.getId())
-                .recipeName(recipe.getTitle())
+                .recipeId(recipe.id())
+                .recipeName(recipe.title())
                 .description(null) // Posts에는 description 필드가 없음 (content가 본문)
-                .cookTime(recipe.getCookTimeInMinutes())
-                .servings(recipe.getServings())
-                .difficulty(recipe.getDifficulty() != null ? recipe.getDifficulty().name() : null)
-                .imageUrl(imageUrl)
-                .matchRate(Math.round(matchRate * 10) / 10.0) // 소수점 1자리
+                .cookTime(recipe.cookTimeInMinutes())
+                .servings(recipe.servings())
+                .difficulty(recipe.difficulty())
+                .imageUrl(recipe.imageUrl()) // 작성 시 계산된 첫 번째 이미지 (HTML 재파싱 없음)
+                .matchRate(Math.round(match.matchRate() * 10) / 10.0) // 소수점 1자리
                 .matchedIngredients(matchedIngredients)
                 .missingIngredients(missingIngredients)
-                .totalIngredientsCount(recipeIngredients.size())
+                .totalIngredientsCount(recipe.ingredients().size())
                 .matchedIngredientsCount(matchedIngredients.size())
                 .build();
     }
 
     /**
-     * HTML 컨텐츠에서 첫 번째 이미지 URL 추출
+     * REF-08: 레시피 재료 차감 미리보기
+     * 실제로 차감하지 않고 차감 가능 여부만 확인
      */
-    private String extractFirstImage(String htmlContent) {
-        if (htmlContent == null || htmlContent.isBlank()) {
-            return null;
-        }
-        Document doc = Jsoup.parse(htmlContent);
-        Element img = doc.selectFirst("img");
-        return img != null ? img.attr("src") : null;
+    public DeductionDto.DeductPreviewResponse previewDeduction(Long memberId, Long recipeId) {
+        return toPreview(refrigeratorDeductionEngine.plan(memberId, recipeId));
     }
 
     /**
-     * REF-08: 레시피 재료 차감 미리보기
-     * 실제로 차감하지 않고 차감 가능 여부만 확인
+     * REF-08: 레시피 재료 차감 실행
+     * 냉장고에서 실제로 재료 수량 감소
+     * <p>
+     * 미리보기와 같은 계획(레시피+재료 1회, 냉장고 1회 조회)을 그대로 실행하며,
+     * 차감은 항목별 조건부 UPDATE 배치 1회로 반영한다 (동시 차감 시 이중 감소/갱신 유실 없음)
      */
-    public DeductionDto.DeductPreviewResponse previewDeduction(Long memberId, Long recipeId) {
-        // 1단계: 레시피(Posts) 조회
-        // (수정) RecipeRepository -> PostsRepository
-        Posts recipe = postsRepository.findById(recipeId)
-                .orElseThrow(() -> new IllegalArgumentException("레시피를 찾을 수 없습니다: " + recipeId));
+    @Transactional
+    public DeductionDto.DeductResponse deductIngredients(Long memberId, DeductionDto.DeductRequest request) {
+        // 1단계: 계획 수립 + 상태 확인
+        RefrigeratorDeductionEngine.Plan plan = refrigeratorDeductionEngine.plan(memberId, request.getRecipeId());
+        DeductionDto.DeductPreviewResponse preview = toPreview(plan);
 
-        if (!recipe.isRecipe()) {
-            throw new IllegalArgumentException("해당 게시글은 레시피가 아닙니다: " + recipeId);
+        // 2단계: 경고 무시하지 않고 진행 불가능하면 예외
+        if (!preview.isCanProceed() && !request.getIgnoreWarnings()) {
+            throw new IllegalStateException("필수 재료가 부족합니다. warnings: " + preview.getWarnings());
         }
 
-        // 2단계: 사용자 냉장고 재료 조회
-        List<RefrigeratorItem> myItems = refrigeratorItemRepository.findByMemberId(memberId);
+        // 3단계: 재료 차감 실행
+        RefrigeratorDeductionEngine.Outcome outcome = refrigeratorDeductionEngine.apply(plan);
+        List<DeductionDto.DeductedIngredient> deductedList = outcome.deducted();
+        List<String> failedList = outcome.failed();
+
+        if (!deductedList.isEmpty()) {
+            refrigeratorChangeLog.record(memberId, outcome.itemIds(), List.of());
+            eventPublisher.publishEvent(new RefrigeratorChangedEvent(memberId));
+        }
+        log.info("재료 차감 완료: recipeId={}, 성공={}, 실패={}",
+                request.getRecipeId(), deductedList.size(), failedList.size());
+
+        return DeductionDto.DeductResponse.builder()
+                .recipeId(request.getRecipeId())
+                .recipeName(plan.recipe().getTitle())
+                .successCount(deductedList.size())
+                .failedCount(failedList.size())
+                .deductedIngredients(deductedList)
+                .failedIngredients(failedList)
+                .build();
+    }
 
-        // 3단계: 각 재료별 차감 상태 확인
+    private DeductionDto.DeductPreviewResponse toPreview(RefrigeratorDeductionEngine.Plan plan) {
+        List<PostIngredient> recipeIngredients = plan.ingredients();
         List<DeductionDto.IngredientDeductionStatus> statusList = new ArrayList<>();
         List<String> warnings = new ArrayList<>();
         boolean canProceed = true;
 
-        for (PostIngredient recipeIngredient : recipe.getIngredients()) {
+        for (int i = 0; i < recipeIngredients.size(); i++) {
             DeductionDto.IngredientDeductionStatus status =
-                    checkIngredientStatus(recipeIngredient, myItems);
+                    checkIngredientStatus(recipeIngredients.get(i), plan.matchedItems().get(i));
             statusList.add(status);
 
             // 필수 재료인데 OK가 아니면 진행 불가
@@ -372,90 +357,23 @@ public class RefrigeratorService {
         }
 
         log.info("재료 차감 미리보기: memberId={}, recipeId={}, canProceed={}",
-                memberId, recipeId, canProceed);
+                plan.memberId(), plan.recipe().getId(), canProceed);
 
         return DeductionDto.DeductPreviewResponse.builder()
-                .recipeId(recipeId)
-                .recipeName(recipe.getTitle())
+                .recipeId(plan.recipe().getId())
+                .recipeName(plan.recipe().getTitle())
                 .ingredients(statusList)
                 .canProceed(canProceed)
                 .warnings(warnings)
                 .build();
     }
 
-    /**
-     * REF-08: 레시피 재료 차감 실행
-     * 냉장고에서 실제로 재료 수량 감소
-     */
-    @Transactional
-    public DeductionDto.DeductResponse deductIngredients(Long memberId, DeductionDto.DeductRequest request) {
-        // 1단계: 미리보기로 상태 확인
-        DeductionDto.DeductPreviewResponse preview = previewDeduction(memberId, request.getRecipeId());
-
-        // 2단계: 경고 무시하지 않고 진행 불가능하면 예외
-        if (!preview.isCanProceed() && !request.getIgnoreWarnings()) {
-            throw new IllegalStateException("필수 재료가 부족합니다. warnings: " + preview.getWarnings());
-        }
-
-        // 3단계: 레시피(Posts) 조회
-        Posts recipe = postsRepository.findById(request.getRecipeId())
-                .orElseThrow(() -> new IllegalArgumentException("레시피를 찾을 수 없습니다: " + request.getRecipeId()));
-
-        // 4단계: 사용자 냉장고 재료 조회
-        List<RefrigeratorItem> myItems = refrigeratorItemRepository.findByMemberId(memberId);
-
-        // 5단계: 재료 차감 실행
-        List<DeductionDto.DeductedIngredient> deductedList = new ArrayList<>();
-        List<String> failedList = new ArrayList<>();
-
-        for (PostIngredient recipeIngredient : recipe.getIngredients()) {
-            try {
-                RefrigeratorItem item = findMatchingItem(recipeIngredient.getName(), myItems);
-
-                if (item != null && item.getQuantity() > 0) {
-                    int previousQty = item.getQuantity();
-                    int newQty = Math.max(0, previousQty - 1); // 최소 0
-
-                    item.updateQuantity(newQty);
-                    refrigeratorItemRepository.save(item);
-
-                    deductedList.add(DeductionDto.DeductedIngredient.builder()
-                            .name(item.getName())
-                            .previousQuantity(previousQty)
-                            .newQuantity(newQty)
-                            .build());
-
-                    log.info("재료 차감: {} ({} → {})", item.getName(), previousQty, newQty);
-                } else {
-                    failedList.add(recipeIngredient.getName());
-                }
-            } catch (Exception e) {
-                log.error("재료 차감 실패: {}", recipeIngredient.getName(), e);
-                failedList.add(recipeIngredient.getName());
-            }
-        }
-
-        log.info("재료 차감 완료: recipeId={}, 성공={}, 실패={}",
-                request.getRecipeId(), deductedList.size(), failedList.size());
-
-        return DeductionDto.DeductResponse.builder()
-                .recipeId(request.getRecipeId())
-                .recipeName(recipe.getTitle())
-                .successCount(deductedList.size())
-                .failedCount(failedList.size())
-                .deductedIngredients(deductedList)
-                .failedIngredients(failedList)
-                .build();
-    }
-
     /**
      * 재료 상태 확인 (OK/INSUFFICIENT/NOT_FOUND) - PostIngredient 버전
      */
     private DeductionDto.IngredientDeductionStatus checkIngredientStatus(
             PostIngredient recipeIngredient,
-            List<RefrigeratorItem> myItems) {
-
-        RefrigeratorItem item = findMatchingItem(recipeIngredient.getName(), myItems);
+            RefrigeratorItem item) {
 
         // PostIngredient에는 amount(String) 대신 quantity(Integer) + unit(String)이 있음
         // requiredAmount 문자열 생성
@@ -498,30 +416,6 @@ public class RefrigeratorService {
                 .build();
     }
 
-    /**
-     * 냉장고에서 재료 이름으로 아이템 찾기 (퍼지 매칭)
-     */
-    private RefrigeratorItem findMatchingItem(String recipeName, List<RefrigeratorItem> myItems) {
-        String normalizedRecipeName = recipeName.toLowerCase().trim();
-
-        // 1차: 완전 일치
-        for (RefrigeratorItem item : myItems) {
-            if (item.getName().toLowerCase().trim().equals(normalizedRecipeName)) {
-                return item;
-            }
-        }
-
-        // 2차: 포함 관계 (레시피 이름이 냉장고 이름에 포함 or 반대)
-        for (RefrigeratorItem item : myItems) {
-            String itemName = item.getName().toLowerCase().trim();
-            if (itemName.contains(normalizedRecipeName) || normalizedRecipeName.contains(itemName)) {
-                return item;
-            }
-        }
-
-        return null;
-    }
-
     private Member getMemberById(Long memberId) {
         return memberRepository.findById(memberId)
                 .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다"));
@@ -538,8 +432,9 @@ public class RefrigeratorService {
      * 1) 프론트에서 업로드된 영수증 이미지를 그대로 전달
      * 2) Gemini Vision API가 이미지를 해석하여 매장/날짜/항목/총액 JSON 생성
      * 3) 결과를 ScanPurchaseHistoryResponse로 반환
+     * 모델 호출 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서, 스캔 작업 풀/한도를 거쳐 실행한다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public RefrigeratorDto.ScanPurchaseHistoryResponse scanPurchaseHistory(
             Long memberId,
             MultipartFile image) {
@@ -547,7 +442,8 @@ public class RefrigeratorService {
         log.info("[REF-04] (Gemini 전용) 구매 이력 스캔 시작 - memberId={}, file={} size={} bytes",
                 memberId, image.getOriginalFilename(), image.getSize());
 
-        RefrigeratorDto.ScanPurchaseHistoryResponse response = geminiService.parseReceiptImage(image);
+        RefrigeratorDto.ScanPurchaseHistoryResponse response =
+                receiptScanJobService.scan(memberId, readImage(image), image.getContentType());
 
         return RefrigeratorDto.ScanPurchaseHistoryResponse.builder()
                 .items(response.getItems())
@@ -555,53 +451,63 @@ public class RefrigeratorService {
     }
 
     /**
-     * REF-05: 식재료 단건 조회 (수정용)
-     * 본인 소유 식재료만 조회 가능
+     * REF-04 (여러 장): 긴 영수증/여러 페이지 캡처를 한 번에 스캔해 품목을 합쳐 반환
+     * 장마다 모델 호출을 스캔 작업 풀에서 동시에 실행한다.
      */
-    public RefrigeratorDto.Response getItem(Long memberId, Long itemId) {
-        RefrigeratorItem item = getItemById(itemId);
-        if (!item.getMember().getId().equals(memberId)) {
-            throw new UnauthorizedItemAccessException("식재료 조회 권한이 없습니다");
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RefrigeratorDto.ScanPurchaseHistoryResponse scanPurchaseHistoryBatch(Long memberId, List<MultipartFile> images) {
+        if (images == null || images.isEmpty()) {
+            throw new IllegalArgumentException("영수증 이미지가 비어 있습니다");
         }
-        return new RefrigeratorDto.Response(item);
+        log.info("[REF-04] (Gemini 전용) 구매 이력 여러 장 스캔 시작 - memberId={}, images={}", memberId, images.size());
+
+        List<ReceiptScanJobService.ScanImage> scanImages = new ArrayList<>(images.size());
+        for (MultipartFile image : images) {
+            scanImages.add(new ReceiptScanJobService.ScanImage(readImage(image), image.getContentType()));
+        }
+        return receiptScanJobService.scanBatch(memberId, scanImages);
     }
 
-    private RefrigeratorItem buildNewItem(Member member, RefrigeratorDto.CreateRequest request, java.time.LocalDate expirationDate) {
-        return RefrigeratorItem.builder()
-                .member(member)
-                .name(request.getName().trim())
-                .quantity(request.getQuantity())
-                .unit(request.getUnit())
-                .expirationDate(expirationDate)
-                .memo(request.getMemo())
-                .build();
+    /**
+     * REF-04 (비동기): 영수증 스캔 작업 접수 후 작업 id 즉시 반환
+     * 결과는 getScanJob(폴링) 또는 subscribeScanJob(SSE)으로 조회
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RefrigeratorDto.ScanJobResponse submitScanJob(Long memberId, MultipartFile image) {
+        return receiptScanJobService.submit(memberId, readImage(image), image.getContentType());
     }
 
-    private void mergeQuantity(RefrigeratorItem existing, Integer addQty) {
-        int prev = existing.getQuantity() != null ? existing.getQuantity() : 0;
-        int add = (addQty != null && addQty > 0) ? addQty : 1;
-        existing.updateQuantity(prev + add);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RefrigeratorDto.ScanJobResponse getScanJob(Long memberId, String jobId) {
+        return receiptScanJobService.get(memberId, jobId);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SseEmitter subscribeScanJob(Long memberId, String jobId) {
+        return receiptScanJobService.subscribe(memberId, jobId);
+    }
+
+    // 업로드 임시 파일은 요청이 끝나면 지워지므로 작업 스레드로 넘기기 전에 읽어 둔다
+    private static byte[] readImage(MultipartFile image) {
+        if (image == null || image.isEmpty()) {
+            throw new IllegalArgumentException("영수증 이미지가 비어 있습니다");
+        }
+        try {
+            return image.getBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("영수증 이미지를 읽을 수 없습니다", e);
+        }
     }
 
     /**
-     * Retry logic after a DataIntegrityViolationException possibly caused by a race condition.
-     * Attempts to find existing exact-match (name+expiration) and merge; if not found, rethrows original exception.
+     * REF-05: 식재료 단건 조회 (수정용)
+     * 본인 소유 식재료만 조회 가능
      */
-    private RefrigeratorItem retryAfterIntegrityViolation(Member member, RefrigeratorDto.CreateRequest request) {
-        if (request.getExpirationDate() == null) {
-            return refrigeratorItemRepository.findByMemberAndNameAndExpirationDateIsNull(member, request.getName())
-                    .map(existing -> {
-                        mergeQuantity(existing, request.getQuantity());
-                        return existing;
-                    })
-                    .orElseThrow(() -> new DataIntegrityViolationException("Retry failed (null expiration): still no existing row"));
-        } else {
-            return refrigeratorItemRepository.findByMemberAndNameAndExpirationDate(member, request.getName(), request.getExpirationDate())
-                    .map(existing -> {
-                        mergeQuantity(existing, request.getQuantity());
-                        return existing;
-                    })
-                    .orElseThrow(() -> new DataIntegrityViolationException("Retry failed (dated): still no existing row"));
+    public RefrigeratorDto.Response getItem(Long memberId, Long itemId) {
+        RefrigeratorItem item = getItemById(itemId);
+        if (!item.getMember().getId().equals(memberId)) {
+            throw new UnauthorizedItemAccessException("식재료 조회 권한이 없습니다");
         }
+        return new RefrigeratorDto.Response(item);
     }
 }
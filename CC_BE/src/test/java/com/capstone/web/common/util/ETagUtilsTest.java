@@ -0,0 +1,36 @@
+package com.capstone.web.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ETagUtilsTest {
+
+    @DisplayName("같은 버전 구성 요소면 같은 ETag, 하나라도 바뀌면 다른 ETag")
+    @Test
+    void strong_DependsOnEveryPart() {
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+        String etag = ETagUtils.strong("post", 1L, updatedAt, 3, null);
+
+        assertThat(etag).startsWith("\"").endsWith("\"").hasSize(34);
+        assertThat(ETagUtils.strong("post", 1L, updatedAt, 3, null)).isEqualTo(etag);
+        assertThat(ETagUtils.strong("post", 1L, updatedAt, 4, null)).isNotEqualTo(etag);
+        assertThat(ETagUtils.strong("post", 1L, updatedAt, 3, 7L)).isNotEqualTo(etag);
+    }
+
+    @DisplayName("If-None-Match: 목록/약한 태그/와일드카드 처리")
+    @Test
+    void matches() {
+        String etag = ETagUtils.strong("boards", 1);
+
+        assertThat(ETagUtils.matches(null, etag)).isFalse();
+        assertThat(ETagUtils.matches("\"other\"", etag)).isFalse();
+        assertThat(ETagUtils.matches(etag, etag)).isTrue();
+        assertThat(ETagUtils.matches("\"other\", W/" + etag, etag)).isTrue();
+        assertThat(ETagUtils.matches("*", etag)).isTrue();
+    }
+}
@@ -0,0 +1,92 @@
+package com.capstone.web.ingredient.service;
+
+import com.capstone.web.member.domain.Member;
+import com.capstone.web.member.repository.MemberRepository;
+import com.capstone.web.refrigerator.domain.RefrigeratorItem;
+import com.capstone.web.refrigerator.dto.RefrigeratorDto;
+import com.capstone.web.refrigerator.repository.RefrigeratorItemRepository;
+import com.capstone.web.refrigerator.service.RefrigeratorService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class IngredientDictionaryTest {
+
+    @Autowired
+    private IngredientDictionary dictionary;
+    @Autowired
+    private CanonicalIngredientBackfillJob backfillJob;
+    @Autowired
+    private RefrigeratorService refrigeratorService;
+    @Autowired
+    private RefrigeratorItemRepository refrigeratorItemRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Member member;
+
+    @BeforeEach
+    void setup() {
+        refrigeratorItemRepository.deleteAll();
+        memberRepository.deleteAll();
+        member = memberRepository.save(Member.builder().email("dict@test.com").password("pw").nickname("dict").build());
+    }
+
+    @DisplayName("별칭/수식어/괄호를 대표 재료 id로 해석하고, 사전에 없으면 null")
+    @Test
+    void resolve() {
+        Integer egg = dictionary.resolve("계란");
+        Integer greenOnion = dictionary.resolve("대파");
+
+        assertThat(egg).isNotNull();
+        assertThat(dictionary.canonicalName(egg)).isEqualTo("계란");
+        assertThat(dictionary.resolve(" 달걀 ")).isEqualTo(egg);
+        assertThat(dictionary.resolve("EGG")).isEqualTo(egg);
+        assertThat(dictionary.resolve("파")).isEqualTo(greenOnion);
+        assertThat(dictionary.resolve("다진 대파")).isEqualTo(greenOnion);
+        assertThat(dictionary.resolve("국산 삼겹살(500g)")).isEqualTo(dictionary.resolve("돼지고기"));
+        // 양파는 별도 재료, 한 글자 별칭은 접미 매칭에 쓰지 않음
+        assertThat(dictionary.resolve("양파")).isNotEqualTo(greenOnion);
+        assertThat(dictionary.resolve("파인애플")).isNull();
+        assertThat(dictionary.resolve("양파즙")).isNull();
+    }
+
+    @DisplayName("식재료 추가 시 대표 재료 id가 함께 저장된다")
+    @Test
+    void assignedOnWrite() {
+        RefrigeratorDto.Response added = refrigeratorService.addItem(member.getId(),
+                RefrigeratorDto.CreateRequest.builder().name("달걀").quantity(10).build());
+        entityManager.clear();
+
+        assertThat(refrigeratorItemRepository.findById(added.getId()).orElseThrow().getCanonicalIngredientId())
+                .isEqualTo(dictionary.resolve("계란"));
+    }
+
+    @DisplayName("백필: 비어 있는 대표 재료 id를 채우고, 해석되지 않는 행은 그대로 둔다")
+    @Test
+    void backfill() {
+        RefrigeratorItem egg = refrigeratorItemRepository.save(RefrigeratorItem.builder().member(member).name("유정란").build());
+        RefrigeratorItem unknown = refrigeratorItemRepository.save(RefrigeratorItem.builder().member(member).name("트러플오일").build());
+        refrigeratorItemRepository.flush();
+
+        CanonicalIngredientBackfillJob.Result result = backfillJob.backfill(CanonicalIngredientBackfillJob.Target.REFRIGERATOR_ITEM);
+        entityManager.clear();
+
+        assertThat(result.scanned()).isGreaterThanOrEqualTo(2);
+        assertThat(refrigeratorItemRepository.findById(egg.getId()).orElseThrow().getCanonicalIngredientId())
+                .isEqualTo(dictionary.resolve("계란"));
+        assertThat(refrigeratorItemRepository.findById(unknown.getId()).orElseThrow().getCanonicalIngredientId()).isNull();
+    }
+}
@@ -0,0 +1,112 @@
+package com.capstone.web.posts.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.capstone.web.category.domain.Category;
+import com.capstone.web.category.repository.CategoryRepository;
+import com.capstone.web.media.domain.Media;
+import com.capstone.web.member.domain.Member;
+import com.capstone.web.member.repository.MemberRepository;
+import com.capstone.web.posts.domain.PostIngredient;
+import com.capstone.web.posts.domain.Posts;
+import com.capstone.web.posts.dto.PostDto;
+import com.capstone.web.posts.service.PostContentProcessor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PostsRepositoryTestConfig.class)
+@ActiveProfiles("test")
+class PostsListQueryRepositoryTest {
+
+    @Autowired private PostsRepository postsRepository;
+    @Autowired private MemberRepository memberRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private EntityManager em;
+    @Autowired private EntityManagerFactory emf;
+
+    private final PostContentProcessor contentProcessor = new PostContentProcessor();
+    private Statistics statistics;
+    private Category category;
+
+    @BeforeEach
+    void setup() {
+        postsRepository.deleteAll();
+        memberRepository.deleteAll();
+        categoryRepository.deleteAll();
+
+        Member author = memberRepository.save(Member.builder().email("author@example.com").nickname("글쓴이").password("pw").build());
+        category = categoryRepository.save(Category.builder().name("레시피").type(Category.CategoryType.FREE).build());
+
+        for (int i = 1; i <= 12; i++) {
+            Posts post = Posts.builder()
+                    .authorId(author).category(category).title("레시피 " + i)
+                    .content("")
+                    .isRecipe(true)
+                    .build();
+            post.applyContent(contentProcessor.process("<p>본문 " + i + " <b>굵게</b></p>"));
+            post.addMedia(Media.builder().ownerType(Media.OwnerType.post).mediaType(Media.MediaType.image)
+                    .url("https://img/" + i + "/thumb.jpg").orderNum(0).build());
+            post.addMedia(Media.builder().ownerType(Media.OwnerType.post).mediaType(Media.MediaType.image)
+                    .url("https://img/" + i + "/extra.jpg").orderNum(1).build());
+            post.getIngredients().add(PostIngredient.builder().post(post).name("두부").quantity(1L).unit("모").build());
+            postsRepository.save(post);
+        }
+        em.flush();
+        em.clear();
+
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @DisplayName("목록 카드 조회는 페이지 크기와 무관하게 SELECT 1회 + COUNT 1회")
+    @Test
+    void findListItems_ConstantStatementsPerPage() {
+        Specification<Posts> byBoard = (root, q, cb) -> cb.equal(root.get("category").get("id"), category.getId());
+
+        Page<PostDto.ListItem> small = postsRepository.findListItems(byBoard, PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "createdAt")));
+        long smallStatements = statistics.getPrepareStatementCount();
+        statistics.clear();
+
+        Page<PostDto.ListItem> large = postsRepository.findListItems(byBoard, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")));
+        long largeStatements = statistics.getPrepareStatementCount();
+
+        assertThat(small.getContent()).hasSize(3);
+        assertThat(large.getContent()).hasSize(10);
+        assertThat(large.getTotalElements()).isEqualTo(12);
+        assertThat(smallStatements).isEqualTo(2);
+        assertThat(largeStatements).isEqualTo(2);
+        // 프로젝션 결과만 사용하므로 엔티티/컬렉션 로딩이 발생하지 않음
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    @DisplayName("목록 카드에 작성자/카테고리/썸네일/요약이 채워진다")
+    @Test
+    void findListItems_ProjectsCardFields() {
+        PostDto.ListItem item = postsRepository.findListItems(null, Sort.by(Sort.Direction.DESC, "id"), 1).get(0);
+
+        assertThat(item.getTitle()).isEqualTo("레시피 12");
+        assertThat(item.getAuthorName()).isEqualTo("글쓴이");
+        assertThat(item.getCategoryName()).isEqualTo("레시피");
+        assertThat(item.getThumbnailUrl()).isEqualTo("https://img/12/thumb.jpg");
+        assertThat(item.getExcerpt()).isEqualTo("본문 12 굵게");
+        assertThat(item.getIsRecipe()).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
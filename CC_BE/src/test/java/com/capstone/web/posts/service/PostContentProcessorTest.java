@@ -0,0 +1,53 @@
+package com.capstone.web.posts.service;
+
+import com.capstone.web.posts.domain.PostContent;
+import com.capstone.web.posts.domain.Posts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostContentProcessorTest {
+
+    private final PostContentProcessor processor = new PostContentProcessor();
+
+    @DisplayName("스크립트 제거 후 요약/첫 이미지/단어 수 계산")
+    @Test
+    void process_DerivesFields() {
+        PostContent result = processor.process(
+                "<p>두부 조림 <b>만들기</b></p><script>alert(1)</script>"
+                        + "<img src=\"https://img/a.jpg\" onerror=\"x()\"><img src=\"https://img/b.jpg\">");
+
+        assertThat(result.html()).doesNotContain("script", "onerror");
+        assertThat(result.plainText()).isEqualTo("두부 조림 만들기");
+        assertThat(result.excerpt()).isEqualTo("두부 조림 만들기");
+        assertThat(result.firstImageUrl()).isEqualTo("https://img/a.jpg");
+        assertThat(result.wordCount()).isEqualTo(3);
+        assertThat(result.contentHash()).hasSize(64);
+    }
+
+    @DisplayName("같은 본문은 같은 해시, 긴 본문은 요약 길이로 절삭")
+    @Test
+    void process_HashAndExcerptLength() {
+        String longText = "가".repeat(Posts.EXCERPT_LENGTH + 50);
+
+        PostContent first = processor.process("<p>" + longText + "</p>");
+        PostContent second = processor.process("<p>" + longText + "</p>");
+
+        assertThat(first.contentHash()).isEqualTo(second.contentHash());
+        assertThat(first.excerpt()).hasSize(Posts.EXCERPT_LENGTH);
+        assertThat(first.plainText()).isEqualTo(longText);
+        assertThat(processor.process("<p>다른 글</p>").contentHash()).isNotEqualTo(first.contentHash());
+    }
+
+    @DisplayName("빈 본문은 요약/이미지 없음")
+    @Test
+    void process_Empty() {
+        PostContent result = processor.process(null);
+
+        assertThat(result.html()).isEmpty();
+        assertThat(result.excerpt()).isNull();
+        assertThat(result.firstImageUrl()).isNull();
+        assertThat(result.wordCount()).isZero();
+    }
+}
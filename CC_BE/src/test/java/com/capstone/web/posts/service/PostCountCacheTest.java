@@ -0,0 +1,81 @@
+package com.capstone.web.posts.service;
+
+import com.capstone.web.posts.event.PostChangedEvent;
+import com.capstone.web.posts.repository.PostsRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostCountCacheTest {
+
+    private final PostsRepository postsRepository = mock(PostsRepository.class);
+    private final PostCountCache cache = new PostCountCache(postsRepository);
+
+    @DisplayName("게시글 생성/삭제/게시판 이동은 다시 집계하지 않고 게시판별 수에 반영된다")
+    @Test
+    void appliesDeltasWithoutRecount() {
+        when(postsRepository.countGroupByCategory()).thenReturn(rows(new Object[]{1L, 3L}, new Object[]{2L, 1L}));
+        assertThat(cache.total()).isEqualTo(4L);
+
+        cache.onPostChanged(PostChangedEvent.created(10L, 1L));
+        cache.onPostChanged(PostChangedEvent.created(11L, 3L));
+        cache.onPostChanged(PostChangedEvent.deleted(12L, 2L));
+        cache.onPostChanged(PostChangedEvent.updated(13L, 1L, 2L));
+        cache.onPostChanged(PostChangedEvent.updated(14L, 2L, 2L));
+        cache.onPostChanged(PostChangedEvent.liked(15L));
+
+        assertThat(cache.boardTotal(1L)).isEqualTo(3L);
+        assertThat(cache.boardTotal(2L)).isEqualTo(1L);
+        assertThat(cache.boardTotal(3L)).isEqualTo(1L);
+        assertThat(cache.total()).isEqualTo(5L);
+        verify(postsRepository, times(1)).countGroupByCategory();
+    }
+
+    @DisplayName("주기 갱신은 집계 결과로 값을 보정하고, 값이 바뀌면 지문도 바뀐다")
+    @Test
+    void refreshReconciles() {
+        when(postsRepository.countGroupByCategory()).thenReturn(rows(new Object[]{1L, 3L}));
+        int before = cache.fingerprint();
+
+        cache.onPostChanged(PostChangedEvent.created(10L, 1L));
+        assertThat(cache.fingerprint()).isNotEqualTo(before);
+
+        when(postsRepository.countGroupByCategory()).thenReturn(rows(new Object[]{1L, 3L}));
+        cache.refresh();
+
+        assertThat(cache.boardTotal(1L)).isEqualTo(3L);
+        assertThat(cache.fingerprint()).isEqualTo(before);
+    }
+
+    @DisplayName("변경 버전은 생성/수정/삭제와 값이 달라진 보정에서만 바뀐다")
+    @Test
+    void changeVersion() {
+        when(postsRepository.countGroupByCategory()).thenReturn(rows(new Object[]{1L, 3L}));
+        cache.total();
+        String initial = cache.changeVersion();
+
+        cache.onPostChanged(PostChangedEvent.liked(10L));
+        cache.refresh();
+        assertThat(cache.changeVersion()).isEqualTo(initial);
+
+        cache.onPostChanged(PostChangedEvent.updated(10L, 1L, 1L));
+        String afterUpdate = cache.changeVersion();
+        assertThat(afterUpdate).isNotEqualTo(initial);
+
+        when(postsRepository.countGroupByCategory()).thenReturn(rows(new Object[]{1L, 5L}));
+        cache.refresh();
+        assertThat(cache.changeVersion()).isNotEqualTo(afterUpdate);
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
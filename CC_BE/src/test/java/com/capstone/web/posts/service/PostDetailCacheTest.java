@@ -0,0 +1,116 @@
+package com.capstone.web.posts.service;
+
+import com.capstone.web.category.event.CategoryChangedEvent;
+import com.capstone.web.member.event.MemberNicknameChangedEvent;
+import com.capstone.web.posts.dto.PostDto;
+import com.capstone.web.posts.event.PostChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostDetailCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PostDetailCache cache = new PostDetailCache(meterRegistry, 100, 60_000);
+
+    @DisplayName("같은 게시글의 동시 미스는 로더를 한 번만 실행한다")
+    @Test
+    void concurrentMissLoadsOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        PostDetailCache.Snapshot snapshot = new PostDetailCache.Snapshot(mock(PostDto.Response.class), 0L);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<PostDetailCache.Snapshot>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(pool.submit(() -> {
+                start.await();
+                return cache.get(1L, id -> {
+                    loads.incrementAndGet();
+                    sleep(50);
+                    return snapshot;
+                });
+            }));
+        }
+        start.countDown();
+        for (Future<PostDetailCache.Snapshot> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(snapshot);
+        }
+        pool.shutdown();
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", PostDetailCache.CACHE_NAME).tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("수정/삭제/좋아요 시 무효화, 생성 이벤트는 무시")
+    @Test
+    void invalidatesOnChanges() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, id -> countingLoad(loads));
+
+        cache.onPostChanged(PostChangedEvent.created(1L, 10L));
+        cache.get(1L, id -> countingLoad(loads));
+        assertThat(loads.get()).isEqualTo(1);
+
+        cache.onPostChanged(PostChangedEvent.liked(1L));
+        cache.get(1L, id -> countingLoad(loads));
+        assertThat(loads.get()).isEqualTo(2);
+
+        cache.onPostChanged(PostChangedEvent.deleted(1L, 10L));
+        cache.get(1L, id -> countingLoad(loads));
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @DisplayName("작성자 닉네임/카테고리 변경 시 해당 작성자/카테고리의 스냅샷만 무효화")
+    @Test
+    void invalidatesByAuthorAndCategory() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, id -> countingLoad(loads, 100L, 10L));
+        cache.get(2L, id -> countingLoad(loads, 200L, 20L));
+
+        cache.onMemberNicknameChanged(new MemberNicknameChangedEvent(100L));
+        cache.get(1L, id -> countingLoad(loads, 100L, 10L));
+        cache.get(2L, id -> countingLoad(loads, 200L, 20L));
+        assertThat(loads.get()).isEqualTo(3);
+
+        cache.onCategoryChanged(new CategoryChangedEvent(20L));
+        cache.get(1L, id -> countingLoad(loads, 100L, 10L));
+        cache.get(2L, id -> countingLoad(loads, 200L, 20L));
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    private PostDetailCache.Snapshot countingLoad(AtomicInteger loads, Long authorId, Long categoryId) {
+        loads.incrementAndGet();
+        PostDto.Response post = mock(PostDto.Response.class);
+        when(post.getAuthorId()).thenReturn(authorId);
+        when(post.getCategoryId()).thenReturn(categoryId);
+        return new PostDetailCache.Snapshot(post, 0L);
+    }
+
+    private PostDetailCache.Snapshot countingLoad(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return new PostDetailCache.Snapshot(mock(PostDto.Response.class), 0L);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.capstone.web.posts.service;
+
+import com.capstone.web.common.S3UploadService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostMediaUploaderTest {
+
+    private final S3UploadService s3UploadService = mock(S3UploadService.class);
+    private final PostMediaUploader uploader = new PostMediaUploader(Optional.of(s3UploadService), 4, 5000);
+
+    @AfterEach
+    void tearDown() {
+        uploader.shutdown();
+    }
+
+    @DisplayName("썸네일/추가 이미지를 업로드하고 파일 순서를 유지한다")
+    @Test
+    void upload_PreservesOrder() throws IOException {
+        MultipartFile thumb = file("thumb.jpg");
+        MultipartFile first = file("a.jpg");
+        MultipartFile second = file("b.jpg");
+        when(s3UploadService.uploadFile(thumb)).thenReturn("https://s3/thumb.jpg");
+        when(s3UploadService.uploadFile(first)).thenReturn("https://s3/a.jpg");
+        when(s3UploadService.uploadFile(second)).thenReturn("https://s3/b.jpg");
+
+        PostMediaUploader.UploadedMedia uploaded = uploader.upload(thumb, List.of(first, second));
+
+        assertThat(uploaded.thumbnailUrl()).isEqualTo("https://s3/thumb.jpg");
+        assertThat(uploaded.imageUrls()).containsExactly("https://s3/a.jpg", "https://s3/b.jpg");
+        verify(s3UploadService, never()).deleteFile(any());
+    }
+
+    @DisplayName("일부 업로드 실패 시 성공한 객체를 보상 삭제하고 예외")
+    @Test
+    void upload_CompensatesOnFailure() throws IOException {
+        MultipartFile ok = file("ok.jpg");
+        MultipartFile broken = file("broken.jpg");
+        when(s3UploadService.uploadFile(ok)).thenReturn("https://s3/ok.jpg");
+        when(s3UploadService.uploadFile(broken)).thenThrow(new IOException("network"));
+
+        assertThatThrownBy(() -> uploader.upload(null, List.of(ok, broken)))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("추가 이미지 업로드 실패");
+        verify(s3UploadService, timeout(1000)).deleteFile("https://s3/ok.jpg");
+    }
+
+    @DisplayName("업로드할 파일이 없으면 S3를 호출하지 않는다")
+    @Test
+    void upload_Empty() throws IOException {
+        PostMediaUploader.UploadedMedia uploaded = uploader.upload(null, List.of(new MockMultipartFile("files", new byte[0])));
+
+        assertThat(uploaded.urls()).isEmpty();
+        verify(s3UploadService, never()).uploadFile(any());
+    }
+
+    private MultipartFile file(String name) {
+        return new MockMultipartFile("files", name, "image/jpeg", new byte[]{1, 2, 3});
+    }
+}
@@ -0,0 +1,115 @@
+package com.capstone.web.posts.service;
+
+import com.capstone.web.posts.domain.Posts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostSearchIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    private PostSearchIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new PostSearchIndex(tempDir.toString());
+        index.open();
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.close();
+    }
+
+    @DisplayName("형태소 분석: 복합명사 일부(찌개)로도 제목 검색된다")
+    @Test
+    void searchByMorpheme() {
+        index.upsert(post(1L, "김치찌개 끓이는 법", 10L, true, Posts.DietType.GENERAL, List.of("김치", "두부")));
+        index.upsert(post(2L, "오늘의 산책 일기", 20L, false, null, List.of()));
+        index.refresh();
+
+        PostSearchIndex.SearchResult result = index.search(query("찌개", "TITLE", null, null, null));
+
+        assertThat(result.ids()).containsExactly(1L);
+        assertThat(result.totalHits()).isEqualTo(1);
+    }
+
+    @DisplayName("통합 검색: 제목 일치가 재료 일치보다 높은 순위")
+    @Test
+    void titleMatchRanksHigher() {
+        index.upsert(post(1L, "간단한 아침 메뉴", 10L, true, null, List.of("두부", "계란")));
+        index.upsert(post(2L, "두부 조림 만들기", 10L, true, null, List.of("간장")));
+        index.refresh();
+
+        PostSearchIndex.SearchResult result = index.search(query("두부", null, null, null, null));
+
+        assertThat(result.ids()).containsExactly(2L, 1L);
+    }
+
+    @DisplayName("게시판/레시피 여부/식단 타입 필터")
+    @Test
+    void filters() {
+        index.upsert(post(1L, "두부 샐러드", 10L, true, Posts.DietType.VEGAN, List.of("두부")));
+        index.upsert(post(2L, "두부 스테이크", 10L, true, Posts.DietType.HIGH_PROTEIN, List.of("두부")));
+        index.upsert(post(3L, "두부 먹은 후기", 20L, false, null, List.of()));
+        index.refresh();
+
+        assertThat(index.search(query("두부", null, 20L, null, null)).ids()).containsExactly(3L);
+        assertThat(index.search(query("두부", null, null, true, null)).ids()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search(query("두부", null, null, true, Posts.DietType.VEGAN)).ids()).containsExactly(1L);
+    }
+
+    @DisplayName("삭제 및 재색인 시 누락된 문서 제거")
+    @Test
+    void deleteAndRebuild() {
+        index.upsert(post(1L, "된장국 레시피", 10L, true, null, List.of("된장")));
+        index.upsert(post(2L, "된장찌개 레시피", 10L, true, null, List.of("된장")));
+        index.refresh();
+
+        index.delete(1L);
+        index.refresh();
+        assertThat(index.search(query("된장", null, null, null, null)).ids()).containsExactly(2L);
+
+        // 재색인 세대에 포함되지 않은 문서(2번)는 정리된다
+        index.beginRebuild();
+        index.upsert(post(3L, "된장 비빔밥", 10L, true, null, List.of("된장")));
+        index.finishRebuild();
+        assertThat(index.search(query("된장", null, null, null, null)).ids()).containsExactly(3L);
+    }
+
+    @DisplayName("페이지 범위를 벗어나면 빈 목록과 전체 건수 반환")
+    @Test
+    void paging() {
+        for (long i = 1; i <= 5; i++) {
+            index.upsert(post(i, "계란말이 " + i, 10L, true, null, List.of("계란")));
+        }
+        index.refresh();
+
+        PostSearchIndex.SearchResult page2 = index.search(new PostSearchIndex.SearchQuery("계란말이", "TITLE", null, null, null, 1, 2));
+        PostSearchIndex.SearchResult page9 = index.search(new PostSearchIndex.SearchQuery("계란말이", "TITLE", null, null, null, 9, 2));
+
+        assertThat(page2.ids()).hasSize(2);
+        assertThat(page2.totalHits()).isEqualTo(5);
+        assertThat(page9.ids()).isEmpty();
+        assertThat(page9.totalHits()).isEqualTo(5);
+    }
+
+    private PostSearchIndex.SearchQuery query(String keyword, String type, Long boardId, Boolean isRecipe, Posts.DietType dietType) {
+        return new PostSearchIndex.SearchQuery(keyword, type, boardId, isRecipe, dietType, 0, 20);
+    }
+
+    private PostSearchIndex.IndexedPost post(Long id, String title, Long boardId, boolean recipe,
+                                             Posts.DietType dietType, List<String> ingredients) {
+        return new PostSearchIndex.IndexedPost(id, title, "본문 " + id, "작성자", boardId, "게시판",
+                recipe, dietType, ingredients, id * 1000);
+    }
+}
@@ -2,7 +2,10 @@ package com.capstone.web.posts.service;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.capstone.web.category.domain.Category;
@@ -14,10 +17,15 @@ import com.capstone.web.member.domain.Member;
 import com.capstone.web.member.exception.UserNotFoundException;
 import com.capstone.web.member.repository.MemberRepository;
 import com.capstone.web.posts.domain.Posts;
+import com.capstone.web.posts.dto.PostComparisonDto;
 import com.capstone.web.posts.dto.PostDto;
+import com.capstone.web.posts.dto.PostCursor;
 import com.capstone.web.posts.dto.PostIngredientDto;
+import com.capstone.web.posts.dto.PostListRequest;
+import com.capstone.web.posts.exception.InvalidCursorException;
 import com.capstone.web.posts.exception.PostPermissionException;
 import com.capstone.web.posts.repository.PostsRepository;
+import com.capstone.web.refrigerator.domain.RefrigeratorItem;
 import com.capstone.web.refrigerator.repository.RefrigeratorItemRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -30,8 +38,10 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 @SpringBootTest
@@ -148,4 +158,76 @@ class PostServiceTest {
         assertThatThrownBy(() -> postService.deletePost(post.getId(), otherUser.getId()))
                 .isInstanceOf(PostPermissionException.class);
     }
-}
\ No newline at end of file
+
+    @DisplayName("커서 목록: 다음 커서로 이어서 조회하면 중복/누락 없이 최신순")
+    @Test
+    void scroll_FollowsCursorWithoutDuplicates() {
+        for (int i = 1; i <= 5; i++) {
+            postsRepository.save(Posts.builder().authorId(author).category(category).title("글" + i).content("내용").build());
+        }
+        PostListRequest req = new PostListRequest();
+        req.setBoardId(category.getId());
+        req.setSize(2);
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        PostDto.CursorResponse page;
+        do {
+            page = postService.scroll(req, cursor);
+            page.getContent().forEach(p -> seen.add(p.getId()));
+            cursor = page.getNextCursor();
+        } while (page.isHasNext());
+
+        List<Long> expected = postsRepository.findAll().stream()
+                .sorted(Comparator.comparing(Posts::getCreatedAt).thenComparing(Posts::getId).reversed())
+                .map(Posts::getId)
+                .toList();
+        assertThat(seen).containsExactlyElementsOf(expected);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @DisplayName("커서 목록: 위조되었거나 정렬 기준이 다른 커서는 예외")
+    @Test
+    void scroll_InvalidCursor() {
+        PostListRequest req = new PostListRequest();
+        req.setSortBy("likeCount");
+        String createdAtCursor = new PostCursor("createdAt", "2024-01-01T00:00", 1L).encode();
+
+        assertThatThrownBy(() -> postService.scroll(req, "not-a-cursor"))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> postService.scroll(req, createdAtCursor))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @DisplayName("여러 게시글 냉장고 재료 일괄 비교: 냉장고 1회 조회, 요청 순서로 개수 반환")
+    @Test
+    void compareWithRefrigerator_Batch() {
+        Long first = postService.createPost(author.getId(), new PostDto.CreateRequest(
+                category.getId(), "김치찌개", "내용", Posts.PostStatus.PUBLISHED, true, null,
+                DEFAULT_DIET_TYPE, DEFAULT_COOK_TIME, DEFAULT_SERVINGS, DEFAULT_DIFFICULTY,
+                List.of(ingredient("김치"), ingredient("돼지고기"), ingredient("대파"))), null, null);
+        Long second = postService.createPost(author.getId(), new PostDto.CreateRequest(
+                category.getId(), "계란말이", "내용", Posts.PostStatus.PUBLISHED, true, null,
+                DEFAULT_DIET_TYPE, DEFAULT_COOK_TIME, DEFAULT_SERVINGS, DEFAULT_DIFFICULTY,
+                List.of(ingredient("계란"), ingredient("다진 대파"))), null, null);
+
+        when(refrigeratorItemRepository.findByMemberId(anyLong())).thenReturn(List.of(
+                RefrigeratorItem.builder().member(otherUser).name("김치").build(),
+                RefrigeratorItem.builder().member(otherUser).name("대파").build()));
+
+        PostComparisonDto.BatchResponse response = postService.compareWithRefrigerator(
+                List.of(second, first, second, 999_999L), otherUser.getId());
+
+        assertThat(response.getResults()).extracting(PostComparisonDto.Summary::getPostId)
+                .containsExactly(second, first, 999_999L);
+        assertThat(response.getResults()).extracting(PostComparisonDto.Summary::getOwnedCount)
+                .containsExactly(1, 2, 0);
+        assertThat(response.getResults()).extracting(PostComparisonDto.Summary::getMissingCount)
+                .containsExactly(1, 1, 0);
+        verify(refrigeratorItemRepository, times(1)).findByMemberId(anyLong());
+    }
+
+    private PostIngredientDto.Request ingredient(String name) {
+        return new PostIngredientDto.Request(null, name, 1L, null, null);
+    }
+}
@@ -10,6 +10,7 @@ import com.capstone.web.posts.domain.Posts;
 import com.capstone.web.posts.dto.PostDto;
 import com.capstone.web.posts.repository.PostsRepository;
 import com.capstone.web.refrigerator.repository.RefrigeratorItemRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -35,6 +36,10 @@ class PostUpdatedAtBehaviorTest {
     private MemberRepository memberRepository;
     @Autowired
     private CategoryRepository categoryRepository;
+    @Autowired
+    private PostViewCountBuffer viewCountBuffer;
+    @Autowired
+    private EntityManager entityManager;
 
     // [수정] 복잡한 TestBeans 대신 MockBean 사용
     @MockitoBean
@@ -75,8 +80,11 @@ class PostUpdatedAtBehaviorTest {
         Posts saved = postsRepository.findById(postId).orElseThrow();
         var originalUpdatedAt = saved.getUpdatedAt();
 
-        // when: 조회 (viewCount 증가)
+        // when: 조회 (viewCount 증가) 후 write-behind 버퍼 반영
         postService.getPostById(postId);
+        assertThat(viewCountBuffer.pending(postId)).isEqualTo(1);
+        viewCountBuffer.flush();
+        entityManager.clear();
 
         // then
         Posts afterView = postsRepository.findById(postId).orElseThrow();
@@ -127,4 +135,34 @@ class PostUpdatedAtBehaviorTest {
         Posts afterUpdate = postsRepository.findById(postId).orElseThrow();
         assertThat(afterUpdate.getUpdatedAt()).isAfter(beforeUpdate);
     }
-}
\ No newline at end of file
+
+    @DisplayName("응답 ETag 는 조건부 GET ETag 와 같고, 작성자 닉네임이 바뀌면 달라진다")
+    @Test
+    void postETagTracksAuthor() throws InterruptedException {
+        PostDto.CreateRequest createReq = new PostDto.CreateRequest();
+        createReq.setCategoryId(category.getId());
+        createReq.setTitle("제목");
+        createReq.setContent("내용");
+        createReq.setStatus(Posts.PostStatus.PUBLISHED);
+        createReq.setIsRecipe(false);
+        createReq.setDietType(Posts.DietType.GENERAL);
+        createReq.setCookTimeInMinutes(10);
+        createReq.setServings(1);
+        createReq.setDifficulty(Posts.Difficulty.MEDIUM);
+
+        Long postId = postService.createPost(author.getId(), createReq, null, null);
+        entityManager.flush();
+        entityManager.clear();
+
+        String etag = postService.etagOf(postService.getPostById(postId), null);
+        assertThat(postService.findPostETag(postId, null)).contains(etag);
+
+        Thread.sleep(20); // 시간 차 확보 (DB 타임스탬프 정밀도 고려)
+        Member member = memberRepository.findById(author.getId()).orElseThrow();
+        member.changeNickname("새작성자");
+        memberRepository.saveAndFlush(member);
+        entityManager.clear();
+
+        assertThat(postService.findPostETag(postId, null)).isPresent().get().isNotEqualTo(etag);
+    }
+}
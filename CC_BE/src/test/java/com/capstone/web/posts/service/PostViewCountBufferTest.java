@@ -0,0 +1,135 @@
+package com.capstone.web.posts.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class PostViewCountBufferTest {
+
+    private static final int THREADS = 8;
+    private static final int INCREMENTS_PER_THREAD = 20_000;
+    private static final long POST_COUNT = 4;
+
+    /** batchUpdate 로 반영된 증분을 게시글별로 합산하는 JdbcTemplate */
+    private final Map<Long, Long> flushed = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate() {
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            for (Object[] args : batchArgs) {
+                flushed.merge((Long) args[1], (Long) args[0], Long::sum);
+            }
+            return new int[batchArgs.size()];
+        }
+    };
+
+    private final PostViewCountBuffer buffer = new PostViewCountBuffer(jdbcTemplate,
+            mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+
+    @DisplayName("증가와 flush 가 동시에 일어나도 조회수 증분이 유실되지 않는다")
+    @Test
+    void concurrentIncrementAndFlush() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS + 1);
+
+        Future<?> flusher = pool.submit(() -> {
+            start.await();
+            while (running.get()) {
+                buffer.flush();
+            }
+            return null;
+        });
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            workers.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < INCREMENTS_PER_THREAD; i++) {
+                    buffer.increment(i % POST_COUNT);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get(30, TimeUnit.SECONDS);
+        }
+        running.set(false);
+        flusher.get(30, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        buffer.flush();
+
+        long total = flushed.values().stream().mapToLong(Long::longValue).sum();
+        assertThat(total).isEqualTo((long) THREADS * INCREMENTS_PER_THREAD);
+        for (long postId = 0; postId < POST_COUNT; postId++) {
+            assertThat(flushed.get(postId)).isEqualTo((long) THREADS * INCREMENTS_PER_THREAD / POST_COUNT);
+        }
+        assertThat(buffer.pendingTotal()).isZero();
+    }
+
+    @DisplayName("flush 실패 시 증분을 되돌려 다음 flush 에서 반영한다")
+    @Test
+    void failedFlushIsRetried() {
+        AtomicBoolean fail = new AtomicBoolean(true);
+        JdbcTemplate failing = new JdbcTemplate() {
+            @Override
+            public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+                if (fail.get()) {
+                    throw new IllegalStateException("db down");
+                }
+                return jdbcTemplate.batchUpdate(sql, batchArgs);
+            }
+        };
+        PostViewCountBuffer retrying = new PostViewCountBuffer(failing,
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+
+        retrying.increment(1L);
+        retrying.increment(1L);
+        retrying.flush();
+        assertThat(retrying.pending(1L)).isEqualTo(2L);
+
+        retrying.increment(1L);
+        fail.set(false);
+        retrying.flush();
+
+        assertThat(flushed.get(1L)).isEqualTo(3L);
+        assertThat(retrying.pending(1L)).isZero();
+    }
+
+    @DisplayName("flush 전후 모두 스냅샷 DB 값 + (기록 조회수 - 스냅샷의 반영 조회수) 가 실제 조회수와 같다")
+    @Test
+    void snapshotOverlayAcrossFlush() {
+        long dbViews = 10L;
+        long snapshotViews = dbViews;
+        long snapshotFlushed = buffer.readConsistently(() -> buffer.flushedViews(1L));
+
+        buffer.increment(1L);
+        buffer.increment(1L);
+        buffer.flush();
+        long recorded = buffer.increment(1L);
+
+        // 스냅샷을 무효화하지 않아도 flush 된 증분이 중복되지 않는다
+        assertThat(snapshotViews + recorded - snapshotFlushed).isEqualTo(13L);
+
+        // flush 이후 다시 로딩한 스냅샷 기준으로도 같은 값
+        long reloadedViews = dbViews + flushed.get(1L);
+        long reloadedFlushed = buffer.flushedViews(1L);
+        assertThat(reloadedViews + recorded - reloadedFlushed).isEqualTo(13L);
+    }
+}
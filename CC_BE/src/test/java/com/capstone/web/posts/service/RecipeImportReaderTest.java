@@ -0,0 +1,87 @@
+package com.capstone.web.posts.service;
+
+import com.capstone.web.posts.domain.Posts;
+import com.capstone.web.posts.exception.InvalidImportFormatException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class RecipeImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @DisplayName("NDJSON: 빈 줄은 건너뛰고 깨진 줄은 줄 번호와 함께 오류로 반환")
+    @Test
+    void ndjson() throws IOException {
+        String input = """
+                {"categoryId":1,"title":"두부 조림 레시피","content":"<p>두부를 굽는다</p>","ingredients":[{"name":"두부","quantity":1,"unit":"모"}]}
+
+                {"categoryId":1,"title":
+                {"categoryId":2,"title":"계란말이 레시피","content":"계란을 풀어 말아준다","dietType":"KETO","unknown":"무시"}
+                """;
+
+        List<RecipeImportReader.Entry> entries = readAll(input, RecipeImportReader.Format.NDJSON);
+
+        assertThat(entries).extracting(RecipeImportReader.Entry::line).containsExactly(1L, 3L, 4L);
+        assertThat(entries.get(0).record().getIngredients()).extracting("name").containsExactly("두부");
+        assertThat(entries.get(1).record()).isNull();
+        assertThat(entries.get(1).error()).startsWith("JSON 파싱 실패");
+        assertThat(entries.get(2).record().getDietType()).isEqualTo(Posts.DietType.KETO);
+    }
+
+    @DisplayName("CSV: 따옴표 안의 쉼표/줄바꿈과 재료 열을 해석하고 잘못된 값은 오류로 반환")
+    @Test
+    void csv() throws IOException {
+        String input = "title,content,categoryId,ingredients,servings\n"
+                + "김치찌개 끓이기,\"<p>김치, 돼지고기\n넣고 끓인다</p>\",1,김치:1:포기;돼지고기:300:g,2\n"
+                + "잘못된 인분 레시피,내용입니다 열 글자 이상,1,,두명\n"
+                + "\"따옴표 \"\"제목\"\" 레시피\",내용입니다 열 글자 이상,1,,";
+
+        List<RecipeImportReader.Entry> entries = readAll(input, RecipeImportReader.Format.CSV);
+
+        assertThat(entries).extracting(RecipeImportReader.Entry::line).containsExactly(2L, 4L, 5L);
+        assertThat(entries.get(0).record().getContent()).isEqualTo("<p>김치, 돼지고기\n넣고 끓인다</p>");
+        assertThat(entries.get(0).record().getIngredients())
+                .extracting("name", "quantity", "unit")
+                .containsExactly(
+                        tuple("김치", 1L, "포기"),
+                        tuple("돼지고기", 300L, "g"));
+        assertThat(entries.get(0).record().getServings()).isEqualTo(2);
+        assertThat(entries.get(1).error()).contains("servings");
+        assertThat(entries.get(2).record().getTitle()).isEqualTo("따옴표 \"제목\" 레시피");
+    }
+
+    @DisplayName("CSV 헤더에 필수 열이 없거나 형식을 알 수 없으면 예외")
+    @Test
+    void invalidFormat() {
+        assertThatThrownBy(() -> readAll("name,body\n a,b", RecipeImportReader.Format.CSV))
+                .isInstanceOf(InvalidImportFormatException.class);
+        assertThatThrownBy(() -> RecipeImportReader.Format.detect("application/xml"))
+                .isInstanceOf(InvalidImportFormatException.class);
+        assertThat(RecipeImportReader.Format.detect("text/csv;charset=UTF-8")).isEqualTo(RecipeImportReader.Format.CSV);
+        assertThat(RecipeImportReader.Format.detect("recipes.ndjson")).isEqualTo(RecipeImportReader.Format.NDJSON);
+    }
+
+    private List<RecipeImportReader.Entry> readAll(String input, RecipeImportReader.Format format) throws IOException {
+        List<RecipeImportReader.Entry> entries = new ArrayList<>();
+        try (RecipeImportReader reader = new RecipeImportReader(
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), format, objectMapper)) {
+            RecipeImportReader.Entry entry;
+            while ((entry = reader.next()) != null) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+}
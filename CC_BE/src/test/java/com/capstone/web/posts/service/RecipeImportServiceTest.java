@@ -0,0 +1,88 @@
+package com.capstone.web.posts.service;
+
+import com.capstone.web.category.domain.Category;
+import com.capstone.web.category.repository.CategoryRepository;
+import com.capstone.web.common.S3UploadService;
+import com.capstone.web.member.domain.Member;
+import com.capstone.web.member.repository.MemberRepository;
+import com.capstone.web.posts.dto.RecipeImportDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 가져오기는 자체 청크 트랜잭션으로 커밋하므로 테스트 트랜잭션 없이 실행하고 직접 정리한다
+@SpringBootTest(properties = {"posts.import.chunk-size=2", "posts.import.reindex-after-import=false"})
+@ActiveProfiles("test")
+class RecipeImportServiceTest {
+
+    @Autowired private RecipeImportService recipeImportService;
+    @Autowired private MemberRepository memberRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean private S3UploadService s3UploadService;
+
+    private Member author;
+    private Category category;
+
+    @BeforeEach
+    void setup() {
+        author = memberRepository.save(Member.builder().email("import@example.com").nickname("가져오기").password("pw").build());
+        category = categoryRepository.save(Category.builder().name("가져온 레시피").type(Category.CategoryType.FREE).build());
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM post_ingredient WHERE recipe_id IN (SELECT id FROM posts WHERE author_id = ?)", author.getId());
+        jdbcTemplate.update("DELETE FROM media WHERE post_id IN (SELECT id FROM posts WHERE author_id = ?)", author.getId());
+        jdbcTemplate.update("DELETE FROM posts WHERE author_id = ?", author.getId());
+        categoryRepository.deleteById(category.getId());
+        memberRepository.deleteById(author.getId());
+    }
+
+    @DisplayName("유효한 레코드는 배치 저장하고 실패 레코드는 줄 번호와 사유를 보고한다")
+    @Test
+    void importNdjson() {
+        long c = category.getId();
+        String input = String.join("\n",
+                "{\"categoryId\":" + c + ",\"title\":\"두부 조림 레시피\",\"content\":\"<p>두부를 <script>x</script>굽는다 간장</p>\","
+                        + "\"thumbnailUrl\":\"https://img/tofu.jpg\",\"ingredients\":[{\"name\":\"두부\",\"quantity\":1,\"unit\":\"모\"},{\"name\":\"간장\"}]}",
+                "{\"categoryId\":" + c + ",\"title\":\"짧음\",\"content\":\"내용은 충분히 길게 작성\"}",
+                "{\"categoryId\":999999,\"title\":\"없는 카테고리 레시피\",\"content\":\"내용은 충분히 길게 작성\"}",
+                "{broken",
+                "{\"categoryId\":" + c + ",\"title\":\"계란말이 레시피\",\"content\":\"계란을 풀어 돌돌 말아준다\"}");
+
+        RecipeImportDto.Result result = recipeImportService.importRecipes(
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), RecipeImportReader.Format.NDJSON, author.getId());
+
+        assertThat(result.total()).isEqualTo(5);
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(3);
+        assertThat(result.errors()).extracting(RecipeImportDto.RecordError::line).containsExactly(2L, 3L, 4L);
+        assertThat(result.errors().get(0).message()).contains("title");
+
+        Map<String, Object> tofu = jdbcTemplate.queryForMap(
+                "SELECT id, content, excerpt, content_hash FROM posts WHERE author_id = ? AND title = ?", author.getId(), "두부 조림 레시피");
+        assertThat((String) tofu.get("content")).doesNotContain("script");
+        assertThat(tofu.get("excerpt")).isEqualTo("두부를 굽는다 간장");
+        assertThat(tofu.get("content_hash")).isNotNull();
+
+        Long tofuId = ((Number) tofu.get("id")).longValue();
+        assertThat(jdbcTemplate.queryForList("SELECT name FROM post_ingredient WHERE recipe_id = ? ORDER BY id", String.class, tofuId))
+                .containsExactly("두부", "간장");
+        assertThat(jdbcTemplate.queryForObject("SELECT url FROM media WHERE post_id = ? AND order_num = 0", String.class, tofuId))
+                .isEqualTo("https://img/tofu.jpg");
+    }
+}
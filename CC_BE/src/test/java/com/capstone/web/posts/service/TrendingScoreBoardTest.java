@@ -0,0 +1,94 @@
+package com.capstone.web.posts.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TrendingScoreBoardTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    private final TrendingScoreBoard board = new TrendingScoreBoard(HOUR, 60_000L, 3, now::get);
+
+    @DisplayName("반감기가 지나면 점수가 절반: 최근 반응이 오래된 반응보다 우선")
+    @Test
+    void decay() {
+        board.add(1L, 10L, 10);
+        now.addAndGet(HOUR);
+        board.add(2L, 10L, 6);
+
+        List<TrendingScoreBoard.Ranked> top = board.top(null, 10);
+
+        assertThat(top).extracting(TrendingScoreBoard.Ranked::postId).containsExactly(2L, 1L);
+        assertThat(top.get(1).score()).isCloseTo(5.0, within(1e-9));
+        assertThat(top.get(0).score()).isCloseTo(6.0, within(1e-9));
+    }
+
+    @DisplayName("전체/게시판별 상위 K 유지: K를 넘으면 최저 점수 제외, 점수가 오르면 다시 진입")
+    @Test
+    void topK() {
+        board.add(1L, 10L, 1);
+        board.add(2L, 10L, 2);
+        board.add(3L, 20L, 3);
+        board.add(4L, 20L, 4);
+
+        assertThat(board.top(null, 10)).extracting(TrendingScoreBoard.Ranked::postId).containsExactly(4L, 3L, 2L);
+        assertThat(board.top(10L, 10)).extracting(TrendingScoreBoard.Ranked::postId).containsExactly(2L, 1L);
+        assertThat(board.top(20L, 1)).extracting(TrendingScoreBoard.Ranked::postId).containsExactly(4L);
+
+        board.add(1L, 10L, 10);
+        assertThat(board.top(null, 10)).extracting(TrendingScoreBoard.Ranked::postId).containsExactly(1L, 4L, 3L);
+    }
+
+    @DisplayName("삭제/게시판 이동 시 해당 범위 순위를 다시 선정")
+    @Test
+    void removeAndMove() {
+        board.add(1L, 10L, 1);
+        board.add(2L, 10L, 2);
+        board.add(3L, 10L, 3);
+        board.add(4L, 10L, 4);
+
+        board.remove(4L);
+        assertThat(board.top(null, 10)).extracting(TrendingScoreBoard.Ranked::postId).containsExactly(3L, 2L, 1L);
+
+        board.moveBoard(3L, 20L);
+        assertThat(board.top(10L, 10)).extracting(TrendingScoreBoard.Ranked::postId).containsExactly(2L, 1L);
+        assertThat(board.top(20L, 10)).extracting(TrendingScoreBoard.Ranked::postId).containsExactly(3L);
+    }
+
+    @DisplayName("스냅샷은 현재 기준 점수를 반환하고, 기준 시각을 옮겨도 순위/점수 유지, 낮은 점수는 정리")
+    @Test
+    void snapshotRebasesAndPrunes() {
+        TrendingScoreBoard small = new TrendingScoreBoard(HOUR, 60_000L, 1, now::get);
+        small.add(1L, 10L, 8);
+        small.add(2L, 20L, 0.4);
+        small.add(3L, 20L, 0.1);
+        now.addAndGet(2 * HOUR);
+
+        List<TrendingScoreBoard.Ranked> snapshot = small.snapshot(0.05);
+
+        // 3번은 게시판 20의 상위 1이 아니고 점수(0.025)가 기준 미만이라 정리된다
+        assertThat(snapshot).extracting(TrendingScoreBoard.Ranked::postId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(small.size()).isEqualTo(2);
+        assertThat(small.top(null, 1).get(0).score()).isCloseTo(2.0, within(1e-9));
+        assertThat(small.top(20L, 1).get(0).score()).isCloseTo(0.1, within(1e-9));
+    }
+
+    @DisplayName("순위 내 게시글 ID는 전체 상위 K와 게시판별 상위 K의 합집합")
+    @Test
+    void rankedPostIds() {
+        board.add(1L, 10L, 1);
+        board.add(2L, 20L, 2);
+        board.add(3L, 20L, 3);
+        board.add(4L, 20L, 4);
+        board.add(5L, 20L, 0.5);
+
+        assertThat(board.rankedPostIds()).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+    }
+}
@@ -0,0 +1,103 @@
+package com.capstone.web.refrigerator.service;
+
+import com.capstone.web.ingredient.service.IngredientKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IngredientMatcherTest {
+
+    private record Item(String name, Integer canonicalId) {
+        IngredientKey key() {
+            return IngredientKey.of(canonicalId, name);
+        }
+    }
+
+    @DisplayName("대표 재료 id가 같으면 이름이 달라도 일치, 여럿이면 목록에서 먼저 나온 항목")
+    @Test
+    void canonicalIdFirst() {
+        Item egg = new Item("달걀", 1);
+        Item greenOnion = new Item("대파", 2);
+        IngredientMatcher<Item> matcher = IngredientMatcher.compile(
+                List.of(egg, greenOnion, new Item("국산 대파", 2)), Item::key);
+
+        assertThat(matcher.matchAll(List.of(IngredientKey.of(1, "계란"), IngredientKey.of(2, "다진 대파"),
+                IngredientKey.of(3, "양파")))).containsExactly(egg, greenOnion, null);
+    }
+
+    @DisplayName("한쪽이라도 사전에 없으면 완전 일치 우선, 없으면 포함 관계(양방향)")
+    @Test
+    void unresolvedContainment() {
+        Item sauce = new Item(" Sriracha ", null);
+        Item milk = new Item("우유", 10);
+        Item tunaCan = new Item("참치캔", null);
+        IngredientMatcher<Item> matcher = IngredientMatcher.compile(
+                List.of(new Item("양파즙", null), sauce, milk, tunaCan, new Item("파", 11)), Item::key);
+
+        assertThat(matcher.match(IngredientKey.of(null, "SRIRACHA"))).isEqualTo(sauce);
+        // 사전에 없는 재료명 ⊇ 식재료명 / 사전에 있는 재료명 ⊂ 사전에 없는 식재료명
+        assertThat(matcher.matchAll(List.of(IngredientKey.of(null, "우유 1L"), IngredientKey.of(12, "참치"))))
+                .containsExactly(milk, tunaCan);
+        // 둘 다 사전에 있으면 포함 관계여도 id가 다르면 불일치 (대파 ≠ 파)
+        assertThat(matcher.containsAll(List.of(IngredientKey.of(13, "대파"), IngredientKey.of(null, "즙"))))
+                .containsExactly(false, true);
+    }
+
+    @DisplayName("빈 목록")
+    @Test
+    void empty() {
+        IngredientMatcher<Item> matcher = IngredientMatcher.compile(List.<Item>of(), Item::key);
+
+        assertThat(matcher.match(IngredientKey.of(1, "계란"))).isNull();
+        assertThat(matcher.matchAll(List.of())).isEmpty();
+    }
+
+    @DisplayName("무작위 데이터에서 이중 루프 방식과 같은 결과")
+    @Test
+    void sameAsNestedLoops() {
+        String[] vocabulary = {"파", "대파", "쪽파", "양파", "마늘", "다진마늘", "간장", "진간장", "고추", "고춧가루", "소고기", "고기", ""};
+        Random random = new Random(7);
+        for (int round = 0; round < 500; round++) {
+            List<Item> items = new ArrayList<>();
+            for (int i = random.nextInt(8); i > 0; i--) items.add(randomItem(vocabulary, random));
+            List<IngredientKey> keys = new ArrayList<>();
+            for (int i = 1 + random.nextInt(6); i > 0; i--) keys.add(randomItem(vocabulary, random).key());
+
+            List<Item> expected = keys.stream().map(k -> nestedLoops(k, items)).toList();
+
+            assertThat(IngredientMatcher.compile(items, Item::key).matchAll(keys)).containsExactlyElementsOf(expected);
+        }
+    }
+
+    // 절반은 사전에 없는 재료, 나머지는 이름 길이로 정한 대표 재료 id (같은 이름이 아니어도 id가 같을 수 있음)
+    private static Item randomItem(String[] vocabulary, Random random) {
+        String name = vocabulary[random.nextInt(vocabulary.length)];
+        return new Item(random.nextBoolean() ? name : " " + name.toUpperCase() + " ",
+                random.nextBoolean() ? null : name.length());
+    }
+
+    private static Item nestedLoops(IngredientKey key, List<Item> items) {
+        if (key.resolved()) {
+            for (Item item : items) {
+                if (key.canonicalId().equals(item.key().canonicalId())) return item;
+            }
+        }
+        for (Item item : items) {
+            if (comparableByName(key, item) && item.key().name().equals(key.name())) return item;
+        }
+        for (Item item : items) {
+            String itemName = item.key().name();
+            if (comparableByName(key, item) && (itemName.contains(key.name()) || key.name().contains(itemName))) return item;
+        }
+        return null;
+    }
+
+    private static boolean comparableByName(IngredientKey key, Item item) {
+        return !key.resolved() || !item.key().resolved();
+    }
+}
@@ -0,0 +1,145 @@
+package com.capstone.web.refrigerator.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class ReceiptImagePreprocessorTest {
+
+    private final ReceiptImagePreprocessor preprocessor = new ReceiptImagePreprocessor(400, 2048, 0.85f, 0.55f, 1 << 20);
+
+    private static byte[] image(int width, int height, String format, boolean noise) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, width, height);
+        g.setColor(Color.BLACK);
+        for (int y = 20; y < height; y += 40) g.drawString("두부 1개 2,500", 10, y);
+        g.dispose();
+        if (noise) {
+            // 압축이 잘 안 되는 휴대폰 사진 흉내
+            Random random = new Random(1);
+            for (int y = 0; y < height; y += 2) {
+                for (int x = 0; x < width; x += 2) image.setRGB(x, y, random.nextInt());
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+
+    // SOI 바로 뒤에 Orientation 하나만 담은 APP1(Exif, big-endian) 세그먼트를 끼워 넣는다
+    private static byte[] withOrientation(byte[] jpeg, int orientation) throws IOException {
+        ByteArrayOutputStream exif = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(exif);
+        data.writeBytes("Exif");
+        data.writeShort(0);
+        data.writeBytes("MM");
+        data.writeShort(42);
+        data.writeInt(8);
+        data.writeShort(1);
+        data.writeShort(0x0112);
+        data.writeShort(3);
+        data.writeInt(1);
+        data.writeShort(orientation);
+        data.writeShort(0);
+        data.writeInt(0);
+        byte[] payload = exif.toByteArray();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, 2);
+        out.write(0xFF);
+        out.write(0xE1);
+        out.write((payload.length + 2) >> 8);
+        out.write((payload.length + 2) & 0xFF);
+        out.write(payload);
+        out.write(jpeg, 2, jpeg.length - 2);
+        return out.toByteArray();
+    }
+
+    private static BufferedImage decode(byte[] bytes) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(bytes));
+    }
+
+    @DisplayName("긴 변이 max-side를 넘는 사진은 축소 후 JPEG으로 재인코딩")
+    @Test
+    void downscale() throws IOException {
+        byte[] original = image(3000, 4000, "png", true);
+
+        ReceiptImagePreprocessor.Prepared prepared = preprocessor.prepare(original, "image/png");
+        BufferedImage result = decode(prepared.bytes());
+
+        assertThat(prepared.mimeType()).isEqualTo("image/jpeg");
+        assertThat(result.getHeight()).isEqualTo(2048);
+        assertThat(result.getWidth()).isEqualTo(1536);
+        assertThat(prepared.bytes().length).isLessThan(original.length);
+    }
+
+    @DisplayName("짧은 변이 min-side보다 작으면 확대")
+    @Test
+    void upscale() throws IOException {
+        ReceiptImagePreprocessor.Prepared prepared = preprocessor.prepare(image(200, 600, "png", false), "image/png");
+        BufferedImage result = decode(prepared.bytes());
+
+        assertThat(result.getWidth()).isEqualTo(400);
+        assertThat(result.getHeight()).isEqualTo(1200);
+    }
+
+    @DisplayName("범위 안의 작은 이미지와 이미지가 아닌 바이트는 원본 그대로")
+    @Test
+    void passThrough() throws IOException {
+        byte[] original = image(800, 1200, "jpg", false);
+        byte[] notImage = {1, 2, 3, 4};
+
+        assertThat(preprocessor.prepare(original, "image/jpeg").bytes()).isSameAs(original);
+        assertThat(preprocessor.prepare(notImage, "image/heic").bytes()).isSameAs(notImage);
+        assertThat(preprocessor.prepare(notImage, "image/heic").mimeType()).isEqualTo("image/heic");
+    }
+
+    @DisplayName("재인코딩 시 EXIF Orientation을 픽셀에 적용 (6: 시계 방향 90도 → 왼쪽이 위로)")
+    @Test
+    void exifOrientation() throws IOException {
+        BufferedImage sideways = new BufferedImage(3000, 1000, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = sideways.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, 3000, 1000);
+        g.setColor(Color.RED);
+        g.fillRect(0, 0, 1000, 1000);
+        g.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(sideways, "jpg", out);
+        byte[] original = withOrientation(out.toByteArray(), 6);
+
+        assertThat(ReceiptImagePreprocessor.exifOrientation(original)).isEqualTo(6);
+        assertThat(ReceiptImagePreprocessor.exifOrientation(out.toByteArray())).isEqualTo(1);
+
+        BufferedImage result = decode(preprocessor.prepare(original, "image/jpeg").bytes());
+
+        assertThat(result.getWidth()).isEqualTo(683);
+        assertThat(result.getHeight()).isEqualTo(2048);
+        assertThat(new Color(result.getRGB(341, 10)).getGreen()).isLessThan(100);
+        assertThat(new Color(result.getRGB(341, 2037)).getGreen()).isGreaterThan(200);
+    }
+
+    @DisplayName("배율: 긴 변 상한이 짧은 변 하한보다 우선")
+    @Test
+    void scale() {
+        assertThat(preprocessor.scale(1000, 1500)).isEqualTo(1.0);
+        assertThat(preprocessor.scale(4096, 1024)).isEqualTo(0.5);
+        assertThat(preprocessor.scale(100, 300)).isEqualTo(4.0);
+        // 아주 긴 영수증: 짧은 변을 키우면 긴 변이 상한을 넘으므로 긴 변 기준
+        assertThat(preprocessor.scale(200, 2000)).isCloseTo(1.024, offset(1e-9));
+    }
+}
@@ -0,0 +1,49 @@
+package com.capstone.web.refrigerator.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReceiptItemStreamParserTest {
+
+    private static final String RESPONSE = "{ \"note\": \"items\", \"items\" : ["
+            + "{\"name\":\"서울우유 {1L}\",\"quantity\":1,\"unit\":\"L\"}, "
+            + "{\"name\":\"say \\\"hi\\\" ]}\",\"meta\":{\"x\":[1,2]}}, "
+            + "{\"name\":\"두부\"} ], \"other\": [{\"name\":\"x\"}] }";
+
+    @DisplayName("조각이 어디서 잘리든 items 원소만 순서대로 꺼낸다 (문자열 안 괄호/이스케이프 무시)")
+    @Test
+    void anyChunking() {
+        for (int size = 1; size <= RESPONSE.length(); size++) {
+            List<String> elements = new ArrayList<>();
+            ReceiptItemStreamParser parser = new ReceiptItemStreamParser(elements::add);
+            for (int i = 0; i < RESPONSE.length(); i += size) {
+                parser.accept(RESPONSE.substring(i, Math.min(RESPONSE.length(), i + size)));
+            }
+
+            assertThat(elements).as("chunk size %d", size).containsExactly(
+                    "{\"name\":\"서울우유 {1L}\",\"quantity\":1,\"unit\":\"L\"}",
+                    "{\"name\":\"say \\\"hi\\\" ]}\",\"meta\":{\"x\":[1,2]}}",
+                    "{\"name\":\"두부\"}");
+            assertThat(parser.text()).isEqualTo(RESPONSE);
+        }
+    }
+
+    @DisplayName("원소가 닫히는 즉시 넘기고, 끊긴 응답에서는 닫힌 원소까지만")
+    @Test
+    void emitsOnClose() {
+        List<String> elements = new ArrayList<>();
+        ReceiptItemStreamParser parser = new ReceiptItemStreamParser(elements::add);
+
+        parser.accept("{\"items\":[{\"name\":\"우유\"");
+        assertThat(elements).isEmpty();
+        parser.accept("},{\"name\":\"계");
+
+        assertThat(elements).containsExactly("{\"name\":\"우유\"}");
+        assertThat(parser.elements()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,68 @@
+package com.capstone.web.refrigerator.service;
+
+import com.capstone.web.refrigerator.dto.RefrigeratorDto.ScanPurchaseHistoryResponse.PurchasedItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvFileSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReceiptLineNormalizerTest {
+
+    private final ReceiptLineNormalizer normalizer = new ReceiptLineNormalizer();
+
+    @DisplayName("영수증 품목명 골든 파일: 수량/단위/용량/식재료 후보")
+    @ParameterizedTest(name = "{0}")
+    @CsvFileSource(resources = "/receipt/receipt-lines.tsv", delimiter = '\t', numLinesToSkip = 1, nullValues = "-")
+    void golden(String line, Integer quantity, String unit, Double amount, String ingredient) {
+        ReceiptLineNormalizer.Line result = normalizer.analyze(line);
+
+        assertThat(result.quantity()).as("quantity").isEqualTo(quantity);
+        assertThat(result.unit()).as("unit").isEqualTo(unit);
+        assertThat(result.amount()).as("amount").isEqualTo(amount);
+        assertThat(result.ingredient()).as("ingredient").isEqualTo(ingredient);
+    }
+
+    @DisplayName("JSON 품목: 이름의 수량 우선, 단위는 모델 값이 없을 때만 추정, 이름은 그대로")
+    @Test
+    void toItem() {
+        PurchasedItem inferred = normalizer.toItem(" 신라면 5개입 ", 1, null);
+        PurchasedItem given = normalizer.toItem("서울우유 1L", 2, "팩");
+
+        assertThat(inferred.getName()).isEqualTo("신라면 5개입");
+        assertThat(inferred.getQuantity()).isEqualTo(5);
+        assertThat(inferred.getUnit()).isEqualTo("개");
+        assertThat(given.getQuantity()).isEqualTo(2);
+        assertThat(given.getUnit()).isEqualTo("팩");
+    }
+
+    @DisplayName("자유 텍스트: 주문 문구 조각은 건너뛰고 첫 식재료, 수량 라벨과 첫 용량 사용 (URL/글머리 기호 무시)")
+    @Test
+    void fallbackFromText() {
+        List<PurchasedItem> items = normalizer.fallbackFromText(
+                "• 서울우유 1L  |  배송완료\nhttps://shop.example.com/item/1 수량: 2");
+        List<PurchasedItem> banned = normalizer.fallbackFromText("배송 예정 사과\n바나나 2kg");
+
+        assertThat(items).singleElement().satisfies(item -> {
+            assertThat(item.getName()).isEqualTo("우유");
+            assertThat(item.getQuantity()).isEqualTo(2);
+            assertThat(item.getUnit()).isEqualTo("L");
+        });
+        assertThat(banned).singleElement().satisfies(item -> {
+            assertThat(item.getName()).isEqualTo("바나나");
+            assertThat(item.getUnit()).isEqualTo("kg");
+        });
+    }
+
+    @DisplayName("자유 텍스트에 식재료가 없으면 공백을 뺀 한글 2~6자 묶음 중 마지막")
+    @Test
+    void fallbackHangul() {
+        assertThat(normalizer.fallbackFromText("무농약 유기농 쌈채소"))
+                .extracting(PurchasedItem::getName).containsExactly("쌈채소");
+        assertThat(normalizer.fallbackFromText("x")).isEmpty();
+        assertThat(normalizer.fallbackFromText(" ")).isEmpty();
+    }
+}
@@ -0,0 +1,141 @@
+package com.capstone.web.refrigerator.service;
+
+import com.capstone.web.refrigerator.dto.RefrigeratorDto.ScanPurchaseHistoryResponse;
+import com.capstone.web.refrigerator.dto.RefrigeratorDto.ScanPurchaseHistoryResponse.PurchasedItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 작업 스레드에서도 영속 계층을 읽으므로 트랜잭션 롤백 대신 테이블을 직접 비운다
+@SpringBootTest
+@ActiveProfiles("test")
+class ReceiptParseCacheTest {
+
+    private static final String MODEL = "gemini-test";
+    private static final String PREPROCESSING = new ReceiptImagePreprocessor(400, 2048, 0.85f, 0.55f, 1 << 20).settingsKey();
+
+    @Autowired
+    private ReceiptParseCache cache;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @BeforeEach
+    void setup() {
+        cache.invalidateMemory();
+        jdbcTemplate.update("DELETE FROM receipt_parse_cache");
+    }
+
+    private ReceiptParseCache.Loaded parse(String name) {
+        calls.incrementAndGet();
+        return ReceiptParseCache.Loaded.complete(ScanPurchaseHistoryResponse.builder()
+                .items(List.of(PurchasedItem.builder().name(name).quantity(2).unit("개").build()))
+                .build());
+    }
+
+    private static String key(byte[] image) {
+        return ReceiptParseCache.key(MODEL, "prompt", PREPROCESSING, "image/jpeg", image);
+    }
+
+    @DisplayName("키는 이미지/모델/프롬프트/전처리 설정이 모두 같을 때만 같다")
+    @Test
+    void key() {
+        byte[] image = {1, 2, 3};
+
+        assertThat(key(image)).hasSize(64).isEqualTo(key(new byte[]{1, 2, 3}));
+        assertThat(key(new byte[]{1, 2, 4})).isNotEqualTo(key(image));
+        assertThat(ReceiptParseCache.key("gemini-other", "prompt", PREPROCESSING, "image/jpeg", image)).isNotEqualTo(key(image));
+        assertThat(ReceiptParseCache.key(MODEL, "prompt v2", PREPROCESSING, "image/jpeg", image)).isNotEqualTo(key(image));
+        String resized = new ReceiptImagePreprocessor(400, 1024, 0.85f, 0.55f, 1 << 20).settingsKey();
+        assertThat(ReceiptParseCache.key(MODEL, "prompt", resized, "image/jpeg", image)).isNotEqualTo(key(image));
+    }
+
+    @DisplayName("같은 이미지는 모델을 한 번만 호출하고, 메모리가 비어도 영속 계층에서 적중")
+    @Test
+    void memoryThenStore() {
+        String key = key(new byte[]{10});
+
+        cache.get(key, MODEL, () -> parse("우유"));
+        cache.get(key, MODEL, () -> parse("우유"));
+        cache.invalidateMemory();
+        ScanPurchaseHistoryResponse fromStore = cache.get(key, MODEL, () -> parse("우유"));
+
+        assertThat(calls).hasValue(1);
+        assertThat(fromStore.getItems()).singleElement()
+                .satisfies(item -> {
+                    assertThat(item.getName()).isEqualTo("우유");
+                    assertThat(item.getQuantity()).isEqualTo(2);
+                    assertThat(item.getUnit()).isEqualTo("개");
+                });
+    }
+
+    @DisplayName("같은 이미지의 동시 요청은 모델 호출 1회를 공유")
+    @Test
+    void coalesce() throws Exception {
+        String key = key(new byte[]{20});
+        CountDownLatch release = new CountDownLatch(1);
+        List<CompletableFuture<ScanPurchaseHistoryResponse>> uploads = IntStream.range(0, 6)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> cache.get(key, MODEL, () -> {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return parse("두부");
+                })))
+                .toList();
+        Thread.sleep(100);
+        release.countDown();
+
+        for (CompletableFuture<ScanPurchaseHistoryResponse> upload : uploads) {
+            assertThat(upload.get(5, TimeUnit.SECONDS).getItems()).hasSize(1);
+        }
+        assertThat(calls).hasValue(1);
+    }
+
+    @DisplayName("모델 호출 실패는 캐시하지 않는다")
+    @Test
+    void failureNotCached() {
+        String key = key(new byte[]{30});
+
+        assertThatThrownBy(() -> cache.get(key, MODEL, () -> {
+            throw new RuntimeException("Gemini 이미지 파싱 실패");
+        })).hasMessageContaining("파싱 실패");
+        cache.get(key, MODEL, () -> parse("계란"));
+
+        assertThat(calls).hasValue(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM receipt_parse_cache", Integer.class)).isEqualTo(1);
+    }
+
+    @DisplayName("빈 결과/fallback 등 불완전한 결과는 메모리/영속 계층 모두 캐시하지 않는다")
+    @Test
+    void incompleteNotCached() {
+        String key = key(new byte[]{40});
+
+        ScanPurchaseHistoryResponse empty = cache.get(key, MODEL, () -> {
+            calls.incrementAndGet();
+            return ReceiptParseCache.Loaded.incomplete(ScanPurchaseHistoryResponse.builder().items(List.of()).build());
+        });
+        ScanPurchaseHistoryResponse retried = cache.get(key, MODEL, () -> parse("대파"));
+
+        assertThat(empty.getItems()).isEmpty();
+        assertThat(retried.getItems()).extracting(PurchasedItem::getName).containsExactly("대파");
+        assertThat(calls).hasValue(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM receipt_parse_cache", Integer.class)).isEqualTo(1);
+    }
+}
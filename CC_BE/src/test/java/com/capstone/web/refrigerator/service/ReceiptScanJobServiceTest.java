@@ -0,0 +1,228 @@
+package com.capstone.web.refrigerator.service;
+
+import com.capstone.web.refrigerator.dto.RefrigeratorDto;
+import com.capstone.web.refrigerator.exception.RefrigeratorErrorCode;
+import com.capstone.web.refrigerator.exception.ScanBatchTooLargeException;
+import com.capstone.web.refrigerator.exception.ScanJobNotFoundException;
+import com.capstone.web.refrigerator.exception.ScanRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.OngoingStubbing;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReceiptScanJobServiceTest {
+
+    private static final byte[] IMAGE = {1, 2, 3};
+
+    private final GeminiService geminiService = mock(GeminiService.class);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ReceiptScanJobService jobs;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (jobs != null) jobs.shutdown();
+    }
+
+    private ReceiptScanJobService jobs(int workers, int queueCapacity, int maxPerMember) {
+        jobs = new ReceiptScanJobService(geminiService, new SimpleMeterRegistry(),
+                workers, queueCapacity, maxPerMember, 60_000, 60_000, 5_000, 3);
+        return jobs;
+    }
+
+    // 작업 실행은 스트리밍 파싱을 쓴다
+    private OngoingStubbing<RefrigeratorDto.ScanPurchaseHistoryResponse> whenModel() {
+        return when(geminiService.parseReceiptImageStreaming(any(byte[].class), anyString(), any()));
+    }
+
+    private void blockModel() {
+        whenModel().thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return result("우유");
+        });
+    }
+
+    private static RefrigeratorDto.ScanPurchaseHistoryResponse result(String name) {
+        return RefrigeratorDto.ScanPurchaseHistoryResponse.builder()
+                .items(List.of(item(name, 1, "개")))
+                .build();
+    }
+
+    private static RefrigeratorDto.ScanPurchaseHistoryResponse.PurchasedItem item(String name, int quantity, String unit) {
+        return RefrigeratorDto.ScanPurchaseHistoryResponse.PurchasedItem.builder()
+                .name(name).quantity(quantity).unit(unit).build();
+    }
+
+    private RefrigeratorDto.ScanJobResponse awaitDone(Long memberId, String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        RefrigeratorDto.ScanJobResponse job = jobs.get(memberId, jobId);
+        while (!job.getStatus().equals("SUCCEEDED") && !job.getStatus().equals("FAILED") && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            job = jobs.get(memberId, jobId);
+        }
+        return job;
+    }
+
+    @DisplayName("접수 즉시 작업 id 반환, 완료 후 결과 조회 (다른 회원에게는 없는 작업)")
+    @Test
+    void submitAndPoll() throws Exception {
+        jobs(2, 4, 2);
+        whenModel().thenReturn(result("계란"));
+
+        RefrigeratorDto.ScanJobResponse submitted = jobs.submit(1L, IMAGE, "image/png");
+        RefrigeratorDto.ScanJobResponse done = awaitDone(1L, submitted.getJobId());
+
+        assertThat(submitted.getJobId()).isNotBlank();
+        assertThat(done.getStatus()).isEqualTo("SUCCEEDED");
+        assertThat(done.getItems()).extracting(RefrigeratorDto.ScanPurchaseHistoryResponse.PurchasedItem::getName)
+                .containsExactly("계란");
+        assertThatThrownBy(() -> jobs.get(2L, submitted.getJobId())).isInstanceOf(ScanJobNotFoundException.class);
+    }
+
+    @DisplayName("모델 호출 실패는 FAILED + error, 회원 한도는 반납된다")
+    @Test
+    void failure() throws Exception {
+        jobs(1, 4, 1);
+        whenModel()
+                .thenThrow(new RuntimeException("Gemini 이미지 파싱 실패: timeout"))
+                .thenReturn(result("두부"));
+
+        RefrigeratorDto.ScanJobResponse failed = awaitDone(1L, jobs.submit(1L, IMAGE, "image/jpeg").getJobId());
+
+        assertThat(failed.getStatus()).isEqualTo("FAILED");
+        assertThat(failed.getError()).contains("timeout");
+        assertThat(jobs.scan(1L, IMAGE, "image/jpeg").getItems()).hasSize(1);
+    }
+
+    @DisplayName("회원별 진행 중 작업 한도 초과는 SCAN_MEMBER_LIMIT (다른 회원은 접수)")
+    @Test
+    void memberLimit() {
+        jobs(4, 8, 1);
+        blockModel();
+
+        jobs.submit(1L, IMAGE, "image/jpeg");
+
+        assertThatThrownBy(() -> jobs.submit(1L, IMAGE, "image/jpeg"))
+                .isInstanceOfSatisfying(ScanRejectedException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(RefrigeratorErrorCode.SCAN_MEMBER_LIMIT));
+        assertThat(jobs.submit(2L, IMAGE, "image/jpeg").getStatus()).isIn("QUEUED", "RUNNING");
+    }
+
+    @DisplayName("작업 큐가 가득 차면 SCAN_QUEUE_FULL")
+    @Test
+    void queueFull() throws Exception {
+        jobs(1, 1, 10);
+        blockModel();
+
+        jobs.submit(1L, IMAGE, "image/jpeg");
+        Thread.sleep(100); // 첫 작업이 작업 스레드로 넘어가 큐가 빌 때까지
+        jobs.submit(2L, IMAGE, "image/jpeg");
+
+        assertThatThrownBy(() -> jobs.submit(3L, IMAGE, "image/jpeg"))
+                .isInstanceOfSatisfying(ScanRejectedException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(RefrigeratorErrorCode.SCAN_QUEUE_FULL));
+    }
+
+    @DisplayName("여러 장 스캔: 장마다 모델을 동시에 호출하고 같은 이름/단위 품목은 수량을 합친다")
+    @Test
+    void batch() {
+        jobs(3, 8, 1);
+        byte[] page1 = {1};
+        byte[] page2 = {2};
+        byte[] page3 = {3};
+        // 세 장이 모두 동시에 호출 중이어야 통과하는 장벽 (순차 실행이면 타임아웃)
+        CyclicBarrier barrier = new CyclicBarrier(3);
+        when(geminiService.parseReceiptImage(any(byte[].class), anyString())).thenAnswer(invocation -> {
+            barrier.await(5, TimeUnit.SECONDS);
+            byte page = invocation.<byte[]>getArgument(0)[0];
+            return RefrigeratorDto.ScanPurchaseHistoryResponse.builder()
+                    .items(switch (page) {
+                        case 1 -> List.of(item("서울우유 1L", 1, "L"), item("계란", 1, "판"));
+                        case 2 -> List.of(item("서울우유1L", 2, "L"), item("두부", 1, "개"));
+                        default -> List.of(item("계란", 2, "개"));
+                    })
+                    .build();
+        });
+
+        RefrigeratorDto.ScanPurchaseHistoryResponse merged = jobs.scanBatch(1L, List.of(
+                new ReceiptScanJobService.ScanImage(page1, "image/jpeg"),
+                new ReceiptScanJobService.ScanImage(page2, "image/jpeg"),
+                new ReceiptScanJobService.ScanImage(page3, "image/jpeg")));
+
+        assertThat(merged.getItems())
+                .extracting(RefrigeratorDto.ScanPurchaseHistoryResponse.PurchasedItem::getName,
+                        RefrigeratorDto.ScanPurchaseHistoryResponse.PurchasedItem::getQuantity,
+                        RefrigeratorDto.ScanPurchaseHistoryResponse.PurchasedItem::getUnit)
+                .containsExactly(
+                        tuple("서울우유 1L", 3, "L"),
+                        tuple("계란", 1, "판"),
+                        tuple("두부", 1, "개"),
+                        tuple("계란", 2, "개"));
+        // 묶음이 끝나면 회원 한도가 반납된다
+        assertThat(jobs.submit(1L, IMAGE, "image/jpeg").getStatus()).isIn("QUEUED", "RUNNING", "SUCCEEDED");
+    }
+
+    @DisplayName("여러 장 스캔: 한 장이라도 실패하면 전체 실패, 장 수 한도 초과는 SCAN_BATCH_TOO_LARGE")
+    @Test
+    void batchFailure() {
+        jobs(2, 8, 1);
+        when(geminiService.parseReceiptImage(any(byte[].class), anyString())).thenReturn(result("우유"));
+        when(geminiService.parseReceiptImage(eq(IMAGE), anyString()))
+                .thenThrow(new RuntimeException("Gemini 이미지 파싱 실패: 500"));
+        ReceiptScanJobService.ScanImage ok = new ReceiptScanJobService.ScanImage(new byte[]{9}, "image/png");
+        ReceiptScanJobService.ScanImage broken = new ReceiptScanJobService.ScanImage(IMAGE, "image/png");
+
+        assertThatThrownBy(() -> jobs.scanBatch(1L, List.of(ok, broken)))
+                .hasMessageContaining("500");
+        assertThatThrownBy(() -> jobs.scanBatch(1L, List.of(ok, ok, ok, ok)))
+                .isInstanceOf(ScanBatchTooLargeException.class);
+        assertThat(jobs.scanBatch(1L, List.of(ok, ok)).getItems())
+                .extracting(RefrigeratorDto.ScanPurchaseHistoryResponse.PurchasedItem::getQuantity)
+                .containsExactly(2);
+    }
+
+    @DisplayName("스트리밍: 품목을 받는 대로 실행 중 조회에 담기고, 완료 결과는 같은 순서로 이어진다")
+    @Test
+    void streamingPartialItems() throws Exception {
+        jobs(1, 4, 1);
+        CountDownLatch firstItem = new CountDownLatch(1);
+        whenModel().thenAnswer(invocation -> {
+            Consumer<RefrigeratorDto.ScanPurchaseHistoryResponse.PurchasedItem> onItem = invocation.getArgument(2);
+            onItem.accept(item("우유", 1, "L"));
+            firstItem.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            onItem.accept(item("두부", 2, "개"));
+            return RefrigeratorDto.ScanPurchaseHistoryResponse.builder()
+                    .items(List.of(item("우유", 1, "L"), item("두부", 2, "개")))
+                    .build();
+        });
+
+        String jobId = jobs.submit(1L, IMAGE, "image/jpeg").getJobId();
+        assertThat(firstItem.await(5, TimeUnit.SECONDS)).isTrue();
+        RefrigeratorDto.ScanJobResponse running = jobs.get(1L, jobId);
+        release.countDown();
+        RefrigeratorDto.ScanJobResponse done = awaitDone(1L, jobId);
+
+        assertThat(running.getStatus()).isEqualTo("RUNNING");
+        assertThat(running.getItems()).extracting(RefrigeratorDto.ScanPurchaseHistoryResponse.PurchasedItem::getName)
+                .containsExactly("우유");
+        assertThat(done.getItems()).extracting(RefrigeratorDto.ScanPurchaseHistoryResponse.PurchasedItem::getName)
+                .containsExactly("우유", "두부");
+    }
+}
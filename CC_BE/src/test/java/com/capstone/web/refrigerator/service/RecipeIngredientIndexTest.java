@@ -0,0 +1,140 @@
+package com.capstone.web.refrigerator.service;
+
+import com.capstone.web.ingredient.service.IngredientKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class RecipeIngredientIndexTest {
+
+    // 테스트용 재료 사전 (정규화된 이름 → 대표 재료 id)
+    private static final Map<String, Integer> DICTIONARY = Map.of(
+            "김치", 1, "kimchi", 1, "묵은지", 1, "돼지고기", 2, "두부", 3, "밥", 4, "양파", 5, "감자", 6, "고구마", 7, "파", 8);
+
+    private final RecipeIngredientIndex index = new RecipeIngredientIndex();
+
+    private static IngredientKey key(String name) {
+        return IngredientKey.of(DICTIONARY.get(IngredientKey.normalize(name)), name);
+    }
+
+    private static Set<IngredientKey> fridge(String... names) {
+        Set<IngredientKey> keys = new HashSet<>();
+        for (String name : names) keys.add(key(name));
+        return keys;
+    }
+
+    private static RecipeIngredientIndex.IndexedRecipe recipe(long id, String... names) {
+        List<RecipeIngredientIndex.Ingredient> ingredients = Arrays.stream(names)
+                .map(n -> new RecipeIngredientIndex.Ingredient(n, key(n), 1L, "개"))
+                .toList();
+        return new RecipeIngredientIndex.IndexedRecipe(id, "레시피" + id, 10, 1, null, null, ingredients);
+    }
+
+    @DisplayName("대표 재료 id(별칭 포함)로 매칭하고 매칭률 내림차순으로 반환")
+    @Test
+    void recommend() {
+        index.replaceAll(List.of(
+                recipe(1L, "김치", "돼지고기", "두부"),
+                recipe(2L, "Kimchi", "밥"),
+                recipe(3L, "계란")));
+
+        List<RecipeIngredientIndex.Match> result = index.recommend(fridge("묵은지", "돼지고기", "밥"), 10);
+
+        assertThat(result).extracting(m -> m.recipe().id()).containsExactly(2L, 1L);
+        assertThat(result.get(0).matchRate()).isCloseTo(100.0, within(1e-9));
+        assertThat(result.get(0).matchedNames()).containsExactly("Kimchi", "밥");
+        assertThat(result.get(1).matchRate()).isCloseTo(200.0 / 3, within(1e-9));
+        assertThat(result.get(1).matchedNames()).containsExactly("김치", "돼지고기");
+    }
+
+    @DisplayName("한쪽이라도 사전에 없으면 이름 일치/포함 관계(양방향)로 매칭, 둘 다 사전에 있으면 id만 비교")
+    @Test
+    void unresolvedContainment() {
+        index.replaceAll(List.of(recipe(1L, "계란", "양파"), recipe(2L, "양파즙"), recipe(3L, "참치", "밥")));
+
+        assertThat(index.recommend(fridge(" 계란 "), 10)).extracting(m -> m.recipe().id()).containsExactly(1L);
+        assertThat(index.recommend(fridge("즙"), 10)).extracting(m -> m.recipe().id()).containsExactly(2L);
+        // 사전에 있는 양파 ⊂ 사전에 없는 양파즙
+        assertThat(index.recommend(fridge("양파"), 10)).extracting(m -> m.recipe().id()).containsExactly(2L, 1L);
+        // 사전에 없는 보유 재료명이 레시피 재료명을 포함 (수량/용기 표기)
+        List<RecipeIngredientIndex.Match> tuna = index.recommend(fridge("참치캔", "밥 1공기"), 10);
+        assertThat(tuna).extracting(m -> m.recipe().id()).containsExactly(3L);
+        assertThat(tuna.get(0).matchedNames()).containsExactly("참치", "밥");
+        // 둘 다 사전에 있으면 포함 관계여도 id가 다르면 불일치 (파 ⊂ 양파지만 다른 재료, 사전에 없는 양파즙만 일치)
+        assertThat(index.recommend(fridge("파"), 10)).extracting(m -> m.recipe().id()).containsExactly(2L);
+    }
+
+    @DisplayName("동률은 레시피 ID 오름차순, limit 개수만 반환")
+    @Test
+    void tieBreakAndLimit() {
+        index.replaceAll(List.of(recipe(5L, "양파"), recipe(2L, "양파"), recipe(9L, "양파", "당근")));
+
+        assertThat(index.recommend(fridge("양파"), 2)).extracting(m -> m.recipe().id()).containsExactly(2L, 5L);
+    }
+
+    @DisplayName("갱신/삭제가 즉시 반영")
+    @Test
+    void upsertAndRemove() {
+        index.replaceAll(List.of(recipe(1L, "감자")));
+        index.upsert(recipe(1L, "고구마"));
+        index.upsert(recipe(2L, "감자", "감자"));
+
+        assertThat(index.recommend(fridge("감자"), 10)).extracting(m -> m.recipe().id()).containsExactly(2L);
+        assertThat(index.recommend(fridge("감자"), 10).get(0).matchRate()).isEqualTo(100.0);
+
+        index.remove(2L);
+        assertThat(index.recommend(fridge("감자"), 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @DisplayName("무작위 데이터에서 전체 비교(재료 × 보유 재료) 방식과 같은 결과")
+    @Test
+    void sameAsFullScan() {
+        String[] vocabulary = {"김치", "묵은지", "Kimchi", "돼지고기", "돼지", "두부", "밥", "양파", "양파즙", "파", "감자",
+                "간장", "진간장", "소금", "설탕", "고춧가루", "고추", ""};
+        Random random = new Random(42);
+        List<RecipeIngredientIndex.IndexedRecipe> recipes = new ArrayList<>();
+        for (long id = 1; id <= 300; id++) {
+            String[] names = new String[1 + random.nextInt(5)];
+            for (int i = 0; i < names.length; i++) names[i] = vocabulary[random.nextInt(vocabulary.length)];
+            recipes.add(recipe(id, names));
+        }
+        index.replaceAll(recipes);
+
+        for (int round = 0; round < 50; round++) {
+            Set<IngredientKey> fridge = new HashSet<>();
+            int size = 1 + random.nextInt(4);
+            for (int i = 0; i < size; i++) fridge.add(key(vocabulary[random.nextInt(vocabulary.length)]));
+
+            List<Long> expected = recipes.stream()
+                    .filter(r -> fullScanRate(r, fridge) > 0)
+                    .sorted(Comparator.comparingDouble((RecipeIngredientIndex.IndexedRecipe r) -> -fullScanRate(r, fridge))
+                            .thenComparing(RecipeIngredientIndex.IndexedRecipe::id))
+                    .limit(10)
+                    .map(RecipeIngredientIndex.IndexedRecipe::id)
+                    .toList();
+
+            assertThat(index.recommend(fridge, 10)).extracting(m -> m.recipe().id()).containsExactlyElementsOf(expected);
+        }
+    }
+
+    private static double fullScanRate(RecipeIngredientIndex.IndexedRecipe recipe, Set<IngredientKey> fridge) {
+        long matched = recipe.ingredients().stream()
+                .filter(i -> fridge.stream().anyMatch(f -> i.key().resolved() && f.resolved()
+                        ? i.key().canonicalId().equals(f.canonicalId())
+                        : i.key().name().contains(f.name()) || f.name().contains(i.key().name())))
+                .count();
+        return (double) matched / recipe.ingredients().size() * 100;
+    }
+}
@@ -0,0 +1,107 @@
+package com.capstone.web.refrigerator.service;
+
+import com.capstone.web.refrigerator.dto.RecommendationDto;
+import com.capstone.web.refrigerator.event.RecipeCatalogChangedEvent;
+import com.capstone.web.refrigerator.event.RefrigeratorChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecommendationCacheTest {
+
+    private final RecommendationCache cache = new RecommendationCache(new SimpleMeterRegistry(), 100, 60_000, 2);
+    private final AtomicInteger computations = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    private RecommendationDto.RecommendationResponse response(Long... recipeIds) {
+        computations.incrementAndGet();
+        List<RecommendationDto.RecommendedRecipe> recipes = Arrays.stream(recipeIds)
+                .map(id -> RecommendationDto.RecommendedRecipe.builder().recipeId(id).build())
+                .toList();
+        return RecommendationDto.RecommendationResponse.builder().recommendations(recipes).totalCount(recipes.size()).build();
+    }
+
+    @DisplayName("같은 회원의 동시 요청은 계산 1회를 공유")
+    @Test
+    void singleFlight() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<CompletableFuture<RecommendationDto.RecommendationResponse>> calls = IntStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> cache.get(1L, 10, () -> {
+                    await(release);
+                    return response(100L);
+                })))
+                .toList();
+        Thread.sleep(100);
+        release.countDown();
+
+        for (CompletableFuture<RecommendationDto.RecommendationResponse> call : calls) {
+            assertThat(call.get(5, TimeUnit.SECONDS).getTotalCount()).isEqualTo(1);
+        }
+        assertThat(computations).hasValue(1);
+    }
+
+    @DisplayName("회원 식재료 변경 시 해당 회원 결과만 다시 계산")
+    @Test
+    void memberInvalidation() {
+        cache.get(1L, 10, () -> response(100L));
+        cache.get(2L, 10, () -> response(100L));
+
+        cache.onRefrigeratorChanged(new RefrigeratorChangedEvent(1L));
+        cache.get(1L, 10, () -> response(100L));
+        cache.get(2L, 10, () -> response(100L));
+
+        assertThat(computations).hasValue(3);
+    }
+
+    @DisplayName("레시피 삭제는 그 레시피가 포함된 결과만, 추가/수정은 전체 무효화")
+    @Test
+    void catalogInvalidation() {
+        cache.get(1L, 10, () -> response(100L));
+        cache.get(2L, 10, () -> response(200L));
+
+        cache.onRecipeCatalogChanged(RecipeCatalogChangedEvent.removed(100L));
+        cache.get(1L, 10, () -> response(200L));
+        cache.get(2L, 10, () -> response(200L));
+        assertThat(computations).hasValue(3);
+
+        cache.onRecipeCatalogChanged(RecipeCatalogChangedEvent.upserted(300L));
+        cache.get(1L, 10, () -> response(300L));
+        cache.get(2L, 10, () -> response(300L));
+        assertThat(computations).hasValue(5);
+    }
+
+    @DisplayName("계산 도중 변경이 있으면 결과를 버리고 다시 계산")
+    @Test
+    void staleComputationIsDiscarded() {
+        RecommendationDto.RecommendationResponse result = cache.get(1L, 10, () -> {
+            if (computations.get() == 0) cache.onRefrigeratorChanged(new RefrigeratorChangedEvent(1L));
+            return response((long) computations.get());
+        });
+
+        assertThat(computations).hasValue(2);
+        assertThat(result.getRecommendations().get(0).getRecipeId()).isEqualTo(1L);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.capstone.web.refrigerator.service;
+
+import com.capstone.web.member.domain.Member;
+import com.capstone.web.member.repository.MemberRepository;
+import com.capstone.web.refrigerator.dto.RefrigeratorDto;
+import com.capstone.web.refrigerator.repository.RefrigeratorItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class RefrigeratorChangeLogTest {
+
+    @Autowired
+    private RefrigeratorService refrigeratorService;
+    @Autowired
+    private RefrigeratorChangeLog refrigeratorChangeLog;
+    @Autowired
+    private RefrigeratorItemRepository refrigeratorItemRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Member member;
+
+    @BeforeEach
+    void setup() {
+        refrigeratorItemRepository.deleteAll();
+        memberRepository.deleteAll();
+        member = memberRepository.save(Member.builder().email("sync@test.com").password("pw").nickname("sync").build());
+    }
+
+    private RefrigeratorDto.Response add(String name) {
+        return refrigeratorService.addItem(member.getId(), RefrigeratorDto.CreateRequest.builder().name(name).quantity(1).build());
+    }
+
+    @DisplayName("since 이후 추가/수정된 항목과 삭제된 id만 내려준다")
+    @Test
+    void deltaSinceVersion() {
+        RefrigeratorDto.Response milk = add("우유");
+        RefrigeratorDto.Response egg = add("계란");
+        RefrigeratorDto.ChangesResponse initial = refrigeratorService.getItemChanges(member.getId(), null);
+        assertThat(initial.isFullResync()).isTrue();
+        assertThat(initial.getItems()).hasSize(2);
+
+        refrigeratorService.updateItem(member.getId(), milk.getId(),
+                RefrigeratorDto.UpdateRequest.builder().quantity(3).build());
+        refrigeratorService.deleteItem(member.getId(), egg.getId());
+        RefrigeratorDto.Response tofu = add("두부");
+
+        RefrigeratorDto.ChangesResponse delta = refrigeratorService.getItemChanges(member.getId(), initial.getVersion());
+        assertThat(delta.isFullResync()).isFalse();
+        assertThat(delta.getVersion()).isEqualTo(initial.getVersion() + 3);
+        assertThat(delta.getItems()).extracting(RefrigeratorDto.Response::getId)
+                .containsExactlyInAnyOrder(milk.getId(), tofu.getId());
+        assertThat(delta.getDeletedItemIds()).containsExactly(egg.getId());
+
+        RefrigeratorDto.ChangesResponse upToDate = refrigeratorService.getItemChanges(member.getId(), delta.getVersion());
+        assertThat(upToDate.getItems()).isEmpty();
+        assertThat(upToDate.getDeletedItemIds()).isEmpty();
+    }
+
+    @DisplayName("삭제 기록이 정리된 구간보다 오래된 커서는 전체 재동기화")
+    @Test
+    void fullResyncAfterCompaction() {
+        RefrigeratorDto.Response milk = add("우유");
+        long since = refrigeratorService.getItemChanges(member.getId(), null).getVersion();
+        refrigeratorService.deleteItem(member.getId(), milk.getId());
+        add("계란");
+
+        assertThat(refrigeratorChangeLog.compact(LocalDateTime.now().plusMinutes(1))).isEqualTo(1);
+
+        RefrigeratorDto.ChangesResponse resync = refrigeratorService.getItemChanges(member.getId(), since);
+        assertThat(resync.isFullResync()).isTrue();
+        assertThat(resync.getItems()).extracting(RefrigeratorDto.Response::getName).containsExactly("계란");
+        assertThat(resync.getDeletedItemIds()).isEmpty();
+    }
+}
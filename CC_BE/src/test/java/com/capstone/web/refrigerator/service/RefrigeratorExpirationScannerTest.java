@@ -0,0 +1,106 @@
+package com.capstone.web.refrigerator.service;
+
+import com.capstone.web.member.domain.Member;
+import com.capstone.web.member.repository.MemberRepository;
+import com.capstone.web.refrigerator.domain.RefrigeratorExpirationSummary;
+import com.capstone.web.refrigerator.domain.RefrigeratorItem;
+import com.capstone.web.refrigerator.repository.RefrigeratorExpirationSummaryRepository;
+import com.capstone.web.refrigerator.repository.RefrigeratorItemRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 청크 경계에 걸친 회원 집계를 확인하기 위해 청크를 작게
+@SpringBootTest(properties = "refrigerator.expiration.scan-chunk-size=2")
+@ActiveProfiles("test")
+@Transactional
+class RefrigeratorExpirationScannerTest {
+
+    @Autowired
+    private RefrigeratorExpirationScanner scanner;
+    @Autowired
+    private RefrigeratorExpirationSummaryRepository summaryRepository;
+    @Autowired
+    private RefrigeratorItemRepository refrigeratorItemRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Member alice;
+    private Member bob;
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setup() {
+        refrigeratorItemRepository.deleteAll();
+        summaryRepository.deleteAll();
+        memberRepository.deleteAll();
+        alice = memberRepository.save(Member.builder().email("alice@test.com").password("pw").nickname("alice").build());
+        bob = memberRepository.save(Member.builder().email("bob@test.com").password("pw").nickname("bob").build());
+    }
+
+    private RefrigeratorItem item(Member member, String name, LocalDate expirationDate) {
+        return refrigeratorItemRepository.save(RefrigeratorItem.builder()
+                .member(member).name(name).expirationDate(expirationDate).build());
+    }
+
+    private RefrigeratorExpirationSummary summary(Member member) {
+        entityManager.clear();
+        return summaryRepository.findById(member.getId()).orElse(null);
+    }
+
+    @DisplayName("청크에 나뉜 회원 항목도 합산하고, 기준일 밖/경과 보관일 밖/소비기한 없음은 제외")
+    @Test
+    void summarizesAcrossChunks() {
+        item(alice, "우유", today.minusDays(2));
+        item(alice, "두부", today.plusDays(1));
+        item(alice, "계란", today.plusDays(3));
+        item(alice, "김치", today.plusDays(30));
+        item(alice, "소금", null);
+        item(alice, "잼", today.minusDays(40));
+        item(bob, "대파", today.minusDays(1));
+        item(bob, "양파", today.plusDays(2));
+        refrigeratorItemRepository.flush();
+
+        RefrigeratorExpirationScanner.ScanResult result = scanner.scan();
+
+        assertThat(result.scannedItems()).isEqualTo(5);
+        RefrigeratorExpirationSummary a = summary(alice);
+        assertThat(a.getExpiredCount()).isEqualTo(1);
+        assertThat(a.getExpiringSoonCount()).isEqualTo(2);
+        assertThat(a.getNextExpirationDate()).isEqualTo(today.plusDays(1));
+        assertThat(a.getAsOf()).isEqualTo(today);
+        RefrigeratorExpirationSummary b = summary(bob);
+        assertThat(b.getExpiredCount()).isEqualTo(1);
+        assertThat(b.getExpiringSoonCount()).isEqualTo(1);
+        assertThat(summaryRepository.count()).isEqualTo(2);
+    }
+
+    @DisplayName("다시 스캔하면 누적하지 않고 교체하며, 임박 항목이 없어진 회원 요약은 삭제")
+    @Test
+    void rescanReplacesAndRemovesStale() {
+        item(alice, "두부", today.plusDays(1));
+        RefrigeratorItem bobItem = item(bob, "양파", today.plusDays(2));
+        refrigeratorItemRepository.flush();
+        scanner.scan();
+
+        refrigeratorItemRepository.delete(bobItem);
+        refrigeratorItemRepository.flush();
+        RefrigeratorExpirationScanner.ScanResult second = scanner.scan();
+
+        assertThat(second.resumed()).isFalse();
+        assertThat(summary(alice).getExpiringSoonCount()).isEqualTo(1);
+        assertThat(summary(bob)).isNull();
+        assertThat(summaryRepository.count()).isEqualTo(1);
+    }
+}
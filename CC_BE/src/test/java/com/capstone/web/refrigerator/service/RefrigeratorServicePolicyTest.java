@@ -1,8 +1,14 @@
 package com.capstone.web.refrigerator.service;
 
+import com.capstone.web.category.domain.Category;
+import com.capstone.web.category.repository.CategoryRepository;
 import com.capstone.web.member.domain.Member;
 import com.capstone.web.member.repository.MemberRepository;
+import com.capstone.web.posts.domain.PostIngredient;
+import com.capstone.web.posts.domain.Posts;
+import com.capstone.web.posts.repository.PostsRepository;
 import com.capstone.web.refrigerator.domain.RefrigeratorItem;
+import com.capstone.web.refrigerator.dto.DeductionDto;
 import com.capstone.web.refrigerator.dto.RefrigeratorDto;
 import com.capstone.web.refrigerator.repository.RefrigeratorItemRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +35,10 @@ class RefrigeratorServicePolicyTest {
     private RefrigeratorItemRepository refrigeratorItemRepository;
     @Autowired
     private MemberRepository memberRepository;
+    @Autowired
+    private PostsRepository postsRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
 
     private Member member;
 
@@ -132,5 +142,57 @@ class RefrigeratorServicePolicyTest {
         List<RefrigeratorItem> all = refrigeratorItemRepository.findByMemberOrderByNameAsc(member);
         assertThat(all).hasSize(2);
     }
-}
 
+    @DisplayName("일괄 추가: 요청 내 중복은 먼저 합치고, 기존 항목(소비기한 null 포함)에는 수량 병합")
+    @Test
+    void bulkMergeWithinBatchAndExisting() {
+        LocalDate exp = LocalDate.now().plusDays(3);
+        refrigeratorItemRepository.save(RefrigeratorItem.builder()
+                .member(member).name("소금").quantity(100).expirationDate(null).build());
+        refrigeratorItemRepository.save(RefrigeratorItem.builder()
+                .member(member).name("우유").quantity(1).expirationDate(exp).build());
+
+        RefrigeratorDto.BulkCreateRequest req = new RefrigeratorDto.BulkCreateRequest(List.of(
+                RefrigeratorDto.CreateRequest.builder().name("소금").quantity(10).build(),
+                RefrigeratorDto.CreateRequest.builder().name("우유").quantity(2).expirationDate(exp).build(),
+                RefrigeratorDto.CreateRequest.builder().name("계란").quantity(6).build(),
+                RefrigeratorDto.CreateRequest.builder().name(" 계란 ").quantity(4).build(),
+                RefrigeratorDto.CreateRequest.builder().name("소금").quantity(5).build()
+        ));
+
+        var resp = refrigeratorService.addItemsBulk(member.getId(), req);
+
+        assertThat(resp.getSuccessCount()).isEqualTo(5);
+        assertThat(resp.getAddedItems()).extracting(RefrigeratorDto.Response::getQuantity)
+                .containsExactly(115, 3, 10, 10, 115);
+        List<RefrigeratorItem> all = refrigeratorItemRepository.findByMemberOrderByNameAsc(member);
+        assertThat(all).extracting(RefrigeratorItem::getName).containsExactly("계란", "소금", "우유");
+        assertThat(all).extracting(RefrigeratorItem::getQuantity).containsExactly(10, 115, 3);
+    }
+
+    @DisplayName("재료 차감: 같은 항목에 매칭된 재료는 보유 수량까지만 차감하고, 차감된 항목은 버전이 오른다")
+    @Test
+    void deductBatchedWithinQuantity() {
+        RefrigeratorItem greenOnion = refrigeratorItemRepository.save(RefrigeratorItem.builder()
+                .member(member).name("대파").quantity(1).build());
+        RefrigeratorItem onion = refrigeratorItemRepository.save(RefrigeratorItem.builder()
+                .member(member).name("양파").quantity(3).build());
+        Category category = categoryRepository.save(Category.builder().name("레시피").type(Category.CategoryType.FREE).build());
+        Posts recipe = Posts.builder().authorId(member).category(category).title("볶음밥").content("").isRecipe(true).build();
+        for (String name : List.of("대파", "다진 대파", "양파", "마늘")) {
+            recipe.getIngredients().add(PostIngredient.builder().post(recipe).name(name).quantity(1L).build());
+        }
+        postsRepository.saveAndFlush(recipe);
+
+        DeductionDto.DeductResponse resp = refrigeratorService.deductIngredients(member.getId(),
+                DeductionDto.DeductRequest.builder().recipeId(recipe.getId()).ignoreWarnings(true).build());
+
+        assertThat(resp.getDeductedIngredients()).extracting(DeductionDto.DeductedIngredient::getName)
+                .containsExactly("대파", "양파");
+        assertThat(resp.getFailedIngredients()).containsExactly("다진 대파", "마늘");
+        RefrigeratorItem deductedOnion = refrigeratorItemRepository.findById(onion.getId()).orElseThrow();
+        assertThat(deductedOnion.getQuantity()).isEqualTo(2);
+        assertThat(deductedOnion.getVersion()).isEqualTo(onion.getVersion() + 1);
+        assertThat(refrigeratorItemRepository.findById(greenOnion.getId()).orElseThrow().getQuantity()).isZero();
+    }
+}